@@ -0,0 +1,107 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDBC stand-in for pgbench, for hosts that have a PostgreSQL server but not its client tools
+ * Runs claim_tasks_setup.sql, then drives one of the claim_tasks_*.pgbench scripts with the given number of clients,
+ * one connection and thread each, for the given duration. Only what those scripts use is understood: "--" comments,
+ * "\set developer random(1, 1000)" and a BEGIN ... COMMIT block around one statement.
+ *
+ * Usage:
+ *   java -cp postgresql.jar benchmarks/ClaimTasksDriver.java jdbc:postgresql://localhost/benchmark?user=postgres \
+ *       benchmarks/claim_tasks_setup.sql benchmarks/claim_tasks_skip_locked.pgbench 200 30
+ */
+public class ClaimTasksDriver {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 5) {
+            System.err.println("Usage: ClaimTasksDriver <jdbc-url> <setup.sql> <script.pgbench> <clients> <seconds>");
+            System.exit(2);
+        }
+        String url = args[0];
+        int clients = Integer.parseInt(args[3]);
+        long durationNanos = Long.parseLong(args[4]) * 1_000_000_000L;
+
+        try (Connection connection = DriverManager.getConnection(url); Statement statement = connection.createStatement()) {
+            for (String sql : Files.readString(Path.of(args[1])).split(";\\s*\\n")) {
+                if (!stripComments(sql).isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+        String claim = claimStatement(Path.of(args[2]));
+
+        LongAdder transactions = new LongAdder();
+        LongAdder claimedRows = new LongAdder();
+        LongAdder latencyNanos = new LongAdder();
+        LongAdder failures = new LongAdder();
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try (Connection connection = DriverManager.getConnection(url);
+                     Statement statement = connection.createStatement()) {
+                    connection.setAutoCommit(false);
+                    while (System.nanoTime() < end) {
+                        String sql = claim.replace(":developer",
+                                Integer.toString(ThreadLocalRandom.current().nextInt(1, 1001)));
+                        long begin = System.nanoTime();
+                        try {
+                            int rows = statement.executeUpdate(sql);
+                            connection.commit();
+                            claimedRows.add(rows);
+                            transactions.increment();
+                            latencyNanos.add(System.nanoTime() - begin);
+                        } catch (SQLException e) {
+                            connection.rollback();
+                            failures.increment();
+                        }
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long count = transactions.sum();
+        System.out.printf("script: %s%n", Path.of(args[2]).getFileName());
+        System.out.printf("clients: %d, duration: %.1f s%n", clients, seconds);
+        System.out.printf("transactions: %d, failed: %d%n", count, failures.sum());
+        System.out.printf("tps: %.1f%n", count / seconds);
+        System.out.printf("latency average: %.3f ms%n", count == 0 ? 0.0 : latencyNanos.sum() / 1e6 / count);
+        System.out.printf("tasks claimed per transaction: %.3f%n", count == 0 ? 0.0 : (double) claimedRows.sum() / count);
+    }
+
+    // The single statement between BEGIN and COMMIT; :developer is substituted per transaction
+    private static String claimStatement(Path script) throws IOException {
+        StringBuilder sql = new StringBuilder();
+        for (String line : Files.readAllLines(script)) {
+            String trimmed = stripComments(line).trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("\\set") || trimmed.equals("BEGIN;")
+                    || trimmed.equals("COMMIT;")) {
+                continue;
+            }
+            sql.append(trimmed).append('\n');
+        }
+        String statement = sql.toString().trim();
+        return statement.endsWith(";") ? statement.substring(0, statement.length() - 1) : statement;
+    }
+
+    private static String stripComments(String sql) {
+        return sql.replaceAll("(?m)--.*$", "");
+    }
+}
@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# Audit storage benchmark: one month of audit logs in MongoDB vs the same month as a columnar archive file
+#
+# Usage (against a scratch deployment, never production):
+#   1. Load a month of audit logs into audit_logs_<MONTH>, then record the MongoDB baseline:
+#        PHASE=mongo MONTH=2025_01 TOKEN=<manager JWT> benchmarks/audit_archive_benchmark.sh
+#   2. Run AuditArchiveService.archive() with app.audit.archive.archive-after short enough to include the month,
+#      then time the same queries against the archive file:
+#        PHASE=archive MONTH=2025_01 TOKEN=<manager JWT> benchmarks/audit_archive_benchmark.sh
+#
+# Sizes: MongoDB storage plus index size of the partition vs the size of the .pta file.
+# Scan speed: median wall time of REPEAT requests per query through /api/audit, which is the path users see;
+# a date-range page, an actor filter and an entity-type/action filter that can only be answered by scanning.
+
+set -euo pipefail
+
+PHASE=${PHASE:?set PHASE to mongo or archive}
+MONTH=${MONTH:?set MONTH to yyyy_MM}
+TOKEN=${TOKEN:?set TOKEN to a manager JWT}
+API=${API:-http://localhost:8080}
+MONGO_URI=${MONGO_URI:-mongodb://localhost:27017/project_tracker_audit}
+ARCHIVE_DIR=${ARCHIVE_DIR:-data/audit-archive}
+ACTOR=${ACTOR:-SYSTEM}
+REPEAT=${REPEAT:-20}
+
+COLLECTION="audit_logs_${MONTH}"
+START="${MONTH/_/-}-10T00:00:00"
+END="${MONTH/_/-}-20T00:00:00"
+
+if [[ "$PHASE" == mongo ]]; then
+    mongosh --quiet "$MONGO_URI" --eval "
+        const s = db.getCollection('$COLLECTION').stats();
+        print('documents:        ' + s.count);
+        print('data size:        ' + s.size + ' bytes');
+        print('storage size:     ' + s.storageSize + ' bytes');
+        print('index size:       ' + s.totalIndexSize + ' bytes');"
+else
+    echo "archive file:     $(stat -c %s "$ARCHIVE_DIR/$COLLECTION.pta") bytes"
+fi
+
+time_endpoint() {
+    local label=$1 path=$2
+    local timings=()
+    for _ in $(seq "$REPEAT"); do
+        timings+=("$(curl -s -o /dev/null -w '%{time_total}' -H "Authorization: Bearer $TOKEN" "$API$path")")
+    done
+    printf '%-18s median %ss\n' "$label:" "$(printf '%s\n' "${timings[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')"
+}
+
+time_endpoint "date range" "/api/audit/date-range?start=$START&end=$END&page=0&size=100"
+time_endpoint "deep page" "/api/audit/date-range?start=$START&end=$END&page=90&size=100"
+time_endpoint "actor" "/api/audit/user/$ACTOR?page=0&size=100"
+time_endpoint "action type" "/api/audit/action?actionType=UPDATE&page=0&size=100"
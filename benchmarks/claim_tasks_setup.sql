@@ -0,0 +1,46 @@
+-- Work-queue claim benchmark: FOR UPDATE SKIP LOCKED vs plain FOR UPDATE
+--
+-- Mirrors the claim query behind POST /api/tasks/claim against a tasks-shaped table and
+-- drives it with hundreds of concurrent pgbench clients. Each transaction claims 3 of
+-- the oldest-due unassigned tasks and assigns them to a random developer.
+--
+-- Usage (against a scratch database, never production):
+--   psql -d benchmark -f benchmarks/claim_tasks_setup.sql
+--   pgbench -d benchmark -n -c 200 -j 8 -T 30 -f benchmarks/claim_tasks_skip_locked.pgbench
+--   psql -d benchmark -f benchmarks/claim_tasks_setup.sql
+--   pgbench -d benchmark -n -c 200 -j 8 -T 30 -f benchmarks/claim_tasks_for_update.pgbench
+--
+-- Compare tps and latency average across client counts (e.g. -c 50, 200, 500; raise
+-- max_connections accordingly). With SKIP LOCKED throughput should scale with clients;
+-- with plain FOR UPDATE every client queues behind the same head-of-queue rows, and
+-- waiters that wake up after the rows were taken may claim fewer than 3 tasks.
+-- Re-run the setup between runs so both variants start from the same backlog.
+--
+-- Without pgbench, ClaimTasksDriver.java runs the setup and either script over JDBC; recorded
+-- results are in claim_tasks_results.md.
+
+SET client_min_messages = warning;
+
+DROP TABLE IF EXISTS bench_claim_tasks;
+
+CREATE TABLE bench_claim_tasks (
+    id           uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    project_id   uuid         NOT NULL,
+    developer_id uuid,
+    title        varchar(200) NOT NULL,
+    status       varchar(20)  NOT NULL,
+    due_date     date         NOT NULL
+);
+
+-- 2M unassigned tasks across 100 projects, enough that a 30 second run never drains the queue
+INSERT INTO bench_claim_tasks (project_id, title, status, due_date)
+SELECT ('00000000-0000-0000-0000-' || lpad((n % 100)::text, 12, '0'))::uuid,
+       'Task ' || n,
+       CASE WHEN n % 3 = 0 THEN 'IN_PROGRESS' ELSE 'TODO' END,
+       current_date + (n % 365)
+FROM generate_series(1, 2000000) AS n;
+
+CREATE INDEX bench_claim_tasks_developer_idx ON bench_claim_tasks (developer_id);
+CREATE INDEX bench_claim_tasks_queue_idx ON bench_claim_tasks (due_date, id) WHERE developer_id IS NULL;
+
+VACUUM ANALYZE bench_claim_tasks;
@@ -0,0 +1,96 @@
+-- Primary-key layout benchmark: random (v4) vs time-ordered (v7) UUIDs
+--
+-- Mirrors the shape of the tasks table (UUID PK plus a UUID FK index) and loads
+-- 10M rows into each variant, reporting insert time and index sizes.
+--
+-- Usage (against a scratch database, never production):
+--   psql -d benchmark -f benchmarks/uuid_pk_benchmark.sql
+--
+-- Rows are inserted in 100k batches from a single session, which approximates the
+-- steady append pattern of the application rather than a bulk COPY.
+
+\timing on
+SET client_min_messages = warning;
+
+CREATE EXTENSION IF NOT EXISTS pgcrypto;
+
+-- uuid_v7() equivalent of com.buildermaster.projecttracker.util.UuidV7 (ms timestamp + random bits)
+CREATE OR REPLACE FUNCTION uuid_v7() RETURNS uuid AS $$
+DECLARE
+    unix_ms bigint := floor(extract(epoch FROM clock_timestamp()) * 1000);
+    bytes   bytea  := gen_random_bytes(16);
+BEGIN
+    bytes := overlay(bytes PLACING substring(int8send(unix_ms) FROM 3) FROM 1 FOR 6);
+    bytes := set_byte(bytes, 6, (get_byte(bytes, 6) & 15) | 112);
+    bytes := set_byte(bytes, 8, (get_byte(bytes, 8) & 63) | 128);
+    RETURN encode(bytes, 'hex')::uuid;
+END
+$$ LANGUAGE plpgsql VOLATILE;
+
+DROP TABLE IF EXISTS bench_tasks_v4;
+DROP TABLE IF EXISTS bench_tasks_v7;
+
+CREATE TABLE bench_tasks_v4 (
+    id         uuid PRIMARY KEY,
+    project_id uuid         NOT NULL,
+    title      varchar(200) NOT NULL,
+    status     varchar(20)  NOT NULL,
+    due_date   date         NOT NULL
+);
+CREATE INDEX bench_tasks_v4_project_idx ON bench_tasks_v4 (project_id);
+
+CREATE TABLE bench_tasks_v7 (LIKE bench_tasks_v4 INCLUDING ALL);
+
+-- A fixed pool of projects so the FK index sees the same distribution in both runs
+DROP TABLE IF EXISTS bench_projects;
+CREATE TABLE bench_projects AS
+SELECT gen_random_uuid() AS id FROM generate_series(1, 10000);
+
+CREATE OR REPLACE PROCEDURE bench_load(target regclass, use_v7 boolean, total integer, batch integer)
+LANGUAGE plpgsql AS $$
+DECLARE
+    loaded   integer := 0;
+    projects uuid[]  := (SELECT array_agg(id) FROM bench_projects);
+BEGIN
+    WHILE loaded < total LOOP
+        EXECUTE format(
+            'INSERT INTO %s (id, project_id, title, status, due_date)
+             SELECT %s, $2[1 + (g %% 10000)], ''Task '' || g, ''TODO'', current_date + (g %% 90)
+             FROM generate_series(1, $1) g',
+            target, CASE WHEN use_v7 THEN 'uuid_v7()' ELSE 'gen_random_uuid()' END)
+        USING batch, projects;
+        loaded := loaded + batch;
+        COMMIT;
+    END LOOP;
+END
+$$;
+
+\echo '--- v4 (random) insert: 10M rows'
+CALL bench_load('bench_tasks_v4', false, 10000000, 100000);
+
+\echo '--- v7 (time-ordered) insert: 10M rows'
+CALL bench_load('bench_tasks_v7', true, 10000000, 100000);
+
+VACUUM ANALYZE bench_tasks_v4;
+VACUUM ANALYZE bench_tasks_v7;
+
+\echo '--- index sizes'
+SELECT c.relname                                  AS relation,
+       pg_size_pretty(pg_relation_size(c.oid))    AS size,
+       pg_relation_size(c.oid)                    AS bytes
+FROM pg_class c
+WHERE c.relname IN ('bench_tasks_v4', 'bench_tasks_v4_pkey', 'bench_tasks_v4_project_idx',
+                    'bench_tasks_v7', 'bench_tasks_v7_pkey', 'bench_tasks_v7_project_id_idx')
+ORDER BY c.relname;
+
+\echo '--- primary-key leaf density (requires pgstattuple)'
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+SELECT 'v4' AS variant, avg_leaf_density, leaf_fragmentation FROM pgstatindex('bench_tasks_v4_pkey')
+UNION ALL
+SELECT 'v7', avg_leaf_density, leaf_fragmentation FROM pgstatindex('bench_tasks_v7_pkey');
+
+\echo '--- keyset page by id (first 100 rows after a mid-range cursor)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_tasks_v7
+WHERE id > (SELECT id FROM bench_tasks_v7 ORDER BY id OFFSET 5000000 LIMIT 1)
+ORDER BY id LIMIT 100;
@@ -0,0 +1,66 @@
+package com.buildermaster.projecttracker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdDelegatingSerializer;
+import com.fasterxml.jackson.databind.util.StdConverter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary response formats for service-to-service callers
+ * Clients sending Accept: application/cbor or application/x-jackson-smile receive the same DTOs in a binary
+ * encoding. JSON stays ahead of both in the converter list, so browsers and clients without an Accept header
+ * are unaffected. In the binary formats a page is written as content plus page metadata (size, number,
+ * totalElements, totalPages), a shape that does not depend on the internals of Spring's PageImpl.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring adds default binary converters when the formats are on the classpath; these replace them
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper()));
+    }
+
+    static CBORMapper cborMapper() {
+        return configure(CBORMapper.builder());
+    }
+
+    static SmileMapper smileMapper() {
+        return configure(SmileMapper.builder());
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M configure(B builder) {
+        SimpleModule pages = new SimpleModule("BinaryPages");
+        pages.addSerializer(Page.class, new StdDelegatingSerializer(new StdConverter<Page<?>, PagedModel<?>>() {
+            @Override
+            public PagedModel<?> convert(Page<?> page) {
+                return new PagedModel<>(page);
+            }
+        }));
+        // Dates stay ISO strings as in JSON, so the field values are identical across formats
+        return builder
+                .addModule(new JavaTimeModule())
+                .addModule(pages)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
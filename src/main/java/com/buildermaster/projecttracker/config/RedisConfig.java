@@ -1,5 +1,7 @@
 package com.buildermaster.projecttracker.config;
 
+import com.buildermaster.projecttracker.service.impl.ChangeStreamService;
+import com.buildermaster.projecttracker.service.impl.EntityVersionRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -9,6 +11,8 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -93,4 +97,16 @@ public class RedisConfig {
 
         return template;
     }
-}
\ No newline at end of file
+
+    // Every node receives every change event and ETag invalidation and applies it to its own in-memory state
+    @Bean
+    public RedisMessageListenerContainer redisListenerContainer(RedisConnectionFactory connectionFactory,
+                                                               ChangeStreamService changeStreamService,
+                                                               EntityVersionRegistry entityVersionRegistry) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(changeStreamService, new ChannelTopic(ChangeStreamService.CHANNEL));
+        container.addMessageListener(entityVersionRegistry, new ChannelTopic(EntityVersionRegistry.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,39 @@
+package com.buildermaster.projecttracker.config.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for moving old audit partitions out of MongoDB into compressed columnar files
+ */
+@Data
+@ConfigurationProperties(prefix = "app.audit.archive")
+public class AuditArchiveProperties {
+
+    /** Whether the scheduled archiver runs; archived files are read either way */
+    private boolean enabled = true;
+
+    /** GridFS bucket holding the archive files, shared by every instance */
+    private String bucket = "audit_archives";
+
+    /** Local directory caching downloaded archive files */
+    private Path directory = Path.of("data", "audit-archive");
+
+    /** Age after which a whole month is moved out of MongoDB */
+    private Duration archiveAfter = Duration.ofDays(90);
+
+    /** Rows per row group; each group carries its own statistics for scan pruning */
+    private int rowGroupSize = 4096;
+
+    /** Archive row counts kept per file and filter; archive files never change once written */
+    private int countCacheSize = 10_000;
+
+    /** Schedule of the archiver */
+    private String cron = "0 45 2 * * *";
+
+    /** Lease on the cluster lock held while archiving; extended before each month */
+    private Duration lockLease = Duration.ofMinutes(15);
+}
@@ -0,0 +1,36 @@
+package com.buildermaster.projecttracker.config.audit;
+
+import com.buildermaster.projecttracker.model.EActionType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Retention settings for the monthly audit log partitions
+ */
+@Data
+@ConfigurationProperties(prefix = "app.audit.retention")
+public class AuditRetentionProperties {
+
+    /** How long audit entries are kept unless overridden for their action type */
+    private Duration defaultRetention = Duration.ofDays(365);
+
+    /** Per-action-type overrides, e.g. a shorter window for LOGIN_SUCCESS */
+    private Map<EActionType, Duration> perAction = new EnumMap<>(EActionType.class);
+
+    /** Schedule of the job that drops expired partitions */
+    private String cron = "0 15 2 * * *";
+
+    public Duration retentionFor(EActionType actionType) {
+        return perAction.getOrDefault(actionType, defaultRetention);
+    }
+
+    /** Longest configured retention; a partition can be dropped once all of its entries are older than this */
+    public Duration maxRetention() {
+        return perAction.values().stream()
+                .reduce(defaultRetention, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+    }
+}
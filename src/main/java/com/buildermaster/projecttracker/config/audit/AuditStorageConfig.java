@@ -0,0 +1,12 @@
+package com.buildermaster.projecttracker.config.audit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers configuration for the partitioned audit log storage and its cold archive
+ */
+@Configuration
+@EnableConfigurationProperties({AuditRetentionProperties.class, AuditArchiveProperties.class})
+public class AuditStorageConfig {
+}
@@ -0,0 +1,25 @@
+package com.buildermaster.projecttracker.config.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs every @Cacheable method inside {@link PrimaryReads}, so a cache miss is loaded from the primary
+ * Cache hits never reach the database, so the pin costs nothing for them.
+ */
+@Aspect
+@Component
+public class CacheFillRoutingAspect {
+
+    @Around("@annotation(org.springframework.cache.annotation.Cacheable)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        PrimaryReads.enter();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PrimaryReads.exit();
+        }
+    }
+}
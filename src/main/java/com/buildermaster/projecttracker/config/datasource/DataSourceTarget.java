@@ -0,0 +1,38 @@
+package com.buildermaster.projecttracker.config.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A routable replica together with its last observed health and replication lag
+ */
+@Getter
+public class DataSourceTarget {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final AtomicBoolean healthy = new AtomicBoolean(false);
+    private final AtomicLong lagMillis = new AtomicLong(-1);
+
+    public DataSourceTarget(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy.get();
+    }
+
+    public void markHealthy(long lag) {
+        lagMillis.set(lag);
+        healthy.set(true);
+    }
+
+    public void markUnhealthy(long lag) {
+        lagMillis.set(lag);
+        healthy.set(false);
+    }
+}
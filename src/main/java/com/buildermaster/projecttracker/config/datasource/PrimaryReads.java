@@ -0,0 +1,44 @@
+package com.buildermaster.projecttracker.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the reads of the current thread to the primary while their results are about to be shared
+ * Values written to a cache or remembered as an ETag are served to every user until the TTL runs out or the next
+ * write evicts them, and read-your-writes only protects the user who wrote. A replica that lags behind a write
+ * whose eviction already happened would put the old state back for everyone, so reads that fill shared state go
+ * to the primary instead. Only connections acquired inside the scope are affected.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> reads) {
+        enter();
+        try {
+            return reads.get();
+        } finally {
+            exit();
+        }
+    }
+
+    public static boolean active() {
+        return DEPTH.get() > 0;
+    }
+
+    static void enter() {
+        DEPTH.set(DEPTH.get() + 1);
+    }
+
+    static void exit() {
+        int depth = DEPTH.get() - 1;
+        if (depth == 0) {
+            DEPTH.remove();
+        } else {
+            DEPTH.set(depth);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.buildermaster.projecttracker.config.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers when each user last committed a write so that their subsequent reads
+ * can be pinned to the primary until replicas have had time to catch up
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesTracker {
+
+    private final ReplicaProperties properties;
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    public void recordWrite(String user) {
+        lastWriteByUser.put(user, System.currentTimeMillis());
+    }
+
+    public boolean isWithinWindow(String user) {
+        Long lastWrite = lastWriteByUser.get(user);
+        return lastWrite != null
+                && System.currentTimeMillis() - lastWrite < properties.getReadYourWritesWindow().toMillis();
+    }
+
+    public Optional<String> currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(authentication.getName());
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.read-your-writes-window:PT5S}")
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - properties.getReadYourWritesWindow().toMillis();
+        lastWriteByUser.values().removeIf(lastWrite -> lastWrite < cutoff);
+    }
+}
@@ -0,0 +1,78 @@
+package com.buildermaster.projecttracker.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured datasource with one that routes read-only transactions to replicas.
+ * Only active when app.datasource.replica.enabled=true; otherwise Spring Boot's single datasource is used.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(ReplicaProperties replicaProperties) {
+        log.info("Configuring {} read replica(s)", replicaProperties.getTargets().size());
+        return new ReplicaPool(replicaProperties.getTargets());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties replicaProperties) {
+        return new ReadYourWritesTracker(replicaProperties);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(ReplicaPool replicaPool, ReplicaProperties replicaProperties,
+                                                     MeterRegistry meterRegistry) {
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replicaPool.getTargets(), replicaProperties, meterRegistry);
+        // Probe once up front so replicas can serve reads as soon as the application is ready
+        monitor.probeReplicas();
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool,
+                                 ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry,
+                                 ReplicaHealthMonitor replicaHealthMonitor) {
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(replicaPool.getTargets(), readYourWritesTracker, meterRegistry);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+        replicaPool.getTargets().forEach(target -> targets.put(target.getName(), target.getDataSource()));
+
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // Defer connection acquisition until the transaction's read-only flag is known
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,90 @@
+package com.buildermaster.projecttracker.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Periodically probes each replica for availability and replication lag,
+ * taking replicas out of rotation when they are unreachable or too far behind
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    // Lag is zero when everything received has been replayed, otherwise time since the last replayed commit
+    private static final String LAG_QUERY =
+            "SELECT pg_is_in_recovery(), " +
+            "CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private static final int PROBE_TIMEOUT_SECONDS = 2;
+
+    private final List<DataSourceTarget> replicas;
+    private final ReplicaProperties properties;
+
+    public ReplicaHealthMonitor(List<DataSourceTarget> replicas, ReplicaProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.properties = properties;
+
+        for (DataSourceTarget replica : replicas) {
+            Gauge.builder("app.datasource.replica.lag", replica, target -> target.getLagMillis().get())
+                    .description("Replication lag observed at the last probe, -1 when unreachable")
+                    .baseUnit("milliseconds")
+                    .tag("target", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder("app.datasource.replica.healthy", replica, target -> target.isHealthy() ? 1 : 0)
+                    .description("Whether the replica is currently in rotation")
+                    .tag("target", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval:PT5S}")
+    public void probeReplicas() {
+        replicas.forEach(this::probe);
+    }
+
+    private void probe(DataSourceTarget replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(PROBE_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                boolean inRecovery = resultSet.getBoolean(1);
+                long lag = resultSet.getLong(2);
+
+                if (!inRecovery && !properties.isAllowStandIn()) {
+                    updateHealth(replica, false, lag, "instance is not a replica");
+                } else if (lag > properties.getMaxLag().toMillis()) {
+                    updateHealth(replica, false, lag, "lag " + lag + "ms exceeds limit");
+                } else {
+                    updateHealth(replica, true, lag, null);
+                }
+            }
+        } catch (Exception e) {
+            updateHealth(replica, false, -1, e.getMessage());
+        }
+    }
+
+    private void updateHealth(DataSourceTarget replica, boolean healthy, long lag, String reason) {
+        boolean wasHealthy = replica.isHealthy();
+        if (healthy) {
+            replica.markHealthy(lag);
+        } else {
+            replica.markUnhealthy(lag);
+        }
+
+        if (wasHealthy && !healthy) {
+            log.warn("Replica '{}' removed from rotation: {}", replica.getName(), reason);
+        } else if (!wasHealthy && healthy) {
+            log.info("Replica '{}' added to rotation (lag {}ms)", replica.getName(), lag);
+        }
+    }
+}
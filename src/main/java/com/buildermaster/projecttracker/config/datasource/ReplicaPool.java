@@ -0,0 +1,39 @@
+package com.buildermaster.projecttracker.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Owns the replica connection pools so they are closed with the application context
+ */
+@Getter
+public class ReplicaPool implements AutoCloseable {
+
+    private final List<DataSourceTarget> targets;
+
+    public ReplicaPool(List<ReplicaProperties.Target> replicas) {
+        this.targets = replicas.stream()
+                .map(replica -> new DataSourceTarget(replica.getName(), createPool(replica)))
+                .toList();
+    }
+
+    private static HikariDataSource createPool(ReplicaProperties.Target replica) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + replica.getName());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        // Start even if a replica is down; the health monitor keeps it out of rotation
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Override
+    public void close() {
+        targets.forEach(target -> ((HikariDataSource) target.getDataSource()).close());
+    }
+}
@@ -0,0 +1,42 @@
+package com.buildermaster.projecttracker.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for routing read-only transactions to PostgreSQL replicas
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+
+    /** Enables replica routing; when false the single primary datasource is used */
+    private boolean enabled = false;
+
+    /** Replicas lagging further behind the primary are taken out of rotation */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** After a user's own write commits, their reads stay on the primary for this long */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /** Interval between replica health and lag probes */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /** Accept instances that are not in recovery (e.g. a plain local database used as a stand-in) */
+    private boolean allowStandIn = false;
+
+    private List<Target> targets = new ArrayList<>();
+
+    @Data
+    public static class Target {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,94 @@
+package com.buildermaster.projecttracker.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to a healthy replica in round-robin order and everything else to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the routing key is resolved after the transaction
+ * manager has published the read-only flag. Reads whose results end up in a shared cache stay on the primary,
+ * see {@link PrimaryReads}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final String ROUTE_READ_WRITE = "read_write";
+    private static final String ROUTE_READ_YOUR_WRITES = "read_your_writes";
+    private static final String ROUTE_SHARED_READ = "shared_read";
+    private static final String ROUTE_NO_HEALTHY_REPLICA = "no_healthy_replica";
+    private static final String ROUTE_REPLICA = "replica";
+
+    private final List<DataSourceTarget> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, Counter> routeCounters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(List<DataSourceTarget> replicas, ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteForCurrentUser();
+            return route(PRIMARY, ROUTE_READ_WRITE);
+        }
+
+        if (PrimaryReads.active()) {
+            return route(PRIMARY, ROUTE_SHARED_READ);
+        }
+
+        boolean pinnedToPrimary = readYourWritesTracker.currentUser()
+                .map(readYourWritesTracker::isWithinWindow)
+                .orElse(false);
+        if (pinnedToPrimary) {
+            return route(PRIMARY, ROUTE_READ_YOUR_WRITES);
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            DataSourceTarget candidate = replicas.get((start + i) % size);
+            if (candidate.isHealthy()) {
+                return route(candidate.getName(), ROUTE_REPLICA);
+            }
+        }
+        return route(PRIMARY, ROUTE_NO_HEALTHY_REPLICA);
+    }
+
+    private void trackWriteForCurrentUser() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        readYourWritesTracker.currentUser().ifPresent(user ->
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesTracker.recordWrite(user);
+                    }
+                }));
+    }
+
+    private String route(String target, String reason) {
+        routeCounters.computeIfAbsent(target + ':' + reason, key -> Counter.builder("app.datasource.routing")
+                        .description("Connections routed per datasource target")
+                        .tag("target", target)
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+        return target;
+    }
+}
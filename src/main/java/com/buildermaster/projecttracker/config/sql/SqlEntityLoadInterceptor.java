@@ -0,0 +1,17 @@
+package com.buildermaster.projecttracker.config.sql;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * Counts entities hydrated from result rows into the current {@link SqlStatementStats} scope
+ * Scalar and tuple projections do not pass through here, so this is a lower bound on the rows read.
+ */
+public class SqlEntityLoadInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        SqlStatementStats.recordEntityLoaded();
+        return false;
+    }
+}
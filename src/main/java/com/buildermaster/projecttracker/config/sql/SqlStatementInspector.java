@@ -0,0 +1,15 @@
+package com.buildermaster.projecttracker.config.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares into the current {@link SqlStatementStats} scope, leaving the SQL as is
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,23 @@
+package com.buildermaster.projecttracker.config.sql;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks the per-request SQL accounting into Hibernate
+ * The counters only record while a {@link SqlStatementStats} scope is open, which the request filter and tests do.
+ */
+@Configuration
+public class SqlStatementMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementAccounting() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.INTERCEPTOR, new SqlEntityLoadInterceptor());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.buildermaster.projecttracker.config.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements, loaded entities and JDBC time observed on the current thread within a scope
+ * Scopes nest: a statement is counted in the innermost scope and in every scope around it, so a test can measure
+ * a single call while the request filter measures the whole request. Hibernate reports into the scope through
+ * {@link SqlStatementInspector}, {@link SqlEntityLoadInterceptor} and {@link SqlTimingSessionListener}; work on
+ * other threads, such as streamed response bodies, is not attributed to the request.
+ */
+public final class SqlStatementStats implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    // Distinct statements tracked per scope; an N+1 shows up as one statement repeated, not as many distinct ones
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private final SqlStatementStats parent;
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statements;
+    private long entitiesLoaded;
+    private long jdbcNanos;
+
+    private SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Opens a scope on the current thread; close it in the same thread, typically with try-with-resources.
+     */
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * The statement executed most often in this scope and how often, or null when nothing was executed.
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        return executions.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+
+    // ===== RECORDING =====
+
+    static void recordStatement(String sql) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.statements++;
+            if (stats.executions.size() < MAX_DISTINCT_STATEMENTS || stats.executions.containsKey(sql)) {
+                stats.executions.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    static void recordEntityLoaded() {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.entitiesLoaded++;
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.jdbcNanos += nanos;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.buildermaster.projecttracker.config.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time spent executing statements and batches to the current {@link SqlStatementStats} scope
+ * Hibernate creates one listener per session from its class name.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.recordJdbcTime(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStats.recordJdbcTime(System.nanoTime() - executionStart);
+    }
+}
@@ -1,8 +1,12 @@
 package com.buildermaster.projecttracker.controller;
 
 import com.buildermaster.projecttracker.dto.response.ApiResponseDTO;
+import com.buildermaster.projecttracker.dto.response.AuditActivityDTO;
 import com.buildermaster.projecttracker.dto.response.AuditLogResponseDTO;
+import com.buildermaster.projecttracker.dto.response.EntityStateDTO;
 import com.buildermaster.projecttracker.model.EActionType;
+import com.buildermaster.projecttracker.model.EAuditDimension;
+import com.buildermaster.projecttracker.model.ERollupGranularity;
 import com.buildermaster.projecttracker.service.AuditService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,7 +18,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,6 +27,8 @@ import org.springframework.web.bind.annotation.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -32,7 +37,7 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 @Validated
 @Slf4j
-@Tag(name = "Audit Management", description = "APIs for managing and retrieving audit logs")
+@Tag(name = "Audit Management", description = "APIs for managing and retrieving audit logs, pages newest first")
 public class AuditController {
 
     private final AuditService auditService;
@@ -40,8 +45,6 @@ public class AuditController {
     // Common parameter annotations extracted as constants
     private static final String PAGE_PARAM_DESC = "Page number (0-based)";
     private static final String SIZE_PARAM_DESC = "Page size";
-    private static final String SORT_BY_PARAM_DESC = "Sort field";
-    private static final String SORT_DIR_PARAM_DESC = "Sort direction";
 
     @Operation(
             summary = "Get entity audit trail",
@@ -65,13 +68,7 @@ public class AuditController {
             @RequestParam(defaultValue = "0") @Min(0) int page,
 
             @Parameter(description = SIZE_PARAM_DESC)
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
-
-            @Parameter(description = SORT_BY_PARAM_DESC)
-            @RequestParam(defaultValue = "timestamp") String sortBy,
-
-            @Parameter(description = SORT_DIR_PARAM_DESC)
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
 
         log.info("Retrieving audit trail for entity: {} with ID: {}", entityType, entityId);
 
@@ -79,10 +76,35 @@ public class AuditController {
                 pageable -> auditService.getAuditTrail(entityType, entityId, pageable),
                 "Retrieved audit trail for " + entityType,
                 "No audit trail found for " + entityType,
-                page, size, sortBy, sortDir
+                page, size
         );
     }
 
+    @Operation(
+            summary = "Get entity state at a point in time",
+            description = "Reconstruct an entity from its nearest audit snapshot and the field diffs recorded after it"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Entity state reconstructed successfully"),
+            @ApiResponse(responseCode = "404", description = "No audit history at or before the given time")
+    })
+    @GetMapping("/entity/{entityType}/{entityId}/at")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponseDTO<EntityStateDTO>> getEntityStateAt(
+            @Parameter(description = "Type of entity", example = "Task")
+            @PathVariable String entityType,
+
+            @Parameter(description = "ID of the entity")
+            @PathVariable UUID entityId,
+
+            @Parameter(description = "Point in time to reconstruct", example = "2024-01-16T09:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime timestamp) {
+
+        log.info("Reconstructing {} {} at {}", entityType, entityId, timestamp);
+        EntityStateDTO state = auditService.getEntityStateAt(entityType, entityId, timestamp);
+        return ResponseEntity.ok(ApiResponseDTO.success("Entity state reconstructed successfully", state));
+    }
+
     @Operation(summary = "Get user action history")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User actions retrieved successfully"),
@@ -99,13 +121,7 @@ public class AuditController {
             @RequestParam(defaultValue = "0") @Min(0) int page,
 
             @Parameter(description = SIZE_PARAM_DESC)
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
-
-            @Parameter(description = SORT_BY_PARAM_DESC)
-            @RequestParam(defaultValue = "timestamp") String sortBy,
-
-            @Parameter(description = SORT_DIR_PARAM_DESC)
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
 
         log.info("Retrieving actions for user: {}", actorName);
 
@@ -113,7 +129,7 @@ public class AuditController {
                 pageable -> auditService.getUserActions(actorName, pageable),
                 "User actions retrieved successfully",
                 "No actions found for user " + actorName,
-                page, size, sortBy, sortDir
+                page, size
         );
     }
 
@@ -135,13 +151,7 @@ public class AuditController {
             @RequestParam(defaultValue = "0") @Min(0) int page,
 
             @Parameter(description = SIZE_PARAM_DESC)
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
-
-            @Parameter(description = SORT_BY_PARAM_DESC)
-            @RequestParam(defaultValue = "timestamp") String sortBy,
-
-            @Parameter(description = SORT_DIR_PARAM_DESC)
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
 
         log.info("Retrieving actions by type: {}", actionType);
 
@@ -149,7 +159,7 @@ public class AuditController {
                 pageable -> auditService.getActionsByType(actionType, pageable),
                 "Actions by type retrieved successfully",
                 "No " + actionType + " actions found",
-                page, size, sortBy, sortDir
+                page, size
         );
     }
 
@@ -171,13 +181,7 @@ public class AuditController {
             @RequestParam(defaultValue = "0") @Min(0) int page,
 
             @Parameter(description = SIZE_PARAM_DESC)
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
-
-            @Parameter(description = SORT_BY_PARAM_DESC)
-            @RequestParam(defaultValue = "timestamp") String sortBy,
-
-            @Parameter(description = SORT_DIR_PARAM_DESC)
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
 
         log.info("Retrieving audits from {} to {}", start, end);
 
@@ -190,7 +194,7 @@ public class AuditController {
                 pageable -> auditService.getAuditsByDateRange(start, end, pageable),
                 "Audits by date range retrieved successfully",
                 "No audits found in the specified date range",
-                page, size, sortBy, sortDir
+                page, size
         );
     }
 
@@ -205,13 +209,7 @@ public class AuditController {
             @RequestParam(defaultValue = "0") @Min(0) int page,
 
             @Parameter(description = SIZE_PARAM_DESC)
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
-
-            @Parameter(description = SORT_BY_PARAM_DESC)
-            @RequestParam(defaultValue = "timestamp") String sortBy,
-
-            @Parameter(description = SORT_DIR_PARAM_DESC)
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
 
         log.info("Retrieving recent audit activities");
 
@@ -219,34 +217,101 @@ public class AuditController {
                 auditService::getAllAudits,
                 "Recent audit activities retrieved successfully",
                 "No recent audit activities found",
-                page, size, sortBy, sortDir
+                page, size
         );
     }
 
+    @Operation(
+            summary = "Get audit activity over time",
+            description = "Hourly or daily activity counts per actor, entity type or action type, served from pre-aggregated rollups"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Audit activity retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid or too wide date range")
+    })
+    @GetMapping("/analytics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponseDTO<List<AuditActivityDTO>>> getActivity(
+            @Parameter(description = "Bucket size")
+            @RequestParam(defaultValue = "DAY") ERollupGranularity granularity,
+
+            @Parameter(description = "Dimension to group activity by")
+            @RequestParam(defaultValue = "ACTOR") EAuditDimension groupBy,
+
+            @Parameter(description = "Start date and time (inclusive)", example = "2024-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+
+            @Parameter(description = "End date and time (exclusive)", example = "2024-02-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+
+        log.info("Retrieving {} audit activity by {} from {} to {}", granularity, groupBy, start, end);
+        List<AuditActivityDTO> activity = auditService.getActivity(granularity, groupBy, start, end);
+        return ResponseEntity.ok(ApiResponseDTO.success("Audit activity retrieved successfully", activity));
+    }
+
+    @Operation(
+            summary = "Get audit activity totals",
+            description = "Total activity per actor, entity type or action type, busiest first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Audit activity totals retrieved successfully")
+    })
+    @GetMapping("/analytics/totals")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponseDTO<Map<String, Long>>> getActivityTotals(
+            @Parameter(description = "Dimension to group activity by")
+            @RequestParam(defaultValue = "ACTOR") EAuditDimension groupBy,
+
+            @Parameter(description = "Optional start date and time (inclusive)", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+
+            @Parameter(description = "Optional end date and time (exclusive)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+
+        log.info("Retrieving audit activity totals by {}", groupBy);
+        Map<String, Long> totals = auditService.getActivityTotals(groupBy, start, end);
+        return ResponseEntity.ok(ApiResponseDTO.success("Audit activity totals retrieved successfully", totals));
+    }
+
+    @Operation(
+            summary = "Rebuild audit activity rollups",
+            description = "Recomputes rollups for whole days in the range from stored and archived audit logs; today is never rebuilt"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rollups rebuilt successfully"),
+            @ApiResponse(responseCode = "422", description = "Another backfill is already running")
+    })
+    @PostMapping("/analytics/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponseDTO<Integer>> backfillActivityRollups(
+            @Parameter(description = "Optional start date and time; defaults to the oldest audit log", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+
+            @Parameter(description = "Optional end date and time; capped at the start of today", example = "2024-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+
+        log.info("Backfilling audit activity rollups from {} to {}", start, end);
+        int sources = auditService.backfillActivityRollups(start, end);
+        return ResponseEntity.ok(ApiResponseDTO.success(
+                "Audit activity rollups rebuilt from " + sources + " sources", sources));
+    }
+
     /**
      * Common method to handle pagination for all audit endpoints with conditional responses
+     * Pages are unsorted requests: entries are merged across monthly partitions and archives by timestamp, so they
+     * always come newest first and no sort can be chosen.
      */
     private ResponseEntity<ApiResponseDTO<Page<AuditLogResponseDTO>>> executeWithPagination(
             Function<Pageable, Page<AuditLogResponseDTO>> serviceCall,
             String successMessage,
             String emptyMessage,
-            int page, int size, String sortBy, String sortDir) {
+            int page, int size) {
 
-        Pageable pageable = createPageable(page, size, sortBy, sortDir);
+        Pageable pageable = PageRequest.of(page, size);
         Page<AuditLogResponseDTO> result = serviceCall.apply(pageable);
 
         return result != null && result.hasContent()
                 ? ResponseEntity.ok(ApiResponseDTO.success(successMessage, result))
                 : ResponseEntity.ok(ApiResponseDTO.success(emptyMessage, result));
     }
-
-    /**
-     * Creates Pageable object with sorting
-     */
-    private Pageable createPageable(int page, int size, String sortBy, String sortDir) {
-        Sort sort = Sort.by(sortDir.equalsIgnoreCase("asc")
-                ? Sort.Direction.ASC
-                : Sort.Direction.DESC, sortBy);
-        return PageRequest.of(page, size, sort);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.buildermaster.projecttracker.controller;
+
+import com.buildermaster.projecttracker.service.impl.ChangeStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Tag(name = "Change Stream", description = "Server-Sent Events feed of task and project changes")
+public class ChangeStreamController {
+
+    private final ChangeStreamService changeStreamService;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('MANAGER') or hasRole('DEVELOPER')")
+    @Operation(summary = "Stream task and project changes",
+            description = "Sends a 'changes' event with the coalesced changes of each interval, 'resync' when "
+                    + "changes were dropped because the client fell behind, and periodic heartbeat comments")
+    public SseEmitter streamChanges(
+            @Parameter(description = "Only changes in these projects")
+            @RequestParam(name = "projectId", required = false) Set<UUID> projectIds,
+            @Parameter(description = "Only changes to tasks assigned to, or moved away from, these developers")
+            @RequestParam(name = "developerId", required = false) Set<UUID> developerIds) {
+        return changeStreamService.subscribe(
+                projectIds != null ? projectIds : Set.of(),
+                developerIds != null ? developerIds : Set.of());
+    }
+}
@@ -0,0 +1,35 @@
+package com.buildermaster.projecttracker.controller;
+
+import com.buildermaster.projecttracker.dto.response.ApiResponseDTO;
+import com.buildermaster.projecttracker.dto.response.DashboardDTO;
+import com.buildermaster.projecttracker.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "Composite admin dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get the admin dashboard",
+            description = "Loads task statistics, developer statistics, overdue projects and developer rankings "
+                    + "concurrently. Components that fail or miss the deadline are null and listed in "
+                    + "unavailableComponents")
+    public ResponseEntity<ApiResponseDTO<DashboardDTO>> getDashboard() {
+        DashboardDTO dashboard = dashboardService.getDashboard();
+        return ResponseEntity.ok(ApiResponseDTO.success(dashboard.getUnavailableComponents().isEmpty()
+                ? "Dashboard retrieved successfully"
+                : "Dashboard retrieved with unavailable components", dashboard));
+    }
+}
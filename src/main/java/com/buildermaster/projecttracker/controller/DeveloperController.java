@@ -8,6 +8,8 @@ import com.buildermaster.projecttracker.dto.response.DeveloperStatsDTO;
 import com.buildermaster.projecttracker.dto.response.DeveloperSummaryDTO;
 import com.buildermaster.projecttracker.model.ETaskStatus;
 import com.buildermaster.projecttracker.service.DeveloperService;
+import com.buildermaster.projecttracker.service.impl.ChangeSequenceService;
+import com.buildermaster.projecttracker.util.ConditionalRequests;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,6 +22,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -39,6 +42,7 @@ import java.util.UUID;
 public class DeveloperController {
 
     private final DeveloperService developerService;
+    private final ConditionalRequests conditionalRequests;
 
     // ===== CRUD ENDPOINTS =====
 
@@ -58,18 +62,31 @@ public class DeveloperController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDTO.created(createdDeveloper));
     }
 
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get several developers by ID in one request, in the requested order")
+    public ResponseEntity<ApiResponseDTO<List<DeveloperResponseDTO>>> getDevelopersByIds(
+            @Parameter(description = "Comma-separated developer IDs, at most 200") @RequestParam List<UUID> ids) {
+        List<DeveloperResponseDTO> developers = developerService.getDevelopersByIds(ids);
+        return ResponseEntity.ok(ApiResponseDTO.success("Developers retrieved successfully", developers));
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get all developers with pagination")
-    public ResponseEntity<ApiResponseDTO<Page<DeveloperResponseDTO>>> getAllDevelopers(
+    @Operation(summary = "Get all developers with pagination and sparse fieldsets")
+    public ResponseEntity<ApiResponseDTO<Page<?>>> getAllDevelopers(
             @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "name") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "ASC") String sortDir) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "ASC") String sortDir,
+            @Parameter(description = "Comma-separated developer fields to return, e.g. id,name,email; all when omitted")
+            @RequestParam(required = false) List<String> fields) {
 
         Sort.Direction direction = Sort.Direction.fromString(sortDir);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<DeveloperResponseDTO> developers = developerService.getAllDevelopers(pageable);
+        Page<?> developers = fields == null || fields.isEmpty()
+                ? developerService.getAllDevelopers(pageable)
+                : developerService.getAllDevelopers(pageable, fields);
 
         return developers.hasContent()
                 ? ResponseEntity.ok(ApiResponseDTO.success("Developers retrieved successfully", developers))
@@ -80,12 +97,12 @@ public class DeveloperController {
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get developer by ID")
     public ResponseEntity<ApiResponseDTO<DeveloperResponseDTO>> getDeveloperById(
-            @Parameter(description = "Developer unique identifier") @PathVariable UUID id) {
+            @Parameter(description = "Developer unique identifier") @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        DeveloperResponseDTO developer = developerService.getDeveloperById(id);
-        return developer != null
-                ? ResponseEntity.ok(ApiResponseDTO.success("Developer retrieved successfully", developer))
-                : ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDTO.error("Developer not found", 404));
+        return conditionalRequests.get(ChangeSequenceService.DEVELOPER, id, ifNoneMatch,
+                () -> developerService.getDeveloperById(id), ConditionalRequests::developerTag,
+                "Developer retrieved successfully");
     }
 
     @PutMapping("/{id}")
@@ -93,12 +110,15 @@ public class DeveloperController {
     @Operation(summary = "Update developer profile")
     public ResponseEntity<ApiResponseDTO<DeveloperResponseDTO>> updateDeveloperProfile(
             @Parameter(description = "Developer unique identifier") @PathVariable UUID id,
-            @Valid @RequestBody UpdateDeveloperRequestDTO updateRequest) {
+            @Valid @RequestBody UpdateDeveloperRequestDTO updateRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("Updating developer profile with ID: {}", id);
-        DeveloperResponseDTO updatedDeveloper = developerService.updateDeveloperProfile(id, updateRequest);
+        DeveloperResponseDTO updatedDeveloper = developerService.updateDeveloperProfile(id, updateRequest,
+                ConditionalRequests.expectedVersion(ifMatch, id));
         return updatedDeveloper != null
-                ? ResponseEntity.ok(ApiResponseDTO.success("Developer profile updated successfully", updatedDeveloper))
+                ? ResponseEntity.ok().eTag(ConditionalRequests.developerTag(updatedDeveloper))
+                        .body(ApiResponseDTO.success("Developer profile updated successfully", updatedDeveloper))
                 : ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDTO.error("Developer not found", 404));
     }
 
@@ -0,0 +1,102 @@
+package com.buildermaster.projecttracker.controller;
+
+import com.buildermaster.projecttracker.model.EExportFormat;
+import com.buildermaster.projecttracker.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Data Export", description = "Endpoints for streaming bulk exports as CSV or NDJSON")
+public class ExportController {
+
+    private static final String FORMAT_PARAM_DESC = "Export format (csv or ndjson)";
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final ExportService exportService;
+
+    @GetMapping("/tasks")
+    @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
+    @Operation(summary = "Stream all tasks")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = FORMAT_PARAM_DESC)
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        return stream("tasks", EExportFormat.fromValue(format), acceptEncoding, exportService::exportTasks);
+    }
+
+    @GetMapping("/projects")
+    @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
+    @Operation(summary = "Stream all projects")
+    public ResponseEntity<StreamingResponseBody> exportProjects(
+            @Parameter(description = FORMAT_PARAM_DESC)
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        return stream("projects", EExportFormat.fromValue(format), acceptEncoding, exportService::exportProjects);
+    }
+
+    @GetMapping("/audit")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream all audit logs")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @Parameter(description = FORMAT_PARAM_DESC)
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        return stream("audit-logs", EExportFormat.fromValue(format), acceptEncoding, exportService::exportAuditLogs);
+    }
+
+    // ===== HELPER METHODS =====
+
+    @FunctionalInterface
+    private interface ExportOperation {
+        long export(EExportFormat format, OutputStream outputStream) throws IOException;
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String name, EExportFormat format,
+                                                         String acceptEncoding, ExportOperation operation) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String fileName = name + "-" + LocalDate.now() + "." + format.getFileExtension();
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+                operation.export(format, gzipStream);
+                gzipStream.finish();
+            } else {
+                operation.export(format, outputStream);
+            }
+            outputStream.flush();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        log.info("Streaming {} export as {} (gzip: {})", name, format, gzip);
+        return response.body(body);
+    }
+}
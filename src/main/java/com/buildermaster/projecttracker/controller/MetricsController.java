@@ -4,7 +4,6 @@ import com.buildermaster.projecttracker.model.ETaskStatus;
 import com.buildermaster.projecttracker.repository.TaskRepository;
 import com.buildermaster.projecttracker.service.impl.MetricsService;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,7 +16,6 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/metrics")
@@ -45,7 +43,7 @@ public class MetricsController {
 
         // Basic task counts
         metrics.put("totalTasks", taskRepository.count());
-        metrics.put("overdueTasks", taskRepository.findOverdueTasks().size());
+        metrics.put("overdueTasks", taskRepository.countByOverdueTrue());
         metrics.put("unassignedTasks", taskRepository.findUnassignedTasks().size());
 
         // Operation counts
@@ -53,11 +51,11 @@ public class MetricsController {
         metrics.put("operations", operationMetrics);
 
         // Performance metrics
-        Timer taskTimer = meterRegistry.timer("app.tasks.processing.time");
+        Map<String, Double> performance = metricsService.getTaskPerformanceMetrics();
         metrics.put("performanceMetrics", Map.of(
-                "meanProcessingTimeMs", taskTimer.mean(TimeUnit.MILLISECONDS),
-                "maxProcessingTimeMs", taskTimer.max(TimeUnit.MILLISECONDS),
-                "totalProcessingTimeMs", taskTimer.totalTime(TimeUnit.MILLISECONDS)
+                "meanProcessingTimeMs", performance.get("meanProcessingTimeMs"),
+                "maxProcessingTimeMs", performance.get("maxProcessingTimeMs"),
+                "totalProcessingTimeMs", performance.get("totalProcessingTimeMs")
         ));
 
         return ResponseEntity.ok(metrics);
@@ -73,15 +71,7 @@ public class MetricsController {
     public ResponseEntity<Map<String, Double>> getTaskPerformanceMetrics() {
         log.debug("Fetching task performance metrics");
 
-        Timer taskTimer = meterRegistry.timer("app.tasks.processing.time");
-        Map<String, Double> performanceMetrics = new HashMap<>();
-
-        performanceMetrics.put("meanProcessingTimeMs", taskTimer.mean(TimeUnit.MILLISECONDS));
-        performanceMetrics.put("maxProcessingTimeMs", taskTimer.max(TimeUnit.MILLISECONDS));
-        performanceMetrics.put("totalProcessingTimeMs", taskTimer.totalTime(TimeUnit.MILLISECONDS));
-        performanceMetrics.put("count", (double) taskTimer.count());
-
-        return ResponseEntity.ok(performanceMetrics);
+        return ResponseEntity.ok(metricsService.getTaskPerformanceMetrics());
     }
 
     @GetMapping("/tasks/status-distribution")
@@ -3,11 +3,16 @@ package com.buildermaster.projecttracker.controller;
 import com.buildermaster.projecttracker.dto.request.CreateProjectRequestDTO;
 import com.buildermaster.projecttracker.dto.request.UpdateProjectRequestDTO;
 import com.buildermaster.projecttracker.dto.response.ApiResponseDTO;
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
 import com.buildermaster.projecttracker.dto.response.ProjectResponseDTO;
 import com.buildermaster.projecttracker.dto.response.ProjectSummaryDTO;
 import com.buildermaster.projecttracker.model.EProjectStatus;
 import com.buildermaster.projecttracker.service.ProjectService;
+import com.buildermaster.projecttracker.service.impl.ChangeSequenceService;
+import com.buildermaster.projecttracker.util.ConditionalRequests;
+import com.buildermaster.projecttracker.util.NdjsonStreamer;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,10 +23,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -35,6 +43,8 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final NdjsonStreamer ndjsonStreamer;
+    private final ConditionalRequests conditionalRequests;
 
     // ===== CRUD OPERATIONS =====
 
@@ -53,13 +63,27 @@ public class ProjectController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDTO.created(project));
     }
 
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Get several projects by ID in one request, in the requested order")
+    public ResponseEntity<ApiResponseDTO<List<ProjectResponseDTO>>> getProjectsByIds(
+            @Parameter(description = "Comma-separated project IDs, at most 200") @RequestParam List<UUID> ids) {
+        log.info("Retrieving {} projects by ID", ids.size());
+        List<ProjectResponseDTO> projects = projectService.getProjectsByIds(ids);
+        return ResponseEntity.ok(ApiResponseDTO.success("Projects retrieved successfully", projects));
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
-    @Operation(summary = "Get all projects with pagination")
-    public ResponseEntity<ApiResponseDTO<Page<ProjectSummaryDTO>>> getAllProjects(
-            @PageableDefault(size = 10, sort = "createdDate") Pageable pageable) {
+    @Operation(summary = "Get all projects with pagination and sparse fieldsets")
+    public ResponseEntity<ApiResponseDTO<Page<?>>> getAllProjects(
+            @PageableDefault(size = 10, sort = "createdDate") Pageable pageable,
+            @Parameter(description = "Comma-separated project fields to return, e.g. id,name,status; all when omitted")
+            @RequestParam(required = false) List<String> fields) {
         log.info("Retrieving projects - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
-        Page<ProjectSummaryDTO> projects = projectService.getAllProjects(pageable);
+        Page<?> projects = fields == null || fields.isEmpty()
+                ? projectService.getAllProjects(pageable)
+                : projectService.getAllProjects(pageable, fields);
         return projects.hasContent()
                 ? ResponseEntity.ok(ApiResponseDTO.success("Projects retrieved successfully", projects))
                 : ResponseEntity.ok(ApiResponseDTO.success("No projects found", projects));
@@ -70,14 +94,16 @@ public class ProjectController {
     @Operation(summary = "Get project by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Project found"),
+            @ApiResponse(responseCode = "304", description = "Project unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Project not found")
     })
-    public ResponseEntity<ApiResponseDTO<ProjectResponseDTO>> getProjectById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponseDTO<ProjectResponseDTO>> getProjectById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Retrieving project: {}", id);
-        ProjectResponseDTO project = projectService.getProjectById(id);
-        return project != null
-                ? ResponseEntity.ok(ApiResponseDTO.success("Project retrieved successfully", project))
-                : ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDTO.error("Project not found", 404));
+        return conditionalRequests.get(ChangeSequenceService.PROJECT, id, ifNoneMatch,
+                () -> projectService.getProjectById(id), ConditionalRequests::projectTag,
+                "Project retrieved successfully");
     }
 
     @PutMapping("/{id}")
@@ -85,11 +111,14 @@ public class ProjectController {
     @Operation(summary = "Update project")
     public ResponseEntity<ApiResponseDTO<ProjectResponseDTO>> updateProject(
             @PathVariable UUID id,
-            @Valid @RequestBody UpdateProjectRequestDTO updateRequest) {
+            @Valid @RequestBody UpdateProjectRequestDTO updateRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating project: {}", id);
-        ProjectResponseDTO project = projectService.updateProject(id, updateRequest);
+        ProjectResponseDTO project = projectService.updateProject(id, updateRequest,
+                ConditionalRequests.expectedVersion(ifMatch, id));
         return project != null
-                ? ResponseEntity.ok(ApiResponseDTO.success("Project updated successfully", project))
+                ? ResponseEntity.ok().eTag(ConditionalRequests.projectTag(project))
+                        .body(ApiResponseDTO.success("Project updated successfully", project))
                 : ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDTO.error("Project not found", 404));
     }
 
@@ -121,26 +150,46 @@ public class ProjectController {
 
     @GetMapping("/overdue")
     @PreAuthorize("hasRole('MANAGER')")
-    @Operation(summary = "Get overdue projects")
-    public ResponseEntity<ApiResponseDTO<List<ProjectResponseDTO>>> getOverdueProjects() {
-        log.info("Retrieving overdue projects");
-        List<ProjectResponseDTO> projects = projectService.getOverdueProjects();
-        return !projects.isEmpty()
+    @Operation(summary = "Get overdue projects", description = "Cursor-paginated; send Accept: application/x-ndjson to stream all rows")
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<ProjectResponseDTO>>> getOverdueProjects(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Retrieving overdue projects after cursor: {}", after);
+        CursorPageDTO<ProjectResponseDTO> projects = projectService.getOverdueProjects(after, limit);
+        return !projects.getContent().isEmpty()
                 ? ResponseEntity.ok(ApiResponseDTO.success("Overdue projects retrieved successfully", projects))
                 : ResponseEntity.ok(ApiResponseDTO.success("No overdue projects found", projects));
     }
 
+    @GetMapping(value = "/overdue", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Stream overdue projects as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamOverdueProjects() {
+        log.info("Streaming overdue projects");
+        return ndjsonStreamer.stream("overdue-projects", projectService::streamOverdueProjects);
+    }
+
     @GetMapping("/empty")
     @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
-    @Operation(summary = "Get projects without tasks")
-    public ResponseEntity<ApiResponseDTO<List<ProjectResponseDTO>>> getProjectsWithoutTasks() {
-        log.info("Retrieving projects without tasks");
-        List<ProjectResponseDTO> projects = projectService.getProjectsWithoutTasks();
-        return !projects.isEmpty()
+    @Operation(summary = "Get projects without tasks", description = "Cursor-paginated; send Accept: application/x-ndjson to stream all rows")
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<ProjectResponseDTO>>> getProjectsWithoutTasks(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Retrieving projects without tasks after cursor: {}", after);
+        CursorPageDTO<ProjectResponseDTO> projects = projectService.getProjectsWithoutTasks(after, limit);
+        return !projects.getContent().isEmpty()
                 ? ResponseEntity.ok(ApiResponseDTO.success("Projects without tasks retrieved successfully", projects))
                 : ResponseEntity.ok(ApiResponseDTO.success("No projects without tasks found", projects));
     }
 
+    @GetMapping(value = "/empty", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Stream projects without tasks as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamProjectsWithoutTasks() {
+        log.info("Streaming projects without tasks");
+        return ndjsonStreamer.stream("projects-without-tasks", projectService::streamProjectsWithoutTasks);
+    }
+
     @GetMapping("/by-task-count")
     @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
     @Operation(summary = "Get projects ordered by task count")
@@ -171,17 +220,31 @@ public class ProjectController {
 
     @GetMapping("/deadline-range")
     @PreAuthorize("hasRole('MANAGER')")
-    @Operation(summary = "Get projects by deadline range")
-    public ResponseEntity<ApiResponseDTO<List<ProjectResponseDTO>>> getProjectsByDeadlineRange(
+    @Operation(summary = "Get projects by deadline range", description = "Cursor-paginated; send Accept: application/x-ndjson to stream all rows")
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<ProjectResponseDTO>>> getProjectsByDeadlineRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit) {
         log.info("Retrieving projects with deadlines between {} and {}", startDate, endDate);
-        List<ProjectResponseDTO> projects = projectService.getProjectsByDeadlineRange(startDate, endDate);
-        return !projects.isEmpty()
+        CursorPageDTO<ProjectResponseDTO> projects =
+                projectService.getProjectsByDeadlineRange(startDate, endDate, after, limit);
+        return !projects.getContent().isEmpty()
                 ? ResponseEntity.ok(ApiResponseDTO.success("Projects in deadline range retrieved", projects))
                 : ResponseEntity.ok(ApiResponseDTO.success("No projects found in deadline range", projects));
     }
 
+    @GetMapping(value = "/deadline-range", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Stream projects by deadline range as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamProjectsByDeadlineRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.info("Streaming projects with deadlines between {} and {}", startDate, endDate);
+        return ndjsonStreamer.<ProjectResponseDTO>stream("projects-by-deadline",
+                sink -> projectService.streamProjectsByDeadlineRange(startDate, endDate, sink));
+    }
+
     @GetMapping("/recent")
     @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN') or hasRole('CONTRACTOR')")
     @Operation(summary = "Get recent projects", description = "Get recently created or updated projects")
@@ -0,0 +1,39 @@
+package com.buildermaster.projecttracker.controller;
+
+import com.buildermaster.projecttracker.dto.response.ApiResponseDTO;
+import com.buildermaster.projecttracker.dto.response.SyncPageDTO;
+import com.buildermaster.projecttracker.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Tag(name = "Delta Sync", description = "Incremental synchronisation of tasks, projects and developers")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('MANAGER') or hasRole('DEVELOPER')")
+    @Operation(summary = "Get changes after a watermark",
+            description = "Returns created, updated and deleted entities in change order together with the next "
+                    + "watermark. Start with since=0 and repeat with the returned watermark while hasMore is true")
+    public ResponseEntity<ApiResponseDTO<SyncPageDTO>> getChanges(
+            @Parameter(description = "Watermark from the previous response, 0 for a full sync")
+            @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of changes to return")
+            @RequestParam(required = false) Integer limit) {
+        SyncPageDTO page = syncService.getChangesSince(since, limit);
+        return ResponseEntity.ok(ApiResponseDTO.success(
+                page.getChanges().isEmpty() ? "No changes since watermark" : "Changes retrieved", page));
+    }
+}
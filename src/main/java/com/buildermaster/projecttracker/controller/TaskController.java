@@ -1,24 +1,35 @@
 package com.buildermaster.projecttracker.controller;
 
+import com.buildermaster.projecttracker.dto.request.AutoAssignTasksRequestDTO;
+import com.buildermaster.projecttracker.dto.request.ClaimTasksRequestDTO;
 import com.buildermaster.projecttracker.dto.request.CreateTaskRequestDTO;
 import com.buildermaster.projecttracker.dto.request.UpdateTaskRequestDTO;
 import com.buildermaster.projecttracker.dto.response.ApiResponseDTO;
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
 import com.buildermaster.projecttracker.dto.response.TaskResponseDTO;
 import com.buildermaster.projecttracker.dto.response.TaskStatsDTO;
 import com.buildermaster.projecttracker.dto.response.TaskSummaryDTO;
 import com.buildermaster.projecttracker.model.ETaskStatus;
 import com.buildermaster.projecttracker.service.TaskService;
+import com.buildermaster.projecttracker.service.impl.ChangeSequenceService;
+import com.buildermaster.projecttracker.util.ConditionalRequests;
+import com.buildermaster.projecttracker.util.NdjsonStreamer;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -33,6 +44,8 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final NdjsonStreamer ndjsonStreamer;
+    private final ConditionalRequests conditionalRequests;
 
     // ===== CRUD OPERATIONS =====
 
@@ -47,21 +60,25 @@ public class TaskController {
     @GetMapping("/{taskId}")
     @PreAuthorize("hasRole('MANAGER')")
     @Operation(summary = "Get task by ID")
-    public ResponseEntity<ApiResponseDTO<TaskResponseDTO>> getTaskById(@PathVariable UUID taskId) {
-        TaskResponseDTO task = taskService.getTaskById(taskId);
-        return task != null
-                ? ResponseEntity.ok(ApiResponseDTO.success("Task retrieved successfully", task))
-                : ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDTO.error("Task not found", 404));
+    public ResponseEntity<ApiResponseDTO<TaskResponseDTO>> getTaskById(
+            @PathVariable UUID taskId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditionalRequests.get(ChangeSequenceService.TASK, taskId, ifNoneMatch,
+                () -> taskService.getTaskById(taskId), conditionalRequests::taskTag, "Task retrieved successfully");
     }
 
     @PutMapping("/{taskId}")
     @PreAuthorize("hasRole('MANAGER')")
     @Operation(summary = "Update task by ID")
-    public ResponseEntity<ApiResponseDTO<TaskResponseDTO>> updateTask(@PathVariable UUID taskId,
-                                                                      @Valid @RequestBody UpdateTaskRequestDTO request) {
-        TaskResponseDTO updatedTask = taskService.updateTask(taskId, request);
+    public ResponseEntity<ApiResponseDTO<TaskResponseDTO>> updateTask(
+            @PathVariable UUID taskId,
+            @Valid @RequestBody UpdateTaskRequestDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDTO updatedTask = taskService.updateTask(taskId, request,
+                ConditionalRequests.expectedVersion(ifMatch, taskId));
         return updatedTask != null
-                ? ResponseEntity.ok(ApiResponseDTO.success("Task updated successfully", updatedTask))
+                ? ResponseEntity.ok().eTag(conditionalRequests.taskTag(updatedTask))
+                        .body(ApiResponseDTO.success("Task updated successfully", updatedTask))
                 : ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDTO.error("Task not found", 404));
     }
 
@@ -77,11 +94,25 @@ public class TaskController {
 
     // ===== LISTING TASKS =====
 
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Get several tasks by ID in one request, in the requested order")
+    public ResponseEntity<ApiResponseDTO<List<TaskResponseDTO>>> getTasksByIds(
+            @Parameter(description = "Comma-separated task IDs, at most 200") @RequestParam List<UUID> ids) {
+        List<TaskResponseDTO> tasks = taskService.getTasksByIds(ids);
+        return ResponseEntity.ok(ApiResponseDTO.success("Tasks retrieved successfully", tasks));
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('MANAGER')")
-    @Operation(summary = "Get all tasks with optional pagination")
-    public ResponseEntity<ApiResponseDTO<Page<TaskResponseDTO>>> getAllTasks(@ParameterObject Pageable pageable) {
-        Page<TaskResponseDTO> page = taskService.getAllTasks(pageable);
+    @Operation(summary = "Get all tasks with optional pagination and sparse fieldsets")
+    public ResponseEntity<ApiResponseDTO<Page<?>>> getAllTasks(
+            @ParameterObject Pageable pageable,
+            @Parameter(description = "Comma-separated task fields to return, e.g. id,title,status; all when omitted")
+            @RequestParam(required = false) List<String> fields) {
+        Page<?> page = fields == null || fields.isEmpty()
+                ? taskService.getAllTasks(pageable)
+                : taskService.getAllTasks(pageable, fields);
         return page.hasContent()
                 ? ResponseEntity.ok(ApiResponseDTO.success("Tasks retrieved successfully", page))
                 : ResponseEntity.ok(ApiResponseDTO.success("No tasks found", page));
@@ -199,48 +230,122 @@ public class TaskController {
                 : ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDTO.error("Task not found", 404));
     }
 
+    @PatchMapping("/{taskId}/auto-assign")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Assign a task to the least-loaded developer",
+            description = "Picks the developer with the fewest open tasks, optionally restricted to a skill")
+    public ResponseEntity<ApiResponseDTO<TaskResponseDTO>> autoAssignTask(@PathVariable UUID taskId,
+                                                                          @RequestParam(required = false) String skill) {
+        TaskResponseDTO task = taskService.autoAssignTask(taskId, skill);
+        return ResponseEntity.ok(ApiResponseDTO.success("Task auto-assigned successfully", task));
+    }
+
+    @PostMapping("/auto-assign")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Auto-assign a batch of unassigned tasks",
+            description = "Assigns the given tasks, or the oldest-due unassigned tasks, spreading them across the least-loaded developers")
+    public ResponseEntity<ApiResponseDTO<List<TaskResponseDTO>>> autoAssignTasks(
+            @Valid @RequestBody AutoAssignTasksRequestDTO request) {
+        List<TaskResponseDTO> tasks = taskService.autoAssignTasks(request);
+        return !tasks.isEmpty()
+                ? ResponseEntity.ok(ApiResponseDTO.success("Tasks auto-assigned successfully", tasks))
+                : ResponseEntity.ok(ApiResponseDTO.success("No unassigned tasks to auto-assign", tasks));
+    }
+
+    @PostMapping("/claim")
+    @PreAuthorize("hasRole('DEVELOPER')")
+    @Operation(summary = "Claim the next unassigned tasks",
+            description = "Atomically assigns up to 'count' unassigned tasks to the calling developer; tasks being claimed concurrently are skipped")
+    public ResponseEntity<ApiResponseDTO<List<TaskResponseDTO>>> claimTasks(
+            @Valid @RequestBody ClaimTasksRequestDTO request, Authentication authentication) {
+        List<TaskResponseDTO> tasks = taskService.claimTasks(authentication.getName(), request);
+        return !tasks.isEmpty()
+                ? ResponseEntity.ok(ApiResponseDTO.success("Tasks claimed successfully", tasks))
+                : ResponseEntity.ok(ApiResponseDTO.success("No unassigned tasks available to claim", tasks));
+    }
+
     // ===== QUICK FILTERS =====
 
     @GetMapping("/due-today")
     @PreAuthorize("hasRole('MANAGER')")
-    @Operation(summary = "Get tasks due today")
-    public ResponseEntity<ApiResponseDTO<List<TaskResponseDTO>>> getTasksDueToday() {
-        List<TaskResponseDTO> tasks = taskService.getTasksDueToday();
-        return !tasks.isEmpty()
+    @Operation(summary = "Get tasks due today", description = "Cursor-paginated; send Accept: application/x-ndjson to stream all rows")
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<TaskResponseDTO>>> getTasksDueToday(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageDTO<TaskResponseDTO> tasks = taskService.getTasksDueToday(after, limit);
+        return !tasks.getContent().isEmpty()
                 ? ResponseEntity.ok(ApiResponseDTO.success("Tasks due today retrieved", tasks))
                 : ResponseEntity.ok(ApiResponseDTO.success("No tasks due today", tasks));
     }
 
+    @GetMapping(value = "/due-today", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Stream tasks due today as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamTasksDueToday() {
+        return ndjsonStreamer.stream("tasks-due-today", taskService::streamTasksDueToday);
+    }
+
     @GetMapping("/due-this-week")
-    @Operation(summary = "Get tasks due this week")
+    @Operation(summary = "Get tasks due this week", description = "Cursor-paginated; send Accept: application/x-ndjson to stream all rows")
     @PreAuthorize("hasRole('MANAGER')")
-    public ResponseEntity<ApiResponseDTO<List<TaskResponseDTO>>> getTasksDueThisWeek() {
-        List<TaskResponseDTO> tasks = taskService.getTasksDueThisWeek();
-        return !tasks.isEmpty()
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<TaskResponseDTO>>> getTasksDueThisWeek(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageDTO<TaskResponseDTO> tasks = taskService.getTasksDueThisWeek(after, limit);
+        return !tasks.getContent().isEmpty()
                 ? ResponseEntity.ok(ApiResponseDTO.success("Tasks due this week retrieved", tasks))
                 : ResponseEntity.ok(ApiResponseDTO.success("No tasks due this week", tasks));
     }
 
+    @GetMapping(value = "/due-this-week", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream tasks due this week as NDJSON")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<StreamingResponseBody> streamTasksDueThisWeek() {
+        return ndjsonStreamer.stream("tasks-due-this-week", taskService::streamTasksDueThisWeek);
+    }
+
     @GetMapping("/created-since")
     @PreAuthorize("hasRole('MANAGER')")
-    @Operation(summary = "Get tasks created since a specific date")
-    public ResponseEntity<ApiResponseDTO<List<TaskResponseDTO>>> getRecentlyCreated(@RequestParam LocalDateTime since) {
-        List<TaskResponseDTO> tasks = taskService.getRecentlyCreatedTasks(since);
-        return !tasks.isEmpty()
+    @Operation(summary = "Get tasks created since a specific date", description = "Cursor-paginated; send Accept: application/x-ndjson to stream all rows")
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<TaskResponseDTO>>> getRecentlyCreated(
+            @RequestParam LocalDateTime since,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageDTO<TaskResponseDTO> tasks = taskService.getRecentlyCreatedTasks(since, after, limit);
+        return !tasks.getContent().isEmpty()
                 ? ResponseEntity.ok(ApiResponseDTO.success("Recently created tasks retrieved", tasks))
                 : ResponseEntity.ok(ApiResponseDTO.success("No recently created tasks found", tasks));
     }
 
+    @GetMapping(value = "/created-since", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Stream tasks created since a specific date as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamRecentlyCreated(@RequestParam LocalDateTime since) {
+        return ndjsonStreamer.<TaskResponseDTO>stream("tasks-created-since",
+                sink -> taskService.streamRecentlyCreatedTasks(since, sink));
+    }
+
     @GetMapping("/updated-since")
     @PreAuthorize("hasRole('MANAGER')")
-    @Operation(summary = "Get tasks updated since a specific date")
-    public ResponseEntity<ApiResponseDTO<List<TaskResponseDTO>>> getRecentlyUpdated(@RequestParam LocalDateTime since) {
-        List<TaskResponseDTO> tasks = taskService.getRecentlyUpdatedTasks(since);
-        return !tasks.isEmpty()
+    @Operation(summary = "Get tasks updated since a specific date", description = "Cursor-paginated; send Accept: application/x-ndjson to stream all rows")
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<TaskResponseDTO>>> getRecentlyUpdated(
+            @RequestParam LocalDateTime since,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageDTO<TaskResponseDTO> tasks = taskService.getRecentlyUpdatedTasks(since, after, limit);
+        return !tasks.getContent().isEmpty()
                 ? ResponseEntity.ok(ApiResponseDTO.success("Recently updated tasks retrieved", tasks))
                 : ResponseEntity.ok(ApiResponseDTO.success("No recently updated tasks found", tasks));
     }
 
+    @GetMapping(value = "/updated-since", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Stream tasks updated since a specific date as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamRecentlyUpdated(@RequestParam LocalDateTime since) {
+        return ndjsonStreamer.<TaskResponseDTO>stream("tasks-updated-since",
+                sink -> taskService.streamRecentlyUpdatedTasks(since, sink));
+    }
+
     // ===== STATISTICS =====
 
     @GetMapping("/stats")
@@ -273,6 +378,24 @@ public class TaskController {
                 : ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDTO.error("Developer not found", 404));
     }
 
+    @GetMapping(value = "/stats/projects", params = "ids")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Get task statistics for several projects at once")
+    public ResponseEntity<ApiResponseDTO<Map<UUID, TaskStatsDTO>>> getProjectsTaskStatistics(
+            @Parameter(description = "Comma-separated project IDs, at most 200") @RequestParam List<UUID> ids) {
+        Map<UUID, TaskStatsDTO> stats = taskService.getTaskStatisticsByProjects(ids);
+        return ResponseEntity.ok(ApiResponseDTO.success("Project statistics retrieved", stats));
+    }
+
+    @GetMapping(value = "/stats/developers", params = "ids")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Get task statistics for several developers at once")
+    public ResponseEntity<ApiResponseDTO<Map<UUID, TaskStatsDTO>>> getDevelopersTaskStatistics(
+            @Parameter(description = "Comma-separated developer IDs, at most 200") @RequestParam List<UUID> ids) {
+        Map<UUID, TaskStatsDTO> stats = taskService.getTaskStatisticsByDevelopers(ids);
+        return ResponseEntity.ok(ApiResponseDTO.success("Developer statistics retrieved", stats));
+    }
+
     @GetMapping("/counts/status")
     @Operation(summary = "Get task counts grouped by status")
     @PreAuthorize("hasRole('MANAGER')")
@@ -1,24 +1,26 @@
 package com.buildermaster.projecttracker.controller;
 
 import com.buildermaster.projecttracker.dto.response.ApiResponseDTO;
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
 import com.buildermaster.projecttracker.dto.response.UserResponseDTO;
 import com.buildermaster.projecttracker.dto.response.UserSummaryDTO;
 import com.buildermaster.projecttracker.model.ERole;
 import com.buildermaster.projecttracker.service.UserService;
+import com.buildermaster.projecttracker.util.NdjsonStreamer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -27,26 +29,37 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final NdjsonStreamer ndjsonStreamer;
 
     @GetMapping("/admin/users")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
             summary = "Get all users",
-            description = "Returns a list of all users. Requires ADMIN role.",
+            description = "Returns a cursor-paginated list of users. Send Accept: application/x-ndjson to stream all rows. Requires ADMIN role.",
             responses = {
                     @ApiResponse(
                             responseCode = "200", description = "Users retrieved successfully",
                             content = @Content(mediaType = "application/json",
-                                    array = @ArraySchema(schema = @Schema(implementation = UserResponseDTO.class)))
+                                    schema = @Schema(implementation = ApiResponseDTO.class))
                     )
 
             }
     )
-    public ResponseEntity<ApiResponseDTO<List<UserResponseDTO>>> getAllUsers() {
-        List<UserResponseDTO> users = userService.getAllUsers();
-        return users != null
-                ? ResponseEntity.ok(ApiResponseDTO.success("Fetched all users", users))
-                : ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponseDTO.error("Developer not found", 404));
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<UserResponseDTO>>> getAllUsers(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) UUID after,
+
+            @Parameter(description = "Page size, capped server-side")
+            @RequestParam(required = false) Integer limit) {
+        CursorPageDTO<UserResponseDTO> users = userService.getAllUsers(after, limit);
+        return ResponseEntity.ok(ApiResponseDTO.success("Fetched all users", users));
+    }
+
+    @GetMapping(value = "/admin/users", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream all users as NDJSON", description = "Requires ADMIN role.")
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        return ndjsonStreamer.stream("users", userService::streamAllUsers);
     }
 
     @GetMapping("/user/me")
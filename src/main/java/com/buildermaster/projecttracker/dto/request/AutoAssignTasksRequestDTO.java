@@ -0,0 +1,32 @@
+package com.buildermaster.projecttracker.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request DTO for auto-assigning a batch of unassigned tasks")
+public class AutoAssignTasksRequestDTO {
+
+    @Size(max = 500, message = "At most 500 tasks can be auto-assigned per request")
+    @Schema(description = "Tasks to assign; when empty the oldest-due unassigned open tasks are used")
+    private List<UUID> taskIds;
+
+    @Size(max = 100, message = "Skill cannot exceed 100 characters")
+    @Schema(description = "Skill the assignee must list; any developer when omitted", example = "Java")
+    private String skill;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 500, message = "Limit cannot exceed 500")
+    @Schema(description = "Maximum number of unassigned tasks to pick when no task IDs are given", example = "100")
+    private Integer limit;
+}
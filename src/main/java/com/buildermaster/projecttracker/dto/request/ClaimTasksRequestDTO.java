@@ -0,0 +1,29 @@
+package com.buildermaster.projecttracker.dto.request;
+
+import com.buildermaster.projecttracker.model.ETaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request DTO for claiming the next unassigned tasks")
+public class ClaimTasksRequestDTO {
+
+    @Min(value = 1, message = "Count must be at least 1")
+    @Max(value = 50, message = "Count cannot exceed 50")
+    @Schema(description = "Number of tasks to claim", example = "3", defaultValue = "1")
+    private Integer count;
+
+    @Schema(description = "Only claim tasks from this project")
+    private UUID projectId;
+
+    @Schema(description = "Only claim tasks in this status", example = "TODO")
+    private ETaskStatus status;
+}
@@ -0,0 +1,26 @@
+package com.buildermaster.projecttracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Audit activity count for one value of the grouped dimension within a time bucket")
+public class AuditActivityDTO {
+
+    @Schema(description = "Start of the hour or day bucket", example = "2024-01-15T00:00:00")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "Actor name, entity type or action type, depending on the grouping", example = "SYSTEM")
+    private String key;
+
+    @Schema(description = "Number of audited actions", example = "42")
+    private long count;
+}
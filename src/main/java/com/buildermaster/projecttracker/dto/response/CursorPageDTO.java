@@ -0,0 +1,79 @@
+package com.buildermaster.projecttracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Keyset-paginated slice of results without a total count")
+public class CursorPageDTO<T> {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+    @Schema(description = "Results in this slice")
+    private List<T> content;
+
+    @Schema(description = "Cursor to pass as 'after' to fetch the next slice, null when there are no more results")
+    private UUID nextCursor;
+
+    @Schema(description = "Whether more results exist after this slice")
+    private Boolean hasMore;
+
+    @Schema(description = "Effective page size after applying the server-side cap", example = "100")
+    private Integer limit;
+
+    /**
+     * Clamps the requested size to the server-side cap.
+     */
+    public static int effectiveLimit(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(requested, MAX_LIMIT);
+    }
+
+    /**
+     * Resolves the lower id bound of the slice; a missing cursor starts from the beginning.
+     */
+    public static UUID startAfter(UUID cursor) {
+        return cursor != null ? cursor : FIRST_CURSOR;
+    }
+
+    /**
+     * Fetches one extra row so that hasMore can be answered without a count query.
+     */
+    public static Pageable probe(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     * Builds a slice from rows fetched with {@link #probe(int)} in ascending id order.
+     */
+    public static <E, T> CursorPageDTO<T> of(List<E> rows, int limit, Function<E, UUID> idExtractor,
+                                             Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> slice = hasMore ? rows.subList(0, limit) : rows;
+        UUID nextCursor = hasMore ? idExtractor.apply(slice.get(slice.size() - 1)) : null;
+
+        return CursorPageDTO.<T>builder()
+                .content(slice.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .limit(limit)
+                .build();
+    }
+}
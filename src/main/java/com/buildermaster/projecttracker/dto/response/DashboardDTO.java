@@ -0,0 +1,44 @@
+package com.buildermaster.projecttracker.dto.response;
+
+import com.buildermaster.projecttracker.model.ETaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Admin dashboard assembled from independently loaded components")
+public class DashboardDTO {
+
+    @Schema(description = "Overall task statistics")
+    private TaskStatsDTO taskStats;
+
+    @Schema(description = "Task counts grouped by status")
+    private Map<ETaskStatus, Long> taskCountsByStatus;
+
+    @Schema(description = "Developer statistics summary")
+    private DeveloperStatsDTO developerStats;
+
+    @Schema(description = "First page of overdue projects")
+    private CursorPageDTO<ProjectResponseDTO> overdueProjects;
+
+    @Schema(description = "Number of projects with at least one task")
+    private Long projectsWithTasksCount;
+
+    @Schema(description = "Top 5 developers by task count")
+    private List<DeveloperSummaryDTO> topPerformers;
+
+    @Schema(description = "Developers without assigned tasks")
+    private List<DeveloperSummaryDTO> availableDevelopers;
+
+    @Schema(description = "Components that failed or missed their deadline and are null in this response",
+            example = "[\"overdueProjects\"]")
+    private List<String> unavailableComponents;
+}
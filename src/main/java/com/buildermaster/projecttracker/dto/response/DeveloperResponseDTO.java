@@ -36,4 +36,7 @@ public class DeveloperResponseDTO {
 
     @Schema(description = "Developer last update timestamp")
     private LocalDateTime updatedDate;
+
+    @Schema(description = "Entity version, incremented on every update", example = "3")
+    private Long version;
 }
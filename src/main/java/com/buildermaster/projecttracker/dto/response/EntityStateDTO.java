@@ -0,0 +1,47 @@
+package com.buildermaster.projecttracker.dto.response;
+
+import com.buildermaster.projecttracker.model.EActionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "State of an entity at a point in time, reconstructed from its audit trail")
+public class EntityStateDTO {
+
+    @Schema(description = "Type of entity", example = "Task")
+    private String entityType;
+
+    @Schema(description = "Entity ID")
+    private UUID entityId;
+
+    @Schema(description = "Point in time the state was reconstructed for")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "Time of the last audited change at or before the requested time")
+    private LocalDateTime lastChangedAt;
+
+    @Schema(description = "Action of the last audited change")
+    private EActionType lastActionType;
+
+    @Schema(description = "Actor of the last audited change")
+    private String lastActorName;
+
+    @Schema(description = "Whether the entity had been deleted at the requested time")
+    private boolean deleted;
+
+    @Schema(description = "False when the snapshot the history starts from has been removed by retention")
+    private boolean complete;
+
+    @Schema(description = "Entity fields as audited")
+    private Map<String, Object> state;
+}
@@ -50,4 +50,7 @@ public class ProjectResponseDTO {
 
     @Schema(description = "Project last update timestamp")
     private LocalDateTime updatedDate;
+
+    @Schema(description = "Entity version, incremented on every update", example = "3")
+    private Long version;
 }
@@ -0,0 +1,33 @@
+package com.buildermaster.projecttracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Current state of one changed entity, or a tombstone for a deleted one")
+public class SyncChangeDTO {
+
+    @Schema(description = "Change sequence number of this delta", example = "1042")
+    private Long seq;
+
+    @Schema(description = "Type of entity", example = "Task")
+    private String entityType;
+
+    @Schema(description = "Entity ID")
+    private UUID entityId;
+
+    @Schema(description = "Whether the entity was deleted; data is null for deletions")
+    private Boolean deleted;
+
+    @Schema(description = "Compact entity fields, with related entities referenced by ID")
+    private Map<String, Object> data;
+}
@@ -0,0 +1,33 @@
+package com.buildermaster.projecttracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Ordered deltas after a watermark")
+public class SyncPageDTO {
+
+    @Schema(description = "Changes in ascending sequence order; each entity appears at most once")
+    private List<SyncChangeDTO> changes;
+
+    @Schema(description = "Watermark to send as 'since' on the next request", example = "1042")
+    private Long watermark;
+
+    @Schema(description = "Whether more changes exist after this watermark")
+    private Boolean hasMore;
+
+    @Schema(description = "Deletions before the requested watermark were pruned; the client must discard its "
+            + "local copy and apply these changes, which start from the beginning")
+    private Boolean resetRequired;
+
+    @Schema(description = "Effective page size after applying the server-side cap", example = "100")
+    private Integer limit;
+}
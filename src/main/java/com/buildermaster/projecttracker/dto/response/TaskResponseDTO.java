@@ -59,5 +59,7 @@ public class TaskResponseDTO implements Serializable {
 
     @Schema(description = "Task last update timestamp")
     private LocalDateTime updatedDate;
-}
 
+    @Schema(description = "Entity version, incremented on every update", example = "3")
+    private Long version;
+}
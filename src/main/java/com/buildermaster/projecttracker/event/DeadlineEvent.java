@@ -0,0 +1,12 @@
+package com.buildermaster.projecttracker.event;
+
+import com.buildermaster.projecttracker.model.EDeadlineTransition;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Published once per entity and transition when a task due date or project deadline is reached
+ */
+public record DeadlineEvent(String entityType, UUID entityId, EDeadlineTransition transition, LocalDate deadline) {
+}
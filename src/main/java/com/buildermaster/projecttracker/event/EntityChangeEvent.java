@@ -0,0 +1,40 @@
+package com.buildermaster.projecttracker.event;
+
+import com.buildermaster.projecttracker.model.EChangeType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Published after a task or project write commits and fanned out to change stream subscribers on every node
+ * Carries just enough to filter by project and developer; clients fetch the entity itself when they need it.
+ * The previous project and developer are set when a task moved away from them, so their feeds see it leave.
+ */
+public record EntityChangeEvent(String entityType,
+                                UUID entityId,
+                                EChangeType changeType,
+                                UUID projectId,
+                                UUID previousProjectId,
+                                UUID developerId,
+                                UUID previousDeveloperId,
+                                Instant occurredAt) {
+
+    public static final String TASK = "Task";
+    public static final String PROJECT = "Project";
+
+    public static EntityChangeEvent task(EChangeType changeType, UUID taskId,
+                                         UUID previousProjectId, UUID projectId,
+                                         UUID previousDeveloperId, UUID developerId) {
+        return new EntityChangeEvent(TASK, taskId, changeType,
+                projectId, moved(previousProjectId, projectId),
+                developerId, moved(previousDeveloperId, developerId), Instant.now());
+    }
+
+    public static EntityChangeEvent project(EChangeType changeType, UUID projectId) {
+        return new EntityChangeEvent(PROJECT, projectId, changeType, projectId, null, null, null, Instant.now());
+    }
+
+    private static UUID moved(UUID previous, UUID current) {
+        return previous != null && !previous.equals(current) ? previous : null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.buildermaster.projecttracker.exception;
+
+/**
+ * Exception thrown when an If-Match precondition does not hold for the current entity version
+ */
+public class PreconditionFailedException extends ProjectTrackerException {
+
+    public PreconditionFailedException(String resourceType, Object id, long expectedVersion, Long currentVersion) {
+        super(String.format("%s with id '%s' is at version %s, not %d; fetch it again before updating",
+                resourceType, id, currentVersion, expectedVersion));
+    }
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,99 @@
+package com.buildermaster.projecttracker.filter;
+
+import com.buildermaster.projecttracker.config.sql.SqlStatementStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements, loaded entities and JDBC time of each HTTP request
+ * Records them per endpoint (method and URI pattern, the same bounded tags as http.server.requests) and logs
+ * requests that run more statements than the budget, together with the statement repeated most often, which is
+ * where an N+1 shows up.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    private final Map<String, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+    public SqlStatementFilter(MeterRegistry meterRegistry,
+                              @Value("${app.sql.statement-budget:20}") int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats.close();
+            record(request, stats);
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String method = request.getMethod();
+
+        EndpointMeters endpoint = meters.computeIfAbsent(method + " " + uri, key -> endpointMeters(method, uri));
+        endpoint.statements().record(stats.getStatements());
+        endpoint.entities().record(stats.getEntitiesLoaded());
+        endpoint.jdbcTime().record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > statementBudget) {
+            Map.Entry<String, Integer> repeated = stats.getMostRepeated();
+            log.warn("{} {} ran {} SQL statements (budget {}), loaded {} entities in {} ms of JDBC time; "
+                            + "most repeated ({}x): {}",
+                    method, uri, stats.getStatements(), statementBudget, stats.getEntitiesLoaded(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()), repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    private EndpointMeters endpointMeters(String method, String uri) {
+        return new EndpointMeters(
+                DistributionSummary.builder("app.sql.statements")
+                        .description("SQL statements executed per HTTP request")
+                        .tags("method", method, "uri", uri)
+                        .register(meterRegistry),
+                DistributionSummary.builder("app.sql.entities.loaded")
+                        .description("Entities loaded from result rows per HTTP request")
+                        .tags("method", method, "uri", uri)
+                        .register(meterRegistry),
+                Timer.builder("app.sql.jdbc.time")
+                        .description("Time spent executing SQL per HTTP request")
+                        .tags("method", method, "uri", uri)
+                        .register(meterRegistry));
+    }
+
+    private record EndpointMeters(DistributionSummary statements, DistributionSummary entities, Timer jdbcTime) {
+    }
+}
@@ -17,6 +17,11 @@ public interface DeveloperMapper {
     @Mapping(target = "totalTaskCount", expression = "java(developer.getTasks() != null ? developer.getTasks().size() : 0)")
     DeveloperSummaryDTO toSummaryDTO(Developer developer);
 
+    // Task count supplied by the leaderboard instead of loading the task collection
+    @Mapping(target = "primarySkills", expression = "java(truncateSkills(developer.getSkills()))")
+    @Mapping(target = "totalTaskCount", expression = "java((int) taskCount)")
+    DeveloperSummaryDTO toRankedSummaryDTO(Developer developer, long taskCount);
+
     @Named("truncateSkills")
     default String truncateSkills(String skills) {
         if (skills != null && skills.length() > 100) {
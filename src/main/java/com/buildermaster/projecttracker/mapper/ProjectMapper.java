@@ -2,15 +2,12 @@ package com.buildermaster.projecttracker.mapper;
 
 import com.buildermaster.projecttracker.dto.response.ProjectResponseDTO;
 import com.buildermaster.projecttracker.dto.response.ProjectSummaryDTO;
-import com.buildermaster.projecttracker.model.EProjectStatus;
 import com.buildermaster.projecttracker.model.ETaskStatus;
 import com.buildermaster.projecttracker.model.Project;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
-import java.time.LocalDate;
-
 @Mapper(componentModel = "spring")
 public interface ProjectMapper {
     @Mapping(target = "taskCount", expression = "java(project.getTasks().size())")
@@ -18,12 +15,24 @@ public interface ProjectMapper {
     @Mapping(target = "isOverdue", expression = "java(isProjectOverdue(project))")
     ProjectSummaryDTO toSummaryDTO(Project project);
 
+    // Counts supplied by the caller (leaderboard or a grouped count query) instead of loading the task collection
+    @Mapping(target = "taskCount", expression = "java((int) taskCount)")
+    @Mapping(target = "completionPercentage", expression = "java(taskCount == 0 ? 0.0 : (double) completedTaskCount / taskCount * 100.0)")
+    @Mapping(target = "isOverdue", expression = "java(isProjectOverdue(project))")
+    ProjectSummaryDTO toRankedSummaryDTO(Project project, long taskCount, long completedTaskCount);
+
     @Mapping(target = "taskCount", expression = "java(project.getTasks().size())")
     @Mapping(target = "completedTaskCount", expression = "java(countCompletedTasks(project))")
     @Mapping(target = "completionPercentage", expression = "java(calculateCompletionPercentage(project))")
     @Mapping(target = "isOverdue", expression = "java(isProjectOverdue(project))")
     ProjectResponseDTO toResponseDTO(Project project);
 
+    @Mapping(target = "taskCount", expression = "java((int) taskCount)")
+    @Mapping(target = "completedTaskCount", expression = "java((int) completedTaskCount)")
+    @Mapping(target = "completionPercentage", expression = "java(taskCount == 0 ? 0.0 : (double) completedTaskCount / taskCount * 100.0)")
+    @Mapping(target = "isOverdue", expression = "java(isProjectOverdue(project))")
+    ProjectResponseDTO toCountedResponseDTO(Project project, long taskCount, long completedTaskCount);
+
     @Named("calculateCompletionPercentage")
     default double calculateCompletionPercentage(Project project) {
         int taskCount = project.getTasks().size();
@@ -40,7 +49,6 @@ public interface ProjectMapper {
 
     @Named("isProjectOverdue")
     default boolean isProjectOverdue(Project project) {
-        return project.getDeadline().isBefore(LocalDate.now()) &&
-                project.getStatus() != EProjectStatus.COMPLETED;
+        return project.isOverdue();
     }
 }
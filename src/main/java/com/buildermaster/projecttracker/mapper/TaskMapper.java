@@ -3,34 +3,41 @@ package com.buildermaster.projecttracker.mapper;
 import com.buildermaster.projecttracker.dto.response.TaskResponseDTO;
 import com.buildermaster.projecttracker.dto.response.TaskStatsDTO;
 import com.buildermaster.projecttracker.dto.response.TaskSummaryDTO;
-import com.buildermaster.projecttracker.model.ETaskStatus;
 import com.buildermaster.projecttracker.model.Task;
+import com.buildermaster.projecttracker.service.impl.DeadlineEngine;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
+import org.springframework.beans.factory.annotation.Autowired;
 
-import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Task mappings; days remaining and overdue are counted from the deadline engine's today, in its zone, the same
+ * day the overdue flags and the task ETags are computed from
+ */
 @Mapper(componentModel = "spring")
-public interface TaskMapper {
+public abstract class TaskMapper {
+
+    @Autowired
+    protected DeadlineEngine deadlineEngine;
 
     @Mapping(target = "projectName", expression = "java(task.getProject() != null ? task.getProject().getName() : null)")
     @Mapping(target = "developerName", expression = "java(task.getDeveloper() != null ? task.getDeveloper().getName() : null)")
     @Mapping(target = "isOverdue", expression = "java(isTaskOverdue(task))")
     @Mapping(target = "daysRemaining", expression = "java(calculateDaysRemaining(task))")
     @Mapping(target = "daysOverdue", expression = "java(calculateDaysOverdue(task))")
-    TaskResponseDTO toResponseDTO(Task task);
+    public abstract TaskResponseDTO toResponseDTO(Task task);
 
     @Mapping(target = "projectName", expression = "java(task.getProject() != null ? task.getProject().getName() : null)")
     @Mapping(target = "developerName", expression = "java(task.getDeveloper() != null ? task.getDeveloper().getName() : null)")
     @Mapping(target = "isOverdue", expression = "java(isTaskOverdue(task))")
-    TaskSummaryDTO toSummaryDTO(Task task);
+    public abstract TaskSummaryDTO toSummaryDTO(Task task);
 
-    default TaskStatsDTO toStatsDTO(List<Object[]> resultList) {
+    public TaskStatsDTO toStatsDTO(List<Object[]> resultList) {
         if (resultList == null || resultList.isEmpty()) {
             return TaskStatsDTO.builder()
                     .totalTasks(0L)
@@ -42,32 +49,36 @@ public interface TaskMapper {
 
         Object[] result = resultList.get(0);
         Map<String, Long> tasksByStatus = new HashMap<>();
-        tasksByStatus.put("COMPLETED", ((Number) result[1]).longValue());
-        tasksByStatus.put("TODO", ((Number) result[2]).longValue());
-        tasksByStatus.put("IN_PROGRESS", ((Number) result[3]).longValue());
-        tasksByStatus.put("BLOCKED", ((Number) result[4]).longValue());
+        tasksByStatus.put("COMPLETED", count(result[1]));
+        tasksByStatus.put("TODO", count(result[2]));
+        tasksByStatus.put("IN_PROGRESS", count(result[3]));
+        tasksByStatus.put("BLOCKED", count(result[4]));
 
         return TaskStatsDTO.builder()
-                .totalTasks(((Number) result[0]).longValue())
+                .totalTasks(count(result[0]))
                 .tasksByStatus(tasksByStatus)
                 .build();
     }
 
+    // SUM over no rows is NULL, e.g. for a project without tasks
+    private static long count(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
     @Named("isTaskOverdue")
-    default boolean isTaskOverdue(Task task) {
-        return task.getDueDate().isBefore(LocalDate.now()) &&
-                task.getStatus() != ETaskStatus.COMPLETED;
+    public boolean isTaskOverdue(Task task) {
+        return task.isOverdue();
     }
 
     @Named("calculateDaysRemaining")
-    default long calculateDaysRemaining(Task task) {
+    public long calculateDaysRemaining(Task task) {
         if (isTaskOverdue(task)) return 0L;
-        return ChronoUnit.DAYS.between(LocalDate.now(), task.getDueDate());
+        return ChronoUnit.DAYS.between(deadlineEngine.today(), task.getDueDate());
     }
 
     @Named("calculateDaysOverdue")
-    default long calculateDaysOverdue(Task task) {
+    public long calculateDaysOverdue(Task task) {
         if (!isTaskOverdue(task)) return 0L;
-        return ChronoUnit.DAYS.between(task.getDueDate(), LocalDate.now());
+        return ChronoUnit.DAYS.between(task.getDueDate(), deadlineEngine.today());
     }
 }
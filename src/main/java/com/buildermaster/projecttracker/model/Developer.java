@@ -1,11 +1,11 @@
 package com.buildermaster.projecttracker.model;
 
+import com.buildermaster.projecttracker.model.id.TimeOrderedUuid;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.*;
@@ -23,6 +23,10 @@ import java.util.UUID;
         name = "developers",
         uniqueConstraints = {
         @UniqueConstraint(columnNames = "email", name = "uk_developer_email")
+        },
+        indexes = {
+                @Index(name = "idx_developers_created_date", columnList = "created_date"),
+                @Index(name = "idx_developers_change_seq", columnList = "change_seq")
         })
 @Data
 @NoArgsConstructor
@@ -31,11 +35,7 @@ import java.util.UUID;
 public class Developer {
 
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(
-            name = "UUID",
-            strategy = "org.hibernate.id.UUIDGenerator"
-    )
+    @TimeOrderedUuid
     @Column(updatable = false, nullable = false)
     private UUID id;
 
@@ -62,6 +62,15 @@ public class Developer {
     @Column(name = "updated_date", nullable = false)
     private LocalDateTime updatedDate;
 
+    // Stamped just before commit by ChangeSequenceService, never by Hibernate; delta sync reads rows above a watermark
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    // Incremented by Hibernate on every update; exposed as the ETag and checked against If-Match
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @OneToOne(optional = false, fetch = FetchType.LAZY) // Every developer must be a user
     @JoinColumn(name = "user_id", referencedColumnName = "id", unique = true)
     private User user;
@@ -0,0 +1,20 @@
+package com.buildermaster.projecttracker.model;
+
+/**
+ * Enumeration for the audit fields activity can be grouped by
+ */
+public enum EAuditDimension {
+    ACTOR("actorName"),
+    ENTITY_TYPE("entityType"),
+    ACTION_TYPE("actionType");
+
+    private final String field;
+
+    EAuditDimension(String field) {
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
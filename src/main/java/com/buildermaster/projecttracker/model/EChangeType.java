@@ -0,0 +1,12 @@
+package com.buildermaster.projecttracker.model;
+
+/**
+ * Enumeration for the kinds of change pushed to change stream subscribers
+ */
+public enum EChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ASSIGNED,
+    UNASSIGNED
+}
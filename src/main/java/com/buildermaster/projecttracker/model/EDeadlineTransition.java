@@ -0,0 +1,9 @@
+package com.buildermaster.projecttracker.model;
+
+/**
+ * Enumeration for deadline transitions fired by the deadline engine
+ */
+public enum EDeadlineTransition {
+    DUE_TODAY,
+    OVERDUE
+}
@@ -0,0 +1,36 @@
+package com.buildermaster.projecttracker.model;
+
+import com.buildermaster.projecttracker.exception.ValidationException;
+
+/**
+ * Enumeration for streaming export formats
+ */
+public enum EExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    EExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static EExportFormat fromValue(String value) {
+        for (EExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value) || format.fileExtension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ValidationException("format", "Unsupported export format: " + value);
+    }
+}
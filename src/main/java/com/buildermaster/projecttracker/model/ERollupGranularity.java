@@ -0,0 +1,41 @@
+package com.buildermaster.projecttracker.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Enumeration for audit rollup bucket sizes
+ */
+public enum ERollupGranularity {
+    HOUR(ChronoUnit.HOURS, "hour", Duration.ofDays(31)),
+    DAY(ChronoUnit.DAYS, "day", Duration.ofDays(366));
+
+    private final ChronoUnit unit;
+    private final String mongoUnit;
+    private final Duration maxRange;
+
+    ERollupGranularity(ChronoUnit unit, String mongoUnit, Duration maxRange) {
+        this.unit = unit;
+        this.mongoUnit = mongoUnit;
+        this.maxRange = maxRange;
+    }
+
+    public LocalDateTime truncate(LocalDateTime timestamp) {
+        return timestamp.truncatedTo(unit);
+    }
+
+    /**
+     * Unit name understood by the $dateTrunc aggregation operator
+     */
+    public String getMongoUnit() {
+        return mongoUnit;
+    }
+
+    /**
+     * Widest range a single analytics query may cover at this granularity
+     */
+    public Duration getMaxRange() {
+        return maxRange;
+    }
+}
@@ -1,12 +1,12 @@
 package com.buildermaster.projecttracker.model;
 
+import com.buildermaster.projecttracker.model.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.validation.constraints.*;
@@ -18,7 +18,15 @@ import java.util.*;
  * Project entity representing a project in the system
  */
 @Entity
-@Table(name = "projects")
+@Table(name = "projects",
+        indexes = {
+                @Index(name = "idx_projects_status", columnList = "status"),
+                @Index(name = "idx_projects_deadline", columnList = "deadline"),
+                @Index(name = "idx_projects_overdue", columnList = "overdue"),
+                @Index(name = "idx_projects_created_date", columnList = "created_date"),
+                @Index(name = "idx_projects_updated_date", columnList = "updated_date"),
+                @Index(name = "idx_projects_change_seq", columnList = "change_seq")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,11 +34,7 @@ import java.util.*;
 public class Project {
 
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(
-            name = "UUID",
-            strategy = "org.hibernate.id.UUIDGenerator"
-    )
+    @TimeOrderedUuid
     @Column(updatable = false, nullable = false)
     private UUID id;
 
@@ -54,6 +58,10 @@ public class Project {
     @Column(nullable = false)
     private EProjectStatus status;
 
+    // Maintained by the deadline engine so overdue lookups hit an index instead of comparing dates
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean overdue;
+
     @CreationTimestamp
     @Column(name = "created_date", nullable = false, updatable = false)
     private LocalDateTime createdDate;
@@ -62,6 +70,15 @@ public class Project {
     @Column(name = "updated_date", nullable = false)
     private LocalDateTime updatedDate;
 
+    // Stamped just before commit by ChangeSequenceService, never by Hibernate; delta sync reads rows above a watermark
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    // Incremented by Hibernate on every update; exposed as the ETag and checked against If-Match
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<Task> tasks = new ArrayList<>();
 
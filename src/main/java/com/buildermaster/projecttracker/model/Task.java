@@ -1,11 +1,11 @@
 package com.buildermaster.projecttracker.model;
 
+import com.buildermaster.projecttracker.model.id.TimeOrderedUuid;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.*;
@@ -18,7 +18,17 @@ import java.util.UUID;
  * Task entity representing a task in the system
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks",
+        indexes = {
+                @Index(name = "idx_tasks_project_id", columnList = "project_id"),
+                @Index(name = "idx_tasks_developer_id", columnList = "developer_id"),
+                @Index(name = "idx_tasks_status", columnList = "status"),
+                @Index(name = "idx_tasks_due_date", columnList = "due_date"),
+                @Index(name = "idx_tasks_overdue", columnList = "overdue"),
+                @Index(name = "idx_tasks_created_date", columnList = "created_date"),
+                @Index(name = "idx_tasks_updated_date", columnList = "updated_date"),
+                @Index(name = "idx_tasks_change_seq", columnList = "change_seq")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,11 +36,7 @@ import java.util.UUID;
 public class Task {
 
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(
-            name = "UUID",
-            strategy = "org.hibernate.id.UUIDGenerator"
-    )
+    @TimeOrderedUuid
     @Column(updatable = false, nullable = false)
     private UUID id;
 
@@ -53,6 +59,10 @@ public class Task {
     @Column(name = "due_date", nullable = false)
     private LocalDate dueDate;
 
+    // Maintained by the deadline engine so overdue lookups hit an index instead of comparing dates
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean overdue;
+
     @CreationTimestamp
     @Column(name = "created_date", nullable = false, updatable = false)
     private LocalDateTime createdDate;
@@ -61,6 +71,15 @@ public class Task {
     @Column(name = "updated_date", nullable = false)
     private LocalDateTime updatedDate;
 
+    // Stamped just before commit by ChangeSequenceService, never by Hibernate; delta sync reads rows above a watermark
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    // Incremented by Hibernate on every update; exposed as the ETag and checked against If-Match
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
@@ -13,6 +13,7 @@ import java.util.UUID;
 
 /**
  * AuditLog MongoDB document for tracking entity changes
+ * New entries are written to monthly partitions (audit_logs_yyyy_MM) chosen by AuditPartitionManager
  */
 @Document(collection = "audit_logs")
 @Data
@@ -35,6 +36,9 @@ public class AuditLog {
 
     private Map<String, Object> payload;
 
+    // Only set for action types kept shorter than the partition holding them; enforced by a TTL index
+    private LocalDateTime expireAt;
+
     // Custom constructor without ID (MongoDB will auto-generate)
     public AuditLog(EActionType actionType, String entityType, UUID entityId, String actorName, Map<String, Object> payload) {
         this.actionType = actionType;
@@ -0,0 +1,37 @@
+package com.buildermaster.projecttracker.model.audit;
+
+import com.buildermaster.projecttracker.model.EActionType;
+import com.buildermaster.projecttracker.model.ERollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated audit activity count for one actor, entity type and action within a time bucket
+ * Unique on (granularity, bucketStart, actorName, entityType, actionType); missing actors and entity types are stored as ""
+ */
+@Document(collection = "audit_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRollup {
+
+    @Id
+    private String id;
+
+    private ERollupGranularity granularity;
+
+    private LocalDateTime bucketStart;
+
+    private String actorName;
+
+    private String entityType;
+
+    private EActionType actionType;
+
+    private long count;
+}
@@ -0,0 +1,29 @@
+package com.buildermaster.projecttracker.model.sync;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Named counter row; "change" holds the last allocated change sequence and "tombstone_horizon" the highest
+ * sequence of a pruned tombstone
+ * Only ever updated through ChangeSequenceService's upsert, whose row lock orders committing writers.
+ */
+@Entity
+@Table(name = "change_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeCounter {
+
+    @Id
+    @Column(length = 40, updatable = false, nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private long value;
+}
@@ -0,0 +1,37 @@
+package com.buildermaster.projecttracker.model.sync;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Record of a deleted task, project or developer, kept so delta-sync clients learn about the deletion
+ * Shares the change sequence with live rows; pruned after the tombstone retention.
+ */
+@Entity
+@Table(name = "sync_tombstones")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTombstone {
+
+    @Id
+    @Column(name = "change_seq", updatable = false, nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
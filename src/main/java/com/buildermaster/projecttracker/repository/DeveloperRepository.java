@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +24,8 @@ public interface DeveloperRepository extends JpaRepository<Developer, UUID> {
 
     Optional<Developer> findByEmail(String email);
 
+    Optional<Developer> findByUserUsername(String username);
+
     boolean existsByEmail(String email);
 
     @Query("SELECT d FROM Developer d LEFT JOIN d.tasks t GROUP BY d ORDER BY COUNT(t) DESC")
@@ -43,4 +46,23 @@ public interface DeveloperRepository extends JpaRepository<Developer, UUID> {
 
     Page<Developer> findAllByOrderByCreatedDateDesc(Pageable pageable);
 
-}
\ No newline at end of file
+    @Query("SELECT d.id, COUNT(t) FROM Developer d LEFT JOIN d.tasks t GROUP BY d.id")
+    List<Object[]> countTasksPerDeveloper();
+
+    @Query("SELECT d.id, d.skills FROM Developer d")
+    List<Object[]> findAllSkills();
+
+    // ===== BATCH LOOKUP METHODS =====
+
+    // Tasks are fetched with the developers because the response carries the task count
+    @Query("SELECT d FROM Developer d LEFT JOIN FETCH d.tasks WHERE d.id IN :ids")
+    List<Developer> findAllWithTasksByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT d.id FROM Developer d WHERE d.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // ===== DELTA SYNC METHODS =====
+
+    List<Developer> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long since, Pageable limit);
+
+}
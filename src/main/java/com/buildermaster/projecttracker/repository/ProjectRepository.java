@@ -5,13 +5,19 @@ import com.buildermaster.projecttracker.model.EProjectStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Project entity
@@ -24,18 +30,10 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     List<Project> findByStatus(EProjectStatus status);
 
-    List<Project> findByDeadlineBetween(LocalDate start, LocalDate end);
-
     boolean existsByNameIgnoreCase(String name);
 
     // ===== CUSTOM @QUERY METHODS =====
 
-    @Query("SELECT p FROM Project p WHERE p.deadline < CURRENT_DATE AND p.status != 'COMPLETED'")
-    List<Project> findOverdueProjects();
-
-    @Query("SELECT p FROM Project p WHERE p.tasks IS EMPTY")
-    List<Project> findProjectsWithoutTasks();
-
     @Query("SELECT p FROM Project p LEFT JOIN p.tasks t GROUP BY p ORDER BY COUNT(t) DESC")
     Page<Project> findProjectsOrderedByTaskCount(Pageable pageable);
 
@@ -45,6 +43,9 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
     @Query("SELECT COUNT(DISTINCT p) FROM Project p JOIN p.tasks t")
     Long countProjectsWithTasks();
 
+    @Query("SELECT p.id, COUNT(t) FROM Project p LEFT JOIN p.tasks t GROUP BY p.id")
+    List<Object[]> countTasksPerProject();
+
     Page<Project> findByStatus(EProjectStatus status, Pageable pageable);
 
     Page<Project> findByNameContainingIgnoreCase(String name, Pageable pageable);
@@ -59,4 +60,96 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     Page<Project> findAllByOrderByUpdatedDateDesc(Pageable pageable);
 
-}
\ No newline at end of file
+    // ===== BULK OPERATIONS =====
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Project p WHERE p.id = :id")
+    int deleteProjectById(@Param("id") UUID id);
+
+    // ===== DEADLINE ENGINE METHODS =====
+
+    @Query("SELECT p.id, p.deadline FROM Project p WHERE p.deadline BETWEEN :from AND :to AND p.status != 'COMPLETED'")
+    List<Object[]> findUpcomingDeadlines(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT p.id, p.deadline FROM Project p WHERE p.overdue = false AND p.deadline < :today AND p.status != 'COMPLETED'")
+    List<Object[]> findMissingOverdueFlags(@Param("today") LocalDate today);
+
+    @Query("SELECT p.id FROM Project p WHERE p.overdue = true AND (p.deadline >= :today OR p.status = 'COMPLETED')")
+    List<UUID> findIdsWithStaleOverdueFlag(@Param("today") LocalDate today);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.overdue = true, p.version = p.version + 1 " +
+            "WHERE p.id = :id AND p.overdue = false AND p.deadline < :today AND p.status != 'COMPLETED'")
+    int markOverdue(@Param("id") UUID id, @Param("today") LocalDate today);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.overdue = false, p.version = p.version + 1 WHERE p.id IN :ids")
+    int clearOverdue(@Param("ids") Collection<UUID> ids);
+
+    // Rows of [project, task count, completed task count]; the counts are subqueries so no task collection is loaded
+    String WITH_TASK_COUNTS = "SELECT p, " +
+            "(SELECT COUNT(t) FROM Task t WHERE t.project = p), " +
+            "(SELECT COUNT(t) FROM Task t WHERE t.project = p AND t.status = 'COMPLETED') ";
+
+    String WITHOUT_TASKS = "SELECT p, 0L, 0L ";
+
+    // ===== KEYSET PAGINATION METHODS =====
+
+    @Query(WITH_TASK_COUNTS + "FROM Project p WHERE p.overdue = true AND p.id > :after ORDER BY p.id")
+    List<Object[]> findOverdueProjects(@Param("after") UUID after, Pageable limit);
+
+    @Query(WITHOUT_TASKS + "FROM Project p WHERE p.tasks IS EMPTY AND p.id > :after ORDER BY p.id")
+    List<Object[]> findProjectsWithoutTasks(@Param("after") UUID after, Pageable limit);
+
+    @Query(WITH_TASK_COUNTS + "FROM Project p WHERE p.deadline BETWEEN :start AND :end AND p.id > :after " +
+            "ORDER BY p.id")
+    List<Object[]> findByDeadlineBetween(@Param("start") LocalDate start, @Param("end") LocalDate end,
+                                         @Param("after") UUID after, Pageable limit);
+
+    // ===== CURSOR STREAMING METHODS =====
+
+    @Query(WITH_TASK_COUNTS + "FROM Project p WHERE p.overdue = true ORDER BY p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Object[]> streamOverdueProjects();
+
+    @Query(WITHOUT_TASKS + "FROM Project p WHERE p.tasks IS EMPTY ORDER BY p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Object[]> streamProjectsWithoutTasks();
+
+    @Query(WITH_TASK_COUNTS + "FROM Project p WHERE p.deadline BETWEEN :start AND :end ORDER BY p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Object[]> streamByDeadlineBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    // ===== STREAMING EXPORT METHODS =====
+
+    @Query("SELECT p FROM Project p")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Project> streamAllForExport();
+
+    // ===== BATCH LOOKUP METHODS =====
+
+    // Tasks are fetched with the projects because the response carries task and completion counts
+    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.tasks WHERE p.id IN :ids")
+    List<Project> findAllWithTasksByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // ===== DELTA SYNC METHODS =====
+
+    List<Project> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long since, Pageable limit);
+
+}
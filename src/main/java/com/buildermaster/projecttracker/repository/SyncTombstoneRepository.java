@@ -0,0 +1,18 @@
+package com.buildermaster.projecttracker.repository;
+
+import com.buildermaster.projecttracker.model.sync.SyncTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for SyncTombstone entity
+ * Tombstones are written by ChangeSequenceService; this repository only reads them for delta sync
+ */
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    List<SyncTombstone> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long since, Pageable limit);
+}
@@ -5,15 +5,23 @@ import com.buildermaster.projecttracker.model.ETaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Task entity
@@ -34,9 +42,11 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     Long countByDeveloperId(UUID developerId);
 
+    long countByOverdueTrue();
+
     // ===== CUSTOM @QUERY METHODS =====
 
-    @Query("SELECT t FROM Task t WHERE t.dueDate < CURRENT_DATE AND t.status != 'COMPLETED'")
+    @Query("SELECT t FROM Task t WHERE t.overdue = true")
     List<Task> findOverdueTasks();
 
     @Query("SELECT t FROM Task t WHERE t.developer IS NULL")
@@ -55,25 +65,70 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     Page<Task> findByDueDateBefore(LocalDate date, Pageable pageable);
 
+    Page<Task> findByOverdueTrue(Pageable pageable);
+
     Page<Task> findByDueDateBetween(LocalDate start, LocalDate end, Pageable pageable);
 
     Page<Task> findByTitleContainingIgnoreCase(String title, Pageable pageable);
 
     Page<Task> findByDescriptionContainingIgnoreCase(String description, Pageable pageable);
 
-    // ===== ADDITIONAL USEFUL QUERY METHODS =====
+    // ===== KEYSET PAGINATION METHODS =====
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.developer " +
+            "WHERE t.dueDate = :today AND t.id > :after ORDER BY t.id")
+    List<Task> findTasksDueToday(@Param("today") LocalDate today, @Param("after") UUID after, Pageable limit);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.developer " +
+            "WHERE t.dueDate BETWEEN :now AND :nextWeek AND t.id > :after ORDER BY t.id")
+    List<Task> findTasksDueThisWeek(@Param("now") LocalDate now, @Param("nextWeek") LocalDate nextWeek,
+                                    @Param("after") UUID after, Pageable limit);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.developer " +
+            "WHERE t.createdDate >= :sinceDate AND t.id > :after ORDER BY t.id")
+    List<Task> findRecentlyCreatedTasks(@Param("sinceDate") LocalDateTime sinceDate,
+                                        @Param("after") UUID after, Pageable limit);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.developer " +
+            "WHERE t.updatedDate >= :sinceDate AND t.id > :after ORDER BY t.id")
+    List<Task> findRecentlyUpdatedTasks(@Param("sinceDate") LocalDateTime sinceDate,
+                                        @Param("after") UUID after, Pageable limit);
 
-    @Query("SELECT t FROM Task t WHERE t.dueDate = CURRENT_DATE")
-    List<Task> findTasksDueToday();
+    // ===== CURSOR STREAMING METHODS =====
 
-    @Query("SELECT t FROM Task t WHERE t.dueDate BETWEEN :now AND :nextWeek")
-    List<Task> findTasksDueThisWeek(@Param("now") LocalDate now, @Param("nextWeek") LocalDate nextWeek);
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.developer " +
+            "WHERE t.dueDate = :today ORDER BY t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamTasksDueToday(@Param("today") LocalDate today);
 
-    @Query("SELECT t FROM Task t WHERE t.createdDate >= :sinceDate")
-    List<Task> findRecentlyCreatedTasks(@Param("sinceDate") LocalDateTime sinceDate);
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.developer " +
+            "WHERE t.dueDate BETWEEN :now AND :nextWeek ORDER BY t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamTasksDueThisWeek(@Param("now") LocalDate now, @Param("nextWeek") LocalDate nextWeek);
 
-    @Query("SELECT t FROM Task t WHERE t.updatedDate >= :sinceDate")
-    List<Task> findRecentlyUpdatedTasks(@Param("sinceDate") LocalDateTime sinceDate);
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.developer " +
+            "WHERE t.createdDate >= :sinceDate ORDER BY t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamRecentlyCreatedTasks(@Param("sinceDate") LocalDateTime sinceDate);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.developer " +
+            "WHERE t.updatedDate >= :sinceDate ORDER BY t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamRecentlyUpdatedTasks(@Param("sinceDate") LocalDateTime sinceDate);
+
+    // ===== STATISTICS METHODS =====
 
     @Query("SELECT " +
             "COUNT(*) as total, " +
@@ -92,4 +147,114 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
             "SUM(CASE WHEN t.status = 'BLOCKED' THEN 1 ELSE 0 END) as blocked " +
             "FROM Task t WHERE t.developer.id = :developerId")
     List<Object[]> getTaskStatisticsByDeveloper(@Param("developerId") UUID developerId);
+
+    // Same columns as getTaskStatisticsByProject, prefixed with the project id; projects without tasks have no row
+    @Query("SELECT t.project.id, " +
+            "COUNT(*) as total, " +
+            "SUM(CASE WHEN t.status = 'COMPLETED' THEN 1 ELSE 0 END) as completed, " +
+            "SUM(CASE WHEN t.status = 'TODO' THEN 1 ELSE 0 END) as pending, " +
+            "SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END) as inProgress, " +
+            "SUM(CASE WHEN t.status = 'BLOCKED' THEN 1 ELSE 0 END) as blocked " +
+            "FROM Task t WHERE t.project.id IN :projectIds GROUP BY t.project.id")
+    List<Object[]> getTaskStatisticsByProjectIds(@Param("projectIds") Collection<UUID> projectIds);
+
+    @Query("SELECT t.developer.id, " +
+            "COUNT(*) as total, " +
+            "SUM(CASE WHEN t.status = 'COMPLETED' THEN 1 ELSE 0 END) as completed, " +
+            "SUM(CASE WHEN t.status = 'TODO' THEN 1 ELSE 0 END) as pending, " +
+            "SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END) as inProgress, " +
+            "SUM(CASE WHEN t.status = 'BLOCKED' THEN 1 ELSE 0 END) as blocked " +
+            "FROM Task t WHERE t.developer.id IN :developerIds GROUP BY t.developer.id")
+    List<Object[]> getTaskStatisticsByDeveloperIds(@Param("developerIds") Collection<UUID> developerIds);
+
+    @Query("SELECT t.project.id, COUNT(t) FROM Task t " +
+            "WHERE t.project.id IN :projectIds AND t.status = 'COMPLETED' GROUP BY t.project.id")
+    List<Object[]> countCompletedTasksByProjectIds(@Param("projectIds") Collection<UUID> projectIds);
+
+    @Query("SELECT t.developer.id, COUNT(t) FROM Task t " +
+            "WHERE t.project.id = :projectId AND t.developer IS NOT NULL GROUP BY t.developer.id")
+    List<Object[]> countTasksPerDeveloperInProject(@Param("projectId") UUID projectId);
+
+    // ===== BULK OPERATIONS =====
+
+    @Query("SELECT t.id FROM Task t WHERE t.developer.id = :developerId")
+    List<UUID> findIdsByDeveloperId(@Param("developerId") UUID developerId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId")
+    List<UUID> findIdsByProjectId(@Param("projectId") UUID projectId, Pageable chunk);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.developer = NULL, t.updatedDate = CURRENT_TIMESTAMP, t.version = t.version + 1 " +
+            "WHERE t.developer.id = :developerId")
+    int unassignAllFromDeveloper(@Param("developerId") UUID developerId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId")
+    int deleteAllByProjectId(@Param("projectId") UUID projectId);
+
+    // ===== ASSIGNMENT METHODS =====
+
+    @Query("SELECT t.developer.id, COUNT(t) FROM Task t " +
+            "WHERE t.developer IS NOT NULL AND t.status != 'COMPLETED' GROUP BY t.developer.id")
+    List<Object[]> countOpenTasksByDeveloper();
+
+    @Query("SELECT t FROM Task t WHERE t.developer IS NULL AND t.status != 'COMPLETED' ORDER BY t.dueDate, t.id")
+    List<Task> findOpenUnassignedTasks(Pageable limit);
+
+    // Locks the returned rows and skips rows already locked by concurrent claimers (lock timeout -2 = SKIP LOCKED).
+    // The project filter is a separate query: PostgreSQL cannot type a null uuid parameter in ":projectId IS NULL".
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM Task t WHERE t.developer IS NULL AND t.status != 'COMPLETED' " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "ORDER BY t.dueDate, t.id")
+    List<Task> lockClaimableTasks(@Param("status") ETaskStatus status, Pageable limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM Task t WHERE t.developer IS NULL AND t.status != 'COMPLETED' " +
+            "AND t.project.id = :projectId AND (:status IS NULL OR t.status = :status) " +
+            "ORDER BY t.dueDate, t.id")
+    List<Task> lockClaimableTasksInProject(@Param("projectId") UUID projectId, @Param("status") ETaskStatus status,
+                                           Pageable limit);
+
+    // ===== DEADLINE ENGINE METHODS =====
+
+    @Query("SELECT t.id, t.dueDate FROM Task t WHERE t.dueDate BETWEEN :from AND :to AND t.status != 'COMPLETED'")
+    List<Object[]> findUpcomingDeadlines(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT t.id, t.dueDate FROM Task t WHERE t.overdue = false AND t.dueDate < :today AND t.status != 'COMPLETED'")
+    List<Object[]> findMissingOverdueFlags(@Param("today") LocalDate today);
+
+    @Query("SELECT t.id FROM Task t WHERE t.overdue = true AND (t.dueDate >= :today OR t.status = 'COMPLETED')")
+    List<UUID> findIdsWithStaleOverdueFlag(@Param("today") LocalDate today);
+
+    // Conditional so that concurrent engines or a racing update flip the flag at most once
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = true, t.version = t.version + 1 " +
+            "WHERE t.id = :id AND t.overdue = false AND t.dueDate < :today AND t.status != 'COMPLETED'")
+    int markOverdue(@Param("id") UUID id, @Param("today") LocalDate today);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = false, t.version = t.version + 1 WHERE t.id IN :ids")
+    int clearOverdue(@Param("ids") Collection<UUID> ids);
+
+    // ===== STREAMING EXPORT METHODS =====
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.developer")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Task> streamAllForExport();
+
+    // ===== BATCH LOOKUP METHODS =====
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.developer WHERE t.id IN :ids")
+    List<Task> findAllWithRelationsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // ===== DELTA SYNC METHODS =====
+
+    List<Task> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long since, Pageable limit);
 }
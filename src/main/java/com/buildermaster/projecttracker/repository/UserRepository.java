@@ -1,13 +1,19 @@
 package com.buildermaster.projecttracker.repository;
 
 import com.buildermaster.projecttracker.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -16,6 +22,13 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     boolean existsByUsername(String email);
 
-    @Query("SELECT u FROM User u")
-    List<User> findAllUserDetails();
+    @Query("SELECT u FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<User> findAllUserDetails(@Param("after") UUID after, Pageable limit);
+
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<User> streamAllUserDetails();
 }
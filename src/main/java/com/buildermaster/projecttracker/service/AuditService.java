@@ -1,13 +1,18 @@
 package com.buildermaster.projecttracker.service;
 
+import com.buildermaster.projecttracker.dto.response.AuditActivityDTO;
 import com.buildermaster.projecttracker.dto.response.AuditLogResponseDTO;
+import com.buildermaster.projecttracker.dto.response.EntityStateDTO;
 import com.buildermaster.projecttracker.model.EActionType;
+import com.buildermaster.projecttracker.model.EAuditDimension;
+import com.buildermaster.projecttracker.model.ERollupGranularity;
 import com.buildermaster.projecttracker.model.audit.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -18,8 +23,17 @@ public interface AuditService {
 
     AuditLog logAction(EActionType actionType, String entityType, UUID entityId, String actor, Object entity);
 
+    /**
+     * Logs the entity like {@link #logAction(EActionType, String, UUID, String, Object)}, tagged with the
+     * operation that changed it, such as "assigned".
+     */
+    AuditLog logAction(EActionType actionType, String entityType, UUID entityId, String actor, Object entity,
+                       String action);
+
     Page<AuditLogResponseDTO> getAuditTrail(String entityType, UUID entityId, Pageable pageable);
 
+    EntityStateDTO getEntityStateAt(String entityType, UUID entityId, LocalDateTime timestamp);
+
     Page<AuditLogResponseDTO> getUserActions(String actorName, Pageable pageable);
 
     Page<AuditLogResponseDTO> getActionsByType(EActionType actionType, Pageable pageable);
@@ -27,4 +41,11 @@ public interface AuditService {
     Page<AuditLogResponseDTO> getAuditsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable);
 
     Page<AuditLogResponseDTO> getAllAudits(Pageable pageable);
+
+    List<AuditActivityDTO> getActivity(ERollupGranularity granularity, EAuditDimension groupBy,
+                                       LocalDateTime start, LocalDateTime end);
+
+    Map<String, Long> getActivityTotals(EAuditDimension groupBy, LocalDateTime start, LocalDateTime end);
+
+    int backfillActivityRollups(LocalDateTime start, LocalDateTime end);
 }
@@ -0,0 +1,15 @@
+package com.buildermaster.projecttracker.service;
+
+import com.buildermaster.projecttracker.dto.response.DashboardDTO;
+
+/**
+ * Service interface for the admin dashboard
+ * Loads the task, project and developer figures of the dashboard in one call
+ */
+public interface DashboardService {
+
+    /**
+     * Components that fail or miss their deadline are left null and listed as unavailable.
+     */
+    DashboardDTO getDashboard();
+}
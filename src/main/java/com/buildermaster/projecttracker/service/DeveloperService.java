@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -23,9 +24,24 @@ public interface DeveloperService {
 
     DeveloperResponseDTO getDeveloperById(UUID developerId);
 
+    /**
+     * Resolves several developers at once, in the requested order; unknown ids are left out.
+     */
+    List<DeveloperResponseDTO> getDevelopersByIds(List<UUID> developerIds);
+
     Page<DeveloperResponseDTO> getAllDevelopers(Pageable pageable);
 
-    DeveloperResponseDTO updateDeveloperProfile(UUID developerId, UpdateDeveloperRequestDTO updateRequest);
+    /**
+     * Lists developers with only the given response fields, selecting only the columns they need.
+     */
+    Page<Map<String, Object>> getAllDevelopers(Pageable pageable, List<String> fields);
+
+    /**
+     * Updates a developer; when expectedVersion is given the update only applies if the developer is still at that
+     * version.
+     */
+    DeveloperResponseDTO updateDeveloperProfile(UUID developerId, UpdateDeveloperRequestDTO updateRequest,
+                                                Long expectedVersion);
 
     boolean deleteDeveloperProfile(UUID developerId);
 
@@ -0,0 +1,19 @@
+package com.buildermaster.projecttracker.service;
+
+import com.buildermaster.projecttracker.model.EExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for bulk data export
+ * Provides methods that stream entire collections row by row to an output stream
+ */
+public interface ExportService {
+
+    long exportTasks(EExportFormat format, OutputStream outputStream) throws IOException;
+
+    long exportProjects(EExportFormat format, OutputStream outputStream) throws IOException;
+
+    long exportAuditLogs(EExportFormat format, OutputStream outputStream) throws IOException;
+}
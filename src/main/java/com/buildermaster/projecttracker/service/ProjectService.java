@@ -2,6 +2,7 @@ package com.buildermaster.projecttracker.service;
 
 import com.buildermaster.projecttracker.dto.request.CreateProjectRequestDTO;
 import com.buildermaster.projecttracker.dto.request.UpdateProjectRequestDTO;
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
 import com.buildermaster.projecttracker.dto.response.ProjectResponseDTO;
 import com.buildermaster.projecttracker.dto.response.ProjectSummaryDTO;
 import com.buildermaster.projecttracker.model.EProjectStatus;
@@ -10,7 +11,9 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Project operations
@@ -24,9 +27,22 @@ public interface ProjectService {
 
     ProjectResponseDTO getProjectById(UUID id);
 
+    /**
+     * Resolves several projects at once, in the requested order; unknown ids are left out.
+     */
+    List<ProjectResponseDTO> getProjectsByIds(List<UUID> ids);
+
     Page<ProjectSummaryDTO> getAllProjects(Pageable pageable);
 
-    ProjectResponseDTO updateProject(UUID id, UpdateProjectRequestDTO updateRequest);
+    /**
+     * Lists projects with only the given summary fields, selecting only the columns they need.
+     */
+    Page<Map<String, Object>> getAllProjects(Pageable pageable, List<String> fields);
+
+    /**
+     * Updates a project; when expectedVersion is given the update only applies if the project is still at that version.
+     */
+    ProjectResponseDTO updateProject(UUID id, UpdateProjectRequestDTO updateRequest, Long expectedVersion);
 
     boolean deleteProject(UUID id);
 
@@ -34,13 +50,14 @@ public interface ProjectService {
 
     Page<ProjectSummaryDTO> getProjectsByStatus(EProjectStatus status, Pageable pageable);
 
-    List<ProjectResponseDTO> getOverdueProjects();
+    CursorPageDTO<ProjectResponseDTO> getOverdueProjects(UUID after, Integer limit);
 
-    List<ProjectResponseDTO> getProjectsWithoutTasks();
+    CursorPageDTO<ProjectResponseDTO> getProjectsWithoutTasks(UUID after, Integer limit);
 
     Page<ProjectSummaryDTO> getProjectsOrderedByTaskCount(Pageable pageable);
 
-    List<ProjectResponseDTO> getProjectsByDeadlineRange(LocalDate startDate, LocalDate endDate);
+    CursorPageDTO<ProjectResponseDTO> getProjectsByDeadlineRange(LocalDate startDate, LocalDate endDate,
+                                                                UUID after, Integer limit);
 
     Page<ProjectSummaryDTO> searchProjectsByName(String name, Pageable pageable);
 
@@ -50,6 +67,14 @@ public interface ProjectService {
 
     Page<ProjectSummaryDTO> getRecentlyUpdatedProjects(Pageable pageable);
 
+    // ===== STREAMING OPERATIONS =====
+
+    long streamOverdueProjects(Consumer<ProjectResponseDTO> sink);
+
+    long streamProjectsWithoutTasks(Consumer<ProjectResponseDTO> sink);
+
+    long streamProjectsByDeadlineRange(LocalDate startDate, LocalDate endDate, Consumer<ProjectResponseDTO> sink);
+
     // ===== UTILITY METHODS =====
 
     boolean existsByName(String name);
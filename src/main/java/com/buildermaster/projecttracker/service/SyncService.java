@@ -0,0 +1,12 @@
+package com.buildermaster.projecttracker.service;
+
+import com.buildermaster.projecttracker.dto.response.SyncPageDTO;
+
+/**
+ * Service interface for delta synchronisation
+ * Provides the task, project and developer changes made after a client's watermark
+ */
+public interface SyncService {
+
+    SyncPageDTO getChangesSince(long since, Integer limit);
+}
@@ -1,7 +1,10 @@
 package com.buildermaster.projecttracker.service;
 
+import com.buildermaster.projecttracker.dto.request.AutoAssignTasksRequestDTO;
+import com.buildermaster.projecttracker.dto.request.ClaimTasksRequestDTO;
 import com.buildermaster.projecttracker.dto.request.CreateTaskRequestDTO;
 import com.buildermaster.projecttracker.dto.request.UpdateTaskRequestDTO;
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
 import com.buildermaster.projecttracker.dto.response.TaskResponseDTO;
 import com.buildermaster.projecttracker.dto.response.TaskStatsDTO;
 import com.buildermaster.projecttracker.dto.response.TaskSummaryDTO;
@@ -15,6 +18,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Task operations
@@ -28,9 +32,22 @@ public interface TaskService {
 
     TaskResponseDTO getTaskById(UUID taskId);
 
+    /**
+     * Resolves several tasks at once, in the requested order; unknown ids are left out.
+     */
+    List<TaskResponseDTO> getTasksByIds(List<UUID> taskIds);
+
     Page<TaskResponseDTO> getAllTasks(Pageable pageable);
 
-    TaskResponseDTO updateTask(UUID taskId, UpdateTaskRequestDTO updateTaskRequest);
+    /**
+     * Lists tasks with only the given response fields, selecting only the columns they need.
+     */
+    Page<Map<String, Object>> getAllTasks(Pageable pageable, List<String> fields);
+
+    /**
+     * Updates a task; when expectedVersion is given the update only applies if the task is still at that version.
+     */
+    TaskResponseDTO updateTask(UUID taskId, UpdateTaskRequestDTO updateTaskRequest, Long expectedVersion);
 
     boolean deleteTask(UUID taskId);
 
@@ -50,19 +67,35 @@ public interface TaskService {
 
     TaskResponseDTO unassignTask(UUID taskId);
 
+    TaskResponseDTO autoAssignTask(UUID taskId, String skill);
+
+    List<TaskResponseDTO> autoAssignTasks(AutoAssignTasksRequestDTO request);
+
+    List<TaskResponseDTO> claimTasks(String username, ClaimTasksRequestDTO request);
+
     Page<TaskResponseDTO> searchTasksByTitle(String title, Pageable pageable);
 
     Page<TaskResponseDTO> searchTasksByDescription(String description, Pageable pageable);
 
     Page<TaskResponseDTO> getTasksByDueDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable);
 
-    List<TaskResponseDTO> getTasksDueToday();
+    CursorPageDTO<TaskResponseDTO> getTasksDueToday(UUID after, Integer limit);
+
+    CursorPageDTO<TaskResponseDTO> getTasksDueThisWeek(UUID after, Integer limit);
 
-    List<TaskResponseDTO> getTasksDueThisWeek();
+    CursorPageDTO<TaskResponseDTO> getRecentlyCreatedTasks(LocalDateTime sinceDate, UUID after, Integer limit);
 
-    List<TaskResponseDTO> getRecentlyCreatedTasks(LocalDateTime sinceDate);
+    CursorPageDTO<TaskResponseDTO> getRecentlyUpdatedTasks(LocalDateTime sinceDate, UUID after, Integer limit);
 
-    List<TaskResponseDTO> getRecentlyUpdatedTasks(LocalDateTime sinceDate);
+    // ===== STREAMING OPERATIONS =====
+
+    long streamTasksDueToday(Consumer<TaskResponseDTO> sink);
+
+    long streamTasksDueThisWeek(Consumer<TaskResponseDTO> sink);
+
+    long streamRecentlyCreatedTasks(LocalDateTime sinceDate, Consumer<TaskResponseDTO> sink);
+
+    long streamRecentlyUpdatedTasks(LocalDateTime sinceDate, Consumer<TaskResponseDTO> sink);
 
     // ===== STATISTICS AND ANALYTICS =====
 
@@ -74,6 +107,18 @@ public interface TaskService {
 
     TaskStatsDTO getTaskStatisticsByDeveloper(UUID developerId);
 
+    /**
+     * Statistics for many projects from one grouped query, keyed by project ID in request order.
+     * Projects that do not exist are left out.
+     */
+    Map<UUID, TaskStatsDTO> getTaskStatisticsByProjects(List<UUID> projectIds);
+
+    /**
+     * Statistics for many developers from one grouped query, keyed by developer ID in request order.
+     * Developers that do not exist are left out.
+     */
+    Map<UUID, TaskStatsDTO> getTaskStatisticsByDevelopers(List<UUID> developerIds);
+
     Long getTaskCountByProject(UUID projectId);
 
     Long getTaskCountByDeveloper(UUID developerId);
@@ -1,5 +1,6 @@
 package com.buildermaster.projecttracker.service;
 
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
 import com.buildermaster.projecttracker.dto.response.UserResponseDTO;
 import com.buildermaster.projecttracker.dto.response.UserSummaryDTO;
 import com.buildermaster.projecttracker.model.ERole;
@@ -7,13 +8,15 @@ import com.buildermaster.projecttracker.model.User;
 import com.buildermaster.projecttracker.security.oauth2.OAuth2UserInfo;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface UserService extends UserDetailsService {
 
-    List<UserResponseDTO> getAllUsers();
+    CursorPageDTO<UserResponseDTO> getAllUsers(UUID after, Integer limit);
+
+    long streamAllUsers(Consumer<UserResponseDTO> sink);
 
     User createUser(User user); // for local registration
 
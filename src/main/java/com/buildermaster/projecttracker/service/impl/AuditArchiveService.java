@@ -0,0 +1,367 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.config.audit.AuditArchiveProperties;
+import com.buildermaster.projecttracker.config.audit.AuditRetentionProperties;
+import com.buildermaster.projecttracker.exception.AuditException;
+import com.buildermaster.projecttracker.model.audit.AuditLog;
+import com.buildermaster.projecttracker.util.AuditArchiveFile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Cold storage for audit logs older than the archive threshold
+ * Whole monthly partitions are streamed into compressed columnar files (see {@link AuditArchiveFile}) and then
+ * dropped from MongoDB; months still sitting in the legacy audit_logs collection are archived range by range.
+ * Archived months stay queryable through AuditService, which scans them with the same filters it sends to MongoDB.
+ * The files live in a GridFS bucket every instance reads; the archive directory only caches local copies of them.
+ * One instance at a time archives, under a cluster lock, and a month leaves MongoDB only after its file is stored
+ * with a majority, journaled write.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuditArchiveService {
+
+    private static final String FILE_EXTENSION = ".pta";
+    private static final String LEGACY_PREFIX = AuditPartitionManager.LEGACY_COLLECTION + "_legacy_";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern FILE_MONTH = Pattern.compile("_(\\d{4}_\\d{2})\\" + FILE_EXTENSION + "$");
+    private static final String LOCK_NAME = "audit-archive";
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditPartitionManager partitionManager;
+    private final AuditArchiveProperties archiveProperties;
+    private final AuditRetentionProperties retentionProperties;
+    private final ClusterLockService clusterLockService;
+    private final ObjectMapper objectMapper;
+
+    // Least recently used first; keyed on the modification time too, in case a file is ever replaced
+    private final Map<CountKey, Long> counts = new LinkedHashMap<>(16, 0.75f, true);
+
+    private record CountKey(Path archive, FileTime modified, AuditArchiveFile.Predicate predicate) {
+    }
+
+    // ===== READS =====
+
+    /**
+     * Returns local copies of the archive files that can hold entries between the given bounds, newest first,
+     * downloading the ones not cached yet. Null bounds are open-ended.
+     */
+    public List<Path> archivesOverlapping(LocalDateTime start, LocalDateTime end) {
+        return listArchives().stream()
+                .filter(archive -> (start == null || !monthOf(archive).isBefore(YearMonth.from(start)))
+                        && (end == null || !monthOf(archive).isAfter(YearMonth.from(end))))
+                .map(this::localCopy)
+                .toList();
+    }
+
+    /**
+     * Counts matching rows; once no row of the file can still expire, the count is cached for the same filter.
+     */
+    public long count(Path archive, AuditArchiveFile.Predicate predicate) {
+        try {
+            CountKey key = new CountKey(archive, Files.getLastModifiedTime(archive), predicate);
+            synchronized (counts) {
+                Long cached = counts.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            try (AuditArchiveFile.Reader reader = AuditArchiveFile.open(archive, objectMapper)) {
+                long count = reader.count(predicate);
+                if (reader.countsFinal()) {
+                    remember(key, count);
+                }
+                return count;
+            }
+        } catch (IOException e) {
+            throw new AuditException("Failed to read audit archive " + archive.getFileName(), e);
+        }
+    }
+
+    public List<AuditLog> findNewestFirst(Path archive, AuditArchiveFile.Predicate predicate, long skip, int limit) {
+        try (AuditArchiveFile.Reader reader = AuditArchiveFile.open(archive, objectMapper)) {
+            return reader.findNewestFirst(predicate, skip, limit);
+        } catch (IOException e) {
+            throw new AuditException("Failed to read audit archive " + archive.getFileName(), e);
+        }
+    }
+
+    public long scan(Path archive, AuditArchiveFile.Predicate predicate, AuditArchiveFile.RowConsumer consumer)
+            throws IOException {
+        try (AuditArchiveFile.Reader reader = AuditArchiveFile.open(archive, objectMapper)) {
+            return reader.scan(predicate, consumer);
+        }
+    }
+
+    // ===== ARCHIVING =====
+
+    @Scheduled(cron = "${app.audit.archive.cron:0 45 2 * * *}")
+    public void archive() {
+        if (!archiveProperties.isEnabled()) {
+            return;
+        }
+        Optional<ClusterLockService.Lease> acquired =
+                clusterLockService.tryAcquire(LOCK_NAME, archiveProperties.getLockLease());
+        if (acquired.isEmpty()) {
+            log.info("Audit archiving skipped; another instance holds the lock or it cannot be taken");
+            return;
+        }
+        try (ClusterLockService.Lease lease = acquired.get()) {
+            LocalDateTime cutoff = LocalDateTime.now().minus(archiveProperties.getArchiveAfter());
+            int archived = 0;
+
+            for (Map.Entry<YearMonth, String> partition : partitionManager.partitionsEndingBefore(cutoff).entrySet()) {
+                String collection = partition.getValue();
+                if (!lease.extend()) {
+                    log.warn("Lost the audit archive lock; stopping before {}", collection);
+                    return;
+                }
+                if (!mongoTemplate.collectionExists(collection)) {
+                    // Dropped since the partition list was read; archiving it now would store an empty file
+                    log.info("Audit partition {} no longer exists; skipping it", collection);
+                    continue;
+                }
+                // The lease is extended again right before the drop so it cannot run out in between
+                if (writeArchive(collection, new Criteria(), collection + FILE_EXTENSION) && lease.extend()) {
+                    partitionManager.dropPartition(partition.getKey());
+                    archived++;
+                }
+            }
+            archived += archiveLegacyMonths(cutoff, lease);
+
+            int purged = purgeExpiredArchives();
+            log.info("Audit archiving complete; archived {} months, deleted {} expired archive files",
+                    archived, purged);
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private void remember(CountKey key, long count) {
+        synchronized (counts) {
+            counts.put(key, count);
+            if (counts.size() > archiveProperties.getCountCacheSize()) {
+                counts.remove(counts.keySet().iterator().next());
+            }
+        }
+    }
+
+    private int archiveLegacyMonths(LocalDateTime cutoff, ClusterLockService.Lease lease) {
+        String legacy = AuditPartitionManager.LEGACY_COLLECTION;
+        if (!mongoTemplate.collectionExists(legacy)) {
+            return 0;
+        }
+        int archived = 0;
+        while (true) {
+            AuditLog oldest = mongoTemplate.findOne(
+                    new Query().with(Sort.by(Sort.Direction.ASC, "timestamp")), AuditLog.class, legacy);
+            if (oldest == null || oldest.getTimestamp() == null) {
+                return archived;
+            }
+            YearMonth month = YearMonth.from(oldest.getTimestamp());
+            LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+            LocalDateTime monthEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+            if (monthEnd.isAfter(cutoff)) {
+                return archived;
+            }
+            Criteria range = Criteria.where("timestamp").gte(monthStart).lt(monthEnd);
+            String fileName = LEGACY_PREFIX + month.format(MONTH_FORMAT) + FILE_EXTENSION;
+            if (!writeArchive(legacy, range, fileName) || !lease.extend()) {
+                return archived;
+            }
+            mongoTemplate.remove(new Query(range), legacy);
+            archived++;
+        }
+    }
+
+    /**
+     * Streams the matching documents into a temporary file, checks the row count against what MongoDB reports and
+     * uploads the file with a majority, journaled write. Only then may the caller drop the source, so a crash or a
+     * failed upload never leaves a dropped collection without its archive. Older uploads of the same file, left by
+     * a run that stopped before its drop, are deleted afterwards.
+     */
+    private boolean writeArchive(String collection, Criteria criteria, String fileName) {
+        Path target = archiveProperties.getDirectory().resolve(fileName);
+        Path temporary = target.resolveSibling(fileName + ".tmp");
+        long expected = mongoTemplate.count(new Query(criteria), collection);
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "timestamp"))
+                .cursorBatchSize(archiveProperties.getRowGroupSize());
+
+        ObjectId uploaded = null;
+        try {
+            Files.createDirectories(target.getParent());
+            long written;
+            try (Stream<AuditLog> auditLogs = mongoTemplate.stream(query, AuditLog.class, collection);
+                 AuditArchiveFile.Writer writer = AuditArchiveFile.create(
+                         temporary, objectMapper, archiveProperties.getRowGroupSize())) {
+                for (AuditLog auditLog : (Iterable<AuditLog>) auditLogs::iterator) {
+                    writer.write(auditLog);
+                }
+                written = writer.rowCount();
+            }
+            if (written != expected) {
+                throw new IOException("Wrote " + written + " rows but " + expected + " were expected");
+            }
+
+            GridFSBucket bucket = bucket();
+            try (InputStream content = Files.newInputStream(temporary)) {
+                uploaded = bucket.uploadFromStream(fileName, content);
+            }
+            GridFSFile stored = bucket.find(Filters.eq("_id", uploaded)).first();
+            if (stored == null || stored.getLength() != Files.size(temporary)) {
+                throw new IOException("Stored archive " + fileName + " does not match the written file");
+            }
+            for (GridFSFile previous : bucket.find(Filters.and(
+                    Filters.eq("filename", fileName), Filters.ne("_id", uploaded)))) {
+                bucket.delete(previous.getObjectId());
+            }
+
+            Files.setLastModifiedTime(temporary, FileTime.from(stored.getUploadDate().toInstant()));
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Archived {} audit logs from {} to {} ({} bytes)",
+                    written, collection, fileName, stored.getLength());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to archive audit logs from {} to {}: {}", collection, fileName, e.getMessage(), e);
+            deleteUpload(uploaded, fileName);
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException cleanup) {
+                log.warn("Failed to delete temporary archive {}: {}", temporary, cleanup.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private void deleteUpload(ObjectId uploaded, String fileName) {
+        if (uploaded == null) {
+            return;
+        }
+        try {
+            bucket().delete(uploaded);
+        } catch (MongoException e) {
+            log.warn("Failed to delete incomplete archive upload {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    private int purgeExpiredArchives() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        for (GridFSFile archive : listArchives()) {
+            LocalDateTime monthEnd = monthOf(archive).plusMonths(1).atDay(1).atStartOfDay();
+            if (monthEnd.plus(retentionProperties.maxRetention()).isBefore(now)) {
+                try {
+                    bucket().delete(archive.getObjectId());
+                    Files.deleteIfExists(archiveProperties.getDirectory().resolve(archive.getFilename()));
+                    purged++;
+                } catch (IOException | MongoException e) {
+                    log.warn("Failed to delete expired audit archive {}: {}", archive.getFilename(), e.getMessage());
+                }
+            }
+        }
+        return purged;
+    }
+
+    // Newest month first; for the same month the partition archive comes before the legacy one
+    private List<GridFSFile> listArchives() {
+        try {
+            // Latest upload per name; older ones only exist until the run that replaced them cleans up
+            Map<String, GridFSFile> latest = new HashMap<>();
+            for (GridFSFile file : bucket().find().sort(Sorts.ascending("uploadDate"))) {
+                if (FILE_MONTH.matcher(file.getFilename()).find()) {
+                    latest.put(file.getFilename(), file);
+                }
+            }
+            return latest.values().stream()
+                    .sorted(Comparator.comparing((GridFSFile file) -> monthOf(file)).reversed()
+                            .thenComparing(file -> file.getFilename().startsWith(LEGACY_PREFIX)))
+                    .toList();
+        } catch (MongoException e) {
+            throw new AuditException("Failed to list audit archives", e);
+        }
+    }
+
+    /**
+     * Returns the cached copy of an archive, downloading it first when it is missing or older than the stored file.
+     * Downloads go to a file of their own and are moved into place whole, so concurrent readers never see a partial
+     * copy.
+     */
+    private Path localCopy(GridFSFile archive) {
+        Path local = archiveProperties.getDirectory().resolve(archive.getFilename());
+        FileTime uploaded = FileTime.from(archive.getUploadDate().toInstant());
+        try {
+            if (Files.exists(local) && Files.getLastModifiedTime(local).equals(uploaded)) {
+                return local;
+            }
+            Files.createDirectories(local.getParent());
+            Path download = local.resolveSibling(archive.getFilename() + "." + UUID.randomUUID() + ".download");
+            try {
+                try (OutputStream out = Files.newOutputStream(download)) {
+                    bucket().downloadToStream(archive.getObjectId(), out);
+                }
+                Files.setLastModifiedTime(download, uploaded);
+                Files.move(download, local, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(download);
+            }
+            return local;
+        } catch (IOException | MongoException e) {
+            throw new AuditException("Failed to fetch audit archive " + archive.getFilename(), e);
+        }
+    }
+
+    private GridFSBucket bucket() {
+        return GridFSBuckets.create(mongoTemplate.getDb(), archiveProperties.getBucket())
+                .withWriteConcern(WriteConcern.MAJORITY.withJournal(true));
+    }
+
+    private static YearMonth monthOf(GridFSFile archive) {
+        return monthOf(Path.of(archive.getFilename()));
+    }
+
+    private static YearMonth monthOf(Path archive) {
+        Matcher matcher = FILE_MONTH.matcher(archive.getFileName().toString());
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("Not an audit archive file: " + archive);
+        }
+        return YearMonth.parse(matcher.group(1), MONTH_FORMAT);
+    }
+}
@@ -0,0 +1,226 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.config.audit.AuditRetentionProperties;
+import com.buildermaster.projecttracker.model.EActionType;
+import com.buildermaster.projecttracker.repository.AuditLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Routes audit logs to one MongoDB collection per calendar month
+ * Range queries only touch the months they overlap, and retention drops whole collections instead of
+ * deleting documents one by one. Action types kept shorter than the longest retention carry an expireAt
+ * timestamp picked up by a TTL index, so they leave their partition before it is dropped.
+ * The original unpartitioned audit_logs collection is still read, as the oldest partition, until it empties.
+ * Other instances create and drop partitions too, so the list of known partitions is reloaded once it is older than
+ * the refresh interval, whenever a write misses it, and before every retention run.
+ */
+@Service
+@Slf4j
+public class AuditPartitionManager {
+
+    public static final String LEGACY_COLLECTION = "audit_logs";
+
+    private static final String PARTITION_PREFIX = LEGACY_COLLECTION + "_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditLogRepository auditLogRepository;
+    private final AuditRetentionProperties retentionProperties;
+    private final Duration refreshInterval;
+
+    // Known partitions, newest month first; loaded lazily from the database and reloaded when stale
+    private final NavigableMap<YearMonth, String> partitions = new ConcurrentSkipListMap<>(Collections.reverseOrder());
+    private volatile Instant loadedAt;
+
+    public AuditPartitionManager(MongoTemplate mongoTemplate,
+                                 AuditLogRepository auditLogRepository,
+                                 AuditRetentionProperties retentionProperties,
+                                 @Value("${app.audit.partition-refresh-interval:PT1M}") Duration refreshInterval) {
+        this.mongoTemplate = mongoTemplate;
+        this.auditLogRepository = auditLogRepository;
+        this.retentionProperties = retentionProperties;
+        this.refreshInterval = refreshInterval;
+    }
+
+    // ===== ROUTING =====
+
+    /**
+     * Returns the collection for an entry written at the given time, creating it with its indexes on first use.
+     */
+    public String partitionFor(LocalDateTime timestamp) {
+        loadPartitions(false);
+        YearMonth month = YearMonth.from(timestamp);
+        String partition = partitions.get(month);
+        if (partition != null) {
+            return partition;
+        }
+        synchronized (this) {
+            // Another instance may have created it, or dropped months this one still lists
+            loadPartitions(true);
+            return partitions.computeIfAbsent(month, this::createPartition);
+        }
+    }
+
+    /**
+     * Returns the collections that can hold entries between the given bounds, newest first.
+     * Null bounds are open-ended. The legacy collection, if still present, is always last.
+     */
+    public List<String> partitionsOverlapping(LocalDateTime start, LocalDateTime end) {
+        loadPartitions(false);
+        List<String> overlapping = new ArrayList<>();
+        partitions.forEach((month, partition) -> {
+            if ((start == null || !month.isBefore(YearMonth.from(start)))
+                    && (end == null || !month.isAfter(YearMonth.from(end)))) {
+                overlapping.add(partition);
+            }
+        });
+        if (mongoTemplate.collectionExists(LEGACY_COLLECTION)) {
+            overlapping.add(LEGACY_COLLECTION);
+        }
+        return overlapping;
+    }
+
+    /**
+     * Returns the partitions whose month ended before the cutoff, oldest first, as currently in the database.
+     */
+    public NavigableMap<YearMonth, String> partitionsEndingBefore(LocalDateTime cutoff) {
+        loadPartitions(true);
+        return partitions.tailMap(YearMonth.from(cutoff), false).descendingMap();
+    }
+
+    public void dropPartition(YearMonth month) {
+        synchronized (this) {
+            String partition = partitions.remove(month);
+            if (partition != null) {
+                mongoTemplate.dropCollection(partition);
+                log.info("Dropped audit partition {}", partition);
+            }
+        }
+    }
+
+    /**
+     * Expiry for an entry that must go before its partition is dropped, or null when the partition drop is enough.
+     */
+    public LocalDateTime expireAtFor(EActionType actionType, LocalDateTime timestamp) {
+        Duration retention = retentionProperties.retentionFor(actionType);
+        return retention.compareTo(retentionProperties.maxRetention()) < 0 ? timestamp.plus(retention) : null;
+    }
+
+    // ===== RETENTION =====
+
+    @Scheduled(cron = "${app.audit.retention.cron:0 15 2 * * *}")
+    public void enforceRetention() {
+        loadPartitions(true);
+        LocalDateTime now = LocalDateTime.now();
+        Duration maxRetention = retentionProperties.maxRetention();
+
+        int dropped = 0;
+        for (var partition : partitions.entrySet()) {
+            // Every entry in the month is older than the longest retention once the month itself is
+            LocalDateTime monthEnd = partition.getKey().plusMonths(1).atDay(1).atStartOfDay();
+            if (monthEnd.plus(maxRetention).isBefore(now)) {
+                dropPartition(partition.getKey());
+                dropped++;
+            }
+        }
+
+        long purged = purgeLegacyCollection(now);
+        log.info("Audit retention complete; dropped {} partitions, purged {} legacy entries", dropped, purged);
+    }
+
+    // ===== HELPER METHODS =====
+
+    private long purgeLegacyCollection(LocalDateTime now) {
+        if (!mongoTemplate.collectionExists(LEGACY_COLLECTION)) {
+            return 0;
+        }
+        long purged = 0;
+        for (EActionType actionType : EActionType.values()) {
+            LocalDateTime cutoff = now.minus(retentionProperties.retentionFor(actionType));
+            purged += mongoTemplate.remove(new Query(Criteria.where("actionType").is(actionType)
+                    .and("timestamp").lt(cutoff)), LEGACY_COLLECTION).getDeletedCount();
+        }
+        purged += auditLogRepository.deleteByTimestampBefore(now.minus(retentionProperties.maxRetention()));
+        if (auditLogRepository.count() == 0) {
+            mongoTemplate.dropCollection(LEGACY_COLLECTION);
+            log.info("Dropped empty legacy audit collection {}", LEGACY_COLLECTION);
+        }
+        return purged;
+    }
+
+    private void loadPartitions(boolean force) {
+        if (!force && isFresh()) {
+            return;
+        }
+        synchronized (this) {
+            if (!force && isFresh()) {
+                return;
+            }
+            if (loadedAt == null && mongoTemplate.collectionExists(LEGACY_COLLECTION)) {
+                // Entity history lookups walk the legacy collection by entity and time as well
+                mongoTemplate.indexOps(LEGACY_COLLECTION).ensureIndex(entityHistoryIndex());
+            }
+            Map<YearMonth, String> found = new HashMap<>();
+            for (String name : mongoTemplate.getCollectionNames()) {
+                if (name.startsWith(PARTITION_PREFIX)) {
+                    try {
+                        found.put(YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX), name);
+                    } catch (RuntimeException e) {
+                        log.warn("Ignoring collection {} that does not follow the audit partition naming", name);
+                    }
+                }
+            }
+            // Updated in place so concurrent readers never see an empty list
+            partitions.keySet().retainAll(found.keySet());
+            partitions.putAll(found);
+            loadedAt = Instant.now();
+        }
+    }
+
+    private boolean isFresh() {
+        Instant at = loadedAt;
+        return at != null && at.plus(refreshInterval).isAfter(Instant.now());
+    }
+
+    private static Index entityHistoryIndex() {
+        return new Index().on("entityType", Sort.Direction.ASC)
+                .on("entityId", Sort.Direction.ASC).on("timestamp", Sort.Direction.DESC);
+    }
+
+    private String createPartition(YearMonth month) {
+        String partition = PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+        if (!mongoTemplate.collectionExists(partition)) {
+            mongoTemplate.createCollection(partition);
+        }
+        IndexOperations indexOps = mongoTemplate.indexOps(partition);
+        indexOps.ensureIndex(new Index().on("timestamp", Sort.Direction.DESC));
+        indexOps.ensureIndex(entityHistoryIndex());
+        indexOps.ensureIndex(new Index().on("actorName", Sort.Direction.ASC).on("timestamp", Sort.Direction.DESC));
+        indexOps.ensureIndex(new Index().on("actionType", Sort.Direction.ASC).on("timestamp", Sort.Direction.DESC));
+        indexOps.ensureIndex(new Index().on("expireAt", Sort.Direction.ASC).expire(Duration.ZERO));
+        log.info("Created audit partition {}", partition);
+        return partition;
+    }
+}
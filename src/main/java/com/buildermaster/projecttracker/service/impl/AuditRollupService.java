@@ -0,0 +1,317 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.dto.response.AuditActivityDTO;
+import com.buildermaster.projecttracker.exception.AuditException;
+import com.buildermaster.projecttracker.exception.BusinessRuleViolationException;
+import com.buildermaster.projecttracker.model.EAuditDimension;
+import com.buildermaster.projecttracker.model.ERollupGranularity;
+import com.buildermaster.projecttracker.model.audit.AuditLog;
+import com.buildermaster.projecttracker.model.audit.AuditRollup;
+import com.buildermaster.projecttracker.util.AuditArchiveFile;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Hourly and daily audit activity counts per actor, entity type and action
+ * Every audit write increments its two buckets with an upserted $inc, so analytics read a few rollup documents
+ * instead of scanning raw audit logs. A backfill rebuilds closed days from the audit partitions with an
+ * aggregation pipeline that $merges into the rollups, and from archive files for months no longer in MongoDB.
+ * The backfill clears its range and then adds every source into it, so it runs under a cluster lock: two runs at
+ * once, e.g. two instances starting on empty rollups, would each add their counts and double them.
+ */
+@Service
+@Slf4j
+public class AuditRollupService {
+
+    private static final String[] KEY_FIELDS = {"granularity", "bucketStart", "actorName", "entityType", "actionType"};
+    private static final String COLLECTION = "audit_rollups";
+    private static final String BACKFILL_LOCK = "audit-rollup-backfill";
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditPartitionManager partitionManager;
+    private final AuditArchiveService archiveService;
+    private final ClusterLockService clusterLockService;
+    private final Duration hourlyRetention;
+    private final Duration backfillLockLease;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    public AuditRollupService(MongoTemplate mongoTemplate,
+                              AuditPartitionManager partitionManager,
+                              AuditArchiveService archiveService,
+                              ClusterLockService clusterLockService,
+                              @Value("${app.audit.rollup.hourly-retention:P90D}") Duration hourlyRetention,
+                              @Value("${app.audit.rollup.backfill-lock-lease:PT30M}") Duration backfillLockLease) {
+        this.mongoTemplate = mongoTemplate;
+        this.partitionManager = partitionManager;
+        this.archiveService = archiveService;
+        this.clusterLockService = clusterLockService;
+        this.hourlyRetention = hourlyRetention;
+        this.backfillLockLease = backfillLockLease;
+    }
+
+    // ===== WRITES =====
+
+    /**
+     * Counts a freshly written audit log in its hour and day buckets. Failures are logged, not thrown:
+     * the audit log itself is already stored and the next backfill repairs the counts.
+     */
+    public void record(AuditLog auditLog) {
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditRollup.class);
+            for (ERollupGranularity granularity : ERollupGranularity.values()) {
+                Query bucket = new Query(Criteria.where("granularity").is(granularity)
+                        .and("bucketStart").is(granularity.truncate(auditLog.getTimestamp()))
+                        .and("actorName").is(Objects.toString(auditLog.getActorName(), ""))
+                        .and("entityType").is(Objects.toString(auditLog.getEntityType(), ""))
+                        .and("actionType").is(auditLog.getActionType()));
+                bulk.upsert(bucket, new Update().inc("count", 1));
+            }
+            bulk.execute();
+        } catch (DataAccessException e) {
+            log.warn("Failed to update audit rollups for audit log {}: {}", auditLog.getId(), e.getMessage());
+        }
+    }
+
+    // ===== READS =====
+
+    /**
+     * Activity per bucket and dimension value in [start, end), buckets in ascending order, busiest value first.
+     */
+    public List<AuditActivityDTO> getActivity(ERollupGranularity granularity, EAuditDimension dimension,
+                                              LocalDateTime start, LocalDateTime end) {
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("granularity", granularity.name())
+                        .append("bucketStart", new Document("$gte", toDate(start)).append("$lt", toDate(end)))),
+                new Document("$group", new Document("_id", new Document("bucketStart", "$bucketStart")
+                        .append("key", "$" + dimension.getField()))
+                        .append("count", new Document("$sum", "$count"))),
+                new Document("$sort", new Document("_id.bucketStart", 1).append("count", -1)));
+
+        List<AuditActivityDTO> activity = new ArrayList<>();
+        for (Document row : mongoTemplate.getCollection(COLLECTION).aggregate(pipeline)) {
+            Document id = row.get("_id", Document.class);
+            activity.add(AuditActivityDTO.builder()
+                    .bucketStart(toLocalDateTime(id.getDate("bucketStart")))
+                    .key(id.getString("key"))
+                    .count(((Number) row.get("count")).longValue())
+                    .build());
+        }
+        return activity;
+    }
+
+    /**
+     * Total activity per dimension value from the daily rollups, busiest first; null bounds are open-ended.
+     */
+    public Map<String, Long> getTotals(EAuditDimension dimension, LocalDateTime start, LocalDateTime end) {
+        Document match = new Document("granularity", ERollupGranularity.DAY.name());
+        if (start != null || end != null) {
+            Document range = new Document();
+            if (start != null) {
+                range.append("$gte", toDate(ERollupGranularity.DAY.truncate(start)));
+            }
+            if (end != null) {
+                range.append("$lt", toDate(end));
+            }
+            match.append("bucketStart", range);
+        }
+        List<Document> pipeline = List.of(
+                new Document("$match", match),
+                new Document("$group", new Document("_id", "$" + dimension.getField())
+                        .append("count", new Document("$sum", "$count"))),
+                new Document("$sort", new Document("count", -1)));
+
+        Map<String, Long> totals = new LinkedHashMap<>();
+        for (Document row : mongoTemplate.getCollection(COLLECTION).aggregate(pipeline)) {
+            totals.put(row.getString("_id"), ((Number) row.get("count")).longValue());
+        }
+        return totals;
+    }
+
+    // ===== BACKFILL =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            mongoTemplate.indexOps(COLLECTION).ensureIndex(rollupKeyIndex());
+            if (mongoTemplate.estimatedCount(COLLECTION) == 0) {
+                log.info("Audit rollups are empty; backfilling from audit history");
+                backfill(null, null);
+            }
+        } catch (BusinessRuleViolationException e) {
+            log.info("Audit rollup backfill skipped: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Audit rollup initialisation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the rollups for whole days in [start, end). The end is capped at the start of today so the
+     * rebuild never races live increments; null bounds mean from the oldest audit log and up to today.
+     * Returns the number of partitions and archive files read. Only one backfill runs at a time across all
+     * instances; another one is refused while it does.
+     */
+    public int backfill(LocalDateTime start, LocalDateTime end) {
+        Optional<ClusterLockService.Lease> acquired = clusterLockService.tryAcquire(BACKFILL_LOCK, backfillLockLease);
+        if (acquired.isEmpty()) {
+            throw new BusinessRuleViolationException("An audit rollup backfill is already running");
+        }
+        try (ClusterLockService.Lease lease = acquired.get()) {
+            return backfill(start, end, lease);
+        }
+    }
+
+    @Scheduled(cron = "${app.audit.rollup.prune-cron:0 30 2 * * *}")
+    public void pruneHourlyRollups() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(hourlyRetention);
+        long removed = mongoTemplate.remove(new Query(Criteria.where("granularity").is(ERollupGranularity.HOUR)
+                .and("bucketStart").lt(cutoff)), AuditRollup.class).getDeletedCount();
+        log.info("Pruned {} hourly audit rollups older than {}", removed, cutoff);
+    }
+
+    // ===== HELPER METHODS =====
+
+    private int backfill(LocalDateTime start, LocalDateTime end, ClusterLockService.Lease lease) {
+        LocalDateTime today = LocalDate.now(zone).atStartOfDay();
+        LocalDateTime from = start != null ? ERollupGranularity.DAY.truncate(start) : LocalDateTime.MIN;
+        LocalDateTime to = end != null && end.isBefore(today) ? ERollupGranularity.DAY.truncate(end) : today;
+        if (!from.isBefore(to)) {
+            return 0;
+        }
+        Date fromDate = start != null ? toDate(from) : new Date(Long.MIN_VALUE);
+        Date toDate = toDate(to);
+
+        long removed = mongoTemplate.remove(new Query(Criteria.where("bucketStart").gte(fromDate).lt(toDate)),
+                COLLECTION).getDeletedCount();
+
+        List<String> partitions = partitionManager.partitionsOverlapping(start, to);
+        for (String partition : partitions) {
+            requireLease(lease);
+            for (ERollupGranularity granularity : ERollupGranularity.values()) {
+                mongoTemplate.getCollection(partition)
+                        .aggregate(backfillPipeline(granularity, fromDate, toDate))
+                        .allowDiskUse(true)
+                        .toCollection();
+            }
+        }
+        List<Path> archives = archiveService.archivesOverlapping(start, to);
+        for (Path archive : archives) {
+            requireLease(lease);
+            backfillFromArchive(archive, start != null ? from : null, to);
+        }
+
+        log.info("Backfilled audit rollups from {} to {} using {} partitions and {} archives (replaced {} rollups)",
+                start != null ? from : "the beginning", to, partitions.size(), archives.size(), removed);
+        return partitions.size() + archives.size();
+    }
+
+    // Past an expired lease another run may already have cleared the range again; adding more would double it
+    private static void requireLease(ClusterLockService.Lease lease) {
+        if (!lease.extend()) {
+            throw new AuditException("Lost the audit rollup backfill lock; the next backfill repairs the range");
+        }
+    }
+
+    private List<Document> backfillPipeline(ERollupGranularity granularity, Date from, Date to) {
+        Document bucket = new Document("$dateTrunc", new Document("date", "$timestamp")
+                .append("unit", granularity.getMongoUnit())
+                .append("timezone", zone.getId()));
+        Document whenMatched = new Document("$set", new Document("count",
+                new Document("$add", List.of("$count", "$$new.count"))));
+        return List.of(
+                new Document("$match", new Document("timestamp", new Document("$gte", from).append("$lt", to))),
+                new Document("$group", new Document("_id", new Document("bucketStart", bucket)
+                        .append("actorName", new Document("$ifNull", List.of("$actorName", "")))
+                        .append("entityType", new Document("$ifNull", List.of("$entityType", "")))
+                        .append("actionType", "$actionType"))
+                        .append("count", new Document("$sum", 1))),
+                new Document("$project", new Document("_id", 0)
+                        .append("granularity", granularity.name())
+                        .append("bucketStart", "$_id.bucketStart")
+                        .append("actorName", "$_id.actorName")
+                        .append("entityType", "$_id.entityType")
+                        .append("actionType", "$_id.actionType")
+                        .append("count", 1)),
+                // Additive so that a day split between two sources (e.g. the legacy collection and a partition) adds
+                // up; the range was cleared first and the backfill lock keeps other runs from adding to it too
+                new Document("$merge", new Document("into", COLLECTION)
+                        .append("on", List.of(KEY_FIELDS))
+                        .append("whenMatched", List.of(whenMatched))
+                        .append("whenNotMatched", "insert")));
+    }
+
+    private void backfillFromArchive(Path archive, LocalDateTime from, LocalDateTime to) {
+        Map<List<Object>, Long> counts = new HashMap<>();
+        try {
+            // The predicate bound is inclusive; rows at exactly "to" are dropped below
+            archiveService.scan(archive, new AuditArchiveFile.Predicate(from, to, null, null, null, null), auditLog -> {
+                if (auditLog.getTimestamp().isBefore(to)) {
+                    for (ERollupGranularity granularity : ERollupGranularity.values()) {
+                        counts.merge(List.of(granularity, granularity.truncate(auditLog.getTimestamp()),
+                                Objects.toString(auditLog.getActorName(), ""),
+                                Objects.toString(auditLog.getEntityType(), ""),
+                                auditLog.getActionType()), 1L, Long::sum);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Skipping audit archive {} during rollup backfill: {}", archive.getFileName(), e.getMessage());
+            return;
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditRollup.class);
+        counts.forEach((key, count) -> {
+            Criteria criteria = new Criteria();
+            for (int i = 0; i < KEY_FIELDS.length; i++) {
+                criteria = criteria.and(KEY_FIELDS[i]).is(key.get(i));
+            }
+            bulk.upsert(new Query(criteria), new Update().inc("count", count));
+        });
+        bulk.execute();
+    }
+
+    private static Index rollupKeyIndex() {
+        Index index = new Index().named("rollup_key").unique();
+        for (String field : KEY_FIELDS) {
+            index.on(field, Sort.Direction.ASC);
+        }
+        return index;
+    }
+
+    private Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(zone).toInstant());
+    }
+
+    private LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), zone);
+    }
+}
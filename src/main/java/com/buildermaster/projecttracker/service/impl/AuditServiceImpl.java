@@ -1,56 +1,105 @@
 package com.buildermaster.projecttracker.service.impl;
 
+import com.buildermaster.projecttracker.dto.response.AuditActivityDTO;
 import com.buildermaster.projecttracker.dto.response.AuditLogResponseDTO;
+import com.buildermaster.projecttracker.dto.response.EntityStateDTO;
 import com.buildermaster.projecttracker.exception.AuditException;
+import com.buildermaster.projecttracker.exception.BusinessRuleViolationException;
+import com.buildermaster.projecttracker.exception.ResourceNotFoundException;
+import com.buildermaster.projecttracker.exception.ValidationException;
 import com.buildermaster.projecttracker.model.EActionType;
+import com.buildermaster.projecttracker.model.EAuditDimension;
+import com.buildermaster.projecttracker.model.ERollupGranularity;
 import com.buildermaster.projecttracker.model.audit.AuditLog;
-import com.buildermaster.projecttracker.repository.AuditLogRepository;
 import com.buildermaster.projecttracker.service.AuditService;
+import com.buildermaster.projecttracker.service.impl.MetricsService.Operation;
+import com.buildermaster.projecttracker.util.AuditArchiveFile;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of AuditService for audit operations
  * Provides asynchronous audit logging and comprehensive audit trail retrieval
+ * Reads are routed to the monthly partitions and archive files overlapping the requested range and paged across them newest first
  */
 @Service
 @Slf4j
 public class AuditServiceImpl implements AuditService {
 
-    private final AuditLogRepository auditLogRepository;
+    private final MongoTemplate mongoTemplate;
+    private final AuditPartitionManager partitionManager;
+    private final AuditArchiveService archiveService;
+    private final AuditRollupService rollupService;
+    private final EntityHistoryService entityHistoryService;
     private final ObjectMapper objectMapper;
     private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "timestamp");
+    private static final String ACTION_FIELD = "_action";
 
     @Autowired
-    public AuditServiceImpl(AuditLogRepository auditLogRepository, ObjectMapper objectMapper) {
-        this.auditLogRepository = auditLogRepository;
+    public AuditServiceImpl(MongoTemplate mongoTemplate, AuditPartitionManager partitionManager,
+                            AuditArchiveService archiveService, AuditRollupService rollupService,
+                            EntityHistoryService entityHistoryService, ObjectMapper objectMapper) {
+        this.mongoTemplate = mongoTemplate;
+        this.partitionManager = partitionManager;
+        this.archiveService = archiveService;
+        this.rollupService = rollupService;
+        this.entityHistoryService = entityHistoryService;
         this.objectMapper = objectMapper;
     }
 
+    // Both overloads are timed: the call below bypasses the proxy, so only the outer one is recorded
     @Override
+    @TimedOperation(Operation.AUDIT_LOG)
     public AuditLog logAction(EActionType actionType, String entityType, UUID entityId, String actor, Object entity) {
+        return logAction(actionType, entityType, entityId, actor, entity, null);
+    }
+
+    @Override
+    @TimedOperation(Operation.AUDIT_LOG)
+    public AuditLog logAction(EActionType actionType, String entityType, UUID entityId, String actor, Object entity,
+                              String action) {
         try {
-            Map<String, Object> payload = createAuditPayload(entity);
+            Map<String, Object> payload = createAuditPayload(entity, action);
             AuditLog auditLog = new AuditLog(actionType, entityType, entityId, actor, payload);
-
-            AuditLog savedLog = auditLogRepository.save(auditLog);
+            // Assigned up front so the next diff of this entity can name this entry as its base
+            auditLog.setId(new ObjectId().toHexString());
+            String partition = partitionManager.partitionFor(auditLog.getTimestamp());
+            auditLog.setPayload(entityHistoryService.compact(
+                    actionType, entityType, entityId, auditLog.getId(), payload, partition));
+            auditLog.setExpireAt(partitionManager.expireAtFor(actionType, auditLog.getTimestamp()));
+
+            AuditLog savedLog = mongoTemplate.insert(auditLog, partition);
+            rollupService.record(savedLog);
             log.info("Audit log created: {} action on {} entity {} by {}",
                     actionType, entityType, entityId, actor);
             return savedLog;
         } catch (Exception e) {
+            // The diff base now assumes this entry exists, so the next update starts from a snapshot again
+            entityHistoryService.forget(entityType, entityId);
             log.error("Failed to create audit log for {} action on {} entity {} by {}: {}",
                     actionType, entityType, entityId, actor, e.getMessage(), e);
             throw new AuditException("Failed to create audit log", e);
@@ -58,14 +107,12 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
+    @TimedOperation(Operation.AUDIT_TRAIL)
     public Page<AuditLogResponseDTO> getAuditTrail(String entityType, UUID entityId, Pageable pageable) {
+        requireNewestFirst(pageable);
         try {
-            Page<AuditLog> auditLogsPage = auditLogRepository.findByEntityTypeAndEntityId(entityType, entityId, pageable);
-            List<AuditLogResponseDTO> responseDTOs = auditLogsPage.getContent().stream()
-                    .map(this::convertToResponseDTO)
-                    .collect(Collectors.toList());
-
-            return new PageImpl<>(responseDTOs, pageable, auditLogsPage.getTotalElements());
+            return findAcrossPartitions(new AuditArchiveFile.Predicate(
+                    null, null, null, entityType, entityId, null), pageable);
         } catch (Exception e) {
             log.error("Failed to retrieve paginated audit trail for {} entity {}: {}",
                     entityType, entityId, e.getMessage(), e);
@@ -74,14 +121,41 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
-    public Page<AuditLogResponseDTO> getUserActions(String actorName, Pageable pageable) {
+    @TimedOperation(Operation.AUDIT_STATE_AT)
+    public EntityStateDTO getEntityStateAt(String entityType, UUID entityId, LocalDateTime timestamp) {
+        EntityHistoryService.EntityState entityState;
         try {
-            Page<AuditLog> auditLogsPage = auditLogRepository.findByActorNameOrderByTimestampDesc(actorName, pageable);
-            List<AuditLogResponseDTO> responseDTOs = auditLogsPage.getContent().stream()
-                    .map(this::convertToResponseDTO)
-                    .collect(Collectors.toList());
+            entityState = entityHistoryService.stateAt(entityType, entityId, timestamp).orElse(null);
+        } catch (Exception e) {
+            log.error("Failed to reconstruct {} entity {} at {}: {}", entityType, entityId, timestamp, e.getMessage(), e);
+            throw new AuditException("Failed to reconstruct entity state", e);
+        }
+        if (entityState == null) {
+            throw new ResourceNotFoundException(String.format("No audit history for %s with id '%s' at or before %s",
+                    entityType, entityId, timestamp));
+        }
 
-            return new PageImpl<>(responseDTOs, pageable, auditLogsPage.getTotalElements());
+        AuditLog lastChange = entityState.lastChange();
+        return EntityStateDTO.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .timestamp(timestamp)
+                .lastChangedAt(lastChange.getTimestamp())
+                .lastActionType(lastChange.getActionType())
+                .lastActorName(lastChange.getActorName())
+                .deleted(lastChange.getActionType() == EActionType.DELETE)
+                .complete(entityState.complete())
+                .state(entityState.state())
+                .build();
+    }
+
+    @Override
+    @TimedOperation(Operation.AUDIT_USER_ACTIONS)
+    public Page<AuditLogResponseDTO> getUserActions(String actorName, Pageable pageable) {
+        requireNewestFirst(pageable);
+        try {
+            return findAcrossPartitions(new AuditArchiveFile.Predicate(
+                    null, null, null, null, null, actorName), pageable);
         } catch (Exception e) {
             log.error("Failed to retrieve user actions for {}: {}", actorName, e.getMessage(), e);
             throw new AuditException("Failed to retrieve user actions", e);
@@ -89,11 +163,12 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
+    @TimedOperation(Operation.AUDIT_ACTIONS_BY_TYPE)
     public Page<AuditLogResponseDTO> getActionsByType(EActionType actionType, Pageable pageable) {
+        requireNewestFirst(pageable);
         try {
-            List<AuditLog> allActionLogs = auditLogRepository.findByActionType(actionType);
-
-            return getAuditLog(pageable, allActionLogs);
+            return findAcrossPartitions(new AuditArchiveFile.Predicate(
+                    null, null, actionType, null, null, null), pageable);
         } catch (Exception e) {
             log.error("Failed to retrieve actions by type {}: {}", actionType, e.getMessage(), e);
             throw new AuditException("Failed to retrieve actions by type", e);
@@ -101,11 +176,12 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
+    @TimedOperation(Operation.AUDIT_DATE_RANGE)
     public Page<AuditLogResponseDTO> getAuditsByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        requireNewestFirst(pageable);
         try {
-            List<AuditLog> allDateRangeLogs = auditLogRepository.findByTimestampBetween(start, end);
-
-            return getAuditLog(pageable, allDateRangeLogs);
+            return findAcrossPartitions(new AuditArchiveFile.Predicate(
+                    start, end, null, null, null, null), pageable);
         } catch (Exception e) {
             log.error("Failed to retrieve audits by date range {} to {}: {}",
                     start, end, e.getMessage(), e);
@@ -113,34 +189,152 @@ public class AuditServiceImpl implements AuditService {
         }
     }
 
-    private Page<AuditLogResponseDTO> getAuditLog(Pageable pageable, List<AuditLog> allDateRangeLogs) {
-        int startIdx = (int) pageable.getOffset();
-        int endIdx = Math.min((startIdx + pageable.getPageSize()), allDateRangeLogs.size());
-        List<AuditLog> pageContent = allDateRangeLogs.subList(startIdx, endIdx);
+    /**
+     * Pages through the MongoDB partitions and then the archive files overlapping the range, newest first.
+     * Sources lying entirely before the requested offset are skipped on their count alone,
+     * so only the one or two sources that contribute to the page are actually read. Every source is still counted
+     * for the page total, but archive counts come from AuditArchiveService's cache once a filter has been seen,
+     * so past the page only the MongoDB partitions cost a round trip.
+     */
+    private Page<AuditLogResponseDTO> findAcrossPartitions(AuditArchiveFile.Predicate filter, Pageable pageable) {
+        Criteria criteria = toCriteria(filter);
+        List<AuditSource> sources = new ArrayList<>();
+        for (String partition : partitionManager.partitionsOverlapping(filter.from(), filter.to())) {
+            sources.add(new AuditSource(
+                    () -> mongoTemplate.count(new Query(criteria), partition),
+                    (skip, limit) -> mongoTemplate.find(
+                            new Query(criteria).with(NEWEST_FIRST).skip(skip).limit(limit), AuditLog.class, partition)));
+        }
+        for (Path archive : archiveService.archivesOverlapping(filter.from(), filter.to())) {
+            sources.add(new AuditSource(
+                    () -> archiveService.count(archive, filter),
+                    (skip, limit) -> archiveService.findNewestFirst(archive, filter, skip, limit)));
+        }
+
+        long offset = pageable.getOffset();
+        int remaining = pageable.getPageSize();
+        long total = 0;
+        List<AuditLog> pageContent = new ArrayList<>();
+
+        for (AuditSource source : sources) {
+            long count = source.count().getAsLong();
+            total += count;
+            if (remaining == 0) {
+                continue; // Page already filled; only the total is still needed
+            }
+            if (offset >= count) {
+                offset -= count;
+                continue;
+            }
+            List<AuditLog> found = source.find().apply(offset, remaining);
+            pageContent.addAll(found);
+            remaining -= found.size();
+            offset = 0;
+        }
 
         List<AuditLogResponseDTO> responseDTOs = pageContent.stream()
                 .map(this::convertToResponseDTO)
                 .collect(Collectors.toList());
 
-        return new PageImpl<>(responseDTOs, pageable, allDateRangeLogs.size());
+        return new PageImpl<>(responseDTOs, pageable, total);
+    }
+
+    // Pages are merged across sources in timestamp order, so no other order can be served
+    private static void requireNewestFirst(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted() || sort.equals(NEWEST_FIRST)) {
+            return;
+        }
+        throw new ValidationException("sortBy", "Audit logs can only be sorted by timestamp, newest first");
+    }
+
+    private static Criteria toCriteria(AuditArchiveFile.Predicate filter) {
+        Criteria criteria = new Criteria();
+        if (filter.from() != null || filter.to() != null) {
+            criteria = criteria.and("timestamp");
+            if (filter.from() != null) {
+                criteria = criteria.gte(filter.from());
+            }
+            if (filter.to() != null) {
+                criteria = criteria.lte(filter.to());
+            }
+        }
+        if (filter.actionType() != null) {
+            criteria = criteria.and("actionType").is(filter.actionType());
+        }
+        if (filter.entityType() != null) {
+            criteria = criteria.and("entityType").is(filter.entityType());
+        }
+        if (filter.entityId() != null) {
+            criteria = criteria.and("entityId").is(filter.entityId());
+        }
+        if (filter.actorName() != null) {
+            criteria = criteria.and("actorName").is(filter.actorName());
+        }
+        return criteria;
+    }
+
+    // One MongoDB partition or archive file, counted and paged independently
+    private record AuditSource(LongSupplier count, BiFunction<Long, Integer, List<AuditLog>> find) {
     }
 
     @Override
+    @TimedOperation(Operation.AUDIT_LIST)
     public Page<AuditLogResponseDTO> getAllAudits(Pageable pageable) {
+        requireNewestFirst(pageable);
         try {
-            Page<AuditLog> auditLogsPage = auditLogRepository.findAllByOrderByTimestampDesc(pageable);
-            List<AuditLogResponseDTO> responseDTOs = auditLogsPage.getContent().stream()
-                    .map(this::convertToResponseDTO)
-                    .collect(Collectors.toList());
-
-            return new PageImpl<>(responseDTOs, pageable, auditLogsPage.getTotalElements());
+            return findAcrossPartitions(AuditArchiveFile.Predicate.all(), pageable);
         } catch (Exception e) {
             log.error("Failed to retrieve all audits: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to retrieve all audits", e);
         }
     }
 
-    private Map<String, Object> createAuditPayload(Object entity) {
+    // ===== ACTIVITY ANALYTICS =====
+
+    @Override
+    @TimedOperation(Operation.AUDIT_ACTIVITY)
+    public List<AuditActivityDTO> getActivity(ERollupGranularity granularity, EAuditDimension groupBy,
+                                              LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            throw new ValidationException("end", "End must be after start");
+        }
+        if (Duration.between(start, end).compareTo(granularity.getMaxRange()) > 0) {
+            throw new ValidationException("end", String.format("%s activity can cover at most %d days",
+                    granularity.name().toLowerCase(), granularity.getMaxRange().toDays()));
+        }
+        try {
+            return rollupService.getActivity(granularity, groupBy, start, end);
+        } catch (Exception e) {
+            log.error("Failed to retrieve {} activity by {}: {}", granularity, groupBy, e.getMessage(), e);
+            throw new AuditException("Failed to retrieve audit activity", e);
+        }
+    }
+
+    @Override
+    @TimedOperation(Operation.AUDIT_ACTIVITY_TOTALS)
+    public Map<String, Long> getActivityTotals(EAuditDimension groupBy, LocalDateTime start, LocalDateTime end) {
+        try {
+            return rollupService.getTotals(groupBy, start, end);
+        } catch (Exception e) {
+            log.error("Failed to retrieve activity totals by {}: {}", groupBy, e.getMessage(), e);
+            throw new AuditException("Failed to retrieve audit activity totals", e);
+        }
+    }
+
+    @Override
+    public int backfillActivityRollups(LocalDateTime start, LocalDateTime end) {
+        try {
+            return rollupService.backfill(start, end);
+        } catch (BusinessRuleViolationException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to backfill audit rollups from {} to {}: {}", start, end, e.getMessage(), e);
+            throw new AuditException("Failed to backfill audit activity rollups", e);
+        }
+    }
+
+    private Map<String, Object> createAuditPayload(Object entity, String action) {
         if (entity == null) {
             return new HashMap<>();
         }
@@ -153,6 +347,13 @@ public class AuditServiceImpl implements AuditService {
             // Add metadata
             payload.put("_entityClass", entity.getClass().getSimpleName());
             payload.put("_captureTime", LocalDateTime.now());
+            if (entity instanceof Map<?, ?>) {
+                // A few fields rather than the entity, so it must not be diffed against or replayed as its state
+                payload.put(EntityHistoryService.PARTIAL_MARKER, true);
+            }
+            if (action != null) {
+                payload.put(ACTION_FIELD, action);
+            }
 
             return payload;
         } catch (Exception e) {
@@ -162,8 +363,11 @@ public class AuditServiceImpl implements AuditService {
             // Fallback to basic info
             Map<String, Object> fallbackPayload = new HashMap<>();
             fallbackPayload.put("_entityClass", entity.getClass().getSimpleName());
-            fallbackPayload.put("_error", "Failed to serialize entity");
+            fallbackPayload.put(EntityHistoryService.SERIALIZATION_ERROR, "Failed to serialize entity");
             fallbackPayload.put("_captureTime", LocalDateTime.now());
+            if (action != null) {
+                fallbackPayload.put(ACTION_FIELD, action);
+            }
             return fallbackPayload;
         }
     }
@@ -235,8 +439,9 @@ public class AuditServiceImpl implements AuditService {
 
             // If no specific fields found, show generic info
             if (summary.isEmpty()) {
+                // Skip metadata such as _entityClass; for diffs the rest is exactly the changed fields
                 summary.append("Entity modified with ")
-                        .append(payload.size())
+                        .append(payload.keySet().stream().filter(field -> !field.startsWith("_")).count())
                         .append(" field(s) changed");
             }
 
@@ -0,0 +1,111 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Targeted cache eviction for bulk write paths
+ * Evicts only the entries a bulk statement touched instead of flushing whole caches,
+ * deferring eviction until the surrounding transaction commits
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheEvictionService {
+
+    // Above this many keys a full clear is cheaper than individual DEL round trips
+    private static final int TARGETED_EVICTION_LIMIT = 1000;
+
+    private static final String TASKS_CACHE = "tasks";
+    private static final String TASK_STATS_CACHE = "taskStats";
+    private static final String TASK_SUMMARIES_CACHE = "taskSummaries";
+    private static final String PROJECTS_CACHE = "projects";
+    private static final String ALL_PROJECTS_CACHE = "allProjects";
+    private static final String DEVELOPERS_CACHE = "developers";
+    private static final String ALL_DEVELOPERS_CACHE = "allDevelopers";
+
+    private static final String PAGINATED_TASKS_PATTERN = "all_paginated_*";
+
+    private final CacheManager cacheManager;
+
+    // ===== ENTITY EVICTION =====
+
+    public void evictTasks(Collection<UUID> taskIds) {
+        List<UUID> ids = List.copyOf(taskIds);
+        afterCommit(() -> {
+            Cache tasks = cacheManager.getCache(TASKS_CACHE);
+            if (tasks != null) {
+                if (ids.size() > TARGETED_EVICTION_LIMIT) {
+                    tasks.clear();
+                } else {
+                    ids.forEach(tasks::evict);
+                    clearMatching(tasks, PAGINATED_TASKS_PATTERN);
+                }
+            }
+            clear(TASK_STATS_CACHE);
+            clear(TASK_SUMMARIES_CACHE);
+            log.debug("Evicted {} task cache entries", ids.size());
+        });
+    }
+
+    public void evictProject(UUID projectId) {
+        afterCommit(() -> {
+            evict(PROJECTS_CACHE, projectId);
+            clear(ALL_PROJECTS_CACHE);
+        });
+    }
+
+    public void evictDeveloper(UUID developerId) {
+        afterCommit(() -> {
+            evict(DEVELOPERS_CACHE, developerId);
+            clear(ALL_DEVELOPERS_CACHE);
+        });
+    }
+
+    // ===== HELPER METHODS =====
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void clearMatching(Cache cache, String keyPattern) {
+        if (cache instanceof RedisCache redisCache) {
+            redisCache.clear(keyPattern);
+        } else {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.config.datasource.PrimaryReads;
+import com.buildermaster.projecttracker.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Batched reads and back-fills against the Redis-backed DTO caches
+ * Looks up many entries with a single MGET and writes the misses back in one pipeline, using the cache's own key
+ * prefix, value serializer and TTL so the entries are interchangeable with those written by @Cacheable.
+ * Redis failures degrade to cache misses, like the annotation-driven caches.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheMultiGet {
+
+    public static final int MAX_IDS = 200;
+
+    private final CacheManager cacheManager;
+    private final RedisConnectionFactory connectionFactory;
+
+    /**
+     * Resolves ids from the cache first and the loader second, back-filling what the loader found.
+     * Results follow the requested order; ids that do not exist are left out.
+     */
+    public <T> List<T> getAllInOrder(String cacheName, List<UUID> ids, Class<T> type,
+                                     Function<List<UUID>, Map<UUID, T>> loader) {
+        Map<UUID, T> found = getAllById(cacheName, ids, id -> id, type, loader);
+        List<T> results = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            T value = found.get(id);
+            if (value != null) {
+                results.add(value);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Like {@link #getAllInOrder} for caches keyed by something derived from the id; returns the values by id,
+     * in the order the ids were first requested.
+     */
+    public <T> Map<UUID, T> getAllById(String cacheName, List<UUID> ids, Function<UUID, Object> cacheKey,
+                                       Class<T> type, Function<List<UUID>, Map<UUID, T>> loader) {
+        if (ids.size() > MAX_IDS) {
+            throw new ValidationException("ids", "At most " + MAX_IDS + " ids can be requested at once");
+        }
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        List<Object> keys = distinct.stream().map(cacheKey).toList();
+        Map<Object, T> cached = getAll(cacheName, keys, type);
+
+        Map<UUID, T> found = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            T hit = cached.get(keys.get(i));
+            if (hit != null) {
+                found.put(distinct.get(i), hit);
+            } else {
+                misses.add(distinct.get(i));
+            }
+        }
+        if (!misses.isEmpty()) {
+            // Back-filled entries are shared, so the misses are read from the primary
+            Map<UUID, T> loaded = PrimaryReads.call(() -> loader.apply(misses));
+            found.putAll(loaded);
+            Map<Object, T> backfill = new HashMap<>();
+            loaded.forEach((id, value) -> backfill.put(cacheKey.apply(id), value));
+            putAllAbsent(cacheName, backfill);
+        }
+
+        Map<UUID, T> ordered = new LinkedHashMap<>();
+        for (UUID id : distinct) {
+            T value = found.get(id);
+            if (value != null) {
+                ordered.put(id, value);
+            }
+        }
+        return ordered;
+    }
+
+    public <K, T> Map<K, T> getAll(String cacheName, List<K> cacheKeys, Class<T> type) {
+        RedisCache cache = redisCache(cacheName);
+        if (cache == null || cacheKeys.isEmpty()) {
+            return Map.of();
+        }
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        byte[][] keys = new byte[cacheKeys.size()][];
+        for (int i = 0; i < cacheKeys.size(); i++) {
+            keys[i] = key(cacheName, config, cacheKeys.get(i));
+        }
+
+        List<byte[]> values;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(keys);
+        } catch (DataAccessException e) {
+            log.warn("Batch lookup in cache '{}' failed, loading {} entries from the database: {}",
+                    cacheName, cacheKeys.size(), e.getMessage());
+            return Map.of();
+        }
+
+        Map<K, T> hits = new HashMap<>();
+        for (int i = 0; values != null && i < values.size(); i++) {
+            byte[] value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                Object cached = config.getValueSerializationPair().read(ByteBuffer.wrap(value));
+                if (type.isInstance(cached)) {
+                    hits.put(cacheKeys.get(i), type.cast(cached));
+                }
+            } catch (SerializationException e) {
+                // Entries written by an older DTO shape are reloaded and overwritten on the next update
+                log.debug("Unreadable entry {} in cache '{}': {}", cacheKeys.get(i), cacheName, e.getMessage());
+            }
+        }
+        log.debug("Cache '{}' batch lookup: {} of {} hits", cacheName, hits.size(), cacheKeys.size());
+        return hits;
+    }
+
+    /**
+     * Writes entries that are not cached yet; an entry put by a concurrent update is never overwritten.
+     */
+    public void putAllAbsent(String cacheName, Map<?, ?> entries) {
+        RedisCache cache = redisCache(cacheName);
+        if (cache == null || entries.isEmpty()) {
+            return;
+        }
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            entries.forEach((cacheKey, value) -> {
+                Duration ttl = config.getTtlFunction().getTimeToLive(cacheKey, value);
+                Expiration expiration = ttl == null || ttl.isZero() || ttl.isNegative()
+                        ? Expiration.persistent()
+                        : Expiration.from(ttl);
+                connection.stringCommands().set(key(cacheName, config, cacheKey),
+                        ByteUtils.getBytes(config.getValueSerializationPair().write(value)),
+                        expiration, SetOption.ifAbsent());
+            });
+            connection.closePipeline();
+        } catch (DataAccessException e) {
+            log.warn("Back-filling {} entries into cache '{}' failed: {}", entries.size(), cacheName, e.getMessage());
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private RedisCache redisCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache instanceof RedisCache redisCache ? redisCache : null;
+    }
+
+    // Matches RedisCache's own key conversion for the String and UUID keys used by the caches
+    private static byte[] key(String cacheName, RedisCacheConfiguration config, Object cacheKey) {
+        String key = config.usePrefix() ? config.getKeyPrefixFor(cacheName) + cacheKey : String.valueOf(cacheKey);
+        return ByteUtils.getBytes(config.getKeySerializationPair().write(key));
+    }
+}
@@ -0,0 +1,283 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.model.sync.SyncTombstone;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Monotonic change sequence behind the delta-sync API
+ * Write paths report the tasks, projects and developers they changed or deleted; just before the transaction
+ * commits, one range of sequence numbers is taken from the change counter and stamped onto the changed rows,
+ * and deletions are recorded as tombstones. The counter row stays locked until commit, so sequence numbers become
+ * visible in order: a client that has seen sequence N can never later miss a change numbered below N.
+ * Once the transaction commits, the ETags remembered for those entities are dropped as well, together with those
+ * of the entities reported as affected: projects and developers whose task counts moved, and tasks whose project
+ * or developer was renamed.
+ */
+@Service
+@Slf4j
+public class ChangeSequenceService {
+
+    public static final String TASK = "Task";
+    public static final String PROJECT = "Project";
+    public static final String DEVELOPER = "Developer";
+
+    public static final String CHANGE_COUNTER = "change";
+    public static final String TOMBSTONE_HORIZON = "tombstone_horizon";
+
+    private static final Map<String, String> TABLES = Map.of(
+            TASK, "tasks", PROJECT, "projects", DEVELOPER, "developers");
+    private static final int STAMP_CHUNK_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityVersionRegistry entityVersionRegistry;
+    private final Duration tombstoneRetention;
+
+    public ChangeSequenceService(EntityManager entityManager,
+                                 TransactionTemplate transactionTemplate,
+                                 EntityVersionRegistry entityVersionRegistry,
+                                 @Value("${app.sync.tombstone-retention:90d}") Duration tombstoneRetention) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.entityVersionRegistry = entityVersionRegistry;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    // ===== WRITE HOOKS =====
+
+    public void changed(String entityType, UUID id) {
+        changed(entityType, List.of(id));
+    }
+
+    public void changed(String entityType, Collection<UUID> ids) {
+        pending().changed.computeIfAbsent(entityType, type -> new LinkedHashSet<>()).addAll(ids);
+    }
+
+    public void deleted(String entityType, UUID id) {
+        deleted(entityType, List.of(id));
+    }
+
+    public void deleted(String entityType, Collection<UUID> ids) {
+        pending().deleted.computeIfAbsent(entityType, type -> new LinkedHashSet<>()).addAll(ids);
+    }
+
+    /**
+     * Reports entities whose representation changed although their rows did not; only their ETags are dropped.
+     * Null ids are ignored, so callers can pass an optional previous or current owner as it is.
+     */
+    public void affected(String entityType, UUID... ids) {
+        affected(entityType, Arrays.asList(ids));
+    }
+
+    public void affected(String entityType, Collection<UUID> ids) {
+        Set<UUID> affected = pending().affected.computeIfAbsent(entityType, type -> new LinkedHashSet<>());
+        for (UUID id : ids) {
+            if (id != null) {
+                affected.add(id);
+            }
+        }
+    }
+
+    // ===== WATERMARKS =====
+
+    /**
+     * Clients holding a watermark below this value may have missed deletions and must sync from scratch.
+     */
+    public long tombstoneHorizon() {
+        List<?> value = entityManager.createNativeQuery("SELECT value FROM change_counters WHERE name = :name")
+                .setParameter("name", TOMBSTONE_HORIZON)
+                .getResultList();
+        return value.isEmpty() ? 0L : ((Number) value.get(0)).longValue();
+    }
+
+    // ===== MAINTENANCE =====
+
+    /**
+     * Stamps rows written before the sequence existed, in short transactions so existing clients can pick them up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void stampUnsequencedRows() {
+        try {
+            TABLES.forEach((entityType, table) -> {
+                long stamped = 0;
+                int batch;
+                do {
+                    batch = transactionTemplate.execute(status -> {
+                        // Rows locked by a writer are skipped; that writer stamps them when it commits
+                        List<UUID> ids = entityManager.createNativeQuery("SELECT id FROM " + table
+                                        + " WHERE change_seq IS NULL LIMIT :limit FOR UPDATE SKIP LOCKED", UUID.class)
+                                .setParameter("limit", STAMP_CHUNK_SIZE)
+                                .getResultList();
+                        changed(entityType, ids);
+                        return ids.size();
+                    });
+                    stamped += batch;
+                } while (batch == STAMP_CHUNK_SIZE);
+                if (stamped > 0) {
+                    log.info("Assigned change sequence numbers to {} existing {} rows", stamped, table);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Native query failures surface as JPA exceptions rather than DataAccessException
+            log.warn("Stamping unsequenced rows failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.sync.tombstone-prune-cron:0 0 4 * * *}")
+    public void pruneTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(tombstoneRetention);
+        Integer pruned = transactionTemplate.execute(status -> {
+            Number highest = (Number) entityManager.createNativeQuery(
+                            "SELECT MAX(change_seq) FROM sync_tombstones WHERE deleted_at < :cutoff")
+                    .setParameter("cutoff", cutoff)
+                    .getSingleResult();
+            if (highest == null) {
+                return 0;
+            }
+            // Raise the horizon first so no client trusts a watermark whose deletions are about to disappear
+            entityManager.createNativeQuery("INSERT INTO change_counters (name, value) VALUES (:name, :value) "
+                            + "ON CONFLICT (name) DO UPDATE "
+                            + "SET value = GREATEST(change_counters.value, EXCLUDED.value)")
+                    .setParameter("name", TOMBSTONE_HORIZON)
+                    .setParameter("value", highest.longValue())
+                    .executeUpdate();
+            return entityManager.createNativeQuery("DELETE FROM sync_tombstones WHERE change_seq <= :highest")
+                    .setParameter("highest", highest.longValue())
+                    .executeUpdate();
+        });
+        log.info("Pruned {} sync tombstones older than {}", pruned, cutoff);
+    }
+
+    // ===== HELPER METHODS =====
+
+    private Pending pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Change sequencing requires an active transaction");
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Pending created = new Pending();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    stamp(created);
+                }
+
+                @Override
+                public void afterCommit() {
+                    invalidateTags(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeSequenceService.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void stamp(Pending pending) {
+        pending.deleted.forEach((entityType, ids) -> {
+            Set<UUID> changed = pending.changed.get(entityType);
+            if (changed != null) {
+                changed.removeAll(ids);
+            }
+        });
+        long count = 0;
+        for (Set<UUID> ids : pending.changed.values()) {
+            count += ids.size();
+        }
+        for (Set<UUID> ids : pending.deleted.values()) {
+            count += ids.size();
+        }
+        if (count == 0) {
+            return;
+        }
+
+        // Pending entity changes go out before the stamps so Hibernate never writes after them
+        entityManager.flush();
+        long next = allocate(count) - count + 1;
+
+        for (Map.Entry<String, Set<UUID>> entry : pending.changed.entrySet()) {
+            String table = TABLES.get(entry.getKey());
+            List<UUID> ids = new ArrayList<>(entry.getValue());
+            for (int from = 0; from < ids.size(); from += STAMP_CHUNK_SIZE) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + STAMP_CHUNK_SIZE, ids.size()));
+                entityManager.createNativeQuery("UPDATE " + table + " t SET change_seq = :base + v.rn "
+                                + "FROM (SELECT id, row_number() OVER (ORDER BY id) AS rn FROM " + table
+                                + " WHERE id IN (:ids)) v WHERE t.id = v.id")
+                        .setParameter("base", next - 1)
+                        .setParameter("ids", chunk)
+                        .executeUpdate();
+                // Numbers of rows deleted meanwhile are simply skipped
+                next += chunk.size();
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<String, Set<UUID>> entry : pending.deleted.entrySet()) {
+            for (UUID id : entry.getValue()) {
+                entityManager.persist(new SyncTombstone(next++, entry.getKey(), id, now));
+            }
+        }
+        entityManager.flush();
+    }
+
+    private void invalidateTags(Pending pending) {
+        Map<String, Set<UUID>> touched = new LinkedHashMap<>();
+        for (Map<String, Set<UUID>> reported : List.of(pending.changed, pending.deleted, pending.affected)) {
+            reported.forEach((entityType, ids) ->
+                    touched.computeIfAbsent(entityType, type -> new LinkedHashSet<>()).addAll(ids));
+        }
+        touched.forEach((entityType, ids) -> {
+            // An empty id list would invalidate the whole type
+            if (!ids.isEmpty()) {
+                entityVersionRegistry.invalidate(entityType, ids);
+            }
+        });
+    }
+
+    /**
+     * Reserves count sequence numbers and returns the highest; the counter row stays locked until commit.
+     */
+    private long allocate(long count) {
+        Number last = (Number) entityManager.createNativeQuery("INSERT INTO change_counters (name, value) "
+                        + "VALUES (:name, :count) ON CONFLICT (name) DO UPDATE "
+                        + "SET value = change_counters.value + EXCLUDED.value RETURNING value")
+                .setParameter("name", CHANGE_COUNTER)
+                .setParameter("count", count)
+                .getSingleResult();
+        return last.longValue();
+    }
+
+    // Entities reported by the current transaction, per entity type
+    private static final class Pending {
+        private final Map<String, Set<UUID>> changed = new LinkedHashMap<>();
+        private final Map<String, Set<UUID>> deleted = new LinkedHashMap<>();
+        private final Map<String, Set<UUID>> affected = new LinkedHashMap<>();
+    }
+}
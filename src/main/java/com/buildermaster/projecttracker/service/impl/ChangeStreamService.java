@@ -0,0 +1,320 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.event.EntityChangeEvent;
+import com.buildermaster.projecttracker.model.EChangeType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-Sent Events feed of task and project changes
+ * Write paths publish an {@link EntityChangeEvent} to a Redis channel after commit; every node subscribes to the
+ * channel and queues matching events per local subscriber. Queued events are coalesced per entity and flushed as one
+ * batched frame per interval. Emitters run on the async servlet support and frames are written from virtual
+ * threads, so an idle connection holds no thread. A subscriber whose buffer overflows loses its queued events and is
+ * told to resync; one whose previous frame is still unwritten after the stall timeout is disconnected.
+ * Flushes and heartbeats run on a scheduler of their own, so the sub-second flush never queues behind the batch
+ * jobs sharing Spring's scheduling pool.
+ */
+@Service
+@Slf4j
+public class ChangeStreamService implements MessageListener {
+
+    public static final String CHANNEL = "projecttracker:changes";
+
+    // Values of the reason tag on app.changes.subscribers.dropped, one counter each
+    private enum DropReason { STALLED, DISCONNECTED }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<DropReason, Counter> dropped = new EnumMap<>(DropReason.class);
+    private final Counter overflows;
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+    private final long stallTimeoutNanos;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService ticker = Executors.newScheduledThreadPool(2,
+            Thread.ofPlatform().name("change-stream-", 0).daemon().factory());
+
+    public ChangeStreamService(StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.changes.buffer-size:500}") int bufferSize,
+                               @Value("${app.changes.emitter-timeout:PT30M}") Duration emitterTimeout,
+                               @Value("${app.changes.stall-timeout:PT30S}") Duration stallTimeout,
+                               @Value("${app.changes.coalesce-interval:PT0.5S}") Duration coalesceInterval,
+                               @Value("${app.changes.heartbeat-interval:PT20S}") Duration heartbeatInterval) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.emitterTimeoutMs = emitterTimeout.toMillis();
+        this.stallTimeoutNanos = stallTimeout.toNanos();
+
+        Gauge.builder("app.changes.subscribers", subscribers, Set::size)
+                .description("Open change stream connections on this node")
+                .register(meterRegistry);
+        for (DropReason reason : DropReason.values()) {
+            dropped.put(reason, meterRegistry.counter("app.changes.subscribers.dropped",
+                    "reason", reason.name().toLowerCase()));
+        }
+        overflows = meterRegistry.counter("app.changes.overflows");
+
+        ticker.scheduleWithFixedDelay(guarded(this::flush, "flush"),
+                coalesceInterval.toMillis(), coalesceInterval.toMillis(), TimeUnit.MILLISECONDS);
+        ticker.scheduleAtFixedRate(guarded(this::heartbeat, "heartbeat"),
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // ===== SUBSCRIPTIONS =====
+
+    /**
+     * Opens a stream of changes; empty filters match everything.
+     * A task matches a project or developer filter when it is in, or just moved out of, one of the given ids.
+     */
+    public SseEmitter subscribe(Set<UUID> projectIds, Set<UUID> developerIds) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(projectIds), Set.copyOf(developerIds));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Sent straight away so proxies forward the response headers before the first change
+        subscriber.trySend(SseEmitter.event().name("connected").data(Map.of("bufferSize", bufferSize)));
+        log.debug("Change stream opened; projects={}, developers={}", projectIds, developerIds);
+        return emitter;
+    }
+
+    // ===== PUBLISHING =====
+
+    /**
+     * Publishes a change once the surrounding transaction commits.
+     * Falls back to local delivery when Redis is unavailable, so subscribers on this node still see it.
+     */
+    public void publish(EntityChangeEvent event) {
+        Runnable send = () -> {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+            } catch (JsonProcessingException | DataAccessException e) {
+                log.warn("Change event for {} {} not published to other nodes: {}",
+                        event.entityType(), event.entityId(), e.getMessage());
+                dispatch(event);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send.run();
+                }
+            });
+        } else {
+            send.run();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            dispatch(objectMapper.readValue(message.getBody(), EntityChangeEvent.class));
+        } catch (IOException e) {
+            log.warn("Ignoring malformed change event: {}", e.getMessage());
+        }
+    }
+
+    // ===== DELIVERY =====
+
+    public void flush() {
+        subscribers.forEach(Subscriber::flush);
+    }
+
+    public void heartbeat() {
+        // Also surfaces connections the client dropped silently, which otherwise linger until the emitter times out
+        subscribers.forEach(subscriber -> subscriber.trySend(SseEmitter.event().comment("heartbeat")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    // ===== HELPER METHODS =====
+
+    // A periodic task that throws is never run again, so one bad tick must not end all flushes
+    private static Runnable guarded(Runnable task, String name) {
+        return () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Change stream {} failed: {}", name, e.getMessage(), e);
+            }
+        };
+    }
+
+    private void dispatch(EntityChangeEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(event)) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber, DropReason reason) {
+        if (subscribers.remove(subscriber)) {
+            dropped.get(reason).increment();
+            log.info("Dropped change stream subscriber: {}", reason.name().toLowerCase());
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * Folds a later change to the same entity into an earlier one that has not been sent yet.
+     * A create stays a create unless the entity was deleted, and the project and developer the task started the
+     * batch in are kept as the previous ones so filtered subscribers still see it leave.
+     */
+    private static EntityChangeEvent coalesce(EntityChangeEvent earlier, EntityChangeEvent later) {
+        boolean created = earlier.changeType() == EChangeType.CREATED && later.changeType() != EChangeType.DELETED;
+        if (created) {
+            return new EntityChangeEvent(later.entityType(), later.entityId(), EChangeType.CREATED,
+                    later.projectId(), null, later.developerId(), null, later.occurredAt());
+        }
+        return new EntityChangeEvent(later.entityType(), later.entityId(), later.changeType(),
+                later.projectId(), origin(earlier.previousProjectId(), earlier.projectId(),
+                        later.previousProjectId(), later.projectId()),
+                later.developerId(), origin(earlier.previousDeveloperId(), earlier.developerId(),
+                        later.previousDeveloperId(), later.developerId()),
+                later.occurredAt());
+    }
+
+    private static boolean contains(Set<UUID> ids, UUID id) {
+        return id != null && ids.contains(id);
+    }
+
+    private static UUID origin(UUID earlierPrevious, UUID earlierCurrent, UUID laterPrevious, UUID laterCurrent) {
+        UUID start = earlierPrevious != null ? earlierPrevious : earlierCurrent;
+        return start != null && !start.equals(laterCurrent) ? start : laterPrevious;
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<UUID> projectIds;
+        private final Set<UUID> developerIds;
+
+        // Pending changes keyed by entity, in first-seen order; guarded by this
+        private final Map<String, EntityChangeEvent> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+        private long sequence;
+
+        // At most one frame in flight; later changes keep coalescing until it is written
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter, Set<UUID> projectIds, Set<UUID> developerIds) {
+            this.emitter = emitter;
+            this.projectIds = projectIds;
+            this.developerIds = developerIds;
+        }
+
+        private boolean matches(EntityChangeEvent event) {
+            return (projectIds.isEmpty()
+                    || contains(projectIds, event.projectId()) || contains(projectIds, event.previousProjectId()))
+                    && (developerIds.isEmpty()
+                    || contains(developerIds, event.developerId()) || contains(developerIds, event.previousDeveloperId()));
+        }
+
+        private synchronized void offer(EntityChangeEvent event) {
+            if (overflowed) {
+                return;
+            }
+            pending.merge(event.entityType() + ":" + event.entityId(), event, ChangeStreamService::coalesce);
+            if (pending.size() > bufferSize) {
+                // The client reloads instead of replaying, so the queued changes are no longer needed
+                pending.clear();
+                overflowed = true;
+                overflows.increment();
+            }
+        }
+
+        private void flush() {
+            if (!sending.compareAndSet(false, true)) {
+                if (System.nanoTime() - sendStartedAt > stallTimeoutNanos) {
+                    drop(this, DropReason.STALLED);
+                }
+                return;
+            }
+            SseEmitter.SseEventBuilder frame = null;
+            synchronized (this) {
+                if (overflowed) {
+                    overflowed = false;
+                    frame = SseEmitter.event().name("resync").data(Map.of("reason", "buffer overflow"));
+                } else if (!pending.isEmpty()) {
+                    List<EntityChangeEvent> batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                    frame = SseEmitter.event().id(Long.toString(++sequence)).name("changes")
+                            .data(batch, MediaType.APPLICATION_JSON);
+                }
+            }
+            if (frame == null) {
+                sending.set(false);
+                return;
+            }
+            write(frame);
+        }
+
+        // Control frames are skipped while another frame is in flight
+        private void trySend(SseEmitter.SseEventBuilder frame) {
+            if (sending.compareAndSet(false, true)) {
+                write(frame);
+            }
+        }
+
+        private void write(SseEmitter.SseEventBuilder frame) {
+            sendStartedAt = System.nanoTime();
+            senders.execute(() -> {
+                try {
+                    emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    drop(this, DropReason.DISCONNECTED);
+                } finally {
+                    sending.set(false);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Leases in Redis that let one instance at a time run a scheduled job
+ * A lease is a key set with NX and an expiry, holding a token only its owner knows; extending and releasing compare
+ * the token first, so an owner whose lease ran out can neither prolong nor delete the next owner's. Long jobs extend
+ * the lease between steps and stop when that fails, before doing anything that must not run twice.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterLockService {
+
+    private static final String KEY_PREFIX = "projecttracker:lock:";
+
+    // KEYS: lock; ARGV: token, lease in milliseconds
+    private static final RedisScript<Long> EXTEND = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS: lock; ARGV: token
+    private static final RedisScript<Long> RELEASE = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Takes the named lease unless another instance holds it. Empty as well when Redis is unavailable:
+     * a job that cannot prove it runs alone does not run.
+     */
+    public Optional<Lease> tryAcquire(String name, Duration lease) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, lease))) {
+                return Optional.of(new Lease(key, token, lease));
+            }
+            log.debug("Lock {} is held by another instance", name);
+        } catch (DataAccessException e) {
+            log.warn("Lock {} unavailable: {}", name, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A held lease; closing it releases the lock if it is still ours.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final String key;
+        private final String token;
+        private final Duration lease;
+
+        private Lease(String key, String token, Duration lease) {
+            this.key = key;
+            this.token = token;
+            this.lease = lease;
+        }
+
+        /**
+         * Restarts the lease; false once it has expired or Redis cannot confirm it is still ours.
+         */
+        public boolean extend() {
+            try {
+                Long extended = redisTemplate.execute(EXTEND, List.of(key), token, Long.toString(lease.toMillis()));
+                return extended != null && extended == 1;
+            } catch (DataAccessException e) {
+                log.warn("Could not extend lock {}: {}", key, e.getMessage());
+                return false;
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                redisTemplate.execute(RELEASE, List.of(key), token);
+            } catch (DataAccessException e) {
+                // The lease runs out on its own
+                log.warn("Could not release lock {}: {}", key, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
+import com.buildermaster.projecttracker.dto.response.DashboardDTO;
+import com.buildermaster.projecttracker.dto.response.DeveloperStatsDTO;
+import com.buildermaster.projecttracker.dto.response.DeveloperSummaryDTO;
+import com.buildermaster.projecttracker.dto.response.ProjectResponseDTO;
+import com.buildermaster.projecttracker.dto.response.TaskStatsDTO;
+import com.buildermaster.projecttracker.model.ETaskStatus;
+import com.buildermaster.projecttracker.service.DashboardService;
+import com.buildermaster.projecttracker.service.DeveloperService;
+import com.buildermaster.projecttracker.service.ProjectService;
+import com.buildermaster.projecttracker.service.TaskService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service implementation for the admin dashboard
+ * Every component is a call through the regular service beans, so it keeps their caching and transactions, and
+ * runs on its own virtual thread with the caller's security context. All components share one deadline counted
+ * from the start of the request; a component still running at the deadline is cancelled and reported as
+ * unavailable, so the response time is bounded by the slowest component or the deadline, whichever comes first.
+ */
+@Service
+@Slf4j
+public class DashboardServiceImpl implements DashboardService {
+
+    private final TaskService taskService;
+    private final ProjectService projectService;
+    private final DeveloperService developerService;
+    private final long componentTimeoutNanos;
+    private final int overdueLimit;
+
+    // Components run as the caller, so replica routing still sees the caller's recent writes
+    private final ExecutorService components =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    public DashboardServiceImpl(TaskService taskService,
+                                ProjectService projectService,
+                                DeveloperService developerService,
+                                @Value("${app.dashboard.component-timeout:PT2S}") Duration componentTimeout,
+                                @Value("${app.dashboard.overdue-limit:10}") int overdueLimit) {
+        this.taskService = taskService;
+        this.projectService = projectService;
+        this.developerService = developerService;
+        this.componentTimeoutNanos = componentTimeout.toNanos();
+        this.overdueLimit = overdueLimit;
+    }
+
+    @Override
+    public DashboardDTO getDashboard() {
+        long start = System.nanoTime();
+        long deadline = start + componentTimeoutNanos;
+
+        // Everything is submitted before anything is awaited
+        Future<TaskStatsDTO> taskStats = components.submit(taskService::getTaskStatistics);
+        Future<Map<ETaskStatus, Long>> taskCounts = components.submit(taskService::getTaskCountsByStatus);
+        Future<Long> totalDevelopers = components.submit(developerService::getTotalDeveloperCount);
+        Future<Long> developersWithTasks = components.submit(developerService::getDeveloperCountWithTasks);
+        Future<CursorPageDTO<ProjectResponseDTO>> overdueProjects =
+                components.submit(() -> projectService.getOverdueProjects(null, overdueLimit));
+        Future<Long> projectsWithTasks = components.submit(projectService::getProjectsWithTasksCount);
+        Future<List<DeveloperSummaryDTO>> topPerformers =
+                components.submit(developerService::getTop5DevelopersByTaskCount);
+        Future<List<DeveloperSummaryDTO>> availableDevelopers =
+                components.submit(developerService::getDevelopersWithoutTasks);
+
+        List<String> unavailable = new ArrayList<>();
+        DashboardDTO dashboard = DashboardDTO.builder()
+                .taskStats(await("taskStats", taskStats, deadline, unavailable))
+                .taskCountsByStatus(await("taskCountsByStatus", taskCounts, deadline, unavailable))
+                .developerStats(developerStats(
+                        await("developerStats", totalDevelopers, deadline, unavailable),
+                        await("developerStats", developersWithTasks, deadline, unavailable)))
+                .overdueProjects(await("overdueProjects", overdueProjects, deadline, unavailable))
+                .projectsWithTasksCount(await("projectsWithTasksCount", projectsWithTasks, deadline, unavailable))
+                .topPerformers(await("topPerformers", topPerformers, deadline, unavailable))
+                .availableDevelopers(await("availableDevelopers", availableDevelopers, deadline, unavailable))
+                .unavailableComponents(unavailable.stream().distinct().toList())
+                .build();
+
+        log.debug("Dashboard assembled in {} ms, unavailable: {}",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                dashboard.getUnavailableComponents());
+        return dashboard;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        components.shutdownNow();
+    }
+
+    // ===== HELPER METHODS =====
+
+    private <T> T await(String component, Future<T> future, long deadline, List<String> unavailable) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Dashboard component '{}' missed its deadline", component);
+        } catch (ExecutionException e) {
+            log.warn("Dashboard component '{}' failed: {}", component, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            // The remaining components are cancelled as their awaits fail the same way
+            Thread.currentThread().interrupt();
+        }
+        future.cancel(true);
+        unavailable.add(component);
+        return null;
+    }
+
+    private static DeveloperStatsDTO developerStats(Long total, Long withTasks) {
+        if (total == null || withTasks == null) {
+            return null;
+        }
+        return DeveloperStatsDTO.builder()
+                .totalDevelopers(total)
+                .developersWithTasks(withTasks)
+                .availableDevelopers(total - withTasks)
+                .build();
+    }
+}
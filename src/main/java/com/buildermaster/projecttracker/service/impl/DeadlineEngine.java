@@ -0,0 +1,270 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.event.DeadlineEvent;
+import com.buildermaster.projecttracker.model.EDeadlineTransition;
+import com.buildermaster.projecttracker.repository.ProjectRepository;
+import com.buildermaster.projecttracker.repository.TaskRepository;
+import com.buildermaster.projecttracker.util.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Deadline engine driving overdue detection and due-soon notifications
+ * Upcoming task due dates and project deadlines are loaded into a hierarchical timing wheel; each transition
+ * fires once when the clock crosses it, flips the persisted overdue flag and publishes a {@link DeadlineEvent}.
+ * A periodic reconciliation sweep repairs flags missed while the application was down.
+ */
+@Service
+@Slf4j
+public class DeadlineEngine {
+
+    public static final String TASK = "Task";
+    public static final String PROJECT = "Project";
+
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 60;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CacheEvictionService cacheEvictionService;
+    private final ChangeSequenceService changeSequenceService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ZoneId zone;
+    private final int horizonDays;
+
+    private final HierarchicalTimingWheel<Pending> wheel = new HierarchicalTimingWheel<>(
+            TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
+
+    // Latest deadline per key; wheel entries that no longer match are dropped when they fire
+    private final Map<DeadlineKey, LocalDate> scheduled = new HashMap<>();
+
+    // Transition counters per entity type, registered up front so firing does not look them up
+    private final Map<String, Map<EDeadlineTransition, Counter>> transitions = new HashMap<>();
+
+    public DeadlineEngine(TaskRepository taskRepository,
+                          ProjectRepository projectRepository,
+                          CacheEvictionService cacheEvictionService,
+                          ChangeSequenceService changeSequenceService,
+                          ApplicationEventPublisher eventPublisher,
+                          TransactionTemplate transactionTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.deadlines.zone:}") String zone,
+                          @Value("${app.deadlines.horizon-days:7}") int horizonDays) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.cacheEvictionService = cacheEvictionService;
+        this.changeSequenceService = changeSequenceService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        this.horizonDays = horizonDays;
+
+        Gauge.builder("app.deadlines.pending", this, DeadlineEngine::pendingCount)
+                .description("Deadline transitions waiting in the timing wheel")
+                .register(meterRegistry);
+        for (String entityType : List.of(TASK, PROJECT)) {
+            Map<EDeadlineTransition, Counter> counters = new EnumMap<>(EDeadlineTransition.class);
+            for (EDeadlineTransition transition : EDeadlineTransition.values()) {
+                counters.put(transition, meterRegistry.counter("app.deadlines.transitions",
+                        "entity", entityType, "transition", transition.name()));
+            }
+            transitions.put(entityType, counters);
+        }
+    }
+
+    // ===== SCHEDULING =====
+
+    /**
+     * Registers (or re-registers) the transitions for an entity after its deadline or status changed.
+     * Deadlines beyond the horizon are picked up by the next reconciliation.
+     */
+    public void track(String entityType, UUID entityId, LocalDate deadline, boolean completed) {
+        LocalDate today = today();
+        DeadlineKey dueToday = new DeadlineKey(entityType, entityId, EDeadlineTransition.DUE_TODAY);
+        DeadlineKey overdue = new DeadlineKey(entityType, entityId, EDeadlineTransition.OVERDUE);
+
+        List<Pending> immediate = new ArrayList<>();
+        synchronized (wheel) {
+            scheduled.remove(dueToday);
+            scheduled.remove(overdue);
+            if (completed || deadline.isAfter(today.plusDays(horizonDays))) {
+                return;
+            }
+            // Due-today notifications are only meaningful ahead of time; a missed one is not replayed
+            if (deadline.isAfter(today)) {
+                schedule(new Pending(dueToday, deadline), startOf(deadline), null);
+            }
+            schedule(new Pending(overdue, deadline), startOf(deadline.plusDays(1)), immediate);
+        }
+        immediate.forEach(this::fire);
+    }
+
+    public void untrack(String entityType, UUID entityId) {
+        synchronized (wheel) {
+            for (EDeadlineTransition transition : EDeadlineTransition.values()) {
+                scheduled.remove(new DeadlineKey(entityType, entityId, transition));
+            }
+        }
+    }
+
+    /**
+     * Today's date in app.deadlines.zone, the day overdue and days-remaining figures are measured from.
+     */
+    public LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    @Scheduled(fixedRateString = "${app.deadlines.tick-interval:PT1S}")
+    public void tick() {
+        List<Pending> due = new ArrayList<>();
+        synchronized (wheel) {
+            for (Pending pending : wheel.advanceTo(System.currentTimeMillis())) {
+                if (scheduled.remove(pending.key(), pending.deadline())) {
+                    due.add(pending);
+                }
+            }
+        }
+        due.forEach(this::fire);
+    }
+
+    // ===== RECONCILIATION =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Repairs flags that drifted while no engine was running and refills the wheel up to the horizon.
+     */
+    @Scheduled(cron = "${app.deadlines.reconcile-cron:0 0 * * * *}", zone = "${app.deadlines.zone:}")
+    public void reconcile() {
+        LocalDate today = today();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<UUID> staleTasks = taskRepository.findIdsWithStaleOverdueFlag(today);
+            if (!staleTasks.isEmpty()) {
+                taskRepository.clearOverdue(staleTasks);
+                changeSequenceService.changed(ChangeSequenceService.TASK, staleTasks);
+                cacheEvictionService.evictTasks(staleTasks);
+            }
+            List<UUID> staleProjects = projectRepository.findIdsWithStaleOverdueFlag(today);
+            if (!staleProjects.isEmpty()) {
+                projectRepository.clearOverdue(staleProjects);
+                changeSequenceService.changed(ChangeSequenceService.PROJECT, staleProjects);
+                staleProjects.forEach(cacheEvictionService::evictProject);
+            }
+        });
+
+        taskRepository.findMissingOverdueFlags(today).forEach(row -> fire(new Pending(
+                new DeadlineKey(TASK, (UUID) row[0], EDeadlineTransition.OVERDUE), (LocalDate) row[1])));
+        projectRepository.findMissingOverdueFlags(today).forEach(row -> fire(new Pending(
+                new DeadlineKey(PROJECT, (UUID) row[0], EDeadlineTransition.OVERDUE), (LocalDate) row[1])));
+
+        LocalDate horizon = today.plusDays(horizonDays);
+        taskRepository.findUpcomingDeadlines(today, horizon)
+                .forEach(row -> trackIfAbsent(TASK, (UUID) row[0], (LocalDate) row[1]));
+        projectRepository.findUpcomingDeadlines(today, horizon)
+                .forEach(row -> trackIfAbsent(PROJECT, (UUID) row[0], (LocalDate) row[1]));
+
+        log.info("Deadline reconciliation complete; {} transitions pending", pendingCount());
+    }
+
+    // ===== HELPER METHODS =====
+
+    private void trackIfAbsent(String entityType, UUID entityId, LocalDate deadline) {
+        synchronized (wheel) {
+            if (deadline.equals(scheduled.get(new DeadlineKey(entityType, entityId, EDeadlineTransition.OVERDUE)))) {
+                return;
+            }
+        }
+        track(entityType, entityId, deadline, false);
+    }
+
+    private void schedule(Pending pending, long deadlineMs, List<Pending> immediate) {
+        if (wheel.schedule(pending, deadlineMs)) {
+            scheduled.put(pending.key(), pending.deadline());
+        } else if (immediate != null) {
+            immediate.add(pending);
+        }
+    }
+
+    private void fire(Pending pending) {
+        DeadlineKey key = pending.key();
+        try {
+            boolean applies = key.transition() == EDeadlineTransition.OVERDUE ? markOverdue(key) : exists(key);
+            if (!applies) {
+                return; // Already flagged, completed, rescheduled or deleted in the meantime
+            }
+            eventPublisher.publishEvent(
+                    new DeadlineEvent(key.entityType(), key.entityId(), key.transition(), pending.deadline()));
+            transitions.get(key.entityType()).get(key.transition()).increment();
+            log.debug("{} {} transitioned to {}", key.entityType(), key.entityId(), key.transition());
+        } catch (RuntimeException e) {
+            // The next reconciliation sweep picks the entity up again
+            log.warn("Failed to fire {} for {} {}: {}", key.transition(), key.entityType(), key.entityId(), e.getMessage());
+        }
+    }
+
+    private boolean markOverdue(DeadlineKey key) {
+        LocalDate today = today();
+        Integer updated = transactionTemplate.execute(status -> {
+            if (TASK.equals(key.entityType())) {
+                int rows = taskRepository.markOverdue(key.entityId(), today);
+                if (rows > 0) {
+                    cacheEvictionService.evictTasks(List.of(key.entityId()));
+                    changeSequenceService.changed(ChangeSequenceService.TASK, key.entityId());
+                }
+                return rows;
+            }
+            int rows = projectRepository.markOverdue(key.entityId(), today);
+            if (rows > 0) {
+                cacheEvictionService.evictProject(key.entityId());
+                changeSequenceService.changed(ChangeSequenceService.PROJECT, key.entityId());
+            }
+            return rows;
+        });
+        return updated != null && updated > 0;
+    }
+
+    private boolean exists(DeadlineKey key) {
+        return TASK.equals(key.entityType())
+                ? taskRepository.existsById(key.entityId())
+                : projectRepository.existsById(key.entityId());
+    }
+
+    private long startOf(LocalDate date) {
+        return date.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    private int pendingCount() {
+        synchronized (wheel) {
+            return scheduled.size();
+        }
+    }
+
+    private record DeadlineKey(String entityType, UUID entityId, EDeadlineTransition transition) {
+    }
+
+    private record Pending(DeadlineKey key, LocalDate deadline) {
+    }
+}
@@ -0,0 +1,207 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.repository.DeveloperRepository;
+import com.buildermaster.projecttracker.repository.TaskRepository;
+import com.buildermaster.projecttracker.util.IndexedMinHeap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory model of open-task counts per developer used for load-aware auto-assignment
+ * Keeps one min-heap per skill keyed by open-task count so the least-loaded matching developer
+ * is found in O(1) and re-ranked in O(log n). Task writes adjust the counts after commit and a
+ * periodic rebuild from the database corrects drift from bulk statements and other instances.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeveloperLoadModel {
+
+    // Heap holding every developer, used when no skill is requested
+    private static final String ANY_SKILL = "";
+
+    private final DeveloperRepository developerRepository;
+    private final TaskRepository taskRepository;
+
+    private final Map<UUID, Long> openTasks = new HashMap<>();
+    private final Map<UUID, Set<String>> skillsByDeveloper = new HashMap<>();
+    private final Map<String, IndexedMinHeap<UUID>> heapsBySkill = new HashMap<>();
+
+    // ===== SELECTION =====
+
+    /**
+     * Picks the least-loaded developer with the given skill and counts the task against them straight away,
+     * so that consecutive picks in a batch spread across developers. The reservation is released on rollback.
+     */
+    public Optional<UUID> reserve(String skill) {
+        UUID developerId;
+        synchronized (this) {
+            IndexedMinHeap<UUID> heap = heapsBySkill.get(normalize(skill));
+            if (heap == null || heap.size() == 0) {
+                return Optional.empty();
+            }
+            developerId = heap.peek().orElseThrow();
+            adjust(developerId, 1);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        synchronized (DeveloperLoadModel.this) {
+                            adjust(developerId, -1);
+                        }
+                    }
+                }
+            });
+        }
+        return Optional.of(developerId);
+    }
+
+    // ===== WRITE HOOKS =====
+
+    /**
+     * Records a change of assignee or open state for a single task.
+     */
+    public void onTaskChanged(UUID previousDeveloperId, boolean previouslyOpen, UUID developerId, boolean open) {
+        if (previousDeveloperId != null && previousDeveloperId.equals(developerId) && previouslyOpen == open) {
+            return;
+        }
+        afterCommit(() -> {
+            if (previousDeveloperId != null && previouslyOpen) {
+                adjust(previousDeveloperId, -1);
+            }
+            if (developerId != null && open) {
+                adjust(developerId, 1);
+            }
+        });
+    }
+
+    public void onDeveloperSaved(UUID developerId, String skills) {
+        Set<String> parsed = parseSkills(skills);
+        afterCommit(() -> {
+            Set<String> previous = skillsByDeveloper.getOrDefault(developerId, Set.of());
+            previous.stream()
+                    .filter(skill -> !parsed.contains(skill))
+                    .forEach(skill -> removeFromHeap(skill, developerId));
+            skillsByDeveloper.put(developerId, parsed);
+            openTasks.putIfAbsent(developerId, 0L);
+            rank(developerId);
+        });
+    }
+
+    public void onDeveloperDeleted(UUID developerId) {
+        afterCommit(() -> {
+            Set<String> skills = skillsByDeveloper.remove(developerId);
+            if (skills != null) {
+                skills.forEach(skill -> removeFromHeap(skill, developerId));
+            }
+            removeFromHeap(ANY_SKILL, developerId);
+            openTasks.remove(developerId);
+        });
+    }
+
+    // ===== REBUILD =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.assignment.rebuild-interval:PT10M}",
+            initialDelayString = "${app.assignment.rebuild-interval:PT10M}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<UUID, Long> counts = new HashMap<>();
+        for (Object[] row : taskRepository.countOpenTasksByDeveloper()) {
+            counts.put((UUID) row[0], ((Number) row[1]).longValue());
+        }
+        Map<UUID, Set<String>> skills = new HashMap<>();
+        for (Object[] row : developerRepository.findAllSkills()) {
+            skills.put((UUID) row[0], parseSkills((String) row[1]));
+        }
+
+        synchronized (this) {
+            openTasks.clear();
+            skillsByDeveloper.clear();
+            heapsBySkill.clear();
+            skills.forEach((developerId, developerSkills) -> {
+                openTasks.put(developerId, counts.getOrDefault(developerId, 0L));
+                skillsByDeveloper.put(developerId, developerSkills);
+                rank(developerId);
+            });
+        }
+        log.info("Rebuilt developer load model for {} developers", skills.size());
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static String normalize(String skill) {
+        return skill == null ? ANY_SKILL : skill.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> parseSkills(String skills) {
+        if (skills == null) {
+            return Set.of();
+        }
+        return Arrays.stream(skills.split("[,;/|]"))
+                .map(DeveloperLoadModel::normalize)
+                .filter(skill -> !skill.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    synchronized (DeveloperLoadModel.this) {
+                        update.run();
+                    }
+                }
+            });
+        } else {
+            synchronized (this) {
+                update.run();
+            }
+        }
+    }
+
+    // Caller holds the monitor
+    private void adjust(UUID developerId, long delta) {
+        if (!skillsByDeveloper.containsKey(developerId)) {
+            return; // Developer not loaded yet; the next rebuild picks them up
+        }
+        openTasks.merge(developerId, delta, (current, change) -> Math.max(0L, current + change));
+        rank(developerId);
+    }
+
+    // Caller holds the monitor
+    private void rank(UUID developerId) {
+        long load = openTasks.getOrDefault(developerId, 0L);
+        heapsBySkill.computeIfAbsent(ANY_SKILL, key -> new IndexedMinHeap<>()).upsert(developerId, load);
+        for (String skill : skillsByDeveloper.getOrDefault(developerId, Set.of())) {
+            heapsBySkill.computeIfAbsent(skill, key -> new IndexedMinHeap<>()).upsert(developerId, load);
+        }
+    }
+
+    // Caller holds the monitor
+    private void removeFromHeap(String skill, UUID developerId) {
+        IndexedMinHeap<UUID> heap = heapsBySkill.get(skill);
+        if (heap != null) {
+            heap.remove(developerId);
+        }
+    }
+}
@@ -5,18 +5,20 @@ import com.buildermaster.projecttracker.dto.request.UpdateDeveloperRequestDTO;
 import com.buildermaster.projecttracker.dto.response.DeveloperResponseDTO;
 import com.buildermaster.projecttracker.dto.response.DeveloperSummaryDTO;
 import com.buildermaster.projecttracker.exception.DuplicateResourceException;
+import com.buildermaster.projecttracker.exception.PreconditionFailedException;
 import com.buildermaster.projecttracker.exception.ResourceNotFoundException;
 import com.buildermaster.projecttracker.exception.UserNotFoundException;
 import com.buildermaster.projecttracker.exception.ValidationException;
 import com.buildermaster.projecttracker.mapper.DeveloperMapper;
 import com.buildermaster.projecttracker.model.*;
 import com.buildermaster.projecttracker.repository.DeveloperRepository;
+import com.buildermaster.projecttracker.repository.TaskRepository;
 import com.buildermaster.projecttracker.repository.UserRepository;
 import com.buildermaster.projecttracker.service.AuditService;
 import com.buildermaster.projecttracker.service.DeveloperService;
+import com.buildermaster.projecttracker.service.impl.MetricsService.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
@@ -26,8 +28,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +50,13 @@ public class DeveloperServiceImpl implements DeveloperService {
     private final AuditService auditService;
     private final UserRepository userRepository;
     private final DeveloperMapper developerMapper;
+    private final TaskRepository taskRepository;
+    private final CacheEvictionService cacheEvictionService;
+    private final DeveloperLoadModel developerLoadModel;
+    private final LeaderboardService leaderboardService;
+    private final ChangeSequenceService changeSequenceService;
+    private final SparseFieldsetQuery sparseFieldsetQuery;
+    private final CacheMultiGet cacheMultiGet;
 
     private static final String ENTITY_TYPE = "Developer";
     private static final String SYSTEM_ACTOR = "ADMIN";
@@ -51,6 +64,7 @@ public class DeveloperServiceImpl implements DeveloperService {
     // ===== CRUD OPERATIONS =====
 
     @Override
+    @TimedOperation(Operation.DEVELOPER_CREATE)
     public DeveloperResponseDTO createDeveloperProfile(CreateDeveloperRequestDTO createRequest) {
         log.info("Creating new developer with email: {}", createRequest.getEmail());
 
@@ -73,6 +87,9 @@ public class DeveloperServiceImpl implements DeveloperService {
 
         Developer savedDeveloper = developerRepository.save(developer);
         log.info("Successfully created developer with ID: {}", savedDeveloper.getId());
+        developerLoadModel.onDeveloperSaved(savedDeveloper.getId(), savedDeveloper.getSkills());
+        leaderboardService.memberAdded(LeaderboardService.DEVELOPERS_KEY, savedDeveloper.getId());
+        changeSequenceService.changed(ChangeSequenceService.DEVELOPER, savedDeveloper.getId());
 
         // Log audit
         auditService.logAction(EActionType.CREATE, ENTITY_TYPE, savedDeveloper.getId(), "DEVELOPER", savedDeveloper);
@@ -81,6 +98,7 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
     @Override
+    @TimedOperation(Operation.DEVELOPER_READ)
     @Cacheable(value = "developers", key = "#developerId")
     @Transactional(readOnly = true)
     public DeveloperResponseDTO getDeveloperById(UUID developerId) {
@@ -97,6 +115,18 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
     @Override
+    @TimedOperation(Operation.DEVELOPER_LIST)
+    @Transactional(readOnly = true)
+    public List<DeveloperResponseDTO> getDevelopersByIds(List<UUID> developerIds) {
+        log.debug("Retrieving {} developers by ID", developerIds.size());
+        // Same cache entries as getDeveloperById; misses are loaded with their tasks in one query
+        return cacheMultiGet.getAllInOrder("developers", developerIds, DeveloperResponseDTO.class, misses ->
+                developerRepository.findAllWithTasksByIdIn(misses).stream()
+                        .collect(Collectors.toMap(Developer::getId, developerMapper::toResponseDTO)));
+    }
+
+    @Override
+    @TimedOperation(Operation.DEVELOPER_LIST)
     @Transactional(readOnly = true)
     public Page<DeveloperResponseDTO> getAllDevelopers(Pageable pageable) {
         log.debug("Retrieving developers with pagination: page {}, size {}",
@@ -112,8 +142,19 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
     @Override
+    @TimedOperation(Operation.DEVELOPER_LIST)
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllDevelopers(Pageable pageable, List<String> fields) {
+        log.debug("Retrieving developers with fields {}: page {}, size {}",
+                fields, pageable.getPageNumber(), pageable.getPageSize());
+        return sparseFieldsetQuery.developers(fields, pageable);
+    }
+
+    @Override
+    @TimedOperation(Operation.DEVELOPER_UPDATE)
     @CachePut(value = "developers", key = "#developerId")
-    public DeveloperResponseDTO updateDeveloperProfile(UUID developerId, UpdateDeveloperRequestDTO updateRequest) {
+    public DeveloperResponseDTO updateDeveloperProfile(UUID developerId, UpdateDeveloperRequestDTO updateRequest,
+                                                       Long expectedVersion) {
         log.info("Updating developer with ID: {}", developerId);
 
         Developer existingDeveloper = developerRepository.findById(developerId)
@@ -121,6 +162,10 @@ public class DeveloperServiceImpl implements DeveloperService {
                     log.warn("Developer not found for update with ID: {}", developerId);
                     return new ResourceNotFoundException(ENTITY_TYPE, developerId);
                 });
+        if (expectedVersion != null && !expectedVersion.equals(existingDeveloper.getVersion())) {
+            throw new PreconditionFailedException(ENTITY_TYPE, developerId, expectedVersion,
+                    existingDeveloper.getVersion());
+        }
 
         // Validate email changes
         if (!existingDeveloper.getEmail().equals(updateRequest.getEmail())) {
@@ -130,13 +175,23 @@ public class DeveloperServiceImpl implements DeveloperService {
             }
         }
 
+        String previousName = existingDeveloper.getName();
+
         // Update fields
         existingDeveloper.setName(updateRequest.getName());
         existingDeveloper.setEmail(updateRequest.getEmail());
         existingDeveloper.setSkills(updateRequest.getSkills());
 
-        Developer updatedDeveloper = developerRepository.save(existingDeveloper);
+        // Flushed so the returned version, and with it the ETag, already reflects this update
+        Developer updatedDeveloper = developerRepository.saveAndFlush(existingDeveloper);
         log.info("Successfully updated developer with ID: {}", updatedDeveloper.getId());
+        developerLoadModel.onDeveloperSaved(updatedDeveloper.getId(), updatedDeveloper.getSkills());
+        changeSequenceService.changed(ChangeSequenceService.DEVELOPER, updatedDeveloper.getId());
+        if (!updatedDeveloper.getName().equals(previousName)) {
+            // Task representations carry the developer name
+            changeSequenceService.affected(ChangeSequenceService.TASK,
+                    taskRepository.findIdsByDeveloperId(updatedDeveloper.getId()));
+        }
 
         // Log audit
         auditService.logAction(EActionType.UPDATE, ENTITY_TYPE, updatedDeveloper.getId(), SYSTEM_ACTOR, updatedDeveloper);
@@ -145,7 +200,7 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
     @Override
-    @CacheEvict(value = {"developers", "allDevelopers"}, allEntries = true)
+    @TimedOperation(Operation.DEVELOPER_DELETE)
     public boolean deleteDeveloperProfile(UUID developerId) {
         log.info("Deleting developer with ID: {}", developerId);
 
@@ -155,26 +210,30 @@ public class DeveloperServiceImpl implements DeveloperService {
                     return new ResourceNotFoundException(ENTITY_TYPE, developerId);
                 });
 
-        if(developer != null) {
-            // Handle task reassignment if developer has tasks
-            if (!developer.getTasks().isEmpty()) {
-                log.info("Developer has {} assigned tasks. Removing task associations.", developer.getTasks().size());
-                // Clear the bidirectional relationship
-                for (Task task : developer.getTasks()) {
-                    task.setDeveloper(null);
-                }
-                developer.getTasks().clear();
-            }
-
-            // Log audit before deletion
-            auditService.logAction(EActionType.DELETE, ENTITY_TYPE, developerId, SYSTEM_ACTOR, developer);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("name", developer.getName());
+        summary.put("email", developer.getEmail());
 
-            developerRepository.delete(developer);
-            log.info("Successfully deleted developer with ID: {}", developerId);
-            return true;
+        // Release task assignments in one statement instead of touching each task entity
+        List<UUID> affectedTaskIds = taskRepository.findIdsByDeveloperId(developerId);
+        if (!affectedTaskIds.isEmpty()) {
+            int unassigned = taskRepository.unassignAllFromDeveloper(developerId);
+            log.info("Removed developer {} from {} assigned tasks", developerId, unassigned);
+            changeSequenceService.changed(ChangeSequenceService.TASK, affectedTaskIds);
         }
+        summary.put("unassignedTaskCount", affectedTaskIds.size());
 
-        return false;
+        developerRepository.deleteById(developerId);
+        changeSequenceService.deleted(ChangeSequenceService.DEVELOPER, developerId);
+
+        cacheEvictionService.evictDeveloper(developerId);
+        cacheEvictionService.evictTasks(affectedTaskIds);
+        developerLoadModel.onDeveloperDeleted(developerId);
+        leaderboardService.memberRemoved(LeaderboardService.DEVELOPERS_KEY, developerId);
+
+        auditService.logAction(EActionType.DELETE, ENTITY_TYPE, developerId, SYSTEM_ACTOR, summary);
+        log.info("Successfully deleted developer with ID: {}", developerId);
+        return true;
     }
 
     // ===== BUSINESS OPERATIONS =====
@@ -199,10 +258,23 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
     @Override
+    @TimedOperation(Operation.DEVELOPER_LIST)
     @Transactional(readOnly = true)
     public List<DeveloperSummaryDTO> getTop5DevelopersByTaskCount() {
         log.debug("Retrieving top 5 developers by task count");
 
+        Optional<LeaderboardService.Ranking> ranking = leaderboardService.top(LeaderboardService.DEVELOPERS_KEY, 0, 5);
+        if (ranking.isPresent()) {
+            Map<UUID, Long> ranked = ranking.get().members();
+            Map<UUID, Developer> developers = developerRepository.findAllById(ranked.keySet()).stream()
+                    .collect(Collectors.toMap(Developer::getId, Function.identity()));
+            return ranked.entrySet().stream()
+                    .filter(entry -> developers.containsKey(entry.getKey()))
+                    .map(entry -> developerMapper.toRankedSummaryDTO(developers.get(entry.getKey()), entry.getValue()))
+                    .collect(Collectors.toList());
+        }
+
+        // Leaderboard missing or unavailable: rank in the database
         Pageable top5 = PageRequest.of(0, 5);
         Page<Developer> topDevelopers = developerRepository.findTop5DevelopersByTaskCount(top5);
 
@@ -214,6 +286,7 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
     @Override
+    @TimedOperation(Operation.DEVELOPER_LIST)
     @Transactional(readOnly = true)
     public List<DeveloperSummaryDTO> getDevelopersWithoutTasks() {
         log.debug("Retrieving developers without tasks");
@@ -227,6 +300,7 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
     @Override
+    @TimedOperation(Operation.DEVELOPER_LIST)
     @Transactional(readOnly = true)
     public List<DeveloperSummaryDTO> getDevelopersByTaskStatus(ETaskStatus taskStatus) {
         log.debug("Retrieving developers by task status: {}", taskStatus);
@@ -244,6 +318,7 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
     @Override
+    @TimedOperation(Operation.DEVELOPER_SEARCH)
     @Transactional(readOnly = true)
     public Page<DeveloperResponseDTO> searchDevelopersByName(String name, Pageable pageable) {
         log.debug("Searching developers by name: {} with pagination", name);
@@ -260,6 +335,7 @@ public class DeveloperServiceImpl implements DeveloperService {
     }
 
     @Override
+    @TimedOperation(Operation.DEVELOPER_SEARCH)
     @Transactional(readOnly = true)
     public Page<DeveloperResponseDTO> searchDevelopersBySkill(String skill, Pageable pageable) {
         log.debug("Searching developers by skill: {} with pagination", skill);
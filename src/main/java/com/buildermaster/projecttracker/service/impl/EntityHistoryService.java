@@ -0,0 +1,271 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.model.EActionType;
+import com.buildermaster.projecttracker.model.audit.AuditLog;
+import com.buildermaster.projecttracker.util.AuditArchiveFile;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Stores entity updates in the audit trail as field diffs against periodic full snapshots
+ * and reconstructs the state of an entity at any point in time.
+ * A diff payload carries the _diff marker plus the changed fields; a full serialized entity (creates, deletes, and
+ * audit logs written before diffs were introduced) is a snapshot. Partial payloads logged with a map instead of the
+ * entity, and entities that failed to serialize, carry no state and are skipped. A snapshot is forced every
+ * snapshot-interval entries and for the first entry of an entity in each monthly partition, so reconstruction
+ * reads at most one short run of entries from the (entityType, entityId, timestamp) index regardless of how long
+ * the entity's history is. Diffs are taken against the last state this node logged for the entity, kept in a
+ * bounded in-memory map, and only while that entry is still the entity's latest stored one; otherwise, e.g. when
+ * another node logged the entity in between, a snapshot is written. Every diff names the audit log it was taken
+ * against, and reconstruction follows those ids rather than timestamp order, which concurrent writers (on one node
+ * or several) do not keep in step with the order diffs were taken in.
+ */
+@Service
+@Slf4j
+public class EntityHistoryService {
+
+    public static final String DIFF_MARKER = "_diff";
+    public static final String BASE_ID = "_base";
+    public static final String REMOVED_FIELDS = "_removedFields";
+    public static final String PARTIAL_MARKER = "_partial";
+    public static final String SERIALIZATION_ERROR = "_error";
+
+    private static final TypeReference<Map<String, Object>> STATE_TYPE = new TypeReference<>() {
+    };
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditPartitionManager partitionManager;
+    private final AuditArchiveService archiveService;
+    private final ObjectMapper objectMapper;
+    private final int snapshotInterval;
+    private final int cacheSize;
+
+    // Least recently logged first, keyed by entity type and id
+    private final Map<String, LastState> lastStates = new LinkedHashMap<>(16, 0.75f, true);
+
+    public EntityHistoryService(MongoTemplate mongoTemplate,
+                                AuditPartitionManager partitionManager,
+                                AuditArchiveService archiveService,
+                                ObjectMapper objectMapper,
+                                @Value("${app.audit.snapshot-interval:20}") int snapshotInterval,
+                                @Value("${app.audit.history-cache-size:10000}") int cacheSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.partitionManager = partitionManager;
+        this.archiveService = archiveService;
+        this.objectMapper = objectMapper;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Reconstructed entity state and the latest audit log that contributed to it.
+     * Incomplete when the snapshot the chain started from has already been removed by retention.
+     */
+    public record EntityState(Map<String, Object> state, AuditLog lastChange, boolean complete) {
+    }
+
+    // Fields of the last payload logged for an entity, its audit log id, the partition it went to and the diffs
+    // since its snapshot
+    private record LastState(String auditId, String partition, Map<String, Object> state, int diffs) {
+    }
+
+    // ===== WRITES =====
+
+    /**
+     * Returns the payload to store for a new audit log with the given id: a diff against the entity's last logged
+     * state for updates within the snapshot interval, otherwise the payload unchanged.
+     * A diff costs one indexed lookup of the entity's latest stored audit log id; a snapshot costs none.
+     */
+    public Map<String, Object> compact(EActionType actionType, String entityType, UUID entityId, String auditId,
+                                       Map<String, Object> payload, String partition) {
+        if (entityId == null || !isFullSnapshot(payload)) {
+            return payload;
+        }
+        String key = entityType + ':' + entityId;
+        Map<String, Object> state = new LinkedHashMap<>();
+        payload.forEach((field, value) -> {
+            if (!isMetadata(field)) {
+                state.put(field, value);
+            }
+        });
+        LastState last;
+        synchronized (lastStates) {
+            // Removed while the base is checked, so a concurrent update of the same entity writes a snapshot
+            last = lastStates.remove(key);
+        }
+        if (actionType == EActionType.DELETE) {
+            return payload;
+        }
+        boolean diffable = actionType == EActionType.UPDATE && last != null
+                && last.partition().equals(partition) && last.diffs() + 1 < snapshotInterval
+                && last.auditId().equals(latestAuditId(entityType, entityId, partition));
+        synchronized (lastStates) {
+            lastStates.put(key, new LastState(auditId, partition, state, diffable ? last.diffs() + 1 : 0));
+            if (lastStates.size() > cacheSize) {
+                lastStates.remove(lastStates.keySet().iterator().next());
+            }
+        }
+        return diffable ? diff(last, payload) : payload;
+    }
+
+    /**
+     * Drops the state remembered by {@link #compact} when the audit log it was computed for could not be stored.
+     */
+    public void forget(String entityType, UUID entityId) {
+        synchronized (lastStates) {
+            lastStates.remove(entityType + ':' + entityId);
+        }
+    }
+
+    // ===== RECONSTRUCTION =====
+
+    /**
+     * Rebuilds the entity from its newest stored state at or before the given time: the snapshot reached by following
+     * each diff's base id back from there, with the diffs on that path applied to it.
+     */
+    public Optional<EntityState> stateAt(String entityType, UUID entityId, LocalDateTime at) {
+        List<BiFunction<Long, Integer, List<AuditLog>>> sources = new ArrayList<>();
+        for (String partition : partitionManager.partitionsOverlapping(null, at)) {
+            sources.add((skip, limit) -> mongoTemplate.find(
+                    entityQuery(entityType, entityId, at).skip(skip).limit(limit), AuditLog.class, partition));
+        }
+        AuditArchiveFile.Predicate predicate = new AuditArchiveFile.Predicate(null, at, null, entityType, entityId, null);
+        for (Path archive : archiveService.archivesOverlapping(null, at)) {
+            sources.add((skip, limit) -> archiveService.findNewestFirst(archive, predicate, skip, limit));
+        }
+
+        // Newest first; ends with a snapshot once one is found. Entries off the path, such as a diff another writer
+        // took against the same base, are passed over.
+        List<AuditLog> chain = new ArrayList<>();
+        AuditLog lastChange = null;
+        String wanted = null;
+        for (BiFunction<Long, Integer, List<AuditLog>> source : sources) {
+            long skip = 0;
+            List<AuditLog> page;
+            do {
+                page = source.apply(skip, snapshotInterval);
+                for (AuditLog entry : page) {
+                    if (lastChange == null) {
+                        lastChange = entry;
+                    }
+                    boolean snapshot = isFullSnapshot(entry.getPayload());
+                    if ((!snapshot && !isDiff(entry)) || (wanted != null && !wanted.equals(entry.getId()))) {
+                        continue;
+                    }
+                    chain.add(entry);
+                    if (snapshot) {
+                        return Optional.of(new EntityState(replay(chain), lastChange, true));
+                    }
+                    // Diffs written before base ids were recorded follow the next older entry with state
+                    wanted = (String) entry.getPayload().get(BASE_ID);
+                }
+                skip += page.size();
+            } while (page.size() == snapshotInterval);
+        }
+
+        if (lastChange == null) {
+            return Optional.empty();
+        }
+        log.warn("No snapshot found for {} {} at {}; reconstructed from {} diffs only",
+                entityType, entityId, at, chain.size());
+        return Optional.of(new EntityState(replay(chain), lastChange, false));
+    }
+
+    // ===== HELPER METHODS =====
+
+    private String latestAuditId(String entityType, UUID entityId, String partition) {
+        Query latest = entityQuery(entityType, entityId, null).limit(1);
+        latest.fields().include("_id");
+        AuditLog entry = mongoTemplate.findOne(latest, AuditLog.class, partition);
+        return entry != null ? entry.getId() : null;
+    }
+
+    private static Query entityQuery(String entityType, UUID entityId, LocalDateTime at) {
+        Criteria criteria = Criteria.where("entityType").is(entityType).and("entityId").is(entityId);
+        if (at != null) {
+            criteria = criteria.and("timestamp").lte(at);
+        }
+        return new Query(criteria).with(Sort.by(Sort.Direction.DESC, "timestamp"));
+    }
+
+    private static boolean isDiff(AuditLog entry) {
+        return entry.getPayload() != null && Boolean.TRUE.equals(entry.getPayload().get(DIFF_MARKER));
+    }
+
+    private static boolean isFullSnapshot(Map<String, Object> payload) {
+        return payload != null && !payload.isEmpty() && !Boolean.TRUE.equals(payload.get(DIFF_MARKER))
+                && !Boolean.TRUE.equals(payload.get(PARTIAL_MARKER)) && !payload.containsKey(SERIALIZATION_ERROR);
+    }
+
+    /**
+     * Applies a newest-first chain of diffs, each taken against the next entry, oldest entry first; the oldest entry
+     * is normally the snapshot.
+     */
+    private Map<String, Object> replay(List<AuditLog> newestFirst) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            Map<String, Object> payload = newestFirst.get(i).getPayload();
+            if (payload == null) {
+                continue;
+            }
+            if (!Boolean.TRUE.equals(payload.get(DIFF_MARKER))) {
+                state.clear();
+            } else if (payload.get(REMOVED_FIELDS) instanceof List<?> removed) {
+                removed.forEach(state::remove);
+            }
+            payload.forEach((field, value) -> {
+                if (!isMetadata(field)) {
+                    state.put(field, value);
+                }
+            });
+        }
+        // Values read back from MongoDB come as BSON documents; normalise them to the shapes Jackson produces
+        return objectMapper.convertValue(state, STATE_TYPE);
+    }
+
+    private Map<String, Object> diff(LastState base, Map<String, Object> current) {
+        Map<String, Object> previous = base.state();
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Set<String> removed = new HashSet<>(previous.keySet());
+        current.forEach((field, value) -> {
+            if (isMetadata(field)) {
+                changes.put(field, value);
+                return;
+            }
+            removed.remove(field);
+            if (!previous.containsKey(field) || !Objects.equals(previous.get(field), value)) {
+                changes.put(field, value);
+            }
+        });
+        changes.put(DIFF_MARKER, true);
+        changes.put(BASE_ID, base.auditId());
+        if (!removed.isEmpty()) {
+            changes.put(REMOVED_FIELDS, List.copyOf(removed));
+        }
+        return changes;
+    }
+
+    private static boolean isMetadata(String field) {
+        return field.startsWith("_");
+    }
+}
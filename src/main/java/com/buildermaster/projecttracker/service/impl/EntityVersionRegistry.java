@@ -0,0 +1,153 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory map of the current ETag of recently read tasks, projects and developers
+ * Lets If-None-Match requests be answered with 304 without touching the database or the Redis value cache.
+ * Entries are dropped after every committed write, on this node directly and on the others through Redis pub/sub;
+ * a read that overlapped an invalidation never records its tag, and entries expire after the TTL in case an
+ * invalidation message was lost.
+ */
+@Service
+@Slf4j
+public class EntityVersionRegistry implements MessageListener {
+
+    public static final String CHANNEL = "projecttracker:etag-invalidations";
+
+    /**
+     * Tags to drop; no ids means every entity of the type.
+     */
+    public record Invalidation(String entityType, List<UUID> ids) {
+    }
+
+    private record Entry(String tag, long storedAt, long expiresAt) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<String, Entry> tags = new ConcurrentHashMap<>();
+
+    // Last invalidation time per entity key, or per entity type for type-wide invalidations
+    private final Map<String, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    public EntityVersionRegistry(StringRedisTemplate redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.etag.registry-ttl:PT10M}") Duration ttl,
+                                 @Value("${app.etag.registry-max-entries:100000}") int maxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    // ===== READS =====
+
+    public String currentTag(String entityType, UUID id) {
+        Entry entry = tags.get(key(entityType, id));
+        if (entry == null || entry.expiresAt() - System.nanoTime() <= 0) {
+            return null;
+        }
+        // Type-wide invalidations are checked lazily instead of sweeping the map
+        Long typeTime = invalidatedAt.get(entityType);
+        return typeTime == null || entry.storedAt() - typeTime > 0 ? entry.tag() : null;
+    }
+
+    /**
+     * Taken before loading an entity and handed back to {@link #remember}.
+     */
+    public long readStamp() {
+        return System.nanoTime();
+    }
+
+    public void remember(String entityType, UUID id, String tag, long readStamp) {
+        String key = key(entityType, id);
+        if (invalidatedSince(entityType, key, readStamp) || (tags.size() >= maxEntries && !tags.containsKey(key))) {
+            return;
+        }
+        long now = System.nanoTime();
+        tags.put(key, new Entry(tag, now, now + ttlNanos));
+        // Closes the window where an invalidation lands between the check and the put
+        if (invalidatedSince(entityType, key, readStamp)) {
+            tags.remove(key);
+        }
+    }
+
+    // ===== INVALIDATION =====
+
+    /**
+     * Drops tags on every node; called once the write that changed the entities has committed.
+     */
+    public void invalidate(String entityType, Collection<UUID> ids) {
+        Invalidation invalidation = new Invalidation(entityType, List.copyOf(ids));
+        apply(invalidation);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException | DataAccessException e) {
+            // Other nodes fall back to the TTL
+            log.warn("ETag invalidation for {} not published to other nodes: {}", entityType, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            apply(objectMapper.readValue(message.getBody(), Invalidation.class));
+        } catch (IOException e) {
+            log.warn("Ignoring malformed ETag invalidation: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.etag.purge-interval:PT1M}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        tags.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+        // No read outlives the TTL, so older invalidation times can no longer reject a tag
+        invalidatedAt.values().removeIf(time -> now - time > ttlNanos);
+    }
+
+    // ===== HELPER METHODS =====
+
+    private void apply(Invalidation invalidation) {
+        long now = System.nanoTime();
+        if (invalidation.ids() == null || invalidation.ids().isEmpty()) {
+            invalidatedAt.put(invalidation.entityType(), now);
+            return;
+        }
+        for (UUID id : invalidation.ids()) {
+            String key = key(invalidation.entityType(), id);
+            invalidatedAt.put(key, now);
+            tags.remove(key);
+        }
+    }
+
+    private boolean invalidatedSince(String entityType, String key, long readStamp) {
+        Long typeTime = invalidatedAt.get(entityType);
+        Long keyTime = invalidatedAt.get(key);
+        return (typeTime != null && typeTime - readStamp >= 0) || (keyTime != null && keyTime - readStamp >= 0);
+    }
+
+    private static String key(String entityType, UUID id) {
+        return entityType + ":" + id;
+    }
+}
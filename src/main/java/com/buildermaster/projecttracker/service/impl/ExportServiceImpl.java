@@ -0,0 +1,167 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.model.EExportFormat;
+import com.buildermaster.projecttracker.model.Project;
+import com.buildermaster.projecttracker.model.Task;
+import com.buildermaster.projecttracker.model.audit.AuditLog;
+import com.buildermaster.projecttracker.repository.ProjectRepository;
+import com.buildermaster.projecttracker.repository.TaskRepository;
+import com.buildermaster.projecttracker.service.ExportService;
+import com.buildermaster.projecttracker.util.AuditArchiveFile;
+import com.buildermaster.projecttracker.util.ExportRowWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of ExportService for bulk data export
+ * Streams rows from database cursors straight to the response so heap usage stays flat
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private static final List<String> TASK_COLUMNS = List.of(
+            "id", "title", "description", "status", "dueDate", "createdDate", "updatedDate",
+            "projectId", "projectName", "developerId", "developerName");
+
+    private static final List<String> PROJECT_COLUMNS = List.of(
+            "id", "name", "description", "deadline", "status", "createdDate", "updatedDate");
+
+    private static final List<String> AUDIT_COLUMNS = List.of(
+            "id", "actionType", "entityType", "entityId", "timestamp", "actorName", "payload");
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final MongoTemplate mongoTemplate;
+    private final AuditPartitionManager auditPartitionManager;
+    private final AuditArchiveService auditArchiveService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.clear-interval:500}")
+    private int clearInterval;
+
+    @Value("${app.export.mongo-batch-size:500}")
+    private int mongoBatchSize;
+
+    // ===== JPA EXPORTS =====
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(EExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Starting {} export of tasks", format);
+        try (Stream<Task> tasks = taskRepository.streamAllForExport();
+             ExportRowWriter writer = ExportRowWriter.open(format, outputStream, objectMapper)) {
+
+            writer.writeHeader(TASK_COLUMNS);
+            long count = 0;
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                writer.writeRow(
+                        task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                        task.getDueDate(), task.getCreatedDate(), task.getUpdatedDate(),
+                        task.getProject().getId(), task.getProject().getName(),
+                        task.getDeveloper() != null ? task.getDeveloper().getId() : null,
+                        task.getDeveloper() != null ? task.getDeveloper().getName() : null);
+                detachProcessed(++count);
+            }
+            log.info("Exported {} tasks as {}", count, format);
+            return count;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportProjects(EExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Starting {} export of projects", format);
+        try (Stream<Project> projects = projectRepository.streamAllForExport();
+             ExportRowWriter writer = ExportRowWriter.open(format, outputStream, objectMapper)) {
+
+            writer.writeHeader(PROJECT_COLUMNS);
+            long count = 0;
+            Iterator<Project> iterator = projects.iterator();
+            while (iterator.hasNext()) {
+                Project project = iterator.next();
+                writer.writeRow(
+                        project.getId(), project.getName(), project.getDescription(), project.getDeadline(),
+                        project.getStatus(), project.getCreatedDate(), project.getUpdatedDate());
+                detachProcessed(++count);
+            }
+            log.info("Exported {} projects as {}", count, format);
+            return count;
+        }
+    }
+
+    // ===== MONGO EXPORTS =====
+
+    @Override
+    public long exportAuditLogs(EExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Starting {} export of audit logs", format);
+        // Sources come newest first; walk them oldest first (archives, then partitions) to keep insertion order
+        List<Path> archives = new ArrayList<>(auditArchiveService.archivesOverlapping(null, null));
+        Collections.reverse(archives);
+        List<String> partitions = new ArrayList<>(auditPartitionManager.partitionsOverlapping(null, null));
+        Collections.reverse(partitions);
+
+        try (ExportRowWriter writer = ExportRowWriter.open(format, outputStream, objectMapper)) {
+            writer.writeHeader(AUDIT_COLUMNS);
+            long count = 0;
+            for (Path archive : archives) {
+                count += auditArchiveService.scan(archive, AuditArchiveFile.Predicate.all(),
+                        auditLog -> writeAuditRow(writer, auditLog));
+            }
+            for (String partition : partitions) {
+                Query query = new Query()
+                        .with(Sort.by(Sort.Direction.ASC, "_id"))
+                        .cursorBatchSize(mongoBatchSize);
+                try (Stream<AuditLog> auditLogs = mongoTemplate.stream(query, AuditLog.class, partition)) {
+                    Iterator<AuditLog> iterator = auditLogs.iterator();
+                    while (iterator.hasNext()) {
+                        writeAuditRow(writer, iterator.next());
+                        count++;
+                    }
+                }
+            }
+            log.info("Exported {} audit logs as {}", count, format);
+            return count;
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private void writeAuditRow(ExportRowWriter writer, AuditLog auditLog) throws IOException {
+        writer.writeRow(
+                auditLog.getId(), auditLog.getActionType(), auditLog.getEntityType(),
+                auditLog.getEntityId(), auditLog.getTimestamp(), auditLog.getActorName(),
+                auditLog.getPayload());
+    }
+
+    /**
+     * The persistence context keeps a reference to every entity read from the cursor,
+     * so it is cleared periodically to let already-written rows be collected.
+     */
+    private void detachProcessed(long count) {
+        if (count % clearInterval == 0) {
+            entityManager.clear();
+        }
+    }
+}
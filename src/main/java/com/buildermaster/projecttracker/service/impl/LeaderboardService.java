@@ -0,0 +1,236 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.repository.DeveloperRepository;
+import com.buildermaster.projecttracker.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Task-count leaderboards for developers and projects kept in Redis sorted sets
+ * Scores are adjusted with ZINCRBY after each task write commits, so ranked reads are a ZREVRANGE
+ * instead of a GROUP BY over every task. A periodic rebuild from the database corrects drift; while it runs, score
+ * changes are also journaled and merged into the rebuilt set when it is swapped in, so none of them is lost.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardService {
+
+    public static final String DEVELOPERS_KEY = "projecttracker:leaderboard:developers";
+    public static final String PROJECTS_KEY = "projecttracker:leaderboard:projects";
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(10);
+
+    // KEYS: leaderboard, rebuild marker, journal; ARGV: member, delta. A missing leaderboard stays missing, so reads
+    // keep falling back to the database until a rebuild creates it instead of ranking a handful of members.
+    private static final RedisScript<Void> INCREMENT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZINCRBY', KEYS[3], ARGV[2], ARGV[1])
+            end
+            """);
+
+    // KEYS: leaderboard, rebuild marker, journal, removed members; ARGV: member
+    private static final RedisScript<Void> REMOVE = RedisScript.of("""
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZREM', KEYS[3], ARGV[1])
+                redis.call('SADD', KEYS[4], ARGV[1])
+            end
+            """);
+
+    // KEYS: leaderboard, rebuilt set, journal, removed members, rebuild marker. Runs atomically, so no score change
+    // falls between merging the journal and ending the rebuild.
+    private static final RedisScript<Long> SWAP = RedisScript.of("""
+            redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[2], KEYS[3])
+            for _, member in ipairs(redis.call('SMEMBERS', KEYS[4])) do
+                redis.call('ZREM', KEYS[1], member)
+            end
+            redis.call('DEL', KEYS[2], KEYS[3], KEYS[4], KEYS[5])
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final DeveloperRepository developerRepository;
+    private final ProjectRepository projectRepository;
+
+    /**
+     * One page of a leaderboard: member ids with their task count, highest first, and the number of members.
+     */
+    public record Ranking(Map<UUID, Long> members, long total) {
+    }
+
+    // ===== READS =====
+
+    /**
+     * Returns one page of the leaderboard; a page past the last member has no members.
+     * Empty when the leaderboard does not exist or Redis is unavailable; callers then rank in the database.
+     */
+    public Optional<Ranking> top(String key, long offset, int count) {
+        try {
+            Long total = redisTemplate.opsForZSet().zCard(key);
+            if (total == null || total == 0) {
+                return Optional.empty();
+            }
+            Map<UUID, Long> members = new LinkedHashMap<>();
+            Set<TypedTuple<String>> range = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(key, offset, offset + count - 1);
+            if (range != null) {
+                for (TypedTuple<String> entry : range) {
+                    members.put(UUID.fromString(Objects.requireNonNull(entry.getValue())),
+                            entry.getScore() != null ? entry.getScore().longValue() : 0L);
+                }
+            }
+            return Optional.of(new Ranking(members, total));
+        } catch (DataAccessException e) {
+            log.warn("Leaderboard {} unavailable: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // ===== WRITE HOOKS =====
+
+    /**
+     * Moves one task between projects and/or developers; null means none (creation, deletion, unassignment).
+     */
+    public void taskMoved(UUID fromProject, UUID fromDeveloper, UUID toProject, UUID toDeveloper) {
+        afterCommit(() -> {
+            if (!Objects.equals(fromProject, toProject)) {
+                increment(PROJECTS_KEY, fromProject, -1);
+                increment(PROJECTS_KEY, toProject, 1);
+            }
+            if (!Objects.equals(fromDeveloper, toDeveloper)) {
+                increment(DEVELOPERS_KEY, fromDeveloper, -1);
+                increment(DEVELOPERS_KEY, toDeveloper, 1);
+            }
+        });
+    }
+
+    public void developerTasksRemoved(Map<UUID, Long> removedPerDeveloper) {
+        afterCommit(() -> removedPerDeveloper.forEach(
+                (developerId, removed) -> increment(DEVELOPERS_KEY, developerId, -removed)));
+    }
+
+    // A zero increment adds the member with no tasks and leaves an existing score alone
+    public void memberAdded(String key, UUID id) {
+        afterCommit(() -> redisTemplate.execute(INCREMENT, List.of(key, marker(key), journal(key)),
+                id.toString(), "0"));
+    }
+
+    public void memberRemoved(String key, UUID id) {
+        afterCommit(() -> redisTemplate.execute(REMOVE, List.of(key, marker(key), journal(key), removed(key)),
+                id.toString()));
+    }
+
+    // ===== REBUILD =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.leaderboard.rebuild-cron:0 30 3 * * *}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try {
+            rebuild(DEVELOPERS_KEY, developerRepository::countTasksPerDeveloper);
+            rebuild(PROJECTS_KEY, projectRepository::countTasksPerProject);
+        } catch (DataAccessException e) {
+            log.warn("Leaderboard rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private void rebuild(String key, Supplier<List<Object[]>> counts) {
+        // One rebuild at a time across all instances; the marker expires if its owner dies mid-way
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(marker(key), "1", REBUILD_TIMEOUT))) {
+            log.info("Leaderboard {} is already being rebuilt", key);
+            return;
+        }
+        // Changes are journaled from here on, before the counts are read, so every change the counts miss is
+        // merged in. A change committed just before the read but applied just after is counted twice until the
+        // next rebuild.
+        String scratchKey = key + ":rebuild";
+        redisTemplate.delete(List.of(scratchKey, journal(key), removed(key)));
+        List<Object[]> rows = counts.get();
+
+        // Load into a scratch key and swap it in so readers never see a partial leaderboard
+        Set<TypedTuple<String>> batch = new HashSet<>();
+        for (Object[] row : rows) {
+            batch.add(new DefaultTypedTuple<>(row[0].toString(), ((Number) row[1]).doubleValue()));
+            if (batch.size() == REBUILD_BATCH_SIZE) {
+                redisTemplate.opsForZSet().add(scratchKey, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            redisTemplate.opsForZSet().add(scratchKey, batch);
+        }
+        Long members = redisTemplate.execute(SWAP,
+                List.of(key, scratchKey, journal(key), removed(key), marker(key)));
+        log.info("Rebuilt leaderboard {} with {} members", key, members);
+    }
+
+    private void increment(String key, UUID member, long delta) {
+        if (member != null && delta != 0) {
+            redisTemplate.execute(INCREMENT, List.of(key, marker(key), journal(key)),
+                    member.toString(), Long.toString(delta));
+        }
+    }
+
+    private static String marker(String key) {
+        return key + ":rebuilding";
+    }
+
+    private static String journal(String key) {
+        return key + ":journal";
+    }
+
+    private static String removed(String key) {
+        return key + ":removed";
+    }
+
+    private void afterCommit(Runnable update) {
+        Runnable guarded = () -> {
+            try {
+                update.run();
+            } catch (DataAccessException e) {
+                // Scores catch up on the next rebuild
+                log.warn("Leaderboard update failed: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+}
@@ -1,102 +1,253 @@
 package com.buildermaster.projecttracker.service.impl;
 
+import com.buildermaster.projecttracker.model.EProjectStatus;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Business metrics of the task, project, developer and audit services
+ * Every meter is registered once in the constructor and kept in a field or an EnumMap, so recording is a plain
+ * increment without a registry lookup. Service operations are timed with nanosecond Timer samples into
+ * app.operation.duration, tagged with entity, operation and outcome and published as percentile histograms.
+ * All tags come from enums, which keeps the number of time series fixed.
+ */
 @Service
 @Slf4j
 public class MetricsService {
 
+    public static final String OPERATION_DURATION = "app.operation.duration";
+
+    /**
+     * Timed service operations; the entity and operation tags of each are fixed here.
+     */
+    public enum Operation {
+        TASK_CREATE("task", "create"),
+        TASK_READ("task", "read"),
+        TASK_UPDATE("task", "update"),
+        TASK_DELETE("task", "delete"),
+        TASK_ASSIGN("task", "assign"),
+        TASK_UNASSIGN("task", "unassign"),
+        TASK_AUTO_ASSIGN("task", "auto_assign"),
+        TASK_CLAIM("task", "claim"),
+        TASK_STATISTICS("task", "statistics"),
+        TASK_PROJECT_STATISTICS("task", "project_statistics"),
+        TASK_DEVELOPER_STATISTICS("task", "developer_statistics"),
+        TASK_STATUS_COUNTS("task", "status_counts"),
+        TASK_LIST("task", "list"),
+        TASK_SEARCH("task", "search"),
+        TASK_STREAM("task", "stream"),
+        PROJECT_CREATE("project", "create"),
+        PROJECT_READ("project", "read"),
+        PROJECT_UPDATE("project", "update"),
+        PROJECT_DELETE("project", "delete"),
+        PROJECT_LIST("project", "list"),
+        PROJECT_SEARCH("project", "search"),
+        PROJECT_STREAM("project", "stream"),
+        DEVELOPER_CREATE("developer", "create"),
+        DEVELOPER_READ("developer", "read"),
+        DEVELOPER_UPDATE("developer", "update"),
+        DEVELOPER_DELETE("developer", "delete"),
+        DEVELOPER_LIST("developer", "list"),
+        DEVELOPER_SEARCH("developer", "search"),
+        AUDIT_LOG("audit", "log"),
+        AUDIT_TRAIL("audit", "trail"),
+        AUDIT_STATE_AT("audit", "state_at"),
+        AUDIT_LIST("audit", "list"),
+        AUDIT_USER_ACTIONS("audit", "user_actions"),
+        AUDIT_ACTIONS_BY_TYPE("audit", "actions_by_type"),
+        AUDIT_DATE_RANGE("audit", "date_range"),
+        AUDIT_ACTIVITY("audit", "activity"),
+        AUDIT_ACTIVITY_TOTALS("audit", "activity_totals");
+
+        private final String entity;
+        private final String tag;
+
+        Operation(String entity, String tag) {
+            this.entity = entity;
+            this.tag = tag;
+        }
+    }
+
     private final MeterRegistry meterRegistry;
 
-    public MetricsService(MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+    private final Map<EProjectStatus, Counter> tasksCreated = new EnumMap<>(EProjectStatus.class);
+    private final Map<EProjectStatus, Counter> tasksUpdated = new EnumMap<>(EProjectStatus.class);
+    private final Counter tasksDeleted;
+    private final Counter tasksRetrieved;
+    private final Counter tasksAssigned;
+    private final Counter tasksUnassigned;
+    private final Counter taskStatisticsGenerated;
 
-        // Initialize all counters
-        Counter.builder("app.tasks.created")
-                .description("Number of tasks created")
-                .register(meterRegistry);
+    private final Map<Operation, Timer> succeeded = new EnumMap<>(Operation.class);
+    private final Map<Operation, Timer> failed = new EnumMap<>(Operation.class);
 
-        Counter.builder("app.tasks.updated")
-                .description("Number of tasks updated")
-                .register(meterRegistry);
+    public MetricsService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
 
-        Counter.builder("app.tasks.deleted")
+        // The project status is the task's tier: bounded, and already loaded wherever tasks are written
+        for (EProjectStatus status : EProjectStatus.values()) {
+            tasksCreated.put(status, Counter.builder("app.tasks.created")
+                    .description("Number of tasks created")
+                    .tag("project_status", status.name())
+                    .register(meterRegistry));
+            tasksUpdated.put(status, Counter.builder("app.tasks.updated")
+                    .description("Number of tasks updated")
+                    .tag("project_status", status.name())
+                    .register(meterRegistry));
+        }
+        tasksDeleted = Counter.builder("app.tasks.deleted")
                 .description("Number of tasks deleted")
                 .register(meterRegistry);
-
-        Counter.builder("app.tasks.retrieved")
+        tasksRetrieved = Counter.builder("app.tasks.retrieved")
                 .description("Number of tasks retrieved")
                 .register(meterRegistry);
-
-        Counter.builder("app.tasks.assigned")
+        tasksAssigned = Counter.builder("app.tasks.assigned")
                 .description("Number of tasks assigned")
                 .register(meterRegistry);
-
-        Counter.builder("app.tasks.unassigned")
+        tasksUnassigned = Counter.builder("app.tasks.unassigned")
                 .description("Number of tasks unassigned")
                 .register(meterRegistry);
-
-        Timer.builder("app.tasks.processing.time")
-                .description("Task processing time")
+        taskStatisticsGenerated = Counter.builder("app.tasks.statistics.generated")
+                .description("Number of task statistics computed from the database")
                 .register(meterRegistry);
+
+        for (Operation operation : Operation.values()) {
+            succeeded.put(operation, operationTimer(meterRegistry, operation, "success"));
+            failed.put(operation, operationTimer(meterRegistry, operation, "error"));
+        }
     }
 
-    public void incrementTasksCreated() {
-        meterRegistry.counter("app.tasks.created").increment();
+    // ===== COUNTERS =====
+
+    public void incrementTasksCreated(EProjectStatus projectStatus) {
+        tasksCreated.get(projectStatus).increment();
     }
 
-    public void incrementTasksUpdated() {
-        meterRegistry.counter("app.tasks.updated").increment();
+    public void incrementTasksUpdated(EProjectStatus projectStatus) {
+        tasksUpdated.get(projectStatus).increment();
     }
 
     public void incrementTasksDeleted() {
-        meterRegistry.counter("app.tasks.deleted").increment();
+        tasksDeleted.increment();
     }
 
     public void incrementTasksRetrieved() {
-        meterRegistry.counter("app.tasks.retrieved").increment();
+        tasksRetrieved.increment();
     }
 
     public void incrementTasksAssigned() {
-        meterRegistry.counter("app.tasks.assigned").increment();
+        tasksAssigned.increment();
     }
 
     public void incrementTasksUnassigned() {
-        meterRegistry.counter("app.tasks.unassigned").increment();
+        tasksUnassigned.increment();
     }
 
-    public void recordTaskProcessingTime(long timeInMs) {
-        meterRegistry.timer("app.tasks.processing.time")
-                .record(timeInMs, TimeUnit.MILLISECONDS);
+    public void recordTaskStatisticsGenerated() {
+        taskStatisticsGenerated.increment();
     }
 
-    public void recordTaskStatisticsGenerated() {
-        meterRegistry.counter("app.tasks.statistics.generated").increment();
+    // ===== TIMERS =====
+
+    /**
+     * Starts timing an operation; {@link OperationTimingAspect} does this for every {@link TimedOperation} method.
+     * Pass results through {@link OperationTimer#success} and call {@link OperationTimer#stop} in a finally block; an
+     * operation that never reached success is recorded as an error.
+     */
+    public OperationTimer start(Operation operation) {
+        return new OperationTimer(operation, Timer.start(meterRegistry));
+    }
+
+    public final class OperationTimer {
+
+        private final Operation operation;
+        private final Timer.Sample sample;
+        private boolean success;
+
+        private OperationTimer(Operation operation, Timer.Sample sample) {
+            this.operation = operation;
+            this.sample = sample;
+        }
+
+        public <T> T success(T result) {
+            success = true;
+            return result;
+        }
+
+        public void stop() {
+            sample.stop(success ? succeeded.get(operation) : failed.get(operation));
+        }
     }
 
-    // Method to get all metrics
+    // ===== REPORTING =====
+
     public Map<String, Number> getAllMetrics() {
         Map<String, Number> metrics = new HashMap<>();
 
-        metrics.put("tasksCreated", meterRegistry.counter("app.tasks.created").count());
-        metrics.put("tasksUpdated", meterRegistry.counter("app.tasks.updated").count());
-        metrics.put("tasksDeleted", meterRegistry.counter("app.tasks.deleted").count());
-        metrics.put("tasksRetrieved", meterRegistry.counter("app.tasks.retrieved").count());
-        metrics.put("tasksAssigned", meterRegistry.counter("app.tasks.assigned").count());
-        metrics.put("tasksUnassigned", meterRegistry.counter("app.tasks.unassigned").count());
+        metrics.put("tasksCreated", total(tasksCreated));
+        metrics.put("tasksUpdated", total(tasksUpdated));
+        metrics.put("tasksDeleted", tasksDeleted.count());
+        metrics.put("tasksRetrieved", tasksRetrieved.count());
+        metrics.put("tasksAssigned", tasksAssigned.count());
+        metrics.put("tasksUnassigned", tasksUnassigned.count());
 
-        Timer timer = meterRegistry.timer("app.tasks.processing.time");
-        metrics.put("averageProcessingTimeMs", timer.mean(TimeUnit.MILLISECONDS));
-        metrics.put("maxProcessingTimeMs", timer.max(TimeUnit.MILLISECONDS));
+        Map<String, Double> performance = getTaskPerformanceMetrics();
+        metrics.put("averageProcessingTimeMs", performance.get("meanProcessingTimeMs"));
+        metrics.put("maxProcessingTimeMs", performance.get("maxProcessingTimeMs"));
 
         return metrics;
     }
-}
\ No newline at end of file
+
+    /**
+     * Mean, max and total duration of all task operations, regardless of operation and outcome.
+     */
+    public Map<String, Double> getTaskPerformanceMetrics() {
+        long count = 0;
+        double totalMs = 0;
+        double maxMs = 0;
+        for (Operation operation : Operation.values()) {
+            if (!operation.entity.equals("task")) {
+                continue;
+            }
+            for (Timer timer : new Timer[]{succeeded.get(operation), failed.get(operation)}) {
+                count += timer.count();
+                totalMs += timer.totalTime(TimeUnit.MILLISECONDS);
+                maxMs = Math.max(maxMs, timer.max(TimeUnit.MILLISECONDS));
+            }
+        }
+
+        Map<String, Double> performance = new HashMap<>();
+        performance.put("meanProcessingTimeMs", count == 0 ? 0.0 : totalMs / count);
+        performance.put("maxProcessingTimeMs", maxMs);
+        performance.put("totalProcessingTimeMs", totalMs);
+        performance.put("count", (double) count);
+        return performance;
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static Timer operationTimer(MeterRegistry meterRegistry, Operation operation, String outcome) {
+        return Timer.builder(OPERATION_DURATION)
+                .description("Duration of service operations")
+                .tag("entity", operation.entity)
+                .tag("operation", operation.tag)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private static double total(Map<EProjectStatus, Counter> counters) {
+        return counters.values().stream().mapToDouble(Counter::count).sum();
+    }
+}
@@ -0,0 +1,36 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.service.impl.MetricsService.OperationTimer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records every {@link TimedOperation} method call with its outcome
+ * Ordered ahead of the cache and transaction advice, which keep their default lowest precedence, so the timer
+ * wraps both: a cache hit is timed like any other read, and a method whose commit fails is recorded as an error.
+ * It stays behind Spring's ExposeInvocationInterceptor (HIGHEST_PRECEDENCE + 1), which binding the annotation
+ * argument relies on.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class OperationTimingAspect {
+
+    private final MetricsService metricsService;
+
+    @Around("@annotation(timedOperation)")
+    public Object time(ProceedingJoinPoint joinPoint, TimedOperation timedOperation) throws Throwable {
+        OperationTimer timer = metricsService.start(timedOperation.value());
+        try {
+            return timer.success(joinPoint.proceed());
+        } finally {
+            timer.stop();
+        }
+    }
+}
@@ -2,30 +2,47 @@ package com.buildermaster.projecttracker.service.impl;
 
 import com.buildermaster.projecttracker.dto.request.CreateProjectRequestDTO;
 import com.buildermaster.projecttracker.dto.request.UpdateProjectRequestDTO;
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
 import com.buildermaster.projecttracker.dto.response.ProjectResponseDTO;
 import com.buildermaster.projecttracker.dto.response.ProjectSummaryDTO;
+import com.buildermaster.projecttracker.event.EntityChangeEvent;
+import com.buildermaster.projecttracker.exception.PreconditionFailedException;
 import com.buildermaster.projecttracker.exception.ResourceNotFoundException;
 import com.buildermaster.projecttracker.exception.ValidationException;
 import com.buildermaster.projecttracker.mapper.ProjectMapper;
 import com.buildermaster.projecttracker.model.EActionType;
+import com.buildermaster.projecttracker.model.EChangeType;
 import com.buildermaster.projecttracker.model.EProjectStatus;
 import com.buildermaster.projecttracker.model.Project;
 import com.buildermaster.projecttracker.repository.ProjectRepository;
+import com.buildermaster.projecttracker.repository.TaskRepository;
 import com.buildermaster.projecttracker.service.AuditService;
 import com.buildermaster.projecttracker.service.ProjectService;
+import com.buildermaster.projecttracker.service.impl.MetricsService.Operation;
+import com.buildermaster.projecttracker.util.CursorStreams;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -41,12 +58,26 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final AuditService auditService;
     private final ProjectMapper projectMapper;
+    private final CursorStreams cursorStreams;
+    private final TaskRepository taskRepository;
+    private final CacheEvictionService cacheEvictionService;
+    private final TransactionTemplate transactionTemplate;
+    private final DeadlineEngine deadlineEngine;
+    private final LeaderboardService leaderboardService;
+    private final ChangeStreamService changeStreamService;
+    private final ChangeSequenceService changeSequenceService;
+    private final SparseFieldsetQuery sparseFieldsetQuery;
+    private final CacheMultiGet cacheMultiGet;
 
     private static final String SYSTEM_ACTOR = "SYSTEM";
 
+    @Value("${app.delete.chunk-size:1000}")
+    private int deleteChunkSize;
+
     // ===== CRUD OPERATIONS =====
 
     @Override
+    @TimedOperation(Operation.PROJECT_CREATE)
     public ProjectResponseDTO createProject(CreateProjectRequestDTO createRequest) {
         log.info("Creating new project with name: {}", createRequest.getName());
 
@@ -65,6 +96,12 @@ public class ProjectServiceImpl implements ProjectService {
         Project savedProject = projectRepository.save(project);
         log.info("Successfully created project with ID: {}", savedProject.getId());
 
+        deadlineEngine.track(DeadlineEngine.PROJECT, savedProject.getId(), savedProject.getDeadline(),
+                savedProject.getStatus() == EProjectStatus.COMPLETED);
+        leaderboardService.memberAdded(LeaderboardService.PROJECTS_KEY, savedProject.getId());
+        changeSequenceService.changed(ChangeSequenceService.PROJECT, savedProject.getId());
+        changeStreamService.publish(EntityChangeEvent.project(EChangeType.CREATED, savedProject.getId()));
+
         // Log audit
         auditService.logAction(EActionType.CREATE, "Project", savedProject.getId(), SYSTEM_ACTOR , savedProject);
 
@@ -72,6 +109,7 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_READ)
     @Cacheable(value = "projects", key = "#id")
     @Transactional(readOnly = true)
     public ProjectResponseDTO getProjectById(UUID id) {
@@ -87,6 +125,18 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_LIST)
+    @Transactional(readOnly = true)
+    public List<ProjectResponseDTO> getProjectsByIds(List<UUID> ids) {
+        log.debug("Fetching {} projects by ID", ids.size());
+        // Same cache entries as getProjectById; misses are loaded with their tasks in one query
+        return cacheMultiGet.getAllInOrder("projects", ids, ProjectResponseDTO.class, misses ->
+                projectRepository.findAllWithTasksByIdIn(misses).stream()
+                        .collect(Collectors.toMap(Project::getId, projectMapper::toResponseDTO)));
+    }
+
+    @Override
+    @TimedOperation(Operation.PROJECT_LIST)
     @Transactional(readOnly = true)
     public Page<ProjectSummaryDTO> getAllProjects(Pageable pageable) {
         log.debug("Fetching all projects with pagination: page={}, size={}",
@@ -98,12 +148,22 @@ public class ProjectServiceImpl implements ProjectService {
                 projectPage.getNumber() + 1,
                 projectPage.getTotalPages());
 
-        return projectPage.map(projectMapper::toSummaryDTO);
+        return toSummaryPage(projectPage);
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_LIST)
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllProjects(Pageable pageable, List<String> fields) {
+        log.debug("Fetching projects with fields {}: page={}, size={}",
+                fields, pageable.getPageNumber(), pageable.getPageSize());
+        return sparseFieldsetQuery.projects(fields, pageable);
+    }
+
+    @Override
+    @TimedOperation(Operation.PROJECT_UPDATE)
     @CachePut(value = "projects", key = "#id")
-    public ProjectResponseDTO updateProject(UUID id, UpdateProjectRequestDTO updateRequest) {
+    public ProjectResponseDTO updateProject(UUID id, UpdateProjectRequestDTO updateRequest, Long expectedVersion) {
         log.info("Updating project with ID: {}", id);
 
         Project existingProject = projectRepository.findById(id)
@@ -111,20 +171,37 @@ public class ProjectServiceImpl implements ProjectService {
                     log.warn("Project not found for update with ID: {}", id);
                     return new ResourceNotFoundException("Project", id);
                 });
+        if (expectedVersion != null && !expectedVersion.equals(existingProject.getVersion())) {
+            throw new PreconditionFailedException("Project", id, expectedVersion, existingProject.getVersion());
+        }
 
         // Validate business rules
         validateProjectUpdate(id, updateRequest, existingProject);
 
+        String previousName = existingProject.getName();
+
         // Update project fields
         existingProject.setName(updateRequest.getName());
         existingProject.setDescription(updateRequest.getDescription());
         existingProject.setDeadline(updateRequest.getDeadline());
         existingProject.setStatus(updateRequest.getStatus());
+        // Deadlines must lie in the future, so an updated project is never overdue
+        existingProject.setOverdue(false);
 
-        // Save updated project
-        Project updatedProject = projectRepository.save(existingProject);
+        // Flushed so the returned version, and with it the ETag, already reflects this update
+        Project updatedProject = projectRepository.saveAndFlush(existingProject);
         log.info("Successfully updated project with ID: {}", updatedProject.getId());
 
+        deadlineEngine.track(DeadlineEngine.PROJECT, updatedProject.getId(), updatedProject.getDeadline(),
+                updatedProject.getStatus() == EProjectStatus.COMPLETED);
+        changeSequenceService.changed(ChangeSequenceService.PROJECT, updatedProject.getId());
+        if (!updatedProject.getName().equals(previousName)) {
+            // Task representations carry the project name
+            changeSequenceService.affected(ChangeSequenceService.TASK,
+                    taskRepository.findIdsByProjectId(updatedProject.getId(), Pageable.unpaged()));
+        }
+        changeStreamService.publish(EntityChangeEvent.project(EChangeType.UPDATED, updatedProject.getId()));
+
         // Log audit
         auditService.logAction(EActionType.UPDATE, "Project", updatedProject.getId(), SYSTEM_ACTOR , updatedProject);
 
@@ -132,7 +209,8 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    @CacheEvict(value = {"projects", "allProjects"}, allEntries = true)
+    @TimedOperation(Operation.PROJECT_DELETE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean deleteProject(UUID id) {
         log.info("Deleting project with ID: {}", id);
 
@@ -142,21 +220,61 @@ public class ProjectServiceImpl implements ProjectService {
                     return new ResourceNotFoundException("Project", id);
                 });
 
-        if(project != null) {
-            // Delete project (cascade will handle tasks)
-            projectRepository.delete(project);
-            log.info("Successfully deleted project with ID: {} and {} associated tasks", id, project.getTasks().size());
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("name", project.getName());
+        summary.put("status", project.getStatus());
+        summary.put("deadline", project.getDeadline());
 
-            // Log audit
-            auditService.logAction(EActionType.DELETE, "Project", id, SYSTEM_ACTOR , project);
-            return true;
+        Map<UUID, Long> tasksPerDeveloper = new HashMap<>();
+        for (Object[] row : taskRepository.countTasksPerDeveloperInProject(id)) {
+            tasksPerDeveloper.put((UUID) row[0], ((Number) row[1]).longValue());
         }
-        return false;
+
+        // Drain tasks in short chunked transactions so row locks are never held for the whole project
+        long deletedTasks = 0;
+        List<UUID> chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                List<UUID> ids = taskRepository.findIdsByProjectId(id, PageRequest.of(0, deleteChunkSize));
+                if (!ids.isEmpty()) {
+                    taskRepository.deleteAllByIdInBatch(ids);
+                    changeSequenceService.deleted(ChangeSequenceService.TASK, ids);
+                }
+                return ids;
+            });
+            deletedTasks += chunk.size();
+            cacheEvictionService.evictTasks(chunk);
+        } while (chunk.size() == deleteChunkSize);
+
+        // Sweep tasks added concurrently and remove the project atomically
+        List<UUID> sweptTasks = transactionTemplate.execute(status -> {
+            List<UUID> ids = taskRepository.findIdsByProjectId(id, Pageable.unpaged());
+            taskRepository.deleteAllByProjectId(id);
+            projectRepository.deleteProjectById(id);
+            changeSequenceService.deleted(ChangeSequenceService.TASK, ids);
+            changeSequenceService.deleted(ChangeSequenceService.PROJECT, id);
+            changeSequenceService.affected(ChangeSequenceService.DEVELOPER, tasksPerDeveloper.keySet());
+            return ids;
+        });
+        deletedTasks += sweptTasks.size();
+        cacheEvictionService.evictTasks(sweptTasks);
+        summary.put("deletedTaskCount", deletedTasks);
+
+        cacheEvictionService.evictProject(id);
+        deadlineEngine.untrack(DeadlineEngine.PROJECT, id);
+        leaderboardService.memberRemoved(LeaderboardService.PROJECTS_KEY, id);
+        leaderboardService.developerTasksRemoved(tasksPerDeveloper);
+        changeStreamService.publish(EntityChangeEvent.project(EChangeType.DELETED, id));
+        log.info("Successfully deleted project with ID: {} and {} associated tasks", id, deletedTasks);
+
+        auditService.logAction(EActionType.DELETE, "Project", id, SYSTEM_ACTOR, summary);
+        return true;
     }
 
     // ===== BUSINESS OPERATIONS =====
 
     @Override
+    @TimedOperation(Operation.PROJECT_LIST)
     @Transactional(readOnly = true)
     public Page<ProjectSummaryDTO> getProjectsByStatus(EProjectStatus status, Pageable pageable) {
         log.debug("Fetching projects by status: {} with pagination: page={}, size={}",
@@ -167,68 +285,96 @@ public class ProjectServiceImpl implements ProjectService {
                 projectPage.getContent().size(), status,
                 projectPage.getNumber() + 1, projectPage.getTotalPages());
 
-        return projectPage.map(projectMapper::toSummaryDTO);
+        return toSummaryPage(projectPage);
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_LIST)
     @Transactional(readOnly = true)
-    public List<ProjectResponseDTO> getOverdueProjects() {
-        log.debug("Fetching overdue projects");
+    public CursorPageDTO<ProjectResponseDTO> getOverdueProjects(UUID after, Integer limit) {
+        log.debug("Fetching overdue projects after cursor: {}", after);
 
-        List<Project> overdueProjects = projectRepository.findOverdueProjects();
+        int pageLimit = CursorPageDTO.effectiveLimit(limit);
+        List<Object[]> overdueProjects = projectRepository.findOverdueProjects(
+                CursorPageDTO.startAfter(after), CursorPageDTO.probe(pageLimit));
         log.debug("Found {} overdue projects", overdueProjects.size());
 
-        return overdueProjects.stream()
-                .map(projectMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return CursorPageDTO.of(overdueProjects, pageLimit, ProjectServiceImpl::projectId, this::toCountedResponseDTO);
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_LIST)
     @Transactional(readOnly = true)
-    public List<ProjectResponseDTO> getProjectsWithoutTasks() {
-        log.debug("Fetching projects without tasks");
+    public CursorPageDTO<ProjectResponseDTO> getProjectsWithoutTasks(UUID after, Integer limit) {
+        log.debug("Fetching projects without tasks after cursor: {}", after);
 
-        List<Project> projectsWithoutTasks = projectRepository.findProjectsWithoutTasks();
+        int pageLimit = CursorPageDTO.effectiveLimit(limit);
+        List<Object[]> projectsWithoutTasks = projectRepository.findProjectsWithoutTasks(
+                CursorPageDTO.startAfter(after), CursorPageDTO.probe(pageLimit));
         log.debug("Found {} projects without tasks", projectsWithoutTasks.size());
 
-        return projectsWithoutTasks.stream()
-                .map(projectMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return CursorPageDTO.of(projectsWithoutTasks, pageLimit, ProjectServiceImpl::projectId,
+                this::toCountedResponseDTO);
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_LIST)
     @Transactional(readOnly = true)
     public Page<ProjectSummaryDTO> getProjectsOrderedByTaskCount(Pageable pageable) {
         log.debug("Fetching projects ordered by task count with pagination: page={}, size={}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
+        Optional<LeaderboardService.Ranking> ranking = leaderboardService.top(
+                LeaderboardService.PROJECTS_KEY, pageable.getOffset(), pageable.getPageSize());
+        if (ranking.isPresent()) {
+            Map<UUID, Long> ranked = ranking.get().members();
+            if (ranked.isEmpty()) {
+                // Past the last ranked project
+                return new PageImpl<>(List.of(), pageable, ranking.get().total());
+            }
+            Map<UUID, Project> projects = projectRepository.findAllById(ranked.keySet()).stream()
+                    .collect(Collectors.toMap(Project::getId, Function.identity()));
+            Map<UUID, Long> completedTasks = new HashMap<>();
+            for (Object[] row : taskRepository.countCompletedTasksByProjectIds(ranked.keySet())) {
+                completedTasks.put((UUID) row[0], ((Number) row[1]).longValue());
+            }
+            List<ProjectSummaryDTO> content = ranked.entrySet().stream()
+                    .filter(entry -> projects.containsKey(entry.getKey()))
+                    .map(entry -> projectMapper.toRankedSummaryDTO(projects.get(entry.getKey()), entry.getValue(),
+                            completedTasks.getOrDefault(entry.getKey(), 0L)))
+                    .collect(Collectors.toList());
+            return new PageImpl<>(content, pageable, ranking.get().total());
+        }
+
+        // Leaderboard missing or unavailable: rank in the database
         Page<Project> projectPage = projectRepository.findProjectsOrderedByTaskCount(pageable);
         log.debug("Found {} projects ordered by task count on page {} of {}",
                 projectPage.getContent().size(),
                 projectPage.getNumber() + 1,
                 projectPage.getTotalPages());
 
-        return projectPage.map(projectMapper::toSummaryDTO);
+        return toSummaryPage(projectPage);
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_LIST)
     @Transactional(readOnly = true)
-    public List<ProjectResponseDTO> getProjectsByDeadlineRange(LocalDate startDate, LocalDate endDate) {
-        log.debug("Fetching projects by deadline range: {} to {}", startDate, endDate);
+    public CursorPageDTO<ProjectResponseDTO> getProjectsByDeadlineRange(LocalDate startDate, LocalDate endDate,
+                                                                       UUID after, Integer limit) {
+        log.debug("Fetching projects by deadline range: {} to {} after cursor: {}", startDate, endDate, after);
 
-        if (startDate.isAfter(endDate)) {
-            throw new ValidationException("startDate", "Start date must be before or equal to end date");
-        }
+        validateDeadlineRange(startDate, endDate);
 
-        List<Project> projects = projectRepository.findByDeadlineBetween(startDate, endDate);
+        int pageLimit = CursorPageDTO.effectiveLimit(limit);
+        List<Object[]> projects = projectRepository.findByDeadlineBetween(
+                startDate, endDate, CursorPageDTO.startAfter(after), CursorPageDTO.probe(pageLimit));
         log.debug("Found {} projects with deadlines between {} and {}", projects.size(), startDate, endDate);
 
-        return projects.stream()
-                .map(projectMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return CursorPageDTO.of(projects, pageLimit, ProjectServiceImpl::projectId, this::toCountedResponseDTO);
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_SEARCH)
     @Transactional(readOnly = true)
     public Page<ProjectSummaryDTO> searchProjectsByName(String name, Pageable pageable) {
         log.debug("Searching projects by name: '{}' with pagination: page={}, size={}",
@@ -239,10 +385,11 @@ public class ProjectServiceImpl implements ProjectService {
                 projectPage.getContent().size(), name,
                 projectPage.getNumber() + 1, projectPage.getTotalPages());
 
-        return projectPage.map(projectMapper::toSummaryDTO);
+        return toSummaryPage(projectPage);
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_SEARCH)
     @Transactional(readOnly = true)
     public Page<ProjectSummaryDTO> searchProjectsByDescription(String description, Pageable pageable) {
         log.debug("Searching projects by description: '{}' with pagination: page={}, size={}",
@@ -253,10 +400,11 @@ public class ProjectServiceImpl implements ProjectService {
                 projectPage.getContent().size(), description,
                 projectPage.getNumber() + 1, projectPage.getTotalPages());
 
-        return projectPage.map(projectMapper::toSummaryDTO);
+        return toSummaryPage(projectPage);
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_LIST)
     @Transactional(readOnly = true)
     public Page<ProjectSummaryDTO> getRecentlyCreatedProjects(Pageable pageable) {
         log.debug("Fetching recently created projects with pagination: page={}, size={}",
@@ -268,10 +416,11 @@ public class ProjectServiceImpl implements ProjectService {
                 projectPage.getNumber() + 1,
                 projectPage.getTotalPages());
 
-        return projectPage.map(projectMapper::toSummaryDTO);
+        return toSummaryPage(projectPage);
     }
 
     @Override
+    @TimedOperation(Operation.PROJECT_LIST)
     @Transactional(readOnly = true)
     public Page<ProjectSummaryDTO> getRecentlyUpdatedProjects(Pageable pageable) {
         log.debug("Fetching recently updated projects with pagination: page={}, size={}",
@@ -283,7 +432,39 @@ public class ProjectServiceImpl implements ProjectService {
                 projectPage.getNumber() + 1,
                 projectPage.getTotalPages());
 
-        return projectPage.map(projectMapper::toSummaryDTO);
+        return toSummaryPage(projectPage);
+    }
+
+    // ===== STREAMING OPERATIONS =====
+
+    @Override
+    @TimedOperation(Operation.PROJECT_STREAM)
+    @Transactional(readOnly = true)
+    public long streamOverdueProjects(Consumer<ProjectResponseDTO> sink) {
+        log.debug("Streaming overdue projects");
+        return cursorStreams.drain(projectRepository.streamOverdueProjects(),
+                this::toCountedResponseDTO, sink);
+    }
+
+    @Override
+    @TimedOperation(Operation.PROJECT_STREAM)
+    @Transactional(readOnly = true)
+    public long streamProjectsWithoutTasks(Consumer<ProjectResponseDTO> sink) {
+        log.debug("Streaming projects without tasks");
+        return cursorStreams.drain(projectRepository.streamProjectsWithoutTasks(),
+                this::toCountedResponseDTO, sink);
+    }
+
+    @Override
+    @TimedOperation(Operation.PROJECT_STREAM)
+    @Transactional(readOnly = true)
+    public long streamProjectsByDeadlineRange(LocalDate startDate, LocalDate endDate,
+                                              Consumer<ProjectResponseDTO> sink) {
+        log.debug("Streaming projects by deadline range: {} to {}", startDate, endDate);
+
+        validateDeadlineRange(startDate, endDate);
+        return cursorStreams.drain(projectRepository.streamByDeadlineBetween(startDate, endDate),
+                this::toCountedResponseDTO, sink);
     }
 
     // ===== UTILITY METHODS =====
@@ -318,11 +499,17 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         // Validate deadline is in the future
-        if (createRequest.getDeadline().isBefore(LocalDate.now())) {
+        if (createRequest.getDeadline().isBefore(deadlineEngine.today())) {
             throw new ValidationException("deadline", "Project deadline must be in the future");
         }
     }
 
+    private void validateDeadlineRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new ValidationException("startDate", "Start date must be before or equal to end date");
+        }
+    }
+
     private void validateProjectUpdate(UUID id, UpdateProjectRequestDTO updateRequest, Project existingProject) {
         // Check if another project has the same name (excluding current project)
         if (!existingProject.getName().equalsIgnoreCase(updateRequest.getName()) &&
@@ -331,9 +518,37 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         // Validate deadline is in the future
-        if (updateRequest.getDeadline().isBefore(LocalDate.now())) {
+        if (updateRequest.getDeadline().isBefore(deadlineEngine.today())) {
             throw new ValidationException("deadline", "Project deadline must be in the future");
         }
     }
 
+    // Counts for the whole page come from one grouped query instead of a task collection load per project
+    private Page<ProjectSummaryDTO> toSummaryPage(Page<Project> projectPage) {
+        if (projectPage.isEmpty()) {
+            return projectPage.map(projectMapper::toSummaryDTO);
+        }
+        Map<UUID, long[]> counts = new HashMap<>();
+        List<UUID> ids = projectPage.getContent().stream().map(Project::getId).toList();
+        for (Object[] row : taskRepository.getTaskStatisticsByProjectIds(ids)) {
+            counts.put((UUID) row[0], new long[]{count(row[1]), count(row[2])});
+        }
+        return projectPage.map(project -> {
+            long[] projectCounts = counts.getOrDefault(project.getId(), new long[2]);
+            return projectMapper.toRankedSummaryDTO(project, projectCounts[0], projectCounts[1]);
+        });
+    }
+
+    // Rows of [project, task count, completed task count] from the keyset and streaming queries
+    private ProjectResponseDTO toCountedResponseDTO(Object[] row) {
+        return projectMapper.toCountedResponseDTO((Project) row[0], count(row[1]), count(row[2]));
+    }
+
+    private static UUID projectId(Object[] row) {
+        return ((Project) row[0]).getId();
+    }
+
+    private static long count(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
 }
\ No newline at end of file
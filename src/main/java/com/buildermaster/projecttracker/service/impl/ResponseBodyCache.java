@@ -0,0 +1,130 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized response bodies of single-entity GET endpoints, ready to be copied to the socket
+ * Each entry is the complete JSON envelope for one ETag, plus a gzipped copy when the body is large enough to
+ * benefit. An entry is only served while {@link EntityVersionRegistry} still reports its tag as current, so it
+ * goes stale on exactly the committed writes that invalidate the tag, on every node.
+ */
+@Service
+public class ResponseBodyCache {
+
+    public record CachedBody(String tag, byte[] json, byte[] gzip) {
+    }
+
+    private final EntityVersionRegistry entityVersionRegistry;
+    private final ObjectMapper objectMapper;
+    private final Set<String> entityTypes;
+    private final int maxEntries;
+    private final int gzipMinSize;
+
+    private final Map<String, CachedBody> bodies = new ConcurrentHashMap<>();
+
+    // Registered up front so the lookup path does not allocate meter ids
+    private final Map<String, Counter> hits = new HashMap<>();
+    private final Map<String, Counter> misses = new HashMap<>();
+
+    public ResponseBodyCache(EntityVersionRegistry entityVersionRegistry,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.response-cache.entity-types:Task,Project,Developer}")
+                             Set<String> entityTypes,
+                             @Value("${app.response-cache.max-entries:20000}") int maxEntries,
+                             @Value("${app.response-cache.gzip-min-size:1024}") int gzipMinSize) {
+        this.entityVersionRegistry = entityVersionRegistry;
+        this.objectMapper = objectMapper;
+        this.entityTypes = Set.copyOf(entityTypes);
+        this.maxEntries = maxEntries;
+        this.gzipMinSize = gzipMinSize;
+
+        Gauge.builder("app.response.cache.entries", bodies, Map::size)
+                .description("Serialized response bodies held on this node")
+                .register(meterRegistry);
+        for (String entityType : this.entityTypes) {
+            hits.put(entityType, meterRegistry.counter("app.response.cache.requests",
+                    "type", entityType, "result", "hit"));
+            misses.put(entityType, meterRegistry.counter("app.response.cache.requests",
+                    "type", entityType, "result", "miss"));
+        }
+    }
+
+    public boolean caches(String entityType) {
+        return entityTypes.contains(entityType);
+    }
+
+    /**
+     * Body for the given tag, or null when it is not cached or the tag is no longer current.
+     */
+    public CachedBody lookup(String entityType, UUID id, String tag) {
+        CachedBody body = tag == null ? null : bodies.get(key(entityType, id));
+        boolean hit = body != null && body.tag().equals(tag);
+        Counter counter = hit ? hits.get(entityType) : misses.get(entityType);
+        if (counter != null) {
+            counter.increment();
+        }
+        return hit ? body : null;
+    }
+
+    /**
+     * Serializes the response once; the result is kept for later requests when there is room.
+     */
+    public CachedBody store(String entityType, UUID id, String tag, Object response) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response for " + entityType + " " + id + " is not serializable", e);
+        }
+        CachedBody body = new CachedBody(tag, json, json.length >= gzipMinSize ? gzip(json) : null);
+        String key = key(entityType, id);
+        if (bodies.size() < maxEntries || bodies.containsKey(key)) {
+            bodies.put(key, body);
+        }
+        return body;
+    }
+
+    @Scheduled(fixedDelayString = "${app.etag.purge-interval:PT1M}")
+    public void purgeStale() {
+        // Bodies whose tag was invalidated or expired in the registry can never be served again
+        bodies.entrySet().removeIf(entry -> {
+            String[] parts = entry.getKey().split(":", 2);
+            String current = entityVersionRegistry.currentTag(parts[0], UUID.fromString(parts[1]));
+            return !entry.getValue().tag().equals(current);
+        });
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String key(String entityType, UUID id) {
+        return entityType + ":" + id;
+    }
+}
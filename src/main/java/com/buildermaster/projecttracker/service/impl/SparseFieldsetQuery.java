@@ -0,0 +1,238 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.exception.ValidationException;
+import com.buildermaster.projecttracker.model.Developer;
+import com.buildermaster.projecttracker.model.ETaskStatus;
+import com.buildermaster.projecttracker.model.Project;
+import com.buildermaster.projecttracker.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse fieldsets for the task, project and developer list endpoints
+ * Each response field names the columns it is computed from. Only the columns behind the requested fields are
+ * selected, the project and developer joins are only added for the name fields, and task counts are correlated
+ * subqueries that only run when a count field is requested. Rows come back as maps holding just those fields.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SparseFieldsetQuery {
+
+    private static final Catalog<Task> TASKS = new Catalog<>(Task.class, Map.ofEntries(
+            Map.entry("id", path("id")),
+            Map.entry("title", path("title")),
+            Map.entry("description", path("description")),
+            Map.entry("status", path("status")),
+            Map.entry("dueDate", path("dueDate")),
+            Map.entry("overdue", path("overdue")),
+            Map.entry("createdDate", path("createdDate")),
+            Map.entry("updatedDate", path("updatedDate")),
+            Map.entry("version", path("version")),
+            Map.entry("projectName", (cb, query, root) -> leftJoin(root, "project").get("name")),
+            Map.entry("developerName", (cb, query, root) -> leftJoin(root, "developer").get("name"))
+    ), fields(
+            column("id"), column("title"), column("description"), column("status"), column("dueDate"),
+            new Field("isOverdue", List.of("overdue"), (row, today) -> row.get("overdue")),
+            new Field("daysRemaining", List.of("overdue", "dueDate"),
+                    (row, today) -> Boolean.TRUE.equals(row.get("overdue"))
+                            ? 0L : ChronoUnit.DAYS.between(today, (LocalDate) row.get("dueDate"))),
+            new Field("daysOverdue", List.of("overdue", "dueDate"),
+                    (row, today) -> Boolean.TRUE.equals(row.get("overdue"))
+                            ? ChronoUnit.DAYS.between((LocalDate) row.get("dueDate"), today) : 0L),
+            column("projectName"), column("developerName"),
+            column("createdDate"), column("updatedDate"), column("version")));
+
+    private static final Catalog<Project> PROJECTS = new Catalog<>(Project.class, Map.ofEntries(
+            Map.entry("id", path("id")),
+            Map.entry("name", path("name")),
+            Map.entry("status", path("status")),
+            Map.entry("deadline", path("deadline")),
+            Map.entry("overdue", path("overdue")),
+            Map.entry("taskCount", (cb, query, root) -> taskCount(cb, query, root, "project", false)),
+            Map.entry("completedTaskCount", (cb, query, root) -> taskCount(cb, query, root, "project", true))
+    ), fields(
+            column("id"), column("name"), column("status"), column("deadline"),
+            new Field("taskCount", List.of("taskCount"), (row, today) -> ((Number) row.get("taskCount")).intValue()),
+            new Field("completionPercentage", List.of("taskCount", "completedTaskCount"), (row, today) -> {
+                long total = ((Number) row.get("taskCount")).longValue();
+                return total == 0 ? 0.0 : ((Number) row.get("completedTaskCount")).doubleValue() / total * 100.0;
+            }),
+            new Field("isOverdue", List.of("overdue"), (row, today) -> row.get("overdue"))));
+
+    private static final Catalog<Developer> DEVELOPERS = new Catalog<>(Developer.class, Map.ofEntries(
+            Map.entry("id", path("id")),
+            Map.entry("name", path("name")),
+            Map.entry("email", path("email")),
+            Map.entry("skills", path("skills")),
+            Map.entry("createdDate", path("createdDate")),
+            Map.entry("updatedDate", path("updatedDate")),
+            Map.entry("version", path("version")),
+            Map.entry("totalTaskCount", (cb, query, root) -> taskCount(cb, query, root, "developer", false))
+    ), fields(
+            column("id"), column("name"), column("email"), column("skills"),
+            new Field("totalTaskCount", List.of("totalTaskCount"),
+                    (row, today) -> ((Number) row.get("totalTaskCount")).intValue()),
+            column("createdDate"), column("updatedDate"), column("version")));
+
+    private final EntityManager entityManager;
+    private final DeadlineEngine deadlineEngine;
+
+    public Page<Map<String, Object>> tasks(List<String> fields, Pageable pageable) {
+        return query(TASKS, fields, pageable);
+    }
+
+    public Page<Map<String, Object>> projects(List<String> fields, Pageable pageable) {
+        return query(PROJECTS, fields, pageable);
+    }
+
+    public Page<Map<String, Object>> developers(List<String> fields, Pageable pageable) {
+        return query(DEVELOPERS, fields, pageable);
+    }
+
+    // ===== HELPER METHODS =====
+
+    private <E> Page<Map<String, Object>> query(Catalog<E> catalog, List<String> requested, Pageable pageable) {
+        List<Field> fields = resolve(catalog, requested);
+        Set<String> columns = new LinkedHashSet<>();
+        fields.forEach(field -> columns.addAll(field.columns()));
+        log.debug("Selecting {} for {} fields {}", columns, catalog.type().getSimpleName(), requested);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(catalog.type());
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String column : columns) {
+            selections.add(catalog.columns().get(column).select(cb, query, root).alias(column));
+        }
+        query.multiselect(selections);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // Day counts are measured from the deadline engine's today, like the overdue flags they sit next to
+        LocalDate today = deadlineEngine.today();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String column : columns) {
+                values.put(column, tuple.get(column));
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            fields.forEach(field -> row.put(field.name(), field.value().compute(values, today)));
+            rows.add(row);
+        }
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(catalog.type()));
+    }
+
+    private <E> long count(Class<E> type) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(type)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // Keeps the order the caller asked for and ignores repeated names
+    private static List<Field> resolve(Catalog<?> catalog, List<String> requested) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (String name : requested) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            Field field = catalog.fields().get(trimmed);
+            if (field == null) {
+                throw new ValidationException("fields", String.format("Unknown field '%s'; expected any of %s",
+                        trimmed, catalog.fields().keySet()));
+            }
+            fields.putIfAbsent(trimmed, field);
+        }
+        if (fields.isEmpty()) {
+            throw new ValidationException("fields", "At least one field must be requested");
+        }
+        return List.copyOf(fields.values());
+    }
+
+    private static Column path(String attribute) {
+        return (cb, query, root) -> root.get(attribute);
+    }
+
+    private static Join<?, ?> leftJoin(From<?, ?> root, String attribute) {
+        for (Join<?, ?> join : root.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute)) {
+                return join;
+            }
+        }
+        return root.join(attribute, JoinType.LEFT);
+    }
+
+    private static Expression<Long> taskCount(CriteriaBuilder cb, CriteriaQuery<?> query, Root<?> owner,
+                                              String ownerAttribute, boolean completedOnly) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Task> task = subquery.from(Task.class);
+        subquery.select(cb.count(task));
+        subquery.where(completedOnly
+                ? cb.and(cb.equal(task.get(ownerAttribute), owner), cb.equal(task.get("status"), ETaskStatus.COMPLETED))
+                : cb.equal(task.get(ownerAttribute), owner));
+        return subquery;
+    }
+
+    private static Field column(String name) {
+        return new Field(name, List.of(name), (row, today) -> row.get(name));
+    }
+
+    private static Map<String, Field> fields(Field... fields) {
+        Map<String, Field> byName = new LinkedHashMap<>();
+        for (Field field : fields) {
+            byName.put(field.name(), field);
+        }
+        return byName;
+    }
+
+    @FunctionalInterface
+    private interface Column {
+        Expression<?> select(CriteriaBuilder cb, CriteriaQuery<?> query, Root<?> root);
+    }
+
+    @FunctionalInterface
+    private interface Value {
+        Object compute(Map<String, Object> row, LocalDate today);
+    }
+
+    // A response field and the selected columns it is computed from
+    private record Field(String name, List<String> columns, Value value) {
+    }
+
+    private record Catalog<E>(Class<E> type, Map<String, Column> columns, Map<String, Field> fields) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
+import com.buildermaster.projecttracker.dto.response.SyncChangeDTO;
+import com.buildermaster.projecttracker.dto.response.SyncPageDTO;
+import com.buildermaster.projecttracker.model.Developer;
+import com.buildermaster.projecttracker.model.Project;
+import com.buildermaster.projecttracker.model.Task;
+import com.buildermaster.projecttracker.model.sync.SyncTombstone;
+import com.buildermaster.projecttracker.repository.DeveloperRepository;
+import com.buildermaster.projecttracker.repository.ProjectRepository;
+import com.buildermaster.projecttracker.repository.SyncTombstoneRepository;
+import com.buildermaster.projecttracker.repository.TaskRepository;
+import com.buildermaster.projecttracker.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SyncServiceImpl implements SyncService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ChangeSequenceService changeSequenceService;
+
+    @Override
+    public SyncPageDTO getChangesSince(long since, Integer limit) {
+        int effectiveLimit = CursorPageDTO.effectiveLimit(limit);
+        boolean resetRequired = since > 0 && since < changeSequenceService.tombstoneHorizon();
+        long from = resetRequired ? 0 : since;
+        log.debug("Fetching up to {} changes after {} (reset: {})", effectiveLimit, from, resetRequired);
+
+        // Each source is already in sequence order, so the first limit rows of the merge are the global first
+        Pageable probe = CursorPageDTO.probe(effectiveLimit);
+        List<SyncChangeDTO> changes = new ArrayList<>();
+        for (Task task : taskRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(from, probe)) {
+            changes.add(change(task.getChangeSeq(), ChangeSequenceService.TASK, task.getId(), taskData(task)));
+        }
+        for (Project project : projectRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(from, probe)) {
+            changes.add(change(project.getChangeSeq(), ChangeSequenceService.PROJECT, project.getId(),
+                    projectData(project)));
+        }
+        for (Developer developer : developerRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(from, probe)) {
+            changes.add(change(developer.getChangeSeq(), ChangeSequenceService.DEVELOPER, developer.getId(),
+                    developerData(developer)));
+        }
+        syncTombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(from, probe)
+                .forEach(tombstone -> changes.add(tombstone(tombstone)));
+        changes.sort(Comparator.comparing(SyncChangeDTO::getSeq));
+
+        boolean hasMore = changes.size() > effectiveLimit;
+        List<SyncChangeDTO> slice = hasMore ? changes.subList(0, effectiveLimit) : changes;
+        long watermark = slice.isEmpty() ? from : slice.get(slice.size() - 1).getSeq();
+
+        return SyncPageDTO.builder()
+                .changes(List.copyOf(slice))
+                .watermark(watermark)
+                .hasMore(hasMore)
+                .resetRequired(resetRequired)
+                .limit(effectiveLimit)
+                .build();
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static SyncChangeDTO change(Long seq, String entityType, UUID entityId, Map<String, Object> data) {
+        return SyncChangeDTO.builder()
+                .seq(seq)
+                .entityType(entityType)
+                .entityId(entityId)
+                .deleted(false)
+                .data(data)
+                .build();
+    }
+
+    private static SyncChangeDTO tombstone(SyncTombstone tombstone) {
+        return SyncChangeDTO.builder()
+                .seq(tombstone.getChangeSeq())
+                .entityType(tombstone.getEntityType())
+                .entityId(tombstone.getEntityId())
+                .deleted(true)
+                .build();
+    }
+
+    // Relations are sent as IDs; reading the id of a lazy association does not load it
+    private static Map<String, Object> taskData(Task task) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", task.getId());
+        data.put("title", task.getTitle());
+        data.put("description", task.getDescription());
+        data.put("status", task.getStatus());
+        data.put("dueDate", task.getDueDate());
+        data.put("overdue", task.isOverdue());
+        data.put("projectId", task.getProject() != null ? task.getProject().getId() : null);
+        data.put("developerId", task.getDeveloper() != null ? task.getDeveloper().getId() : null);
+        data.put("updatedDate", task.getUpdatedDate());
+        return data;
+    }
+
+    private static Map<String, Object> projectData(Project project) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", project.getId());
+        data.put("name", project.getName());
+        data.put("description", project.getDescription());
+        data.put("deadline", project.getDeadline());
+        data.put("status", project.getStatus());
+        data.put("overdue", project.isOverdue());
+        data.put("updatedDate", project.getUpdatedDate());
+        return data;
+    }
+
+    private static Map<String, Object> developerData(Developer developer) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", developer.getId());
+        data.put("name", developer.getName());
+        data.put("email", developer.getEmail());
+        data.put("skills", developer.getSkills());
+        data.put("updatedDate", developer.getUpdatedDate());
+        return data;
+    }
+}
@@ -1,10 +1,16 @@
 package com.buildermaster.projecttracker.service.impl;
 
+import com.buildermaster.projecttracker.dto.request.AutoAssignTasksRequestDTO;
+import com.buildermaster.projecttracker.dto.request.ClaimTasksRequestDTO;
 import com.buildermaster.projecttracker.dto.request.CreateTaskRequestDTO;
 import com.buildermaster.projecttracker.dto.request.UpdateTaskRequestDTO;
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
 import com.buildermaster.projecttracker.dto.response.TaskResponseDTO;
 import com.buildermaster.projecttracker.dto.response.TaskStatsDTO;
 import com.buildermaster.projecttracker.dto.response.TaskSummaryDTO;
+import com.buildermaster.projecttracker.event.EntityChangeEvent;
+import com.buildermaster.projecttracker.exception.BusinessRuleViolationException;
+import com.buildermaster.projecttracker.exception.PreconditionFailedException;
 import com.buildermaster.projecttracker.exception.ResourceNotFoundException;
 import com.buildermaster.projecttracker.exception.ValidationException;
 import com.buildermaster.projecttracker.mapper.TaskMapper;
@@ -15,13 +21,17 @@ import com.buildermaster.projecttracker.repository.ProjectRepository;
 import com.buildermaster.projecttracker.repository.TaskRepository;
 import com.buildermaster.projecttracker.service.AuditService;
 import com.buildermaster.projecttracker.service.TaskService;
+import com.buildermaster.projecttracker.service.impl.MetricsService.Operation;
+import com.buildermaster.projecttracker.util.CursorStreams;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +39,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -47,16 +58,25 @@ public class TaskServiceImpl implements TaskService {
     private final AuditService auditService;
     private final TaskMapper taskMapper;
     private final MetricsService metricsService;
+    private final CursorStreams cursorStreams;
+    private final DeadlineEngine deadlineEngine;
+    private final DeveloperLoadModel developerLoadModel;
+    private final LeaderboardService leaderboardService;
+    private final ChangeStreamService changeStreamService;
+    private final ChangeSequenceService changeSequenceService;
+    private final SparseFieldsetQuery sparseFieldsetQuery;
+    private final CacheMultiGet cacheMultiGet;
+
+    private static final int DEFAULT_AUTO_ASSIGN_LIMIT = 100;
 
     // ===== CRUD OPERATIONS =====
 
     @Override
+    @TimedOperation(Operation.TASK_CREATE)
     @Transactional
     @CacheEvict(value = {"tasks", "taskStats", "taskSummaries"}, allEntries = true)
     public TaskResponseDTO createTask(CreateTaskRequestDTO createTaskRequest) {
-        long startTime = System.currentTimeMillis();
-        try {
-            log.info("Creating new task with title: {}", createTaskRequest.getTitle());
+        log.info("Creating new task with title: {}", createTaskRequest.getTitle());
 
         // Validate project exists
         Project project = projectRepository.findById(createTaskRequest.getProjectId())
@@ -70,7 +90,7 @@ public class TaskServiceImpl implements TaskService {
         }
 
         // Validate due date is not in the past
-        if (createTaskRequest.getDueDate().isBefore(LocalDate.now())) {
+        if (createTaskRequest.getDueDate().isBefore(deadlineEngine.today())) {
             throw new ValidationException("dueDate", "Due date cannot be in the past");
         }
 
@@ -87,22 +107,29 @@ public class TaskServiceImpl implements TaskService {
         Task savedTask = taskRepository.save(task);
         log.info("Successfully created task with ID: {}", savedTask.getId());
 
+        deadlineEngine.track(DeadlineEngine.TASK, savedTask.getId(), savedTask.getDueDate(),
+                savedTask.getStatus() == ETaskStatus.COMPLETED);
+        developerLoadModel.onTaskChanged(null, false, developerId(savedTask), isOpen(savedTask));
+        leaderboardService.taskMoved(null, null, project.getId(), developerId(savedTask));
+        changeSequenceService.changed(ChangeSequenceService.TASK, savedTask.getId());
+        changeSequenceService.affected(ChangeSequenceService.PROJECT, project.getId());
+        changeSequenceService.affected(ChangeSequenceService.DEVELOPER, developerId(savedTask));
+        changeStreamService.publish(EntityChangeEvent.task(EChangeType.CREATED, savedTask.getId(),
+                null, project.getId(), null, developerId(savedTask)));
+
         // Log audit
         auditService.logAction(EActionType.CREATE, "Task", savedTask.getId(), "SYSTEM", savedTask);
 
-        metricsService.incrementTasksCreated();
+        metricsService.incrementTasksCreated(project.getStatus());
 
         return taskMapper.toResponseDTO(savedTask);
-        } finally {
-            metricsService.recordTaskProcessingTime(System.currentTimeMillis() - startTime);
-        }
     }
 
     @Override
+    @TimedOperation(Operation.TASK_READ)
     @Cacheable(value = "tasks", key = "#taskId")
+    @Transactional(readOnly = true)
     public TaskResponseDTO getTaskById(UUID taskId) {
-        long startTime = System.currentTimeMillis();
-        try {
         log.info("Cache MISS - Fetching task from database with ID: {}", taskId);
         log.debug("Fetching task with ID: {}", taskId);
 
@@ -112,13 +139,23 @@ public class TaskServiceImpl implements TaskService {
         metricsService.incrementTasksRetrieved();
 
         return taskMapper.toResponseDTO(task);
-        } finally {
-            metricsService.recordTaskProcessingTime(System.currentTimeMillis() - startTime);
-        }
     }
 
     @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getTasksByIds(List<UUID> taskIds) {
+        log.debug("Fetching {} tasks by ID", taskIds.size());
+        // Same cache entries as getTaskById; misses are loaded with one fetch-joined query
+        return cacheMultiGet.getAllInOrder("tasks", taskIds, TaskResponseDTO.class, misses ->
+                taskRepository.findAllWithRelationsByIdIn(misses).stream()
+                        .collect(Collectors.toMap(Task::getId, taskMapper::toResponseDTO)));
+    }
+
+    @Override
+    @TimedOperation(Operation.TASK_LIST)
     @Cacheable(value = "tasks", key = "'all_paginated_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getAllTasks(Pageable pageable) {
         log.debug("Fetching all tasks with pagination - page: {}, size: {}",
                 pageable.getPageNumber(), pageable.getPageSize());
@@ -127,17 +164,31 @@ public class TaskServiceImpl implements TaskService {
         return taskPage.map(taskMapper::toResponseDTO);
     }
 
+    @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllTasks(Pageable pageable, List<String> fields) {
+        log.debug("Fetching tasks with fields {} - page: {}, size: {}",
+                fields, pageable.getPageNumber(), pageable.getPageSize());
+        return sparseFieldsetQuery.tasks(fields, pageable);
+    }
+
     @Override
     @Transactional
-    @CachePut(value = "tasks", key = "#taskId")
-    public TaskResponseDTO updateTask(UUID taskId, UpdateTaskRequestDTO updateTaskRequest) {
-        long startTime = System.currentTimeMillis();
-        try {
+    @Caching(
+            put = @CachePut(value = "tasks", key = "#taskId"),
+            evict = @CacheEvict(value = {"taskStats", "taskSummaries"}, allEntries = true)
+    )
+    @TimedOperation(Operation.TASK_UPDATE)
+    public TaskResponseDTO updateTask(UUID taskId, UpdateTaskRequestDTO updateTaskRequest, Long expectedVersion) {
         log.info("Updating task with ID: {}", taskId);
 
         // Fetch existing task
         Task existingTask = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
+        if (expectedVersion != null && !expectedVersion.equals(existingTask.getVersion())) {
+            throw new PreconditionFailedException("Task", taskId, expectedVersion, existingTask.getVersion());
+        }
 
         // Validate project exists
         Project project = projectRepository.findById(updateTaskRequest.getProjectId())
@@ -148,11 +199,15 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Developer", updateTaskRequest.getDeveloperId()));
 
         // Validate due date is not in the past (unless task is already completed)
-        if (updateTaskRequest.getDueDate().isBefore(LocalDate.now()) &&
+        if (updateTaskRequest.getDueDate().isBefore(deadlineEngine.today()) &&
                 !updateTaskRequest.getStatus().equals(ETaskStatus.COMPLETED)) {
             throw new ValidationException("dueDate", "Due date cannot be in the past for non-completed tasks");
         }
 
+        UUID previousProjectId = existingTask.getProject().getId();
+        UUID previousDeveloperId = developerId(existingTask);
+        boolean previouslyOpen = isOpen(existingTask);
+
         // Update task fields
         existingTask.setTitle(updateTaskRequest.getTitle());
         existingTask.setDescription(updateTaskRequest.getDescription());
@@ -160,28 +215,36 @@ public class TaskServiceImpl implements TaskService {
         existingTask.setDueDate(updateTaskRequest.getDueDate());
         existingTask.setProject(project);
         existingTask.setDeveloper(developer);
+        // Validation above only lets completed tasks keep a past due date, so the task is no longer overdue
+        existingTask.setOverdue(false);
 
-        // Save updated task
-        Task updatedTask = taskRepository.save(existingTask);
+        // Flushed so the returned version, and with it the ETag, already reflects this update
+        Task updatedTask = taskRepository.saveAndFlush(existingTask);
         log.info("Successfully updated task with ID: {}", updatedTask.getId());
 
+        deadlineEngine.track(DeadlineEngine.TASK, updatedTask.getId(), updatedTask.getDueDate(),
+                updatedTask.getStatus() == ETaskStatus.COMPLETED);
+        developerLoadModel.onTaskChanged(previousDeveloperId, previouslyOpen, developerId(updatedTask), isOpen(updatedTask));
+        leaderboardService.taskMoved(previousProjectId, previousDeveloperId, project.getId(), developerId(updatedTask));
+        changeSequenceService.changed(ChangeSequenceService.TASK, updatedTask.getId());
+        changeSequenceService.affected(ChangeSequenceService.PROJECT, previousProjectId, project.getId());
+        changeSequenceService.affected(ChangeSequenceService.DEVELOPER, previousDeveloperId, developerId(updatedTask));
+        changeStreamService.publish(EntityChangeEvent.task(EChangeType.UPDATED, updatedTask.getId(),
+                previousProjectId, project.getId(), previousDeveloperId, developerId(updatedTask)));
+
         // Log audit
         auditService.logAction(EActionType.UPDATE, "Task", updatedTask.getId(), "SYSTEM", updatedTask);
 
-        metricsService.incrementTasksUpdated();
+        metricsService.incrementTasksUpdated(project.getStatus());
 
         return taskMapper.toResponseDTO(updatedTask);
-        } finally {
-            metricsService.recordTaskProcessingTime(System.currentTimeMillis() - startTime);
-        }
     }
 
     @Override
+    @TimedOperation(Operation.TASK_DELETE)
     @Transactional
     @CacheEvict(value = {"tasks", "taskStats", "taskSummaries"}, allEntries = true)
     public boolean deleteTask(UUID taskId) {
-        long startTime = System.currentTimeMillis();
-        try {
         log.info("Deleting task with ID: {}", taskId);
 
         Task task = taskRepository.findById(taskId)
@@ -189,6 +252,14 @@ public class TaskServiceImpl implements TaskService {
 
         if(task != null) {
             taskRepository.delete(task);
+            deadlineEngine.untrack(DeadlineEngine.TASK, taskId);
+            developerLoadModel.onTaskChanged(developerId(task), isOpen(task), null, false);
+            leaderboardService.taskMoved(task.getProject().getId(), developerId(task), null, null);
+            changeSequenceService.deleted(ChangeSequenceService.TASK, taskId);
+            changeSequenceService.affected(ChangeSequenceService.PROJECT, task.getProject().getId());
+            changeSequenceService.affected(ChangeSequenceService.DEVELOPER, developerId(task));
+            changeStreamService.publish(EntityChangeEvent.task(EChangeType.DELETED, taskId,
+                    null, task.getProject().getId(), null, developerId(task)));
             log.info("Successfully deleted task with ID: {}", taskId);
             metricsService.incrementTasksDeleted();
             // Log audit
@@ -198,14 +269,13 @@ public class TaskServiceImpl implements TaskService {
         }
 
         return false;
-        } finally {
-            metricsService.recordTaskProcessingTime(System.currentTimeMillis() - startTime);
-        }
     }
 
     // ===== BUSINESS OPERATIONS =====
 
     @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getTasksByProjectId(UUID projectId, Pageable pageable) {
         log.debug("Fetching tasks for project ID: {} with pagination", projectId);
 
@@ -215,6 +285,8 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getTasksByDeveloperId(UUID developerId, Pageable pageable) {
         log.debug("Fetching tasks for developer ID: {} with pagination", developerId);
 
@@ -224,6 +296,8 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getTasksByStatus(ETaskStatus status, Pageable pageable) {
         log.debug("Fetching tasks with status: {} with pagination", status);
 
@@ -232,14 +306,18 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getOverdueTasks(Pageable pageable) {
         log.debug("Fetching overdue tasks with pagination");
 
-        Page<Task> taskPage = taskRepository.findByDueDateBefore(LocalDate.now(), pageable);
+        Page<Task> taskPage = taskRepository.findByOverdueTrue(pageable);
         return taskPage.map(taskMapper::toResponseDTO);
     }
 
     @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getUnassignedTasks(Pageable pageable) {
         log.debug("Fetching unassigned tasks with pagination");
 
@@ -256,11 +334,10 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_ASSIGN)
     @Transactional
     @CacheEvict(value = {"tasks", "taskStats", "taskSummaries"}, allEntries = true)
     public TaskResponseDTO assignTaskToDeveloper(UUID taskId, UUID developerId) {
-        long startTime = System.currentTimeMillis();
-        try {
         log.info("Assigning task {} to developer {}", taskId, developerId);
 
         Task task = taskRepository.findById(taskId)
@@ -269,50 +346,130 @@ public class TaskServiceImpl implements TaskService {
         Developer developer = developerRepository.findById(developerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Developer", developerId));
 
+        developerLoadModel.onTaskChanged(developerId(task), isOpen(task), developerId, isOpen(task));
+        leaderboardService.taskMoved(task.getProject().getId(), developerId(task), task.getProject().getId(), developerId);
+        changeSequenceService.changed(ChangeSequenceService.TASK, taskId);
+        changeSequenceService.affected(ChangeSequenceService.DEVELOPER, developerId(task), developerId);
+        changeStreamService.publish(EntityChangeEvent.task(EChangeType.ASSIGNED, taskId,
+                null, task.getProject().getId(), developerId(task), developerId));
         task.setDeveloper(developer);
         Task updatedTask = taskRepository.save(task);
 
         log.info("Successfully assigned task {} to developer {}", taskId, developerId);
 
         // Log audit
-        auditService.logAction(EActionType.UPDATE, "Task", taskId, "SYSTEM",
-                Map.of("action", "assigned", "developerId", developerId));
+        auditService.logAction(EActionType.UPDATE, "Task", taskId, "SYSTEM", updatedTask, "assigned");
 
         metricsService.incrementTasksAssigned();
         return taskMapper.toResponseDTO(updatedTask);
-        } finally {
-            metricsService.recordTaskProcessingTime(System.currentTimeMillis() - startTime);
-        }
     }
 
     @Override
+    @TimedOperation(Operation.TASK_UNASSIGN)
     @Transactional
     @CacheEvict(value = {"tasks", "taskStats", "taskSummaries"}, allEntries = true)
     public TaskResponseDTO unassignTask(UUID taskId) {
-        long startTime = System.currentTimeMillis();
-        try {
         log.info("Unassigning task {}", taskId);
 
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
 
+        developerLoadModel.onTaskChanged(developerId(task), isOpen(task), null, false);
+        leaderboardService.taskMoved(task.getProject().getId(), developerId(task), task.getProject().getId(), null);
+        changeSequenceService.changed(ChangeSequenceService.TASK, taskId);
+        changeSequenceService.affected(ChangeSequenceService.DEVELOPER, developerId(task));
+        changeStreamService.publish(EntityChangeEvent.task(EChangeType.UNASSIGNED, taskId,
+                null, task.getProject().getId(), developerId(task), null));
         task.setDeveloper(null);
         Task updatedTask = taskRepository.save(task);
 
         log.info("Successfully unassigned task {}", taskId);
 
         // Log audit
-        auditService.logAction(EActionType.UPDATE, "Task", taskId, "SYSTEM",
-                Map.of("action", "unassigned"));
+        auditService.logAction(EActionType.UPDATE, "Task", taskId, "SYSTEM", updatedTask, "unassigned");
 
         metricsService.incrementTasksUnassigned();
         return taskMapper.toResponseDTO(updatedTask);
-        } finally {
-            metricsService.recordTaskProcessingTime(System.currentTimeMillis() - startTime);
+    }
+
+    @Override
+    @TimedOperation(Operation.TASK_AUTO_ASSIGN)
+    @Transactional
+    @CacheEvict(value = {"tasks", "taskStats", "taskSummaries"}, allEntries = true)
+    public TaskResponseDTO autoAssignTask(UUID taskId, String skill) {
+        log.info("Auto-assigning task {} (skill: {})", taskId, skill);
+
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", taskId));
+
+        if (task.getDeveloper() != null) {
+            throw new BusinessRuleViolationException("Task " + taskId + " is already assigned");
         }
+        if (task.getStatus() == ETaskStatus.COMPLETED) {
+            throw new BusinessRuleViolationException("Completed tasks cannot be auto-assigned");
+        }
+
+        return taskMapper.toResponseDTO(autoAssign(List.of(task), skill).get(0));
     }
 
     @Override
+    @TimedOperation(Operation.TASK_AUTO_ASSIGN)
+    @Transactional
+    @CacheEvict(value = {"tasks", "taskStats", "taskSummaries"}, allEntries = true)
+    public List<TaskResponseDTO> autoAssignTasks(AutoAssignTasksRequestDTO request) {
+        List<Task> candidates;
+        if (request.getTaskIds() == null || request.getTaskIds().isEmpty()) {
+            int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_AUTO_ASSIGN_LIMIT;
+            candidates = taskRepository.findOpenUnassignedTasks(PageRequest.of(0, limit));
+        } else {
+            // Already assigned or completed tasks are skipped rather than failing the whole batch
+            candidates = taskRepository.findAllById(request.getTaskIds()).stream()
+                    .filter(task -> task.getDeveloper() == null && isOpen(task))
+                    .collect(Collectors.toList());
+        }
+        log.info("Auto-assigning {} tasks (skill: {})", candidates.size(), request.getSkill());
+
+        return autoAssign(candidates, request.getSkill()).stream()
+                .map(taskMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @TimedOperation(Operation.TASK_CLAIM)
+    @Transactional
+    @CacheEvict(value = {"tasks", "taskStats", "taskSummaries"}, allEntries = true)
+    public List<TaskResponseDTO> claimTasks(String username, ClaimTasksRequestDTO request) {
+        Developer developer = developerRepository.findByUserUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Developer", "username", username));
+        int count = request.getCount() != null ? request.getCount() : 1;
+
+        // Rows locked by concurrent claimers are skipped, so each caller gets a disjoint set without waiting
+        PageRequest limit = PageRequest.of(0, count);
+        List<Task> claimed = request.getProjectId() == null
+                ? taskRepository.lockClaimableTasks(request.getStatus(), limit)
+                : taskRepository.lockClaimableTasksInProject(request.getProjectId(), request.getStatus(), limit);
+        for (Task task : claimed) {
+            task.setDeveloper(developer);
+            developerLoadModel.onTaskChanged(null, false, developer.getId(), true);
+            leaderboardService.taskMoved(task.getProject().getId(), null, task.getProject().getId(), developer.getId());
+            changeSequenceService.changed(ChangeSequenceService.TASK, task.getId());
+            changeSequenceService.affected(ChangeSequenceService.DEVELOPER, developer.getId());
+            changeStreamService.publish(EntityChangeEvent.task(EChangeType.ASSIGNED, task.getId(),
+                    null, task.getProject().getId(), null, developer.getId()));
+
+            auditService.logAction(EActionType.UPDATE, "Task", task.getId(), username, task, "claimed");
+            metricsService.incrementTasksAssigned();
+        }
+        log.info("Developer {} claimed {} of {} requested tasks", developer.getId(), claimed.size(), count);
+
+        return taskRepository.saveAll(claimed).stream()
+                .map(taskMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @TimedOperation(Operation.TASK_SEARCH)
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> searchTasksByTitle(String title, Pageable pageable) {
         log.debug("Searching tasks by title: {}", title);
 
@@ -321,6 +478,8 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_SEARCH)
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> searchTasksByDescription(String description, Pageable pageable) {
         log.debug("Searching tasks by description: {}", description);
 
@@ -329,6 +488,8 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getTasksByDueDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable) {
         log.debug("Fetching tasks by due date range: {} to {} with pagination", startDate, endDate);
 
@@ -338,52 +499,102 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public List<TaskResponseDTO> getTasksDueToday() {
-        log.debug("Fetching tasks due today");
-
-        List<Task> tasks = taskRepository.findTasksDueToday();
-        return tasks.stream()
-                .map(taskMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskResponseDTO> getTasksDueToday(UUID after, Integer limit) {
+        log.debug("Fetching tasks due today after cursor: {}", after);
+
+        int pageLimit = CursorPageDTO.effectiveLimit(limit);
+        List<Task> tasks = taskRepository.findTasksDueToday(
+                deadlineEngine.today(), CursorPageDTO.startAfter(after), CursorPageDTO.probe(pageLimit));
+        return CursorPageDTO.of(tasks, pageLimit, Task::getId, taskMapper::toResponseDTO);
     }
 
     @Override
-    public List<TaskResponseDTO> getTasksDueThisWeek() {
-        log.debug("Fetching tasks due this week");
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskResponseDTO> getTasksDueThisWeek(UUID after, Integer limit) {
+        log.debug("Fetching tasks due this week after cursor: {}", after);
 
-        LocalDate now = LocalDate.now();
+        LocalDate now = deadlineEngine.today();
         LocalDate nextWeek = now.plusDays(7);
 
-        List<Task> tasks = taskRepository.findTasksDueThisWeek(now, nextWeek);
-        return tasks.stream()
-                .map(taskMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        int pageLimit = CursorPageDTO.effectiveLimit(limit);
+        List<Task> tasks = taskRepository.findTasksDueThisWeek(
+                now, nextWeek, CursorPageDTO.startAfter(after), CursorPageDTO.probe(pageLimit));
+        return CursorPageDTO.of(tasks, pageLimit, Task::getId, taskMapper::toResponseDTO);
     }
 
     @Override
-    public List<TaskResponseDTO> getRecentlyCreatedTasks(LocalDateTime sinceDate) {
-        log.debug("Fetching recently created tasks since: {}", sinceDate);
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskResponseDTO> getRecentlyCreatedTasks(LocalDateTime sinceDate, UUID after, Integer limit) {
+        log.debug("Fetching recently created tasks since: {} after cursor: {}", sinceDate, after);
+
+        int pageLimit = CursorPageDTO.effectiveLimit(limit);
+        List<Task> tasks = taskRepository.findRecentlyCreatedTasks(
+                sinceDate, CursorPageDTO.startAfter(after), CursorPageDTO.probe(pageLimit));
+        return CursorPageDTO.of(tasks, pageLimit, Task::getId, taskMapper::toResponseDTO);
+    }
 
-        List<Task> tasks = taskRepository.findRecentlyCreatedTasks(sinceDate);
-        return tasks.stream()
-                .map(taskMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskResponseDTO> getRecentlyUpdatedTasks(LocalDateTime sinceDate, UUID after, Integer limit) {
+        log.debug("Fetching recently updated tasks since: {} after cursor: {}", sinceDate, after);
+
+        int pageLimit = CursorPageDTO.effectiveLimit(limit);
+        List<Task> tasks = taskRepository.findRecentlyUpdatedTasks(
+                sinceDate, CursorPageDTO.startAfter(after), CursorPageDTO.probe(pageLimit));
+        return CursorPageDTO.of(tasks, pageLimit, Task::getId, taskMapper::toResponseDTO);
     }
 
+    // ===== STREAMING OPERATIONS =====
+
     @Override
-    public List<TaskResponseDTO> getRecentlyUpdatedTasks(LocalDateTime sinceDate) {
-        log.debug("Fetching recently updated tasks since: {}", sinceDate);
+    @TimedOperation(Operation.TASK_STREAM)
+    @Transactional(readOnly = true)
+    public long streamTasksDueToday(Consumer<TaskResponseDTO> sink) {
+        log.debug("Streaming tasks due today");
+        return cursorStreams.drain(taskRepository.streamTasksDueToday(deadlineEngine.today()),
+                taskMapper::toResponseDTO, sink);
+    }
 
-        List<Task> tasks = taskRepository.findRecentlyUpdatedTasks(sinceDate);
-        return tasks.stream()
-                .map(taskMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    @Override
+    @TimedOperation(Operation.TASK_STREAM)
+    @Transactional(readOnly = true)
+    public long streamTasksDueThisWeek(Consumer<TaskResponseDTO> sink) {
+        log.debug("Streaming tasks due this week");
+
+        LocalDate now = deadlineEngine.today();
+        return cursorStreams.drain(taskRepository.streamTasksDueThisWeek(now, now.plusDays(7)),
+                taskMapper::toResponseDTO, sink);
+    }
+
+    @Override
+    @TimedOperation(Operation.TASK_STREAM)
+    @Transactional(readOnly = true)
+    public long streamRecentlyCreatedTasks(LocalDateTime sinceDate, Consumer<TaskResponseDTO> sink) {
+        log.debug("Streaming recently created tasks since: {}", sinceDate);
+        return cursorStreams.drain(taskRepository.streamRecentlyCreatedTasks(sinceDate),
+                taskMapper::toResponseDTO, sink);
+    }
+
+    @Override
+    @TimedOperation(Operation.TASK_STREAM)
+    @Transactional(readOnly = true)
+    public long streamRecentlyUpdatedTasks(LocalDateTime sinceDate, Consumer<TaskResponseDTO> sink) {
+        log.debug("Streaming recently updated tasks since: {}", sinceDate);
+        return cursorStreams.drain(taskRepository.streamRecentlyUpdatedTasks(sinceDate),
+                taskMapper::toResponseDTO, sink);
     }
 
     // ===== STATISTICS AND ANALYTICS =====
 
     @Override
+    @TimedOperation(Operation.TASK_STATUS_COUNTS)
     @Cacheable(value = "taskStats", key = "'statusCounts'")
+    @Transactional(readOnly = true)
     public Map<ETaskStatus, Long> getTaskCountsByStatus() {
         log.debug("Fetching task counts by status");
 
@@ -400,15 +611,14 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_STATISTICS)
     @Cacheable(value = "taskStats", key = "'general'")
+    @Transactional(readOnly = true)
     public TaskStatsDTO getTaskStatistics() {
-        long startTime = System.currentTimeMillis();
-        try {
-
         log.debug("Fetching general task statistics");
 
         long totalTasks = taskRepository.count();
-        long overdueTasks = taskRepository.findOverdueTasks().size();
+        long overdueTasks = taskRepository.countByOverdueTrue();
         long unassignedTasks = taskRepository.findUnassignedTasks().size();
 
         Map<String, Long> tasksByStatus = getTaskCountsByStatus().entrySet().stream()
@@ -425,13 +635,12 @@ public class TaskServiceImpl implements TaskService {
                 .overdueTasks(overdueTasks)
                 .unassignedTasks(unassignedTasks)
                 .build();
-
-        } finally {
-            metricsService.recordTaskProcessingTime(System.currentTimeMillis() - startTime);
-        }
     }
 
     @Override
+    @TimedOperation(Operation.TASK_PROJECT_STATISTICS)
+    @Cacheable(value = "taskStats", key = "'project_' + #projectId")
+    @Transactional(readOnly = true)
     public TaskStatsDTO getTaskStatisticsByProject(UUID projectId) {
         log.debug("Fetching task statistics for project: {}", projectId);
 
@@ -441,6 +650,9 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_DEVELOPER_STATISTICS)
+    @Cacheable(value = "taskStats", key = "'developer_' + #developerId")
+    @Transactional(readOnly = true)
     public TaskStatsDTO getTaskStatisticsByDeveloper(UUID developerId) {
         log.debug("Fetching task statistics for developer: {}", developerId);
 
@@ -450,6 +662,28 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_PROJECT_STATISTICS)
+    @Transactional(readOnly = true)
+    public Map<UUID, TaskStatsDTO> getTaskStatisticsByProjects(List<UUID> projectIds) {
+        log.debug("Fetching task statistics for {} projects", projectIds.size());
+        // Same cache entries as getTaskStatisticsByProject; misses are computed with one grouped query
+        return cacheMultiGet.getAllById("taskStats", projectIds, id -> "project_" + id, TaskStatsDTO.class,
+                misses -> groupedStatistics(projectRepository.findExistingIds(misses),
+                        taskRepository.getTaskStatisticsByProjectIds(misses)));
+    }
+
+    @Override
+    @TimedOperation(Operation.TASK_DEVELOPER_STATISTICS)
+    @Transactional(readOnly = true)
+    public Map<UUID, TaskStatsDTO> getTaskStatisticsByDevelopers(List<UUID> developerIds) {
+        log.debug("Fetching task statistics for {} developers", developerIds.size());
+        return cacheMultiGet.getAllById("taskStats", developerIds, id -> "developer_" + id, TaskStatsDTO.class,
+                misses -> groupedStatistics(developerRepository.findExistingIds(misses),
+                        taskRepository.getTaskStatisticsByDeveloperIds(misses)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Long getTaskCountByProject(UUID projectId) {
         log.debug("Fetching task count for project: {}", projectId);
 
@@ -458,6 +692,7 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Long getTaskCountByDeveloper(UUID developerId) {
         log.debug("Fetching task count for developer: {}", developerId);
 
@@ -468,6 +703,8 @@ public class TaskServiceImpl implements TaskService {
     // ===== SUMMARY OPERATIONS =====
 
     @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
     public Page<TaskSummaryDTO> getTaskSummariesByProject(UUID projectId, Pageable pageable) {
         log.debug("Fetching task summaries for project: {}", projectId);
 
@@ -477,6 +714,8 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
     public Page<TaskSummaryDTO> getTaskSummariesByDeveloper(UUID developerId, Pageable pageable) {
         log.debug("Fetching task summaries for developer: {}", developerId);
 
@@ -486,6 +725,8 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @TimedOperation(Operation.TASK_LIST)
+    @Transactional(readOnly = true)
     public Page<TaskSummaryDTO> getTaskSummariesByStatus(ETaskStatus status, Pageable pageable) {
         log.debug("Fetching task summaries for status: {}", status);
 
@@ -495,6 +736,50 @@ public class TaskServiceImpl implements TaskService {
 
     // ===== HELPER METHODS =====
 
+    private List<Task> autoAssign(List<Task> tasks, String skill) {
+        Map<UUID, Developer> developers = new HashMap<>();
+        for (Task task : tasks) {
+            UUID developerId = developerLoadModel.reserve(skill)
+                    .orElseThrow(() -> new BusinessRuleViolationException(skill == null || skill.isBlank()
+                            ? "No developers available for assignment"
+                            : "No developers available with skill: " + skill));
+            task.setDeveloper(developers.computeIfAbsent(developerId, developerRepository::getReferenceById));
+            leaderboardService.taskMoved(task.getProject().getId(), null, task.getProject().getId(), developerId);
+            changeSequenceService.changed(ChangeSequenceService.TASK, task.getId());
+            changeSequenceService.affected(ChangeSequenceService.DEVELOPER, developerId);
+            changeStreamService.publish(EntityChangeEvent.task(EChangeType.ASSIGNED, task.getId(),
+                    null, task.getProject().getId(), null, developerId));
+
+            auditService.logAction(EActionType.UPDATE, "Task", task.getId(), "SYSTEM", task, "auto-assigned");
+            metricsService.incrementTasksAssigned();
+        }
+        return taskRepository.saveAll(tasks);
+    }
+
+    private static UUID developerId(Task task) {
+        return task.getDeveloper() != null ? task.getDeveloper().getId() : null;
+    }
+
+    private static boolean isOpen(Task task) {
+        return task.getStatus() != ETaskStatus.COMPLETED;
+    }
+
+
+    // Rows are [ownerId, total, completed, pending, inProgress, blocked]; owners without tasks get empty statistics
+    private Map<UUID, TaskStatsDTO> groupedStatistics(List<UUID> existingIds, List<Object[]> rows) {
+        Map<UUID, Object[]> rowsById = new HashMap<>();
+        for (Object[] row : rows) {
+            rowsById.put((UUID) row[0], Arrays.copyOfRange(row, 1, row.length));
+        }
+        // An owner without tasks gets the row the single-owner query returns, a zero count and NULL sums, so both
+        // paths report the same four statuses at zero
+        Object[] noTasks = new Object[5];
+        Map<UUID, TaskStatsDTO> stats = new HashMap<>();
+        for (UUID id : existingIds) {
+            stats.put(id, taskMapper.toStatsDTO(List.<Object[]>of(rowsById.getOrDefault(id, noTasks))));
+        }
+        return stats;
+    }
 
     private void validateProjectExists(UUID projectId) {
         if (!projectRepository.existsById(projectId)) {
@@ -0,0 +1,20 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.service.impl.MetricsService.Operation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Times a service method into app.operation.duration under the given operation.
+ * The timing happens at the bean's proxy boundary, so cache hits are recorded and a failed commit counts as an error.
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface TimedOperation {
+
+    Operation value();
+}
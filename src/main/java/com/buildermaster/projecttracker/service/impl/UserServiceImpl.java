@@ -1,5 +1,6 @@
 package com.buildermaster.projecttracker.service.impl;
 
+import com.buildermaster.projecttracker.dto.response.CursorPageDTO;
 import com.buildermaster.projecttracker.dto.response.UserResponseDTO;
 import com.buildermaster.projecttracker.dto.response.UserSummaryDTO;
 import com.buildermaster.projecttracker.mapper.UserMapper;
@@ -13,6 +14,7 @@ import com.buildermaster.projecttracker.repository.UserRepository;
 import com.buildermaster.projecttracker.service.AuditService;
 import com.buildermaster.projecttracker.service.UserService;
 import com.buildermaster.projecttracker.security.oauth2.OAuth2UserInfo;
+import com.buildermaster.projecttracker.util.CursorStreams;
 import com.buildermaster.projecttracker.util.JwtUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -21,10 +23,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -36,6 +39,7 @@ public class UserServiceImpl implements UserService {
     private final AuditService auditService;
     private final JwtUtil jwtUtil;
     private final UserMapper  userMapper;
+    private final CursorStreams cursorStreams;
 
     private static final String ENTITY_TYPE = "User";
 
@@ -62,12 +66,22 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<UserResponseDTO> getAllUsers() {
-        log.info("Getting all users");
-        return userRepository.findAllUserDetails()
-                .stream()
-                .map(userMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageDTO<UserResponseDTO> getAllUsers(UUID after, Integer limit) {
+        log.info("Getting users after cursor: {}", after);
+
+        int pageLimit = CursorPageDTO.effectiveLimit(limit);
+        List<User> users = userRepository.findAllUserDetails(
+                CursorPageDTO.startAfter(after), CursorPageDTO.probe(pageLimit));
+        return CursorPageDTO.of(users, pageLimit, User::getId, userMapper::toResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAllUsers(Consumer<UserResponseDTO> sink) {
+        log.info("Streaming all users");
+        return cursorStreams.drain(userRepository.streamAllUserDetails(),
+                userMapper::toResponseDTO, sink);
     }
 
     /**
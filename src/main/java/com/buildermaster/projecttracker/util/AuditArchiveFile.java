@@ -0,0 +1,631 @@
+package com.buildermaster.projecttracker.util;
+
+import com.buildermaster.projecttracker.model.EActionType;
+import com.buildermaster.projecttracker.model.audit.AuditLog;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compressed columnar file format for archived audit logs.
+ * Rows are stored in row groups; within a group each column is encoded separately (delta-encoded timestamps,
+ * dictionary-encoded entity types and actors, one byte per action type) and deflated on its own. The footer keeps
+ * per-group statistics so scans skip groups that cannot match, and only the columns a predicate needs are read
+ * and inflated before the remaining columns are decoded for the matching rows.
+ * Files are written once, sorted by timestamp, and never modified.
+ */
+public final class AuditArchiveFile {
+
+    private static final int MAGIC = 0x50544131; // "PTA1"
+
+    // Beyond this many distinct values a group keeps no set statistics and is never pruned on that column
+    private static final int MAX_STATS_VALUES = 64;
+
+    private static final int TIMESTAMP = 0;
+    private static final int ACTION_TYPE = 1;
+    private static final int ENTITY_TYPE = 2;
+    private static final int ENTITY_ID = 3;
+    private static final int ACTOR = 4;
+    private static final int EXPIRE_AT = 5;
+    private static final int ID = 6;
+    private static final int PAYLOAD = 7;
+    private static final int COLUMN_COUNT = 8;
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private AuditArchiveFile() {
+    }
+
+    /**
+     * Row filter pushed down into the scan; null fields match everything and time bounds are inclusive.
+     */
+    public record Predicate(LocalDateTime from, LocalDateTime to, EActionType actionType,
+                            String entityType, UUID entityId, String actorName) {
+
+        public static Predicate all() {
+            return new Predicate(null, null, null, null, null, null);
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(AuditLog auditLog) throws IOException;
+    }
+
+    // ===== WRITING =====
+
+    public static Writer create(Path file, ObjectMapper objectMapper, int rowGroupSize) throws IOException {
+        return new Writer(Files.newOutputStream(file), objectMapper, rowGroupSize);
+    }
+
+    /**
+     * Appends audit logs, which must arrive in ascending timestamp order, and writes the footer on close.
+     */
+    public static final class Writer implements Closeable {
+
+        private final OutputStream out;
+        private final ObjectMapper objectMapper;
+        private final int rowGroupSize;
+        private final List<AuditLog> buffer = new ArrayList<>();
+        private final List<GroupMeta> groups = new ArrayList<>();
+        private long position;
+        private long rowCount;
+
+        private Writer(OutputStream out, ObjectMapper objectMapper, int rowGroupSize) throws IOException {
+            this.out = out;
+            this.objectMapper = objectMapper;
+            this.rowGroupSize = rowGroupSize;
+            writeBlock(ByteBuffer.allocate(Integer.BYTES).putInt(MAGIC).array());
+        }
+
+        public void write(AuditLog auditLog) throws IOException {
+            buffer.add(auditLog);
+            rowCount++;
+            if (buffer.size() == rowGroupSize) {
+                flushGroup();
+            }
+        }
+
+        public long rowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flushGroup();
+                long footerOffset = position;
+                ByteArrayOutputStream footer = new ByteArrayOutputStream();
+                DataOutputStream data = new DataOutputStream(footer);
+                data.writeInt(groups.size());
+                for (GroupMeta group : groups) {
+                    group.writeTo(data);
+                }
+                data.writeLong(footerOffset);
+                data.writeInt(MAGIC);
+                writeBlock(footer.toByteArray());
+            } finally {
+                out.close();
+            }
+        }
+
+        private void flushGroup() throws IOException {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            int rows = buffer.size();
+            long[] columnOffsets = new long[COLUMN_COUNT];
+            int[] columnLengths = new int[COLUMN_COUNT];
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                byte[] block = deflate(encodeColumn(column));
+                columnOffsets[column] = position;
+                columnLengths[column] = block.length;
+                writeBlock(block);
+            }
+
+            long actionMask = 0;
+            long maxExpireAt = 0;
+            Set<String> entityTypes = new LinkedHashSet<>();
+            Set<String> actors = new LinkedHashSet<>();
+            for (AuditLog auditLog : buffer) {
+                actionMask |= auditLog.getActionType() != null ? 1L << auditLog.getActionType().ordinal() : 0;
+                maxExpireAt = Math.max(maxExpireAt, toMillis(auditLog.getExpireAt()));
+                entityTypes.add(Objects.toString(auditLog.getEntityType(), ""));
+                actors.add(Objects.toString(auditLog.getActorName(), ""));
+            }
+            groups.add(new GroupMeta(rows,
+                    toMillis(buffer.get(0).getTimestamp()), toMillis(buffer.get(rows - 1).getTimestamp()),
+                    actionMask, maxExpireAt,
+                    entityTypes.size() <= MAX_STATS_VALUES ? entityTypes : null,
+                    actors.size() <= MAX_STATS_VALUES ? actors : null,
+                    columnOffsets, columnLengths));
+            buffer.clear();
+        }
+
+        private byte[] encodeColumn(int column) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(bytes);
+            switch (column) {
+                case TIMESTAMP -> {
+                    long previous = 0;
+                    for (AuditLog auditLog : buffer) {
+                        long millis = toMillis(auditLog.getTimestamp());
+                        writeVarLong(data, millis - previous);
+                        previous = millis;
+                    }
+                }
+                case ACTION_TYPE -> {
+                    for (AuditLog auditLog : buffer) {
+                        data.writeByte(auditLog.getActionType() != null ? auditLog.getActionType().ordinal() : -1);
+                    }
+                }
+                case ENTITY_TYPE -> writeDictionary(data, buffer.stream().map(AuditLog::getEntityType).toList());
+                case ACTOR -> writeDictionary(data, buffer.stream().map(AuditLog::getActorName).toList());
+                case ENTITY_ID -> {
+                    for (AuditLog auditLog : buffer) {
+                        UUID entityId = auditLog.getEntityId();
+                        data.writeBoolean(entityId != null);
+                        if (entityId != null) {
+                            data.writeLong(entityId.getMostSignificantBits());
+                            data.writeLong(entityId.getLeastSignificantBits());
+                        }
+                    }
+                }
+                case EXPIRE_AT -> {
+                    for (AuditLog auditLog : buffer) {
+                        writeVarLong(data, toMillis(auditLog.getExpireAt()));
+                    }
+                }
+                case ID -> {
+                    for (AuditLog auditLog : buffer) {
+                        data.writeUTF(Objects.toString(auditLog.getId(), ""));
+                    }
+                }
+                case PAYLOAD -> {
+                    for (AuditLog auditLog : buffer) {
+                        byte[] json = auditLog.getPayload() != null
+                                ? objectMapper.writeValueAsBytes(auditLog.getPayload())
+                                : new byte[0];
+                        writeVarLong(data, json.length);
+                        data.write(json);
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown column " + column);
+            }
+            data.flush();
+            return bytes.toByteArray();
+        }
+
+        private void writeBlock(byte[] block) throws IOException {
+            out.write(block);
+            position += block.length;
+        }
+    }
+
+    // ===== READING =====
+
+    public static Reader open(Path file, ObjectMapper objectMapper) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new Reader(channel, objectMapper);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static final class Reader implements Closeable {
+
+        private final FileChannel channel;
+        private final ObjectMapper objectMapper;
+        private final List<GroupMeta> groups = new ArrayList<>();
+        private final long nowMillis = toMillis(LocalDateTime.now());
+
+        private Reader(FileChannel channel, ObjectMapper objectMapper) throws IOException {
+            this.channel = channel;
+            this.objectMapper = objectMapper;
+
+            long size = channel.size();
+            ByteBuffer trailer = read(size - Long.BYTES - Integer.BYTES, Long.BYTES + Integer.BYTES);
+            long footerOffset = trailer.getLong();
+            if (trailer.getInt() != MAGIC || read(0, Integer.BYTES).getInt() != MAGIC) {
+                throw new IOException("Not an audit archive file");
+            }
+            ByteBuffer footer = read(footerOffset, (int) (size - footerOffset));
+            DataInputStream data = new DataInputStream(
+                    new ByteArrayInputStream(footer.array(), footer.arrayOffset(), footer.remaining()));
+            int groupCount = data.readInt();
+            for (int i = 0; i < groupCount; i++) {
+                groups.add(GroupMeta.readFrom(data));
+            }
+        }
+
+        public long rowCount() {
+            return groups.stream().mapToLong(GroupMeta::rowCount).sum();
+        }
+
+        /**
+         * Whether every row with an expiry has already expired, so counts over this file can no longer change.
+         */
+        public boolean countsFinal() {
+            return groups.stream().allMatch(group -> group.maxExpireAt() <= nowMillis);
+        }
+
+        /**
+         * Counts matching rows, decoding only the columns the predicate needs.
+         */
+        public long count(Predicate predicate) throws IOException {
+            long count = 0;
+            for (GroupMeta group : groups) {
+                if (group.canMatch(predicate)) {
+                    count += match(group, predicate).cardinality();
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Returns matching rows newest first, after skipping the given number of matches.
+         */
+        public List<AuditLog> findNewestFirst(Predicate predicate, long skip, int limit) throws IOException {
+            List<AuditLog> found = new ArrayList<>();
+            for (int g = groups.size() - 1; g >= 0 && found.size() < limit; g--) {
+                GroupMeta group = groups.get(g);
+                if (!group.canMatch(predicate)) {
+                    continue;
+                }
+                BitSet rows = match(group, predicate);
+                int matches = rows.cardinality();
+                if (skip >= matches) {
+                    skip -= matches;
+                    continue;
+                }
+                List<Integer> selected = new ArrayList<>();
+                for (int row = rows.previousSetBit(group.rowCount() - 1); row >= 0; row = rows.previousSetBit(row - 1)) {
+                    if (skip > 0) {
+                        skip--;
+                    } else if (selected.size() < limit - found.size()) {
+                        selected.add(row);
+                    }
+                }
+                found.addAll(decodeRows(group, selected));
+            }
+            return found;
+        }
+
+        /**
+         * Streams matching rows in file (ascending timestamp) order and returns how many were passed on.
+         */
+        public long scan(Predicate predicate, RowConsumer consumer) throws IOException {
+            long scanned = 0;
+            for (GroupMeta group : groups) {
+                if (!group.canMatch(predicate)) {
+                    continue;
+                }
+                BitSet rows = match(group, predicate);
+                List<Integer> selected = new ArrayList<>(rows.cardinality());
+                rows.stream().forEach(selected::add);
+                for (AuditLog auditLog : decodeRows(group, selected)) {
+                    consumer.accept(auditLog);
+                    scanned++;
+                }
+            }
+            return scanned;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private BitSet match(GroupMeta group, Predicate predicate) throws IOException {
+            BitSet rows = new BitSet(group.rowCount());
+            rows.set(0, group.rowCount());
+
+            long from = predicate.from() != null ? toMillis(predicate.from()) : Long.MIN_VALUE;
+            long to = predicate.to() != null ? toMillis(predicate.to()) : Long.MAX_VALUE;
+            if (group.minTimestamp() < from || group.maxTimestamp() > to) {
+                long[] timestamps = decodeTimestamps(group);
+                for (int row = 0; row < timestamps.length; row++) {
+                    if (timestamps[row] < from || timestamps[row] > to) {
+                        rows.clear(row);
+                    }
+                }
+            }
+            if (group.maxExpireAt() > 0) {
+                DataInputStream data = column(group, EXPIRE_AT);
+                for (int row = 0; row < group.rowCount(); row++) {
+                    long expireAt = readVarLong(data);
+                    if (expireAt > 0 && expireAt <= nowMillis) {
+                        rows.clear(row);
+                    }
+                }
+            }
+            if (predicate.actionType() != null && Long.bitCount(group.actionMask()) > 1) {
+                DataInputStream data = column(group, ACTION_TYPE);
+                for (int row = 0; row < group.rowCount(); row++) {
+                    if (data.readByte() != predicate.actionType().ordinal()) {
+                        rows.clear(row);
+                    }
+                }
+            }
+            if (predicate.entityType() != null) {
+                filterDictionary(column(group, ENTITY_TYPE), predicate.entityType(), rows, group.rowCount());
+            }
+            if (predicate.actorName() != null) {
+                filterDictionary(column(group, ACTOR), predicate.actorName(), rows, group.rowCount());
+            }
+            if (predicate.entityId() != null && !rows.isEmpty()) {
+                DataInputStream data = column(group, ENTITY_ID);
+                for (int row = 0; row < group.rowCount(); row++) {
+                    UUID entityId = data.readBoolean() ? new UUID(data.readLong(), data.readLong()) : null;
+                    if (!predicate.entityId().equals(entityId)) {
+                        rows.clear(row);
+                    }
+                }
+            }
+            return rows;
+        }
+
+        private List<AuditLog> decodeRows(GroupMeta group, List<Integer> selected) throws IOException {
+            if (selected.isEmpty()) {
+                return List.of();
+            }
+            BitSet wanted = new BitSet(group.rowCount());
+            selected.forEach(wanted::set);
+
+            long[] timestamps = decodeTimestamps(group);
+            Map<Integer, AuditLog> decoded = new HashMap<>();
+            DataInputStream actions = column(group, ACTION_TYPE);
+            List<String> entityTypes = readDictionary(column(group, ENTITY_TYPE), group.rowCount());
+            List<String> actors = readDictionary(column(group, ACTOR), group.rowCount());
+            DataInputStream entityIds = column(group, ENTITY_ID);
+            DataInputStream expiries = column(group, EXPIRE_AT);
+            DataInputStream ids = column(group, ID);
+            DataInputStream payloads = column(group, PAYLOAD);
+            EActionType[] actionTypes = EActionType.values();
+
+            for (int row = 0; row < group.rowCount(); row++) {
+                byte action = actions.readByte();
+                UUID entityId = entityIds.readBoolean() ? new UUID(entityIds.readLong(), entityIds.readLong()) : null;
+                long expireAt = readVarLong(expiries);
+                String id = ids.readUTF();
+                int payloadLength = (int) readVarLong(payloads);
+                if (!wanted.get(row)) {
+                    payloads.skipNBytes(payloadLength);
+                    continue;
+                }
+                Map<String, Object> payload = payloadLength > 0
+                        ? objectMapper.readValue(payloads.readNBytes(payloadLength), PAYLOAD_TYPE)
+                        : null;
+                AuditLog auditLog = new AuditLog(id.isEmpty() ? null : id,
+                        action >= 0 ? actionTypes[action] : null,
+                        entityTypes.get(row), entityId, fromMillis(timestamps[row]), actors.get(row),
+                        payload, expireAt > 0 ? fromMillis(expireAt) : null);
+                decoded.put(row, auditLog);
+            }
+            return selected.stream().map(decoded::get).toList();
+        }
+
+        private long[] decodeTimestamps(GroupMeta group) throws IOException {
+            DataInputStream data = column(group, TIMESTAMP);
+            long[] timestamps = new long[group.rowCount()];
+            long previous = 0;
+            for (int row = 0; row < timestamps.length; row++) {
+                previous += readVarLong(data);
+                timestamps[row] = previous;
+            }
+            return timestamps;
+        }
+
+        private DataInputStream column(GroupMeta group, int column) throws IOException {
+            ByteBuffer block = read(group.columnOffsets()[column], group.columnLengths()[column]);
+            return new DataInputStream(new InflaterInputStream(
+                    new ByteArrayInputStream(block.array(), block.arrayOffset(), block.remaining())));
+        }
+
+        private ByteBuffer read(long offset, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new EOFException("Truncated audit archive file");
+                }
+            }
+            return buffer.flip();
+        }
+    }
+
+    // ===== ENCODING HELPERS =====
+
+    private record GroupMeta(int rowCount, long minTimestamp, long maxTimestamp, long actionMask, long maxExpireAt,
+                             Set<String> entityTypes, Set<String> actors,
+                             long[] columnOffsets, int[] columnLengths) {
+
+        private boolean canMatch(Predicate predicate) {
+            if (predicate.from() != null && maxTimestamp < toMillis(predicate.from())) {
+                return false;
+            }
+            if (predicate.to() != null && minTimestamp > toMillis(predicate.to())) {
+                return false;
+            }
+            if (predicate.actionType() != null && (actionMask & (1L << predicate.actionType().ordinal())) == 0) {
+                return false;
+            }
+            if (predicate.entityType() != null && entityTypes != null && !entityTypes.contains(predicate.entityType())) {
+                return false;
+            }
+            return predicate.actorName() == null || actors == null || actors.contains(predicate.actorName());
+        }
+
+        private void writeTo(DataOutputStream data) throws IOException {
+            data.writeInt(rowCount);
+            data.writeLong(minTimestamp);
+            data.writeLong(maxTimestamp);
+            data.writeLong(actionMask);
+            data.writeLong(maxExpireAt);
+            writeStats(data, entityTypes);
+            writeStats(data, actors);
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                data.writeLong(columnOffsets[column]);
+                data.writeInt(columnLengths[column]);
+            }
+        }
+
+        private static GroupMeta readFrom(DataInputStream data) throws IOException {
+            int rowCount = data.readInt();
+            long minTimestamp = data.readLong();
+            long maxTimestamp = data.readLong();
+            long actionMask = data.readLong();
+            long maxExpireAt = data.readLong();
+            Set<String> entityTypes = readStats(data);
+            Set<String> actors = readStats(data);
+            long[] columnOffsets = new long[COLUMN_COUNT];
+            int[] columnLengths = new int[COLUMN_COUNT];
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                columnOffsets[column] = data.readLong();
+                columnLengths[column] = data.readInt();
+            }
+            return new GroupMeta(rowCount, minTimestamp, maxTimestamp, actionMask, maxExpireAt,
+                    entityTypes, actors, columnOffsets, columnLengths);
+        }
+
+        private static void writeStats(DataOutputStream data, Set<String> values) throws IOException {
+            data.writeInt(values != null ? values.size() : -1);
+            if (values != null) {
+                for (String value : values) {
+                    data.writeUTF(value);
+                }
+            }
+        }
+
+        private static Set<String> readStats(DataInputStream data) throws IOException {
+            int size = data.readInt();
+            if (size < 0) {
+                return null;
+            }
+            Set<String> values = new LinkedHashSet<>();
+            for (int i = 0; i < size; i++) {
+                values.add(data.readUTF());
+            }
+            return Collections.unmodifiableSet(values);
+        }
+    }
+
+    // Dictionary layout: value count, values, then one varint per row (0 = null, otherwise index + 1)
+    private static void writeDictionary(DataOutputStream data, List<String> values) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (String value : values) {
+            if (value != null) {
+                dictionary.putIfAbsent(value, dictionary.size() + 1);
+            }
+        }
+        writeVarLong(data, dictionary.size());
+        for (String value : dictionary.keySet()) {
+            data.writeUTF(value);
+        }
+        for (String value : values) {
+            writeVarLong(data, value != null ? dictionary.get(value) : 0);
+        }
+    }
+
+    private static List<String> readDictionary(DataInputStream data, int rowCount) throws IOException {
+        int size = (int) readVarLong(data);
+        String[] dictionary = new String[size + 1];
+        for (int i = 1; i <= size; i++) {
+            dictionary[i] = data.readUTF();
+        }
+        List<String> values = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            values.add(dictionary[(int) readVarLong(data)]);
+        }
+        return values;
+    }
+
+    private static void filterDictionary(DataInputStream data, String expected, BitSet rows, int rowCount)
+            throws IOException {
+        int size = (int) readVarLong(data);
+        int match = 0;
+        for (int i = 1; i <= size; i++) {
+            if (data.readUTF().equals(expected)) {
+                match = i;
+            }
+        }
+        if (match == 0) {
+            rows.clear();
+            return;
+        }
+        for (int row = 0; row < rowCount; row++) {
+            if (readVarLong(data) != match) {
+                rows.clear(row);
+            }
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(raw.length / 4 + 16);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(bytes)) {
+            deflater.write(raw);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Zigzag varint, so small negative deltas stay short as well
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            data.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        data.writeByte((int) zigzag);
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data.readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+                Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,220 @@
+package com.buildermaster.projecttracker.util;
+
+import com.buildermaster.projecttracker.config.datasource.PrimaryReads;
+import com.buildermaster.projecttracker.dto.response.ApiResponseDTO;
+import com.buildermaster.projecttracker.dto.response.DeveloperResponseDTO;
+import com.buildermaster.projecttracker.dto.response.ProjectResponseDTO;
+import com.buildermaster.projecttracker.dto.response.TaskResponseDTO;
+import com.buildermaster.projecttracker.exception.PreconditionFailedException;
+import com.buildermaster.projecttracker.service.impl.DeadlineEngine;
+import com.buildermaster.projecttracker.service.impl.EntityVersionRegistry;
+import com.buildermaster.projecttracker.service.impl.ResponseBodyCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET and PUT handling for single-entity endpoints
+ * Strong ETags have the form "id.version" plus a suffix for fields of the response that change without the entity
+ * itself being updated. If-None-Match is answered from {@link EntityVersionRegistry} when it knows the current tag,
+ * so a revalidation that hits costs neither a database nor a Redis round trip. For entity types kept in
+ * {@link ResponseBodyCache}, a plain GET of a known tag is answered the same way, by copying the serialized body
+ * straight to the response.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalRequests {
+
+    private final EntityVersionRegistry entityVersionRegistry;
+    private final ResponseBodyCache responseBodyCache;
+    private final DeadlineEngine deadlineEngine;
+
+    // ===== TAGS =====
+
+    // Days remaining depend on today's date, and the project and developer names can change under the task
+    public String taskTag(TaskResponseDTO task) {
+        return tag(task.getId(), task.getVersion(), deadlineEngine.today().toEpochDay() + "."
+                + Integer.toHexString(Objects.hash(task.getProjectName(), task.getDeveloperName())));
+    }
+
+    public static String projectTag(ProjectResponseDTO project) {
+        return tag(project.getId(), project.getVersion(),
+                project.getTaskCount() + "." + project.getCompletedTaskCount());
+    }
+
+    public static String developerTag(DeveloperResponseDTO developer) {
+        return tag(developer.getId(), developer.getVersion(), String.valueOf(developer.getTotalTaskCount()));
+    }
+
+    // ===== CONDITIONAL GET =====
+
+    /**
+     * Answers 304 when If-None-Match holds the current tag, otherwise loads the entity and returns it with its ETag.
+     * Returns null once a serialized body has been written to the response directly, which Spring MVC treats as
+     * an already handled request.
+     */
+    public <T> ResponseEntity<ApiResponseDTO<T>> get(String entityType, UUID id, String ifNoneMatch,
+                                                     Supplier<T> loader, Function<T, String> tagger, String message) {
+        String known = entityVersionRegistry.currentTag(entityType, id);
+        if (known != null && matches(ifNoneMatch, known)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(known).build();
+        }
+        ServletRequestAttributes exchange = bodyCacheExchange(entityType);
+        if (exchange != null) {
+            ResponseBodyCache.CachedBody cached = responseBodyCache.lookup(entityType, id, known);
+            if (cached != null) {
+                write(cached, exchange);
+                return null;
+            }
+        }
+
+        long readStamp = entityVersionRegistry.readStamp();
+        // The tag is remembered for every client, so it must not come from a lagging replica
+        T body = PrimaryReads.call(loader);
+        if (body == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponseDTO.error(entityType + " not found", 404));
+        }
+        String tag = tagger.apply(body);
+        if (tag == null) {
+            return ResponseEntity.ok(ApiResponseDTO.success(message, body));
+        }
+        entityVersionRegistry.remember(entityType, id, tag, readStamp);
+        if (matches(ifNoneMatch, tag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+        }
+        if (exchange != null) {
+            // Serialized once here, then reused until the tag changes
+            write(responseBodyCache.store(entityType, id, tag, ApiResponseDTO.success(message, body)), exchange);
+            return null;
+        }
+        return ResponseEntity.ok().eTag(tag).body(ApiResponseDTO.success(message, body));
+    }
+
+    // ===== CONDITIONAL PUT =====
+
+    /**
+     * Version the client expects the entity to be at, taken from If-Match; null when the header is absent or "*".
+     */
+    public static Long expectedVersion(String ifMatch, UUID id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        // If-Match uses strong comparison, so weak tags never match
+        String[] parts = ifMatch.trim().startsWith("W/") ? new String[0] : unquote(ifMatch).split("\\.");
+        if (parts.length < 2 || !parts[0].equals(id.toString())) {
+            throw new PreconditionFailedException("If-Match does not hold an ETag of this resource");
+        }
+        try {
+            return Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not hold an ETag of this resource");
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    // Cached bodies are JSON, so requests negotiating another representation take the regular path
+    private ServletRequestAttributes bodyCacheExchange(String entityType) {
+        if (!responseBodyCache.caches(entityType)
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes exchange)
+                || exchange.getResponse() == null) {
+            return null;
+        }
+        String accept = exchange.getRequest().getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return exchange;
+        }
+        try {
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                if (mediaType.getQualityValue() > 0 && mediaType.includes(MediaType.APPLICATION_JSON)) {
+                    return exchange;
+                }
+            }
+        } catch (InvalidMimeTypeException e) {
+            // Left to content negotiation, which reports the malformed header
+        }
+        return null;
+    }
+
+    private static void write(ResponseBodyCache.CachedBody cached, ServletRequestAttributes exchange) {
+        HttpServletRequest request = exchange.getRequest();
+        HttpServletResponse response = exchange.getResponse();
+        boolean gzip = cached.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] bytes = gzip ? cached.gzip() : cached.json();
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, cached.tag());
+        if (cached.gzip() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(bytes.length);
+        try {
+            response.getOutputStream().write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").equalsIgnoreCase("q=0");
+            }
+        }
+        return false;
+    }
+
+    private static String tag(UUID id, Long version, String suffix) {
+        return version == null ? null : "\"" + id + "." + version + "." + suffix + "\"";
+    }
+
+    private static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String wanted = unquote(tag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || unquote(trimmed).equals(wanted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Weak comparison is enough for If-None-Match
+    private static String unquote(String tag) {
+        String value = tag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+}
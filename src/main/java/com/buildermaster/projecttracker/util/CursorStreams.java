@@ -0,0 +1,42 @@
+package com.buildermaster.projecttracker.util;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Drains JPA result streams into a sink without growing the persistence context.
+ * Must be called inside a read-only transaction that keeps the database cursor open. The context is cleared every
+ * app.export.clear-interval rows, the same interval the exports use.
+ */
+@Component
+public class CursorStreams {
+
+    private final EntityManager entityManager;
+    private final int clearInterval;
+
+    public CursorStreams(EntityManager entityManager,
+                         @Value("${app.export.clear-interval:500}") int clearInterval) {
+        this.entityManager = entityManager;
+        this.clearInterval = clearInterval;
+    }
+
+    public <E, T> long drain(Stream<E> rows, Function<E, T> mapper, Consumer<T> sink) {
+        try (rows) {
+            long count = 0;
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(mapper.apply(iterator.next()));
+                if (++count % clearInterval == 0) {
+                    entityManager.clear();
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.buildermaster.projecttracker.util;
+
+import com.buildermaster.projecttracker.model.EExportFormat;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Row-at-a-time writer for streaming exports.
+ * Rows are written straight to the target stream so memory use does not depend on the export size.
+ * Closing the writer flushes buffered output but leaves the target stream open.
+ */
+public abstract class ExportRowWriter implements Closeable {
+
+    protected List<String> columns = List.of();
+
+    public static ExportRowWriter open(EExportFormat format, OutputStream outputStream, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(outputStream, objectMapper);
+            case NDJSON -> ndjson(outputStream, objectMapper);
+        };
+    }
+
+    /**
+     * NDJSON writer that can also write whole values, as the streaming endpoints do.
+     */
+    static NdjsonRowWriter ndjson(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        return new NdjsonRowWriter(outputStream, objectMapper);
+    }
+
+    public void writeHeader(List<String> columns) throws IOException {
+        this.columns = columns;
+    }
+
+    public abstract void writeRow(Object... values) throws IOException;
+
+    /**
+     * Writes RFC 4180 CSV. Nested values (maps, collections) are embedded as JSON text.
+     */
+    private static final class CsvRowWriter extends ExportRowWriter {
+
+        private final Writer writer;
+        private final ObjectMapper objectMapper;
+
+        private CsvRowWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void writeHeader(List<String> columns) throws IOException {
+            super.writeHeader(columns);
+            writeRow(columns.toArray());
+        }
+
+        @Override
+        public void writeRow(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCell(values[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeCell(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text = (value instanceof Map<?, ?> || value instanceof Collection<?>)
+                    ? objectMapper.writeValueAsString(value)
+                    : value.toString();
+
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Writes one JSON object per line, keyed by the header columns, or one serialized value per line.
+     */
+    static final class NdjsonRowWriter extends ExportRowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeRow(Object... values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeFieldName(columns.get(i));
+                generator.writeObject(values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        void writeValue(Object value) throws IOException {
+            generator.writeObject(value);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
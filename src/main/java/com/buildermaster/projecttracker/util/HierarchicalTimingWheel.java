@@ -0,0 +1,143 @@
+package com.buildermaster.projecttracker.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Hierarchical timing wheel for scheduling a large number of deadlines with O(1) insertion.
+ * Each level covers tickMs * wheelSize milliseconds; entries further out are parked in lazily created
+ * overflow levels and cascade down as the clock advances. Only non-empty buckets are tracked in the
+ * priority queue, so advancing over long idle periods costs one step per occupied bucket rather than per tick.
+ * Not thread-safe; callers must synchronise access.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final Level root;
+    private final PriorityQueue<Tick<T>> pendingTicks = new PriorityQueue<>(Comparator.comparingLong(Tick::expiration));
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.root = new Level(tickMs, wheelSize, startMs);
+    }
+
+    /**
+     * Schedules an item to expire at the given time.
+     *
+     * @return false if the deadline already falls within the current tick; the caller should handle it immediately
+     */
+    public boolean schedule(T item, long deadlineMs) {
+        if (!root.add(new Entry<>(item, deadlineMs))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Advances the clock and returns every item whose deadline is at or before the given time.
+     */
+    public List<T> advanceTo(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        Tick<T> tick;
+        while ((tick = pendingTicks.peek()) != null && tick.expiration() <= nowMs) {
+            pendingTicks.poll();
+            if (tick.bucket().expiration != tick.expiration()) {
+                continue; // Stale tick for a bucket that has since been flushed and reused
+            }
+            root.advanceClock(tick.expiration());
+            for (Entry<T> entry : tick.bucket().flush()) {
+                size--;
+                if (root.add(entry)) {
+                    size++;
+                } else {
+                    expired.add(entry.item());
+                }
+            }
+        }
+        root.advanceClock(nowMs);
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ===== INTERNAL STRUCTURE =====
+
+    private record Entry<T>(T item, long deadlineMs) {
+    }
+
+    private record Tick<T>(long expiration, Bucket<T> bucket) {
+    }
+
+    private static final class Bucket<T> {
+        private final List<Entry<T>> entries = new ArrayList<>();
+        private long expiration = -1;
+
+        private boolean setExpiration(long newExpiration) {
+            boolean changed = expiration != newExpiration;
+            expiration = newExpiration;
+            return changed;
+        }
+
+        private List<Entry<T>> flush() {
+            List<Entry<T>> flushed = new ArrayList<>(entries);
+            entries.clear();
+            expiration = -1;
+            return flushed;
+        }
+    }
+
+    private final class Level {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket<T>[] buckets;
+        private long currentTime;
+        private Level overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+        }
+
+        private boolean add(Entry<T> entry) {
+            long deadline = entry.deadlineMs();
+            if (deadline < currentTime + tickMs) {
+                return false;
+            }
+            if (deadline < currentTime + interval) {
+                long virtualId = deadline / tickMs;
+                Bucket<T> bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.entries.add(entry);
+                long bucketExpiration = virtualId * tickMs;
+                if (bucket.setExpiration(bucketExpiration)) {
+                    pendingTicks.add(new Tick<>(bucketExpiration, bucket));
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(interval, wheelSize, currentTime);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+}
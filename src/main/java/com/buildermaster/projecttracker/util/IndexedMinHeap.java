@@ -0,0 +1,125 @@
+package com.buildermaster.projecttracker.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Binary min-heap of keys ordered by a mutable long priority.
+ * A key-to-slot index makes priority updates and removals O(log n) instead of the O(n) scan
+ * a {@link java.util.PriorityQueue} needs. Ties are broken by the natural order of the key.
+ * Not thread-safe; callers must synchronise access.
+ */
+public class IndexedMinHeap<K extends Comparable<K>> {
+
+    private final List<K> keys = new ArrayList<>();
+    private final List<Long> priorities = new ArrayList<>();
+    private final Map<K, Integer> positions = new HashMap<>();
+
+    /**
+     * Inserts the key or moves it to its new position if it is already present.
+     */
+    public void upsert(K key, long priority) {
+        Integer slot = positions.get(key);
+        if (slot == null) {
+            keys.add(key);
+            priorities.add(priority);
+            positions.put(key, keys.size() - 1);
+            siftUp(keys.size() - 1);
+            return;
+        }
+        long previous = priorities.get(slot);
+        priorities.set(slot, priority);
+        if (priority < previous) {
+            siftUp(slot);
+        } else if (priority > previous) {
+            siftDown(slot);
+        }
+    }
+
+    public boolean remove(K key) {
+        Integer slot = positions.remove(key);
+        if (slot == null) {
+            return false;
+        }
+        int last = keys.size() - 1;
+        if (slot != last) {
+            move(last, slot);
+        }
+        keys.remove(last);
+        priorities.remove(last);
+        if (slot != last) {
+            siftDown(slot);
+            siftUp(slot);
+        }
+        return true;
+    }
+
+    public Optional<K> peek() {
+        return keys.isEmpty() ? Optional.empty() : Optional.of(keys.get(0));
+    }
+
+    public boolean contains(K key) {
+        return positions.containsKey(key);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    // ===== HEAP MAINTENANCE =====
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (!less(slot, parent)) {
+                return;
+            }
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        int size = keys.size();
+        while (true) {
+            int left = 2 * slot + 1;
+            int right = left + 1;
+            int smallest = slot;
+            if (left < size && less(left, smallest)) {
+                smallest = left;
+            }
+            if (right < size && less(right, smallest)) {
+                smallest = right;
+            }
+            if (smallest == slot) {
+                return;
+            }
+            swap(slot, smallest);
+            slot = smallest;
+        }
+    }
+
+    private boolean less(int a, int b) {
+        int byPriority = Long.compare(priorities.get(a), priorities.get(b));
+        return byPriority != 0 ? byPriority < 0 : keys.get(a).compareTo(keys.get(b)) < 0;
+    }
+
+    private void swap(int a, int b) {
+        K key = keys.get(a);
+        long priority = priorities.get(a);
+        move(b, a);
+        keys.set(b, key);
+        priorities.set(b, priority);
+        positions.put(key, b);
+    }
+
+    private void move(int from, int to) {
+        K key = keys.get(from);
+        keys.set(to, key);
+        priorities.set(to, priorities.get(from));
+        positions.put(key, to);
+    }
+}
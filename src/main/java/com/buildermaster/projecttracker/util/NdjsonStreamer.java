@@ -0,0 +1,47 @@
+package com.buildermaster.projecttracker.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes newline-delimited JSON responses one element at a time, with the export's NDJSON writer.
+ * The producer pushes rows into the sink as they come off a database cursor,
+ * so the full result is never materialised.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NdjsonStreamer {
+
+    private final ObjectMapper objectMapper;
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(String name, Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = outputStream -> {
+            try (ExportRowWriter.NdjsonRowWriter writer = ExportRowWriter.ndjson(outputStream, objectMapper)) {
+                producer.accept(row -> {
+                    try {
+                        writer.writeValue(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                log.warn("NDJSON stream '{}' aborted: {}", name, e.getMessage());
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
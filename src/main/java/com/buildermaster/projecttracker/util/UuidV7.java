@@ -0,0 +1,37 @@
+package com.buildermaster.projecttracker.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator for RFC 9562 version 7 UUIDs.
+ * The leading 48 bits hold the Unix epoch millisecond and the 12-bit rand_a field is used as a
+ * sequence counter, so values produced by this JVM are strictly increasing. Inserts then append
+ * to the right-hand edge of B-tree indexes instead of landing on random pages.
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 0x7L << 12;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // Last issued (timestamp << SEQUENCE_BITS | sequence); a sequence overflow borrows the next millisecond
+    private static final AtomicLong LAST_ISSUED = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID randomUuid() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long issued = LAST_ISSUED.updateAndGet(previous -> now > previous ? now : previous + 1);
+
+        long timestamp = issued >>> SEQUENCE_BITS;
+        long sequence = issued & ((1L << SEQUENCE_BITS) - 1);
+
+        long mostSigBits = (timestamp << 16) | VERSION | sequence;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,107 @@
+package com.buildermaster.projecttracker.config;
+
+import com.buildermaster.projecttracker.dto.response.ApiResponseDTO;
+import com.buildermaster.projecttracker.dto.response.TaskResponseDTO;
+import com.buildermaster.projecttracker.model.ETaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Payload size and serialization cost of a 100-task page in JSON, CBOR and Smile
+ * Logs one line per format; a rough in-process comparison, not a substitute for a JMH run. Tagged as a benchmark,
+ * so the regular build skips it; run it with mvn test -Pbenchmark.
+ */
+@Slf4j
+@Tag("benchmark")
+class BinaryFormatsBenchmarkTest {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    @Test
+    void binaryFormatsAreSmallerThanJsonForATaskPage() throws Exception {
+        ApiResponseDTO<Page<TaskResponseDTO>> response =
+                ApiResponseDTO.success("Tasks retrieved successfully", taskPage());
+        ObjectMapper json = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Map<String, ObjectMapper> formats = Map.of(
+                "json", json,
+                "cbor", ContentNegotiationConfig.cborMapper(),
+                "smile", ContentNegotiationConfig.smileMapper());
+
+        int jsonSize = json.writeValueAsBytes(response).length;
+        for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+            ObjectMapper mapper = format.getValue();
+            byte[] payload = mapper.writeValueAsBytes(response);
+            long nanosPerOp = measure(mapper, response);
+            log.info("{} {} bytes {} ns/op", format.getKey(), payload.length, nanosPerOp);
+
+            if (!format.getKey().equals("json")) {
+                assertTrue(payload.length < jsonSize, format.getKey() + " should be smaller than JSON");
+                // The binary page shape is stable: content plus page metadata
+                Map<?, ?> decoded = mapper.readValue(payload, Map.class);
+                Map<?, ?> data = (Map<?, ?>) decoded.get("data");
+                assertEquals(PAGE_SIZE, ((List<?>) data.get("content")).size());
+                assertEquals(1_000, ((Number) ((Map<?, ?>) data.get("page")).get("totalElements")).intValue());
+            }
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static long measure(ObjectMapper mapper, Object value) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.writeValueAsBytes(value);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.writeValueAsBytes(value);
+        }
+        return (System.nanoTime() - start) / MEASURED_ITERATIONS;
+    }
+
+    private static Page<TaskResponseDTO> taskPage() {
+        List<TaskResponseDTO> tasks = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            tasks.add(TaskResponseDTO.builder()
+                    .id(UUID.randomUUID())
+                    .title("Implement feature " + i)
+                    .description("Implement and test feature number " + i + " of the tracker")
+                    .status(ETaskStatus.values()[i % ETaskStatus.values().length])
+                    .dueDate(LocalDate.now().plusDays(i))
+                    .isOverdue(false)
+                    .daysRemaining((long) i)
+                    .daysOverdue(0L)
+                    .projectName("Project " + (i % 5))
+                    .developerName("Developer " + (i % 7))
+                    .createdDate(now)
+                    .updatedDate(now)
+                    .version(1L)
+                    .build());
+        }
+        return new PageImpl<>(tasks, PageRequest.of(0, PAGE_SIZE), 1_000);
+    }
+}
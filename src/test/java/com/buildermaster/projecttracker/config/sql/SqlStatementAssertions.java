@@ -0,0 +1,43 @@
+package com.buildermaster.projecttracker.config.sql;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Statement-count assertions around a single call, typically a MockMvc request
+ * The count covers everything the call runs on the calling thread, including the security filters.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Runs the call and returns how many SQL statements it executed.
+     */
+    public static int countStatements(ThrowingSupplier<?> call) {
+        try (SqlStatementStats stats = SqlStatementStats.start()) {
+            assertDoesNotThrow(call);
+            return stats.getStatements();
+        }
+    }
+
+    /**
+     * Runs the call and fails when it executed more than the given number of SQL statements.
+     */
+    public static <T> T assertMaxStatements(int max, ThrowingSupplier<T> call) {
+        try (SqlStatementStats stats = SqlStatementStats.start()) {
+            T result = assertDoesNotThrow(call);
+            if (stats.getStatements() > max) {
+                Map.Entry<String, Integer> repeated = stats.getMostRepeated();
+                fail(String.format("Expected at most %d SQL statements but %d ran; most repeated (%dx): %s",
+                        max, stats.getStatements(), repeated.getValue(), repeated.getKey()));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.buildermaster.projecttracker.controller;
+
+import com.buildermaster.projecttracker.model.EProjectStatus;
+import com.buildermaster.projecttracker.model.ETaskStatus;
+import com.buildermaster.projecttracker.model.Project;
+import com.buildermaster.projecttracker.model.Task;
+import com.buildermaster.projecttracker.repository.ProjectRepository;
+import com.buildermaster.projecttracker.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.buildermaster.projecttracker.config.sql.SqlStatementAssertions.assertMaxStatements;
+import static com.buildermaster.projecttracker.config.sql.SqlStatementAssertions.countStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The ?ids= lookups load their cache misses with one fetch-joined query, so the statement count must not grow
+ * with the number of ids. Every task belongs to its own project, so a lazy load per row would show up as N+1.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = {"MANAGER", "ADMIN"})
+class BatchLookupQueryCountTest {
+
+    private static final int MAX_STATEMENTS = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<Project> projects = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteAllInBatch(tasks);
+        projectRepository.deleteAllInBatch(projects);
+        evict("tasks", tasks.stream().map(Task::getId).toList());
+        evict("projects", projects.stream().map(Project::getId).toList());
+    }
+
+    @Test
+    void taskMultiGetDoesNotQueryPerTask() {
+        // The rows are inserted up front, so only the lookups themselves are counted
+        String fewIds = ids(createTasks(2));
+        String manyIds = ids(createTasks(10));
+        int few = countStatements(() -> mockMvc.perform(get("/api/tasks").param("ids", fewIds))
+                .andExpect(status().isOk()));
+        int many = countStatements(() -> mockMvc.perform(get("/api/tasks").param("ids", manyIds))
+                .andExpect(status().isOk()));
+
+        assertEquals(few, many, "Statement count grew with the number of tasks");
+    }
+
+    @Test
+    void projectMultiGetDoesNotQueryPerProject() {
+        createTasks(10);
+        String projectIds = projects.stream().map(project -> project.getId().toString())
+                .collect(Collectors.joining(","));
+
+        assertMaxStatements(MAX_STATEMENTS, () -> mockMvc.perform(get("/api/projects").param("ids", projectIds))
+                .andExpect(status().isOk()));
+    }
+
+    // ===== HELPER METHODS =====
+
+    private List<UUID> createTasks(int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Project project = projectRepository.save(new Project("Query count project " + UUID.randomUUID(),
+                    "Project for statement count assertions", LocalDate.now().plusDays(30), EProjectStatus.PLANNING));
+            projects.add(project);
+
+            Task task = new Task("Query count task " + i, "Task for statement count assertions",
+                    ETaskStatus.TODO, LocalDate.now().plusDays(7));
+            task.setProject(project);
+            Task saved = taskRepository.save(task);
+            tasks.add(saved);
+            ids.add(saved.getId());
+        }
+        return ids;
+    }
+
+    private static String ids(List<UUID> ids) {
+        return ids.stream().map(UUID::toString).collect(Collectors.joining(","));
+    }
+
+    private void evict(String cacheName, List<UUID> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+}
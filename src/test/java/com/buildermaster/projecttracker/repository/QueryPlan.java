@@ -0,0 +1,95 @@
+package com.buildermaster.projecttracker.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The parts of an EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) result the regression suite compares
+ * Scans are kept per relation by node type, so a relation that moves from an index to a sequential scan is visible
+ * without comparing whole plans, whose shape and timings vary from run to run.
+ */
+public record QueryPlan(String sql, Map<String, Set<String>> scans, double totalCost, double executionTimeMs,
+                        long sharedHitBlocks, long sharedReadBlocks, JsonNode plan) {
+
+    public static final String SEQ_SCAN = "Seq Scan";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Parses the single JSON document PostgreSQL returns for FORMAT JSON.
+     */
+    public static QueryPlan parse(String sql, String explainJson) throws IOException {
+        JsonNode result = MAPPER.readTree(explainJson).get(0);
+        JsonNode root = result.get("Plan");
+        Map<String, Set<String>> scans = new TreeMap<>();
+        collectScans(root, scans);
+        return new QueryPlan(sql, scans,
+                root.path("Total Cost").asDouble(),
+                result.path("Execution Time").asDouble(),
+                root.path("Shared Hit Blocks").asLong(),
+                root.path("Shared Read Blocks").asLong(),
+                result);
+    }
+
+    public static QueryPlan read(Path file) throws IOException {
+        JsonNode baseline = MAPPER.readTree(file.toFile());
+        Map<String, Set<String>> scans = new TreeMap<>();
+        baseline.path("scans").fields().forEachRemaining(entry -> {
+            Set<String> nodeTypes = new TreeSet<>();
+            entry.getValue().forEach(nodeType -> nodeTypes.add(nodeType.asText()));
+            scans.put(entry.getKey(), nodeTypes);
+        });
+        return new QueryPlan(baseline.path("sql").asText(), scans,
+                baseline.path("totalCost").asDouble(),
+                baseline.path("executionTimeMs").asDouble(),
+                baseline.path("sharedHitBlocks").asLong(),
+                baseline.path("sharedReadBlocks").asLong(),
+                baseline.path("plan"));
+    }
+
+    public void write(Path file) throws IOException {
+        ObjectNode baseline = MAPPER.createObjectNode();
+        baseline.put("sql", sql);
+        baseline.set("scans", MAPPER.valueToTree(scans));
+        baseline.put("totalCost", totalCost);
+        baseline.put("executionTimeMs", executionTimeMs);
+        baseline.put("sharedHitBlocks", sharedHitBlocks);
+        baseline.put("sharedReadBlocks", sharedReadBlocks);
+        baseline.set("plan", plan);
+        Files.createDirectories(file.getParent());
+        MAPPER.writeValue(file.toFile(), baseline);
+    }
+
+    public boolean seqScans(String relation) {
+        return scans.getOrDefault(relation, Set.of()).contains(SEQ_SCAN);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("cost %.1f, %.2f ms, %d hit / %d read blocks, scans %s",
+                totalCost, executionTimeMs, sharedHitBlocks, sharedReadBlocks, scans);
+    }
+
+    // ===== HELPER METHODS =====
+
+    // Bitmap Index Scans name only the index; their Bitmap Heap Scan parent carries the relation
+    private static void collectScans(JsonNode node, Map<String, Set<String>> scans) {
+        String nodeType = node.path("Node Type").asText();
+        if (node.has("Relation Name") && nodeType.endsWith("Scan")) {
+            scans.computeIfAbsent(node.get("Relation Name").asText(), relation -> new TreeSet<>()).add(nodeType);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectScans(child, scans);
+        }
+    }
+}
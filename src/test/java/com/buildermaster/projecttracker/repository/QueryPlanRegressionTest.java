@@ -0,0 +1,411 @@
+package com.buildermaster.projecttracker.repository;
+
+import com.buildermaster.projecttracker.model.EProjectStatus;
+import com.buildermaster.projecttracker.model.ETaskStatus;
+import com.buildermaster.projecttracker.repository.QueryPlanSeeder.SeededData;
+import com.buildermaster.projecttracker.repository.StatementCapture.CapturedStatement;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Query plan regression suite over every query method of the task, project and developer repositories
+ * Runs only when QUERY_PLAN_DB_URL points at a local PostgreSQL (credentials in QUERY_PLAN_DB_USERNAME and
+ * QUERY_PLAN_DB_PASSWORD). The schema is created in its own query_plan schema and seeded at QUERY_PLAN_SCALE
+ * (default 1); each statement a repository method executes is then replayed with its parameters under
+ * EXPLAIN (ANALYZE, BUFFERS) and rolled back. A statement fails when it scans the repository's own table
+ * sequentially without being declared a full scan, runs longer than QUERY_PLAN_MAX_EXECUTION_MS (default 500), or,
+ * compared with its baseline under src/test/resources/query-plans/scale-N, flips a relation to a sequential scan or
+ * grows its cost by more than QUERY_PLAN_COST_FACTOR (default 1.5). A statement without a committed baseline fails;
+ * QUERY_PLAN_UPDATE_BASELINES=true writes the baselines of every statement within budget, for new queries and after
+ * an intended plan change, to be reviewed and committed with it.
+ */
+@Slf4j
+@SpringBootTest
+@Import(StatementCapture.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_DB_URL", matches = ".+")
+class QueryPlanRegressionTest {
+
+    private static final int SCALE = Integer.parseInt(env("QUERY_PLAN_SCALE", "1"));
+    private static final double MAX_EXECUTION_MS = Double.parseDouble(env("QUERY_PLAN_MAX_EXECUTION_MS", "500"));
+    private static final double COST_FACTOR = Double.parseDouble(env("QUERY_PLAN_COST_FACTOR", "1.5"));
+    private static final boolean UPDATE_BASELINES = Boolean.parseBoolean(env("QUERY_PLAN_UPDATE_BASELINES", "false"));
+    private static final Path BASELINES = Path.of("src/test/resources/query-plans", "scale-" + SCALE);
+
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+    private static final UUID FIRST = new UUID(0, 0);
+
+    /**
+     * A repository method and how to call it; full scans are queries that read the whole table by design.
+     */
+    private record QueryCase(String method, boolean fullScan, Supplier<?> call) {
+    }
+
+    private record RepositoryCases(Class<?> type, String table, List<QueryCase> cases) {
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeededData data;
+
+    @DynamicPropertySource
+    static void queryPlanDatabase(DynamicPropertyRegistry registry) {
+        String url = env("QUERY_PLAN_DB_URL", "");
+        String schema = QueryPlanSeeder.SCHEMA;
+        registry.add("spring.datasource.url", () -> url + (url.contains("?") ? "&" : "?") + "currentSchema=" + schema);
+        registry.add("spring.datasource.username", () -> env("QUERY_PLAN_DB_USERNAME", "postgres"));
+        registry.add("spring.datasource.password", () -> env("QUERY_PLAN_DB_PASSWORD", ""));
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        registry.add("spring.jpa.properties.hibernate.default_schema", () -> schema);
+        registry.add("spring.jpa.properties.hibernate.hbm2ddl.create_namespaces", () -> "true");
+        registry.add("app.datasource.replica.enabled", () -> "false");
+    }
+
+    @BeforeAll
+    void seed() {
+        data = new QueryPlanSeeder(jdbcTemplate).seed(SCALE);
+    }
+
+    @Test
+    void everyQueryMethodHasACase() {
+        for (RepositoryCases repository : repositories()) {
+            Set<String> covered = repository.cases().stream().map(QueryCase::method).collect(Collectors.toSet());
+            List<String> missing = Arrays.stream(repository.type().getDeclaredMethods())
+                    .filter(method -> !method.isDefault() && !method.isSynthetic()
+                            && !Modifier.isStatic(method.getModifiers()))
+                    .map(QueryPlanRegressionTest::key)
+                    .filter(key -> !covered.contains(key))
+                    .sorted()
+                    .toList();
+            assertTrue(missing.isEmpty(),
+                    repository.type().getSimpleName() + " query methods without a plan case: " + missing);
+        }
+    }
+
+    @TestFactory
+    Stream<DynamicTest> queryPlansStayWithinBudget() {
+        return repositories().stream().flatMap(repository -> repository.cases().stream()
+                .map(queryCase -> DynamicTest.dynamicTest(
+                        repository.type().getSimpleName() + "." + queryCase.method(),
+                        () -> verify(repository, queryCase))));
+    }
+
+    // ===== TASK QUERIES =====
+
+    private List<QueryCase> taskCases() {
+        TaskRepository tasks = taskRepository;
+        LocalDate today = LocalDate.now();
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+        return List.of(
+                indexed("findByProjectId/1", () -> tasks.findByProjectId(data.projectId())),
+                indexed("findByDeveloperId/1", () -> tasks.findByDeveloperId(data.developerId())),
+                indexed("findByDueDateBetween/2", () -> tasks.findByDueDateBetween(today, today.plusDays(7))),
+                indexed("countByProjectId/1", () -> tasks.countByProjectId(data.projectId())),
+                indexed("countByDeveloperId/1", () -> tasks.countByDeveloperId(data.developerId())),
+                indexed("countByOverdueTrue/0", tasks::countByOverdueTrue),
+                indexed("findOverdueTasks/0", tasks::findOverdueTasks),
+                indexed("findUnassignedTasks/0", tasks::findUnassignedTasks),
+                fullScan("countTasksByStatus/0", tasks::countTasksByStatus),
+                indexed("findByProjectId/2", () -> tasks.findByProjectId(data.projectId(), PAGE)),
+                indexed("findByDeveloperId/2", () -> tasks.findByDeveloperId(data.developerId(), PAGE)),
+                // A status or an open-ended date range matches a large share of the table, and so does its count
+                fullScan("findByStatus/2", () -> tasks.findByStatus(ETaskStatus.TODO, PAGE)),
+                fullScan("findByDueDateBefore/2", () -> tasks.findByDueDateBefore(today, PAGE)),
+                indexed("findByOverdueTrue/1", () -> tasks.findByOverdueTrue(PAGE)),
+                indexed("findByDueDateBetween/3",
+                        () -> tasks.findByDueDateBetween(today, today.plusDays(7), PAGE)),
+                // Substring searches cannot use a B-tree index
+                fullScan("findByTitleContainingIgnoreCase/2",
+                        () -> tasks.findByTitleContainingIgnoreCase("task 42", PAGE)),
+                fullScan("findByDescriptionContainingIgnoreCase/2",
+                        () -> tasks.findByDescriptionContainingIgnoreCase("number 42", PAGE)),
+                indexed("findTasksDueToday/3", () -> tasks.findTasksDueToday(today, FIRST, PAGE)),
+                indexed("findTasksDueThisWeek/4",
+                        () -> tasks.findTasksDueThisWeek(today, today.plusDays(7), FIRST, PAGE)),
+                indexed("findRecentlyCreatedTasks/3", () -> tasks.findRecentlyCreatedTasks(yesterday, FIRST, PAGE)),
+                indexed("findRecentlyUpdatedTasks/3", () -> tasks.findRecentlyUpdatedTasks(yesterday, FIRST, PAGE)),
+                indexed("streamTasksDueToday/1", () -> tasks.streamTasksDueToday(today)),
+                indexed("streamTasksDueThisWeek/2", () -> tasks.streamTasksDueThisWeek(today, today.plusDays(7))),
+                indexed("streamRecentlyCreatedTasks/1", () -> tasks.streamRecentlyCreatedTasks(yesterday)),
+                indexed("streamRecentlyUpdatedTasks/1", () -> tasks.streamRecentlyUpdatedTasks(yesterday)),
+                indexed("getTaskStatisticsByProject/1", () -> tasks.getTaskStatisticsByProject(data.projectId())),
+                indexed("getTaskStatisticsByDeveloper/1",
+                        () -> tasks.getTaskStatisticsByDeveloper(data.developerId())),
+                indexed("getTaskStatisticsByProjectIds/1",
+                        () -> tasks.getTaskStatisticsByProjectIds(data.projectIds())),
+                indexed("getTaskStatisticsByDeveloperIds/1",
+                        () -> tasks.getTaskStatisticsByDeveloperIds(data.developerIds())),
+                indexed("countCompletedTasksByProjectIds/1",
+                        () -> tasks.countCompletedTasksByProjectIds(data.projectIds())),
+                indexed("countTasksPerDeveloperInProject/1",
+                        () -> tasks.countTasksPerDeveloperInProject(data.projectId())),
+                indexed("findIdsByDeveloperId/1", () -> tasks.findIdsByDeveloperId(data.developerId())),
+                indexed("findIdsByProjectId/2", () -> tasks.findIdsByProjectId(data.projectId(), PAGE)),
+                indexed("unassignAllFromDeveloper/1", () -> tasks.unassignAllFromDeveloper(data.developerId())),
+                indexed("deleteAllByProjectId/1", () -> tasks.deleteAllByProjectId(data.projectId())),
+                fullScan("countOpenTasksByDeveloper/0", tasks::countOpenTasksByDeveloper),
+                indexed("findOpenUnassignedTasks/1", () -> tasks.findOpenUnassignedTasks(PAGE)),
+                indexed("lockClaimableTasks/2", () -> tasks.lockClaimableTasks(null, PAGE)),
+                indexed("lockClaimableTasksInProject/3",
+                        () -> tasks.lockClaimableTasksInProject(data.projectId(), null, PAGE)),
+                indexed("findUpcomingDeadlines/2", () -> tasks.findUpcomingDeadlines(today, today.plusDays(7))),
+                // The deadline engine's sweep compares every open task's due date with today
+                fullScan("findMissingOverdueFlags/1", () -> tasks.findMissingOverdueFlags(today)),
+                indexed("findIdsWithStaleOverdueFlag/1", () -> tasks.findIdsWithStaleOverdueFlag(today)),
+                indexed("markOverdue/2", () -> tasks.markOverdue(data.taskIds().get(0), today)),
+                indexed("clearOverdue/1", () -> tasks.clearOverdue(data.overdueTaskIds())),
+                fullScan("streamAllForExport/0", tasks::streamAllForExport),
+                indexed("findAllWithRelationsByIdIn/1", () -> tasks.findAllWithRelationsByIdIn(data.taskIds())),
+                indexed("findByChangeSeqGreaterThanOrderByChangeSeqAsc/2",
+                        () -> tasks.findByChangeSeqGreaterThanOrderByChangeSeqAsc(data.taskChangeSeq(), PAGE)));
+    }
+
+    // ===== PROJECT QUERIES =====
+
+    private List<QueryCase> projectCases() {
+        ProjectRepository projects = projectRepository;
+        LocalDate today = LocalDate.now();
+        return List.of(
+                fullScan("findByStatus/1", () -> projects.findByStatus(EProjectStatus.IN_PROGRESS)),
+                // upper(name) has no expression index; names are only checked on create and rename
+                fullScan("existsByNameIgnoreCase/1", () -> projects.existsByNameIgnoreCase("Project 42")),
+                fullScan("findProjectsOrderedByTaskCount/1", () -> projects.findProjectsOrderedByTaskCount(PAGE)),
+                fullScan("countByStatus/1", () -> projects.countByStatus(EProjectStatus.IN_PROGRESS)),
+                fullScan("countProjectsWithTasks/0", projects::countProjectsWithTasks),
+                fullScan("countTasksPerProject/0", projects::countTasksPerProject),
+                fullScan("findByStatus/2", () -> projects.findByStatus(EProjectStatus.IN_PROGRESS, PAGE)),
+                fullScan("findByNameContainingIgnoreCase/2",
+                        () -> projects.findByNameContainingIgnoreCase("project 42", PAGE)),
+                fullScan("findByDescriptionContainingIgnoreCase/2",
+                        () -> projects.findByDescriptionContainingIgnoreCase("number 42", PAGE)),
+                fullScan("findByDeadlineBefore/2", () -> projects.findByDeadlineBefore(today, PAGE)),
+                fullScan("findByDeadlineAfter/2", () -> projects.findByDeadlineAfter(today, PAGE)),
+                // The rows come from the index; the page's total count reads every row
+                fullScan("findAllByOrderByCreatedDateDesc/1", () -> projects.findAllByOrderByCreatedDateDesc(PAGE)),
+                fullScan("findAllByOrderByUpdatedDateDesc/1", () -> projects.findAllByOrderByUpdatedDateDesc(PAGE)),
+                indexed("deleteProjectById/1", () -> projects.deleteProjectById(data.emptyProjectId())),
+                indexed("findUpcomingDeadlines/2", () -> projects.findUpcomingDeadlines(today, today.plusDays(7))),
+                fullScan("findMissingOverdueFlags/1", () -> projects.findMissingOverdueFlags(today)),
+                indexed("findIdsWithStaleOverdueFlag/1", () -> projects.findIdsWithStaleOverdueFlag(today)),
+                indexed("markOverdue/2", () -> projects.markOverdue(data.projectIds().get(0), today)),
+                indexed("clearOverdue/1", () -> projects.clearOverdue(data.overdueProjectIds())),
+                indexed("findOverdueProjects/2", () -> projects.findOverdueProjects(FIRST, PAGE)),
+                indexed("findProjectsWithoutTasks/2", () -> projects.findProjectsWithoutTasks(FIRST, PAGE)),
+                indexed("findByDeadlineBetween/4",
+                        () -> projects.findByDeadlineBetween(today, today.plusDays(7), FIRST, PAGE)),
+                indexed("streamOverdueProjects/0", projects::streamOverdueProjects),
+                fullScan("streamProjectsWithoutTasks/0", projects::streamProjectsWithoutTasks),
+                indexed("streamByDeadlineBetween/2",
+                        () -> projects.streamByDeadlineBetween(today, today.plusDays(7))),
+                fullScan("streamAllForExport/0", projects::streamAllForExport),
+                indexed("findAllWithTasksByIdIn/1", () -> projects.findAllWithTasksByIdIn(data.projectIds())),
+                indexed("findExistingIds/1", () -> projects.findExistingIds(data.projectIds())),
+                indexed("findByChangeSeqGreaterThanOrderByChangeSeqAsc/2",
+                        () -> projects.findByChangeSeqGreaterThanOrderByChangeSeqAsc(data.projectChangeSeq(), PAGE)));
+    }
+
+    // ===== DEVELOPER QUERIES =====
+
+    private List<QueryCase> developerCases() {
+        DeveloperRepository developers = developerRepository;
+        return List.of(
+                indexed("findByEmail/1", () -> developers.findByEmail(data.developerEmail())),
+                indexed("findByUserUsername/1", () -> developers.findByUserUsername(data.developerEmail())),
+                indexed("existsByEmail/1", () -> developers.existsByEmail(data.developerEmail())),
+                fullScan("findTop5DevelopersByTaskCount/1",
+                        () -> developers.findTop5DevelopersByTaskCount(PageRequest.of(0, 5))),
+                fullScan("findDevelopersWithoutTasks/0", developers::findDevelopersWithoutTasks),
+                fullScan("findDevelopersByTaskStatus/1",
+                        () -> developers.findDevelopersByTaskStatus(ETaskStatus.BLOCKED)),
+                fullScan("countDevelopersWithTasks/0", developers::countDevelopersWithTasks),
+                fullScan("findByNameContainingIgnoreCase/2",
+                        () -> developers.findByNameContainingIgnoreCase("developer 42", PAGE)),
+                fullScan("findBySkillsContainingIgnoreCase/2",
+                        () -> developers.findBySkillsContainingIgnoreCase("kafka", PAGE)),
+                fullScan("findAllByOrderByCreatedDateDesc/1", () -> developers.findAllByOrderByCreatedDateDesc(PAGE)),
+                fullScan("countTasksPerDeveloper/0", developers::countTasksPerDeveloper),
+                fullScan("findAllSkills/0", developers::findAllSkills),
+                // The developers table is a few dozen pages, cheaper to read whole than to probe for a page of ids
+                fullScan("findAllWithTasksByIdIn/1", () -> developers.findAllWithTasksByIdIn(data.developerIds())),
+                fullScan("findExistingIds/1", () -> developers.findExistingIds(data.developerIds())),
+                indexed("findByChangeSeqGreaterThanOrderByChangeSeqAsc/2",
+                        () -> developers.findByChangeSeqGreaterThanOrderByChangeSeqAsc(
+                                data.developerChangeSeq(), PAGE)));
+    }
+
+    // ===== VERIFICATION =====
+
+    private List<RepositoryCases> repositories() {
+        return List.of(
+                new RepositoryCases(TaskRepository.class, "tasks", taskCases()),
+                new RepositoryCases(ProjectRepository.class, "projects", projectCases()),
+                new RepositoryCases(DeveloperRepository.class, "developers", developerCases()));
+    }
+
+    private void verify(RepositoryCases repository, QueryCase queryCase) throws SQLException, IOException {
+        // Updates and deletes run for real, so the call is rolled back like the EXPLAIN that replays it
+        List<CapturedStatement> statements = new TransactionTemplate(transactionManager).execute(status -> {
+            status.setRollbackOnly();
+            return StatementCapture.capture(() -> consume(queryCase.call().get()));
+        });
+        assertFalse(statements == null || statements.isEmpty(), "The call executed no statement");
+
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i < statements.size(); i++) {
+            // Paged methods run a count query after the page query
+            String name = repository.type().getSimpleName() + "." + queryCase.method().replace('/', '-')
+                    + (i == 0 ? "" : "." + (i + 1));
+            QueryPlan plan = explain(statements.get(i));
+            log.info("{} {}", name, plan);
+            failures.addAll(check(name, repository.table(), queryCase.fullScan(), plan));
+        }
+        if (!failures.isEmpty()) {
+            fail(String.join("\n", failures));
+        }
+    }
+
+    private List<String> check(String name, String table, boolean fullScan, QueryPlan plan) throws IOException {
+        List<String> failures = new ArrayList<>();
+        if (!fullScan && plan.seqScans(table)) {
+            failures.add(name + " scans " + table + " sequentially: " + plan.sql());
+        }
+        if (plan.executionTimeMs() > MAX_EXECUTION_MS) {
+            failures.add(String.format("%s ran %.2f ms, over the %.0f ms budget", name, plan.executionTimeMs(),
+                    MAX_EXECUTION_MS));
+        }
+
+        Path file = BASELINES.resolve(name + ".json");
+        if (UPDATE_BASELINES) {
+            // A plan only becomes the baseline once it is within budget
+            if (failures.isEmpty()) {
+                plan.write(file);
+            }
+        } else if (!Files.exists(file)) {
+            failures.add(name + " has no baseline at " + file
+                    + "; generate it with QUERY_PLAN_UPDATE_BASELINES=true against the seeded data and commit it");
+        } else {
+            QueryPlan baseline = QueryPlan.read(file);
+            for (String relation : plan.scans().keySet()) {
+                if (plan.seqScans(relation) && !baseline.seqScans(relation)) {
+                    failures.add(name + " flipped " + relation + " from " +
+                            baseline.scans().getOrDefault(relation, Set.of()) + " to a sequential scan");
+                }
+            }
+            if (plan.totalCost() > baseline.totalCost() * COST_FACTOR) {
+                failures.add(String.format("%s costs %.1f, more than %.1fx its baseline of %.1f", name,
+                        plan.totalCost(), COST_FACTOR, baseline.totalCost()));
+            }
+        }
+        return failures;
+    }
+
+    private QueryPlan explain(CapturedStatement statement) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                // The first run warms the buffer cache, so the measured run reflects a steady state
+                explainOnce(connection, statement);
+                return QueryPlan.parse(statement.sql(), explainOnce(connection, statement));
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static String explainOnce(Connection connection, CapturedStatement statement) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement(
+                "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + statement.sql())) {
+            statement.bind(explain);
+            try (ResultSet resultSet = explain.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static QueryCase indexed(String method, Supplier<?> call) {
+        return new QueryCase(method, false, call);
+    }
+
+    private static QueryCase fullScan(String method, Supplier<?> call) {
+        return new QueryCase(method, true, call);
+    }
+
+    // Streams execute their query when opened; reading one row is enough and closes the cursor
+    private static Object consume(Object result) {
+        if (result instanceof Stream<?> stream) {
+            try (stream) {
+                return stream.findFirst();
+            }
+        }
+        return result;
+    }
+
+    private static String key(Method method) {
+        return method.getName() + "/" + method.getParameterCount();
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,139 @@
+package com.buildermaster.projecttracker.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds the query plan schema with a dataset shaped like production, scaled by a factor
+ * One scale unit is 1,000 developers, 5,000 projects and 100,000 tasks. Deadlines spread over two years around
+ * today; most work past its deadline is completed, the rest is flagged overdue as the deadline engine would, and
+ * a small share of tasks is unassigned. Rows are generated in the database and the tables analyzed afterwards, so
+ * the planner works from real statistics.
+ */
+@Slf4j
+class QueryPlanSeeder {
+
+    static final String SCHEMA = "query_plan";
+
+    private static final int DEVELOPERS_PER_SCALE = 1_000;
+    private static final int PROJECTS_PER_SCALE = 5_000;
+    private static final int TASKS_PER_SCALE = 100_000;
+
+    /**
+     * Ids and values the query cases use as arguments, all taken from the seeded rows. Developers sign in with
+     * their email, so the email doubles as the username.
+     */
+    record SeededData(UUID projectId, UUID emptyProjectId, UUID developerId, String developerEmail,
+                      List<UUID> projectIds, List<UUID> developerIds, List<UUID> taskIds,
+                      List<UUID> overdueTaskIds, List<UUID> overdueProjectIds, long taskChangeSeq,
+                      long projectChangeSeq, long developerChangeSeq) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    QueryPlanSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    SeededData seed(int scale) {
+        // Truncating is only safe in the dedicated schema, never in whatever the connection happens to point at
+        String schema = jdbcTemplate.queryForObject("SELECT current_schema()", String.class);
+        if (!SCHEMA.equals(schema)) {
+            throw new IllegalStateException("Refusing to seed schema '" + schema + "', expected '" + SCHEMA + "'");
+        }
+
+        long start = System.nanoTime();
+        jdbcTemplate.execute("TRUNCATE tasks, projects, developers, users CASCADE");
+        seedDevelopers(DEVELOPERS_PER_SCALE * scale);
+        seedProjects(PROJECTS_PER_SCALE * scale);
+        seedTasks(TASKS_PER_SCALE * scale);
+        jdbcTemplate.execute("ANALYZE users, developers, projects, tasks");
+        log.info("Seeded query plan schema at scale {} in {} ms", scale, (System.nanoTime() - start) / 1_000_000);
+
+        return sample();
+    }
+
+    // ===== SEEDING =====
+
+    private void seedDevelopers(int developers) {
+        jdbcTemplate.update("INSERT INTO users (id, username, password, role, auth_provider, created_date, " +
+                "updated_date) " +
+                "SELECT gen_random_uuid(), 'developer' || g || '@seed.local', NULL, 'ROLE_DEVELOPER', 'LOCAL', " +
+                "now() - g * interval '10 minutes', now() - g * interval '5 minutes' " +
+                "FROM generate_series(1, ?) g", developers);
+        jdbcTemplate.update("INSERT INTO developers (id, name, email, skills, created_date, updated_date, " +
+                "change_seq, version, user_id) " +
+                "SELECT gen_random_uuid(), 'Developer ' || u.n, u.username, " +
+                "(ARRAY['Java', 'Spring', 'React', 'PostgreSQL', 'Redis', 'Kotlin'])[1 + u.n % 6] || ', ' || " +
+                "(ARRAY['Docker', 'AWS', 'TypeScript', 'Python', 'Kafka'])[1 + u.n % 5], " +
+                "u.created_date, u.updated_date, u.n, 0, u.id " +
+                "FROM (SELECT id, username, created_date, updated_date, " +
+                "row_number() OVER (ORDER BY created_date DESC) AS n FROM users) u");
+    }
+
+    private void seedProjects(int projects) {
+        jdbcTemplate.update("INSERT INTO projects (id, name, description, deadline, status, overdue, " +
+                "created_date, updated_date, change_seq, version) " +
+                "SELECT gen_random_uuid(), 'Project ' || g, 'Seeded project number ' || g, " +
+                "current_date + d, " +
+                "CASE WHEN d < 0 AND g % 10 <> 0 THEN 'COMPLETED' " +
+                "ELSE (ARRAY['PLANNING', 'IN_PROGRESS', 'ON_HOLD', 'CANCELLED', 'IN_PROGRESS'])[1 + g % 5] END, " +
+                "d < 0 AND g % 10 = 0, " +
+                "now() - (g % 720) * interval '1 day', now() - (g % 90) * interval '1 day', g, 0 " +
+                "FROM (SELECT g, ((g::bigint * 7919) % 730)::int - 365 AS d " +
+                "FROM generate_series(1, ?) g) s", projects);
+    }
+
+    // Every tenth project stays empty so the "without tasks" queries have something to find
+    private void seedTasks(int tasks) {
+        jdbcTemplate.update("WITH p AS (SELECT array_agg(id ORDER BY change_seq) AS ids FROM projects " +
+                "WHERE change_seq % 10 <> 0), " +
+                "dev AS (SELECT array_agg(id ORDER BY change_seq) AS ids FROM developers) " +
+                "INSERT INTO tasks (id, title, description, status, due_date, overdue, created_date, " +
+                "updated_date, change_seq, version, project_id, developer_id) " +
+                "SELECT gen_random_uuid(), 'Task ' || g, 'Seeded task number ' || g || ' for planning', " +
+                "CASE WHEN d < 0 AND g % 10 <> 0 THEN 'COMPLETED' " +
+                "ELSE (ARRAY['TODO', 'IN_PROGRESS', 'BLOCKED', 'TODO', 'COMPLETED'])[1 + g % 5] END, " +
+                "current_date + d, " +
+                "d < 0 AND g % 10 = 0, " +
+                "now() - (g % 365) * interval '1 day', now() - (g % 60) * interval '1 day', g, 0, " +
+                "p.ids[1 + g % cardinality(p.ids)], " +
+                "CASE WHEN g % 20 = 7 THEN NULL ELSE dev.ids[1 + (g * 31) % cardinality(dev.ids)] END " +
+                "FROM (SELECT g, ((g::bigint * 7919) % 730)::int - 365 AS d " +
+                "FROM generate_series(1, ?) g) s, p, dev", tasks);
+    }
+
+    private SeededData sample() {
+        UUID projectId = jdbcTemplate.queryForObject(
+                "SELECT project_id FROM tasks GROUP BY project_id ORDER BY count(*) DESC LIMIT 1", UUID.class);
+        UUID emptyProjectId = jdbcTemplate.queryForObject(
+                "SELECT id FROM projects p WHERE NOT EXISTS (SELECT 1 FROM tasks t WHERE t.project_id = p.id) " +
+                        "LIMIT 1", UUID.class);
+        UUID developerId = jdbcTemplate.queryForObject(
+                "SELECT developer_id FROM tasks WHERE developer_id IS NOT NULL " +
+                        "GROUP BY developer_id ORDER BY count(*) DESC LIMIT 1", UUID.class);
+        String developerEmail = jdbcTemplate.queryForObject(
+                "SELECT email FROM developers WHERE id = ?", String.class, developerId);
+
+        return new SeededData(projectId, emptyProjectId, developerId, developerEmail,
+                ids("SELECT id FROM projects ORDER BY change_seq LIMIT 20"),
+                ids("SELECT id FROM developers ORDER BY change_seq LIMIT 20"),
+                ids("SELECT id FROM tasks ORDER BY change_seq LIMIT 20"),
+                ids("SELECT id FROM tasks WHERE overdue LIMIT 20"),
+                ids("SELECT id FROM projects WHERE overdue LIMIT 20"),
+                maxChangeSeq("tasks"), maxChangeSeq("projects"), maxChangeSeq("developers"));
+    }
+
+    private List<UUID> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, UUID.class);
+    }
+
+    // A watermark just below the newest rows, as a client that synced a moment ago would send
+    private long maxChangeSeq(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT max(change_seq) FROM " + table, Long.class);
+        return max == null ? 0 : Math.max(0, max - 50);
+    }
+}
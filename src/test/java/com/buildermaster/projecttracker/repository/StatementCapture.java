@@ -0,0 +1,135 @@
+package com.buildermaster.projecttracker.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Records the prepared statements a repository call executes, with their parameter bindings
+ * The DataSource is wrapped so every prepared statement remembers its setter calls; while a capture is open on the
+ * current thread, each execution is recorded and can be replayed later, for example under EXPLAIN.
+ */
+@TestConfiguration
+public class StatementCapture {
+
+    private static final ThreadLocal<List<CapturedStatement>> CURRENT = new ThreadLocal<>();
+
+    private static final Set<String> EXECUTE_METHODS =
+            Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+    /**
+     * A statement as Hibernate executed it; binding replays the parameters onto another statement of the same SQL.
+     */
+    public record CapturedStatement(String sql, List<Binding> bindings) {
+
+        public void bind(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings) {
+                try {
+                    binding.setter().invoke(statement, binding.args());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause() instanceof SQLException sql ? sql : new SQLException(e.getCause());
+                }
+            }
+        }
+    }
+
+    public record Binding(Method setter, Object[] args) {
+    }
+
+    /**
+     * Runs the call and returns the statements it executed on the current thread, in execution order.
+     */
+    public static List<CapturedStatement> capture(Supplier<?> call) {
+        List<CapturedStatement> statements = new ArrayList<>();
+        CURRENT.set(statements);
+        try {
+            call.get();
+        } finally {
+            CURRENT.remove();
+        }
+        return statements;
+    }
+
+    @Bean
+    public static BeanPostProcessor capturingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? new CapturingDataSource(dataSource) : bean;
+            }
+        };
+    }
+
+    // ===== PROXIES =====
+
+    private static final class CapturingDataSource extends DelegatingDataSource {
+
+        private CapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capturing(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capturing(super.getConnection(username, password));
+        }
+    }
+
+    private static Connection capturing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (method.getName().equals("prepareStatement")) {
+                        return capturing((PreparedStatement) result, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    // Parameter setters take the parameter index first; setFetchSize and the like do not
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        bindings.add(new Binding(method, args.clone()));
+                    } else if (name.equals("clearParameters")) {
+                        bindings.clear();
+                    } else if (EXECUTE_METHODS.contains(name) && (args == null || args.length == 0)) {
+                        List<CapturedStatement> captured = CURRENT.get();
+                        if (captured != null) {
+                            captured.add(new CapturedStatement(sql, List.copyOf(bindings)));
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
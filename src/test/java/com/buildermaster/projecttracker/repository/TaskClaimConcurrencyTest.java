@@ -0,0 +1,149 @@
+package com.buildermaster.projecttracker.repository;
+
+import com.buildermaster.projecttracker.model.EProjectStatus;
+import com.buildermaster.projecttracker.model.ETaskStatus;
+import com.buildermaster.projecttracker.model.Project;
+import com.buildermaster.projecttracker.model.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Task claiming under FOR UPDATE SKIP LOCKED on PostgreSQL
+ * Each claimer runs in its own transaction on its own thread. The first one keeps its rows locked while the second
+ * claims, so the second claimer must skip those rows instead of waiting for them or getting them too.
+ */
+@SpringBootTest
+class TaskClaimConcurrencyTest {
+
+    private static final int QUEUE = 10;
+    private static final PageRequest CLAIM = PageRequest.of(0, 3);
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService claimers = Executors.newFixedThreadPool(2);
+    private final List<Task> queue = new ArrayList<>();
+    private Project project;
+
+    @BeforeEach
+    void createQueue() {
+        project = projectRepository.save(new Project("Claim project " + UUID.randomUUID(),
+                "Project for concurrent claims", LocalDate.now().plusDays(60), EProjectStatus.IN_PROGRESS));
+        // Distinct due dates fix the claim order; every third task is in progress, the rest are to do
+        for (int i = 0; i < QUEUE; i++) {
+            Task task = new Task("Claimable task " + i, "Task for concurrent claims",
+                    i % 3 == 2 ? ETaskStatus.IN_PROGRESS : ETaskStatus.TODO, LocalDate.now().plusDays(1 + i));
+            task.setProject(project);
+            queue.add(taskRepository.save(task));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        claimers.shutdownNow();
+        taskRepository.deleteAllInBatch(queue);
+        projectRepository.deleteAllInBatch(List.of(project));
+    }
+
+    @Test
+    void concurrentClaimersGetDisjointRows() throws Exception {
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<UUID>> first = claimers.submit(() -> inTransaction(() -> {
+            List<UUID> ids = ids(taskRepository.lockClaimableTasksInProject(project.getId(), null, CLAIM));
+            firstLocked.countDown();
+            await(release);
+            return ids;
+        }));
+        assertTrue(firstLocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "The first claimer never locked its rows");
+
+        // Without SKIP LOCKED this claim would wait for the first transaction and run into the timeout
+        Future<List<UUID>> second = claimers.submit(() -> inTransaction(() ->
+                ids(taskRepository.lockClaimableTasksInProject(project.getId(), null, CLAIM))));
+        List<UUID> secondIds = second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        release.countDown();
+        List<UUID> firstIds = first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(ids(queue.subList(0, 3)), firstIds);
+        assertEquals(ids(queue.subList(3, 6)), secondIds);
+    }
+
+    @Test
+    void releasedRowsCanBeClaimedAgain() {
+        List<UUID> first = inTransaction(() ->
+                ids(taskRepository.lockClaimableTasksInProject(project.getId(), null, CLAIM)));
+        List<UUID> again = inTransaction(() ->
+                ids(taskRepository.lockClaimableTasksInProject(project.getId(), null, CLAIM)));
+
+        assertEquals(first, again);
+    }
+
+    @Test
+    void filtersByStatusWithinTheProject() {
+        List<Task> claimed = inTransaction(() ->
+                taskRepository.lockClaimableTasksInProject(project.getId(), ETaskStatus.IN_PROGRESS, CLAIM));
+
+        assertEquals(ids(List.of(queue.get(2), queue.get(5), queue.get(8))), ids(claimed));
+    }
+
+    @Test
+    void claimsWithoutAProjectFilter() {
+        // A null status binds as a typed varchar; only the uuid filter needed its own query
+        List<Task> claimed = inTransaction(() -> taskRepository.lockClaimableTasks(null, CLAIM));
+
+        assertFalse(claimed.isEmpty());
+        for (Task task : claimed) {
+            assertTrue(task.getDeveloper() == null && task.getStatus() != ETaskStatus.COMPLETED,
+                    "Claimed task " + task.getId() + " is not claimable");
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out holding the claimed rows");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<UUID> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
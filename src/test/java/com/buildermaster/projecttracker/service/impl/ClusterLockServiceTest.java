@@ -0,0 +1,82 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cluster lock leases against a real Redis
+ * Two services on the same Redis stand in for two instances. Uses database 15 of the Redis on localhost and a lock
+ * name of its own per test, so nothing the application holds is touched.
+ */
+class ClusterLockServiceTest {
+
+    private static final int DATABASE = 15;
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private final String name = "test-" + UUID.randomUUID();
+
+    private LettuceConnectionFactory connectionFactory;
+    private ClusterLockService instanceA;
+    private ClusterLockService instanceB;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", 6379);
+        configuration.setDatabase(DATABASE);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        instanceA = new ClusterLockService(redisTemplate);
+        instanceB = new ClusterLockService(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void onlyOneInstanceHoldsTheLease() {
+        try (ClusterLockService.Lease lease = instanceA.tryAcquire(name, LEASE).orElseThrow()) {
+            assertTrue(instanceB.tryAcquire(name, LEASE).isEmpty());
+            assertTrue(lease.extend());
+        }
+    }
+
+    @Test
+    void releasingLetsTheNextInstanceIn() {
+        instanceA.tryAcquire(name, LEASE).orElseThrow().close();
+
+        Optional<ClusterLockService.Lease> next = instanceB.tryAcquire(name, LEASE);
+
+        assertTrue(next.isPresent());
+        next.get().close();
+    }
+
+    @Test
+    void anExpiredLeaseCannotExtendOrReleaseTheNextOwner() throws InterruptedException {
+        ClusterLockService.Lease expired = instanceA.tryAcquire(name, Duration.ofMillis(50)).orElseThrow();
+        Thread.sleep(200);
+
+        try (ClusterLockService.Lease current = instanceB.tryAcquire(name, LEASE).orElseThrow()) {
+            assertFalse(expired.extend());
+            expired.close();
+
+            // Still held by instance B
+            assertTrue(instanceA.tryAcquire(name, LEASE).isEmpty());
+            assertTrue(current.extend());
+        }
+    }
+}
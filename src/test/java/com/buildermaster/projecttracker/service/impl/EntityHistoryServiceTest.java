@@ -0,0 +1,282 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.model.EActionType;
+import com.buildermaster.projecttracker.model.audit.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compaction of audit payloads into diffs and reconstruction of the entity state from them
+ * Audit logs are kept in a list standing in for a single monthly partition; compact is called the way
+ * AuditServiceImpl calls it and the result stored, after which stateAt replays the list. Entries written straight
+ * into the list stand in for audit logs of the same entity written by another node.
+ */
+class EntityHistoryServiceTest {
+
+    private static final String PARTITION = "audit_logs_2025_01";
+    private static final String TASK = "Task";
+    private static final int SNAPSHOT_INTERVAL = 3;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 10, 9, 0);
+
+    private final UUID taskId = UUID.randomUUID();
+    private final List<AuditLog> partition = new ArrayList<>();
+
+    private MongoTemplate mongoTemplate;
+    private EntityHistoryService entityHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        AuditPartitionManager partitionManager = mock(AuditPartitionManager.class);
+        when(partitionManager.partitionsOverlapping(any(), any())).thenReturn(List.of(PARTITION));
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class), eq(PARTITION))).thenAnswer(invocation -> {
+            Query query = invocation.getArgument(0);
+            LocalDateTime at = (LocalDateTime) query.getQueryObject().get("timestamp", Map.class).get("$lte");
+            return partition.stream()
+                    .filter(entry -> !entry.getTimestamp().isAfter(at))
+                    .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
+                    .skip(query.getSkip())
+                    .limit(query.getLimit())
+                    .toList();
+        });
+        when(mongoTemplate.findOne(any(Query.class), eq(AuditLog.class), eq(PARTITION))).thenAnswer(invocation ->
+                partition.stream().max((a, b) -> a.getTimestamp().compareTo(b.getTimestamp())).orElse(null));
+        entityHistoryService = new EntityHistoryService(mongoTemplate, partitionManager,
+                mock(AuditArchiveService.class), new ObjectMapper(), SNAPSHOT_INTERVAL, 100);
+    }
+
+    // ===== COMPACTION =====
+
+    @Test
+    void storesAnUpdateAsTheChangedFieldsOnly() {
+        log(EActionType.CREATE, task(null), 0);
+        AuditLog assigned = log(EActionType.UPDATE, assignedTask(), 1);
+
+        Map<String, Object> payload = assigned.getPayload();
+        assertEquals(true, payload.get(EntityHistoryService.DIFF_MARKER));
+        assertEquals(Map.of("id", "dev-1", "name", "Ada"), payload.get("developer"));
+        assertEquals("assigned", payload.get("_action"));
+        assertFalse(payload.containsKey("title"));
+        assertFalse(payload.containsKey(EntityHistoryService.REMOVED_FIELDS));
+    }
+
+    @Test
+    void namesTheEntryEachDiffWasTakenAgainst() {
+        AuditLog created = log(EActionType.CREATE, task(null), 0);
+        AuditLog assigned = log(EActionType.UPDATE, assignedTask(), 1);
+        Map<String, Object> renamed = assignedTask();
+        renamed.put("title", "Publish the release notes");
+        AuditLog renamedEntry = log(EActionType.UPDATE, renamed, 2);
+
+        assertEquals(created.getId(), assigned.getPayload().get(EntityHistoryService.BASE_ID));
+        assertEquals(assigned.getId(), renamedEntry.getPayload().get(EntityHistoryService.BASE_ID));
+    }
+
+    @Test
+    void writesASnapshotWhenAnotherNodeLoggedTheEntityInBetween() {
+        log(EActionType.CREATE, task(null), 0);
+        Map<String, Object> elsewhere = task(null);
+        elsewhere.put("status", "IN_PROGRESS");
+        store(EActionType.UPDATE, elsewhere, 1);
+
+        AuditLog assigned = log(EActionType.UPDATE, assignedTask(), 2);
+
+        assertFalse(isDiff(assigned));
+    }
+
+    @Test
+    void neverReadsFullEntriesWhenCompacting() {
+        log(EActionType.CREATE, task(null), 0);
+        log(EActionType.UPDATE, assignedTask(), 1);
+
+        verify(mongoTemplate, never()).find(any(Query.class), eq(AuditLog.class), anyString());
+    }
+
+    @Test
+    void forcesASnapshotEverySnapshotInterval() {
+        log(EActionType.CREATE, task(null), 0);
+        for (int i = 1; i <= SNAPSHOT_INTERVAL; i++) {
+            Map<String, Object> update = task(null);
+            update.put("title", "Revision " + i);
+            log(EActionType.UPDATE, update, i);
+        }
+
+        assertTrue(isDiff(partition.get(1)) && isDiff(partition.get(2)));
+        assertFalse(isDiff(partition.get(SNAPSHOT_INTERVAL)));
+    }
+
+    @Test
+    void leavesPartialAndUnserializablePayloadsUndiffed() {
+        log(EActionType.CREATE, task(null), 0);
+        Map<String, Object> partial = partial();
+        Map<String, Object> failed = new HashMap<>(Map.of("_entityClass", TASK,
+                EntityHistoryService.SERIALIZATION_ERROR, "Failed to serialize entity"));
+
+        assertSame(partial, entityHistoryService.compact(EActionType.UPDATE, TASK, taskId, "1", partial, PARTITION));
+        assertSame(failed, entityHistoryService.compact(EActionType.UPDATE, TASK, taskId, "2", failed, PARTITION));
+    }
+
+    @Test
+    void startsFromASnapshotAgainAfterForget() {
+        log(EActionType.CREATE, task(null), 0);
+        entityHistoryService.forget(TASK, taskId);
+
+        assertFalse(isDiff(log(EActionType.UPDATE, assignedTask(), 1)));
+    }
+
+    // ===== RECONSTRUCTION =====
+
+    @Test
+    void replaysAnAssignmentOntoTheCreatedTask() {
+        log(EActionType.CREATE, task(null), 0);
+        AuditLog assigned = log(EActionType.UPDATE, assignedTask(), 2);
+
+        EntityHistoryService.EntityState before = entityHistoryService.stateAt(TASK, taskId, START.plusMinutes(1))
+                .orElseThrow();
+        EntityHistoryService.EntityState after = entityHistoryService.stateAt(TASK, taskId, START.plusMinutes(2))
+                .orElseThrow();
+
+        assertEquals(stateOf(task(null)), before.state());
+        assertEquals(stateOf(assignedTask()), after.state());
+        assertSame(assigned, after.lastChange());
+        assertTrue(after.complete());
+    }
+
+    @Test
+    void skipsPartialPayloadsWhenReplaying() {
+        log(EActionType.CREATE, task(null), 0);
+        log(EActionType.UPDATE, assignedTask(), 1);
+        AuditLog partial = log(EActionType.UPDATE, partial(), 2);
+
+        EntityHistoryService.EntityState state = entityHistoryService.stateAt(TASK, taskId, START.plusMinutes(2))
+                .orElseThrow();
+
+        assertEquals(stateOf(assignedTask()), state.state());
+        assertSame(partial, state.lastChange());
+        assertTrue(state.complete());
+    }
+
+    @Test
+    void followsBaseIdsWhenTwoDiffsShareABase() {
+        AuditLog created = log(EActionType.CREATE, task(null), 0);
+        // Two writers diffed against the creation; the later one in time knows nothing of the earlier one's change
+        Map<String, Object> renamed = diffOf(created, Map.of("title", "Publish the release notes"));
+        store(EActionType.UPDATE, renamed, 1);
+        Map<String, Object> started = diffOf(created, Map.of("status", "IN_PROGRESS"));
+        store(EActionType.UPDATE, started, 2);
+
+        EntityHistoryService.EntityState state = entityHistoryService.stateAt(TASK, taskId, START.plusMinutes(2))
+                .orElseThrow();
+
+        Map<String, Object> expected = stateOf(task(null));
+        expected.put("status", "IN_PROGRESS");
+        assertEquals(expected, state.state());
+        assertTrue(state.complete());
+    }
+
+    @Test
+    void replaysDiffsAcrossAForcedSnapshot() {
+        log(EActionType.CREATE, task(null), 0);
+        Map<String, Object> latest = null;
+        for (int i = 1; i <= SNAPSHOT_INTERVAL + 1; i++) {
+            latest = task(null);
+            latest.put("status", i % 2 == 0 ? "TODO" : "IN_PROGRESS");
+            latest.put("title", "Revision " + i);
+            log(EActionType.UPDATE, latest, i);
+        }
+
+        EntityHistoryService.EntityState state = entityHistoryService.stateAt(
+                TASK, taskId, START.plusMinutes(SNAPSHOT_INTERVAL + 1)).orElseThrow();
+
+        assertEquals(stateOf(latest), state.state());
+        assertTrue(state.complete());
+    }
+
+    // ===== HELPER METHODS =====
+
+    private AuditLog log(EActionType actionType, Map<String, Object> payload, int minute) {
+        String id = new ObjectId().toHexString();
+        return store(id, actionType, entityHistoryService.compact(actionType, TASK, taskId, id, payload, PARTITION),
+                minute);
+    }
+
+    // Stores the payload as given, bypassing this node's compaction
+    private AuditLog store(EActionType actionType, Map<String, Object> payload, int minute) {
+        return store(new ObjectId().toHexString(), actionType, payload, minute);
+    }
+
+    private AuditLog store(String id, EActionType actionType, Map<String, Object> payload, int minute) {
+        AuditLog entry = new AuditLog(actionType, TASK, taskId, "SYSTEM", payload);
+        entry.setId(id);
+        entry.setTimestamp(START.plusMinutes(minute));
+        partition.add(entry);
+        return entry;
+    }
+
+    // A diff payload as another writer would have taken it against the given entry
+    private static Map<String, Object> diffOf(AuditLog base, Map<String, Object> changes) {
+        Map<String, Object> payload = new LinkedHashMap<>(changes);
+        payload.put(EntityHistoryService.DIFF_MARKER, true);
+        payload.put(EntityHistoryService.BASE_ID, base.getId());
+        return payload;
+    }
+
+    // Shaped like AuditServiceImpl's payload for a serialized task
+    private Map<String, Object> task(Map<String, Object> developer) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", taskId.toString());
+        payload.put("title", "Write the release notes");
+        payload.put("description", "Summarise the changes of the sprint");
+        payload.put("status", "TODO");
+        payload.put("dueDate", "2025-02-01");
+        payload.put("developer", developer);
+        payload.put("_entityClass", TASK);
+        payload.put("_captureTime", START.toString());
+        return payload;
+    }
+
+    private Map<String, Object> assignedTask() {
+        Map<String, Object> payload = task(Map.of("id", "dev-1", "name", "Ada"));
+        payload.put("_action", "assigned");
+        return payload;
+    }
+
+    private static Map<String, Object> partial() {
+        return new HashMap<>(Map.of("action", "assigned", "developerId", "dev-1",
+                "_entityClass", "MapN", EntityHistoryService.PARTIAL_MARKER, true));
+    }
+
+    private static Map<String, Object> stateOf(Map<String, Object> payload) {
+        Map<String, Object> state = new LinkedHashMap<>(payload);
+        state.keySet().removeIf(field -> field.startsWith("_"));
+        return state;
+    }
+
+    private static boolean isDiff(AuditLog entry) {
+        return Boolean.TRUE.equals(entry.getPayload().get(EntityHistoryService.DIFF_MARKER));
+    }
+}
@@ -0,0 +1,179 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.repository.DeveloperRepository;
+import com.buildermaster.projecttracker.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.buildermaster.projecttracker.service.impl.LeaderboardService.DEVELOPERS_KEY;
+import static com.buildermaster.projecttracker.service.impl.LeaderboardService.PROJECTS_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Leaderboard ranking, the missing-leaderboard signal and rebuilds racing score changes, against a real Redis
+ * The task counts come from mocked repositories; a rebuild reads them after it starts journaling, so changes made
+ * from inside the mocked count query land exactly in the window a concurrent task write would.
+ * Uses database 15 of the Redis on localhost so the application's own leaderboards are left alone.
+ */
+class LeaderboardServiceTest {
+
+    private static final int DATABASE = 15;
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private DeveloperRepository developerRepository;
+    private ProjectRepository projectRepository;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", 6379);
+        configuration.setDatabase(DATABASE);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        deleteLeaderboards();
+
+        developerRepository = mock(DeveloperRepository.class);
+        projectRepository = mock(ProjectRepository.class);
+        when(projectRepository.countTasksPerProject()).thenReturn(List.of());
+        leaderboardService = new LeaderboardService(redisTemplate, developerRepository, projectRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteLeaderboards();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void ranksMembersByTaskCountHighestFirst() {
+        when(developerRepository.countTasksPerDeveloper()).thenReturn(counts(alice, 3, bob, 7, carol, 5));
+        leaderboardService.rebuild();
+
+        LeaderboardService.Ranking ranking = leaderboardService.top(DEVELOPERS_KEY, 0, 2).orElseThrow();
+
+        assertEquals(List.of(bob, carol), List.copyOf(ranking.members().keySet()));
+        assertEquals(Map.of(bob, 7L, carol, 5L), ranking.members());
+        assertEquals(3, ranking.total());
+    }
+
+    @Test
+    void scoreChangesReorderTheRanking() {
+        when(developerRepository.countTasksPerDeveloper()).thenReturn(counts(alice, 3, bob, 4));
+        leaderboardService.rebuild();
+
+        leaderboardService.taskMoved(null, bob, null, alice);
+        leaderboardService.taskMoved(null, null, null, alice);
+
+        assertEquals(Map.of(alice, 5L, bob, 3L), leaderboardService.top(DEVELOPERS_KEY, 0, 10).orElseThrow().members());
+    }
+
+    @Test
+    void aPagePastTheLastMemberIsEmptyButPresent() {
+        when(developerRepository.countTasksPerDeveloper()).thenReturn(counts(alice, 3, bob, 7, carol, 5));
+        leaderboardService.rebuild();
+
+        Optional<LeaderboardService.Ranking> ranking = leaderboardService.top(DEVELOPERS_KEY, 20, 10);
+
+        // Present, so callers return an empty page instead of ranking every project in the database
+        assertTrue(ranking.isPresent());
+        assertTrue(ranking.get().members().isEmpty());
+        assertEquals(3, ranking.get().total());
+    }
+
+    @Test
+    void aMissingLeaderboardIsAbsentAndStaysMissingUntilRebuilt() {
+        leaderboardService.taskMoved(null, null, null, alice);
+        leaderboardService.memberAdded(DEVELOPERS_KEY, bob);
+
+        // A leaderboard created by those writes would rank only alice and bob
+        assertTrue(leaderboardService.top(DEVELOPERS_KEY, 0, 10).isEmpty());
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(DEVELOPERS_KEY)));
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileItRuns() {
+        when(developerRepository.countTasksPerDeveloper()).thenReturn(counts(alice, 3, bob, 7, carol, 5));
+        leaderboardService.rebuild();
+
+        // The database already counts one more task for alice; the other changes commit after it was read
+        when(developerRepository.countTasksPerDeveloper()).thenAnswer(invocation -> {
+            List<Object[]> snapshot = counts(alice, 4, bob, 7, carol, 5);
+            leaderboardService.taskMoved(null, bob, null, carol);
+            leaderboardService.taskMoved(null, null, null, carol);
+            leaderboardService.memberRemoved(DEVELOPERS_KEY, alice);
+            return snapshot;
+        });
+        UUID dave = UUID.randomUUID();
+        when(projectRepository.countTasksPerProject()).thenAnswer(invocation -> {
+            // Joined after the developer leaderboard was swapped in, before the project one was
+            leaderboardService.memberAdded(DEVELOPERS_KEY, dave);
+            return List.of();
+        });
+        leaderboardService.rebuild();
+
+        LeaderboardService.Ranking ranking = leaderboardService.top(DEVELOPERS_KEY, 0, 10).orElseThrow();
+        assertEquals(Map.of(carol, 7L, bob, 6L, dave, 0L), ranking.members());
+        assertEquals(List.of(carol, bob, dave), List.copyOf(ranking.members().keySet()));
+        assertEquals(Set.of(DEVELOPERS_KEY), redisTemplate.keys(DEVELOPERS_KEY + "*"));
+    }
+
+    @Test
+    void aRebuildAlreadyRunningIsNotStartedAgain() {
+        List<Boolean> nested = new ArrayList<>();
+        when(developerRepository.countTasksPerDeveloper()).thenAnswer(invocation -> {
+            if (nested.isEmpty()) {
+                nested.add(true);
+                leaderboardService.rebuild();
+            }
+            return counts(alice, 3);
+        });
+
+        leaderboardService.rebuild();
+
+        verify(developerRepository, times(1)).countTasksPerDeveloper();
+        assertEquals(Map.of(alice, 3L), leaderboardService.top(DEVELOPERS_KEY, 0, 10).orElseThrow().members());
+    }
+
+    // ===== HELPER METHODS =====
+
+    private void deleteLeaderboards() {
+        for (String key : List.of(DEVELOPERS_KEY, PROJECTS_KEY)) {
+            Set<String> keys = redisTemplate.keys(key + "*");
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+    private static List<Object[]> counts(Object... idsAndCounts) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < idsAndCounts.length; i += 2) {
+            rows.add(new Object[]{idsAndCounts[i], ((Integer) idsAndCounts[i + 1]).longValue()});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,118 @@
+package com.buildermaster.projecttracker.service.impl;
+
+import com.buildermaster.projecttracker.dto.response.ProjectSummaryDTO;
+import com.buildermaster.projecttracker.mapper.ProjectMapper;
+import com.buildermaster.projecttracker.model.EProjectStatus;
+import com.buildermaster.projecttracker.model.Project;
+import com.buildermaster.projecttracker.repository.ProjectRepository;
+import com.buildermaster.projecttracker.repository.TaskRepository;
+import com.buildermaster.projecttracker.service.AuditService;
+import com.buildermaster.projecttracker.util.CursorStreams;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.buildermaster.projecttracker.service.impl.LeaderboardService.PROJECTS_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * When projects ordered by task count are ranked from the leaderboard and when the database has to do it
+ * Only a missing or unavailable leaderboard falls back to the GROUP BY over every task; a page past the last ranked
+ * project is simply empty.
+ */
+class ProjectServiceImplTest {
+
+    private ProjectRepository projectRepository;
+    private TaskRepository taskRepository;
+    private ProjectMapper projectMapper;
+    private LeaderboardService leaderboardService;
+    private ProjectServiceImpl projectService;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository = mock(ProjectRepository.class);
+        taskRepository = mock(TaskRepository.class);
+        projectMapper = mock(ProjectMapper.class);
+        leaderboardService = mock(LeaderboardService.class);
+        projectService = new ProjectServiceImpl(projectRepository, mock(AuditService.class), projectMapper,
+                mock(CursorStreams.class), taskRepository, mock(CacheEvictionService.class),
+                mock(TransactionTemplate.class), mock(DeadlineEngine.class), leaderboardService,
+                mock(ChangeStreamService.class), mock(ChangeSequenceService.class), mock(SparseFieldsetQuery.class),
+                mock(CacheMultiGet.class));
+    }
+
+    @Test
+    void ranksFromTheLeaderboard() {
+        Project busy = project("Busy");
+        Project quiet = project("Quiet");
+        Map<UUID, Long> ranked = new LinkedHashMap<>();
+        ranked.put(busy.getId(), 9L);
+        ranked.put(quiet.getId(), 2L);
+        when(leaderboardService.top(PROJECTS_KEY, 0, 2))
+                .thenReturn(Optional.of(new LeaderboardService.Ranking(ranked, 5)));
+        when(projectRepository.findAllById(ranked.keySet())).thenReturn(List.of(quiet, busy));
+        when(taskRepository.countCompletedTasksByProjectIds(ranked.keySet()))
+                .thenReturn(List.<Object[]>of(new Object[]{busy.getId(), 4L}));
+        ProjectSummaryDTO busySummary = new ProjectSummaryDTO();
+        ProjectSummaryDTO quietSummary = new ProjectSummaryDTO();
+        when(projectMapper.toRankedSummaryDTO(busy, 9L, 4L)).thenReturn(busySummary);
+        when(projectMapper.toRankedSummaryDTO(quiet, 2L, 0L)).thenReturn(quietSummary);
+
+        Page<ProjectSummaryDTO> page = projectService.getProjectsOrderedByTaskCount(PageRequest.of(0, 2));
+
+        assertEquals(List.of(busySummary, quietSummary), page.getContent());
+        assertEquals(5, page.getTotalElements());
+        verify(projectRepository, never()).findProjectsOrderedByTaskCount(any());
+    }
+
+    @Test
+    void aPagePastTheLastRankedProjectIsEmpty() {
+        when(leaderboardService.top(PROJECTS_KEY, 40, 20))
+                .thenReturn(Optional.of(new LeaderboardService.Ranking(Map.of(), 5)));
+
+        Page<ProjectSummaryDTO> page = projectService.getProjectsOrderedByTaskCount(PageRequest.of(2, 20));
+
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(5, page.getTotalElements());
+        verifyNoInteractions(projectRepository, taskRepository);
+    }
+
+    @Test
+    void fallsBackToTheDatabaseWhenTheLeaderboardIsMissing() {
+        PageRequest pageable = PageRequest.of(0, 20);
+        when(leaderboardService.top(eq(PROJECTS_KEY), anyLong(), eq(20))).thenReturn(Optional.empty());
+        when(projectRepository.findProjectsOrderedByTaskCount(pageable)).thenReturn(new PageImpl<>(List.of()));
+
+        Page<ProjectSummaryDTO> page = projectService.getProjectsOrderedByTaskCount(pageable);
+
+        assertTrue(page.getContent().isEmpty());
+        verify(projectRepository).findProjectsOrderedByTaskCount(pageable);
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static Project project(String name) {
+        Project project = new Project(name, "Ranked project", LocalDate.now().plusDays(30), EProjectStatus.IN_PROGRESS);
+        project.setId(UUID.randomUUID());
+        return project;
+    }
+}
@@ -0,0 +1,192 @@
+package com.buildermaster.projecttracker.util;
+
+import com.buildermaster.projecttracker.model.EActionType;
+import com.buildermaster.projecttracker.model.audit.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Write and read round trip of the columnar audit archive format, and the filters pushed down into its scans
+ * Ten logs a minute apart are written in row groups of four, so every read crosses group boundaries. Actions cycle
+ * through CREATE, UPDATE and DELETE, even rows are tasks and odd rows projects, every third row belongs to the same
+ * entity, and alice wrote the first five rows while bob wrote the rest.
+ */
+class AuditArchiveFileTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final UUID FIRST_ENTITY = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SECOND_ENTITY = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final int ROW_GROUP_SIZE = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    // ===== ROUND TRIP =====
+
+    @Test
+    void readsBackEveryFieldInWriteOrder() throws IOException {
+        List<AuditLog> logs = logs();
+        Path file = write(logs);
+
+        try (AuditArchiveFile.Reader reader = AuditArchiveFile.open(file, objectMapper)) {
+            assertEquals(logs.size(), reader.rowCount());
+            assertEquals(logs, scan(reader, AuditArchiveFile.Predicate.all()));
+        }
+    }
+
+    @Test
+    void keepsNullFields() throws IOException {
+        AuditLog login = new AuditLog(null, EActionType.LOGIN_SUCCESS, null, null, START, "alice", null, null);
+        Path file = write(List.of(login));
+
+        try (AuditArchiveFile.Reader reader = AuditArchiveFile.open(file, objectMapper)) {
+            assertEquals(List.of(login), scan(reader, AuditArchiveFile.Predicate.all()));
+        }
+    }
+
+    @Test
+    void pagesNewestFirstAcrossRowGroups() throws IOException {
+        List<AuditLog> logs = logs();
+        Path file = write(logs);
+
+        try (AuditArchiveFile.Reader reader = AuditArchiveFile.open(file, objectMapper)) {
+            AuditArchiveFile.Predicate all = AuditArchiveFile.Predicate.all();
+            assertEquals(select(logs, 9, 8, 7), reader.findNewestFirst(all, 0, 3));
+            assertEquals(select(logs, 6, 5, 4, 3), reader.findNewestFirst(all, 3, 4));
+            assertEquals(select(logs, 1, 0), reader.findNewestFirst(all, 8, 5));
+            assertEquals(List.of(), reader.findNewestFirst(all, 10, 5));
+        }
+    }
+
+    @Test
+    void rejectsFilesThatAreNotArchives() throws IOException {
+        Path file = Files.write(directory.resolve("not-an-archive.pta"), new byte[64]);
+
+        assertThrows(IOException.class, () -> AuditArchiveFile.open(file, objectMapper));
+    }
+
+    // ===== PREDICATES =====
+
+    @Test
+    void filtersByActionType() throws IOException {
+        assertMatches(new AuditArchiveFile.Predicate(null, null, EActionType.UPDATE, null, null, null), 1, 4, 7);
+    }
+
+    @Test
+    void filtersByEntityTypeAndId() throws IOException {
+        assertMatches(new AuditArchiveFile.Predicate(null, null, null, "Project", null, null), 1, 3, 5, 7, 9);
+        assertMatches(new AuditArchiveFile.Predicate(null, null, null, null, FIRST_ENTITY, null), 0, 3, 6, 9);
+        assertMatches(new AuditArchiveFile.Predicate(null, null, null, "Task", FIRST_ENTITY, null), 0, 6);
+    }
+
+    @Test
+    void filtersByActor() throws IOException {
+        assertMatches(new AuditArchiveFile.Predicate(null, null, null, null, null, "bob"), 5, 6, 7, 8, 9);
+        assertMatches(new AuditArchiveFile.Predicate(null, null, null, null, null, "carol"));
+    }
+
+    @Test
+    void filtersByInclusiveTimeRange() throws IOException {
+        assertMatches(new AuditArchiveFile.Predicate(
+                START.plusMinutes(2), START.plusMinutes(5), null, null, null, null), 2, 3, 4, 5);
+        assertMatches(new AuditArchiveFile.Predicate(START.plusMinutes(8), null, null, null, null, null), 8, 9);
+        assertMatches(new AuditArchiveFile.Predicate(
+                START.plusMinutes(20), null, null, null, null, null));
+    }
+
+    @Test
+    void combinesFilters() throws IOException {
+        assertMatches(new AuditArchiveFile.Predicate(
+                null, START.plusMinutes(7), EActionType.CREATE, "Task", null, "bob"), 6);
+        assertMatches(new AuditArchiveFile.Predicate(
+                null, START.plusMinutes(5), EActionType.CREATE, "Task", null, "bob"));
+    }
+
+    @Test
+    void hidesExpiredRows() throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        List<AuditLog> logs = logs();
+        logs.get(2).setExpireAt(now.minusDays(1));
+        logs.get(7).setExpireAt(now.plusDays(1));
+        Path file = write(logs);
+
+        try (AuditArchiveFile.Reader reader = AuditArchiveFile.open(file, objectMapper)) {
+            assertEquals(9, reader.count(AuditArchiveFile.Predicate.all()));
+            assertFalse(scan(reader, AuditArchiveFile.Predicate.all()).contains(logs.get(2)));
+            assertFalse(reader.countsFinal());
+        }
+    }
+
+    @Test
+    void countsAreFinalOnceEveryExpiryHasPassed() throws IOException {
+        List<AuditLog> logs = logs();
+        logs.get(2).setExpireAt(LocalDateTime.now().minusDays(1));
+
+        try (AuditArchiveFile.Reader reader = AuditArchiveFile.open(write(logs), objectMapper)) {
+            assertTrue(reader.countsFinal());
+        }
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static List<AuditLog> logs() {
+        EActionType[] actions = {EActionType.CREATE, EActionType.UPDATE, EActionType.DELETE};
+        List<AuditLog> logs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            logs.add(new AuditLog("log-" + i, actions[i % 3], i % 2 == 0 ? "Task" : "Project",
+                    i % 3 == 0 ? FIRST_ENTITY : SECOND_ENTITY, START.plusMinutes(i), i < 5 ? "alice" : "bob",
+                    Map.of("title", "Entity " + i, "index", i), null));
+        }
+        return logs;
+    }
+
+    private Path write(List<AuditLog> logs) throws IOException {
+        Path file = Files.createTempFile(directory, "audit_logs_", ".pta");
+        try (AuditArchiveFile.Writer writer = AuditArchiveFile.create(file, objectMapper, ROW_GROUP_SIZE)) {
+            for (AuditLog auditLog : logs) {
+                writer.write(auditLog);
+            }
+        }
+        return file;
+    }
+
+    // Counting, scanning and paging must all agree on which rows match
+    private void assertMatches(AuditArchiveFile.Predicate predicate, int... expected) throws IOException {
+        List<AuditLog> logs = logs();
+        try (AuditArchiveFile.Reader reader = AuditArchiveFile.open(write(logs), objectMapper)) {
+            List<AuditLog> matching = select(logs, expected);
+            assertEquals(expected.length, reader.count(predicate));
+            assertEquals(matching, scan(reader, predicate));
+            assertEquals(matching.reversed(), reader.findNewestFirst(predicate, 0, logs.size()));
+        }
+    }
+
+    private static List<AuditLog> scan(AuditArchiveFile.Reader reader, AuditArchiveFile.Predicate predicate)
+            throws IOException {
+        List<AuditLog> scanned = new ArrayList<>();
+        reader.scan(predicate, scanned::add);
+        return scanned;
+    }
+
+    private static List<AuditLog> select(List<AuditLog> logs, int... indexes) {
+        return IntStream.of(indexes).mapToObj(logs::get).toList();
+    }
+}
@@ -0,0 +1,117 @@
+package com.buildermaster.projecttracker.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Expiry, cascading and rescheduling in the timing wheel
+ * The wheel ticks every 10 ms with 8 buckets per level, so the first level covers 80 ms, the second 640 ms and
+ * the third 5,120 ms. Deadlines sit on tick boundaries, where an entry fires exactly at its deadline.
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, 0);
+
+    // ===== EXPIRY =====
+
+    @Test
+    void firesAnEntryOnceItsDeadlineIsReached() {
+        assertTrue(wheel.schedule("task", 30));
+
+        assertEquals(List.of(), wheel.advanceTo(29));
+        assertEquals(List.of("task"), wheel.advanceTo(30));
+        assertEquals(List.of(), wheel.advanceTo(40));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void returnsEntriesInDeadlineOrderWhenOneAdvanceCoversSeveralTicks() {
+        wheel.schedule("third", 70);
+        wheel.schedule("first", 20);
+        wheel.schedule("second", 50);
+
+        assertEquals(List.of("first", "second", "third"), wheel.advanceTo(75));
+    }
+
+    @Test
+    void rejectsDeadlinesInThePastOrWithinTheCurrentTick() {
+        wheel.advanceTo(500);
+
+        assertFalse(wheel.schedule("past", 300));
+        assertFalse(wheel.schedule("current tick", 509));
+        assertTrue(wheel.schedule("next tick", 510));
+        assertEquals(1, wheel.size());
+    }
+
+    // ===== CASCADING =====
+
+    @Test
+    void cascadesAnOverflowEntryIntoTheFirstLevelBeforeFiringIt() {
+        wheel.schedule("overflow", 500);
+
+        // The second-level bucket expires at 480 and moves the entry down instead of firing it
+        assertEquals(List.of(), wheel.advanceTo(480));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(), wheel.advanceTo(499));
+        assertEquals(List.of("overflow"), wheel.advanceTo(500));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cascadesThroughEveryLevelWithinASingleAdvance() {
+        wheel.schedule("far", 5_000);
+        wheel.schedule("near", 40);
+
+        assertEquals(List.of("near"), wheel.advanceTo(4_999));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("far"), wheel.advanceTo(5_000));
+    }
+
+    @Test
+    void skipsIdlePeriodsAndFiresEverythingDueAfterALongPause() {
+        wheel.schedule("first level", 60);
+        wheel.schedule("second level", 600);
+        wheel.schedule("third level", 4_000);
+
+        assertEquals(List.of("first level", "second level", "third level"), wheel.advanceTo(10_000_000));
+        assertEquals(0, wheel.size());
+
+        // The clock moved with the advance, so scheduling is relative to the new time
+        assertFalse(wheel.schedule("stale", 9_999_995));
+        assertTrue(wheel.schedule("fresh", 10_000_010));
+        assertEquals(List.of("fresh"), wheel.advanceTo(10_000_010));
+    }
+
+    // ===== RESCHEDULING =====
+
+    @Test
+    void keepsBothEntriesWhenAnItemIsScheduledAgain() {
+        // The wheel has no cancel; callers drop the entry that no longer matches their latest deadline
+        wheel.schedule("task", 600);
+        wheel.schedule("task", 200);
+
+        assertEquals(2, wheel.size());
+        assertEquals(List.of("task"), wheel.advanceTo(200));
+        assertEquals(List.of("task"), wheel.advanceTo(600));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void reusesABucketForALaterRoundOfTheWheel() {
+        wheel.schedule("first round", 10);
+        assertEquals(List.of("first round"), wheel.advanceTo(10));
+
+        // Same bucket index, one full rotation later
+        wheel.schedule("second round", 90);
+        assertEquals(List.of(), wheel.advanceTo(89));
+        assertEquals(List.of("second round"), wheel.advanceTo(90));
+    }
+}
@@ -0,0 +1,140 @@
+package com.buildermaster.projecttracker.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Priority updates and removals in the indexed heap
+ * Each test checks the heap order by draining it through peek and remove.
+ */
+class IndexedMinHeapTest {
+
+    private final IndexedMinHeap<String> heap = new IndexedMinHeap<>();
+
+    // ===== UPSERT =====
+
+    @Test
+    void peeksTheKeyWithTheLowestPriority() {
+        heap.upsert("c", 3);
+        heap.upsert("a", 1);
+        heap.upsert("b", 2);
+
+        assertEquals(Optional.of("a"), heap.peek());
+        assertEquals(List.of("a", "b", "c"), drain());
+    }
+
+    @Test
+    void breaksTiesByKeyOrder() {
+        heap.upsert("b", 5);
+        heap.upsert("c", 5);
+        heap.upsert("a", 5);
+
+        assertEquals(List.of("a", "b", "c"), drain());
+    }
+
+    @Test
+    void decreasingAPriorityMovesTheKeyUp() {
+        for (int i = 0; i < 10; i++) {
+            heap.upsert("k" + i, 10 + i);
+        }
+
+        heap.upsert("k9", 1);
+
+        assertEquals(10, heap.size());
+        assertEquals(Optional.of("k9"), heap.peek());
+        assertEquals(List.of("k9", "k0", "k1", "k2", "k3", "k4", "k5", "k6", "k7", "k8"), drain());
+    }
+
+    @Test
+    void increasingAPriorityMovesTheKeyDown() {
+        heap.upsert("a", 1);
+        heap.upsert("b", 2);
+        heap.upsert("c", 3);
+
+        heap.upsert("a", 4);
+
+        assertEquals(List.of("b", "c", "a"), drain());
+    }
+
+    @Test
+    void upsertingTheSamePriorityKeepsTheOrder() {
+        heap.upsert("a", 1);
+        heap.upsert("b", 2);
+
+        heap.upsert("a", 1);
+
+        assertEquals(2, heap.size());
+        assertEquals(List.of("a", "b"), drain());
+    }
+
+    // ===== REMOVE =====
+
+    @Test
+    void removingTheRootPromotesTheNextLowest() {
+        heap.upsert("a", 1);
+        heap.upsert("b", 2);
+        heap.upsert("c", 3);
+
+        assertTrue(heap.remove("a"));
+
+        assertFalse(heap.contains("a"));
+        assertEquals(Optional.of("b"), heap.peek());
+    }
+
+    @Test
+    void removingAnInnerKeyKeepsTheRemainingOrder() {
+        long[] priorities = {5, 9, 6, 12, 10, 7, 8, 15, 13, 11};
+        for (int i = 0; i < priorities.length; i++) {
+            heap.upsert("k" + i, priorities[i]);
+        }
+
+        // The last slot moved into the gap has to sift up past its new parent
+        assertTrue(heap.remove("k7"));
+        assertTrue(heap.remove("k1"));
+
+        assertEquals(List.of("k0", "k2", "k5", "k6", "k4", "k9", "k3", "k8"), drain());
+    }
+
+    @Test
+    void removingTheLastSlotOrAnAbsentKey() {
+        heap.upsert("a", 1);
+        heap.upsert("b", 2);
+
+        assertTrue(heap.remove("b"));
+        assertFalse(heap.remove("b"));
+        assertFalse(heap.remove("missing"));
+        assertEquals(1, heap.size());
+        assertTrue(heap.remove("a"));
+        assertEquals(Optional.empty(), heap.peek());
+    }
+
+    @Test
+    void aRemovedKeyCanBeInsertedAgain() {
+        heap.upsert("a", 1);
+        heap.upsert("b", 2);
+        heap.remove("a");
+
+        heap.upsert("a", 3);
+
+        assertEquals(List.of("b", "a"), drain());
+    }
+
+    // ===== HELPER METHODS =====
+
+    private List<String> drain() {
+        List<String> order = new ArrayList<>();
+        while (heap.peek().isPresent()) {
+            String key = heap.peek().get();
+            order.add(key);
+            heap.remove(key);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,89 @@
+package com.buildermaster.projecttracker.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Layout and ordering of the generated version 7 UUIDs
+ * The timestamp is the top 48 bits and the sequence the 12 bits after the version nibble; PostgreSQL compares uuids
+ * byte by byte, so ordering is checked on the unsigned bits and on the string form.
+ */
+class UuidV7Test {
+
+    private static final int BATCH = 2_000;
+
+    @Test
+    void setsTheVersionAndVariantBits() {
+        for (UUID uuid : generate(100)) {
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+        }
+    }
+
+    @Test
+    void embedsTheCurrentEpochMillisecond() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.randomUuid();
+        long after = System.currentTimeMillis();
+
+        // A sequence overflow in an earlier burst may borrow the next millisecond, never more than a few
+        long timestamp = timestamp(uuid);
+        assertTrue(timestamp >= before, "timestamp " + timestamp + " before " + before);
+        assertTrue(timestamp <= after + 5, "timestamp " + timestamp + " after " + after);
+    }
+
+    @Test
+    void increasesStrictlyAcrossABurst() {
+        List<UUID> uuids = generate(BATCH);
+        for (int i = 1; i < uuids.size(); i++) {
+            UUID previous = uuids.get(i - 1);
+            UUID current = uuids.get(i);
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), current.getMostSignificantBits()) < 0,
+                    previous + " is not before " + current);
+            assertTrue(previous.toString().compareTo(current.toString()) < 0,
+                    previous + " does not sort before " + current);
+        }
+    }
+
+    @Test
+    void countsTheSequenceUpWithinOneMillisecond() {
+        List<UUID> uuids = generate(BATCH);
+        int sameMillisecond = 0;
+        for (int i = 1; i < uuids.size(); i++) {
+            UUID previous = uuids.get(i - 1);
+            UUID current = uuids.get(i);
+            if (timestamp(previous) == timestamp(current)) {
+                assertEquals(sequence(previous) + 1, sequence(current));
+                sameMillisecond++;
+            } else {
+                assertTrue(timestamp(previous) < timestamp(current));
+            }
+        }
+        // Two thousand values in a tight loop cannot each get a millisecond of their own
+        assertTrue(sameMillisecond > 0, "No two values shared a millisecond");
+    }
+
+    // ===== HELPER METHODS =====
+
+    private static List<UUID> generate(int count) {
+        List<UUID> uuids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            uuids.add(UuidV7.randomUuid());
+        }
+        return uuids;
+    }
+
+    private static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long sequence(UUID uuid) {
+        return uuid.getMostSignificantBits() & 0xFFF;
+    }
+}